@@ -0,0 +1,43 @@
+--
+-- Copyright 2005-2015 The Kuali Foundation
+--
+-- Licensed under the Educational Community License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+-- http://www.opensource.org/licenses/ecl2.php
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+-- Create a table of document counts by document type, route status and day of creation, which is maintained as the
+-- route status of documents changes and used by the KEW statistics reports
+CREATE TABLE KREW_DOC_STAT_T
+(
+      DOC_TYP_NM VARCHAR2(64)
+        , DOC_HDR_STAT_CD CHAR(1)
+        , CRTE_DT DATE
+        , DOC_CNT NUMBER(14) default 0 NOT NULL
+        , VER_NBR NUMBER(8) default 0
+)
+/
+
+ALTER TABLE KREW_DOC_STAT_T
+    ADD CONSTRAINT KREW_DOC_STAT_TP1
+PRIMARY KEY (DOC_TYP_NM,DOC_HDR_STAT_CD,CRTE_DT)
+/
+
+CREATE INDEX KREW_DOC_STAT_TI1 ON KREW_DOC_STAT_T(CRTE_DT)
+/
+
+-- Count the existing documents
+INSERT INTO KREW_DOC_STAT_T (DOC_TYP_NM, DOC_HDR_STAT_CD, CRTE_DT, DOC_CNT, VER_NBR)
+    SELECT DT.DOC_TYP_NM, DH.DOC_HDR_STAT_CD, TRUNC(DH.CRTE_DT), COUNT(*), 1
+    FROM KREW_DOC_HDR_T DH, KREW_DOC_TYP_T DT
+    WHERE DH.DOC_TYP_ID = DT.DOC_TYP_ID
+    GROUP BY DT.DOC_TYP_NM, DH.DOC_HDR_STAT_CD, TRUNC(DH.CRTE_DT)
+/
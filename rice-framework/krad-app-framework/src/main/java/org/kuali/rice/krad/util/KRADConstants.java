@@ -641,6 +641,7 @@ public final class KRADConstants {
         public static final String KNS_ENABLED = "rice.krad.kns.enabled";
         public static final String ENABLE_LEGACY_DATA_FRAMEWORK = "rice.krad.enableLegacyDataFramework";
         public static final String ENABLE_VIEW_AUTOGENERATION = "rice.krad.views.autoGeneration.enabled";
+        public static final String TABLE_EXPORT_CHUNK_SIZE = "rice.krad.tableExport.chunkSize";
 
         private Config() {
             throw new UnsupportedOperationException("do not call");
@@ -728,6 +729,7 @@ public final class KRADConstants {
         public static final String KRAD_VIEW_LIFECYCLE_MINTHREADS = "rice.krad.lifecycle.asynchronous.minThreads";
         public static final String KRAD_VIEW_LIFECYCLE_MAXTHREADS = "rice.krad.lifecycle.asynchronous.maxThreads";
         public static final String KRAD_VIEW_LIFECYCLE_TIMEOUT = "rice.krad.lifecycle.asynchronous.timeout";
+        public static final String KRAD_VIEW_LIFECYCLE_METRICS = "rice.krad.lifecycle.metrics";
         public static final String KRAD_COPY_DELAY = "rice.krad.copyable.delay";
         public static final String KRAD_INCLUDE_LESS = "rice.krad.include.less";
         public static final String SCHEMA_PACKAGES = "rice.krad.schema.packages";
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.data;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} over query results which holds open database resources until it is exhausted or closed.
+ *
+ * <p>Instances are returned from {@link DataObjectService#iterateMatching(Class,
+ * org.kuali.rice.core.api.criteria.QueryByCriteria)} and should always be closed in a {@code finally} block (or a
+ * try-with-resources statement), since an iterator which is abandoned before it is exhausted will hold on to its
+ * connection and cursor until it is garbage collected.</p>
+ *
+ * @param <T> the type of object being iterated over
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public interface CloseableIterator<T> extends Iterator<T>, Closeable {
+
+    /**
+     * Releases the database resources held by this iterator.  Calling this method more than once has no effect.
+     */
+    @Override
+    void close();
+
+}
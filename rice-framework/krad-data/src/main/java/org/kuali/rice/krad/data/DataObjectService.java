@@ -79,6 +79,29 @@ public interface DataObjectService {
      */
     <T> QueryResults<T> findMatching(Class<T> type, QueryByCriteria queryByCriteria);
 
+    /**
+     * Executes a query for the given data object, returning an iterator which reads the matching data objects from
+     * the database as it is advanced rather than loading every result into memory up front. This is intended for
+     * batch processing of result sets which are too large to hold in memory at once.
+     *
+     * <p>Data objects returned by the iterator are not part of the caller's persistence context and are released by
+     * the iterator in chunks as it advances, so changes made to them must be saved explicitly. The iterator must be
+     * closed once the caller is done with it. If the given QueryByCriteria is empty, then all data objects for the
+     * given type will be iterated over.</p>
+     *
+     * @param type the type of the data objects to query
+     * @param queryByCriteria query object, can contain sorting and page request configuration
+     * @param <T> the data object class type
+     *
+     * @return an iterator over the results of the query, will never return null
+     *
+     * @throws IllegalArgumentException if {@code type} does not denote a data object type, also if the
+     *  {@code queryByCriteria} is null.
+     * @throws DataAccessException if data access fails
+     * @since 2.5.2
+     */
+    <T> CloseableIterator<T> iterateMatching(Class<T> type, QueryByCriteria queryByCriteria);
+
     /**
      * Executes a query for the given data object returning all data objects for the given type.
      *
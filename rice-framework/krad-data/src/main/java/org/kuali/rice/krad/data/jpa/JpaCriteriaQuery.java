@@ -20,6 +20,11 @@ import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import java.util.List;
 
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.kuali.rice.core.api.criteria.QueryByCriteria;
+
 /**
  * JPA specialization of DataObjectCriteriaQuery.
  *
@@ -49,6 +54,34 @@ class JpaCriteriaQuery extends DataObjectCriteriaQueryBase<NativeJpaQueryTransla
         return queryTranslator;
     }
 
+    /**
+     * Opens a database cursor over the results of the given criteria rather than reading them all at once.
+     *
+     * <p>The count flag of the criteria is ignored, but its start index and maximum results are honored.</p>
+     *
+     * @param queryClass the type of the results to return
+     * @param criteria the criteria to use to get the results
+     * @param fetchSize the number of rows the JDBC driver should fetch from the database at a time
+     *
+     * @return a cursor over the results, which must be closed by the caller
+     */
+    public ScrollableCursor openCursor(Class<?> queryClass, QueryByCriteria criteria, int fetchSize) {
+        if (queryClass == null) {
+            throw new IllegalArgumentException("queryClass is null");
+        }
+
+        if (criteria == null) {
+            throw new IllegalArgumentException("criteria is null");
+        }
+
+        NativeJpaQueryTranslator.TranslationContext context = queryTranslator.translateCriteria(queryClass, criteria);
+        TypedQuery query = queryTranslator.createQuery(queryClass, context);
+        queryTranslator.convertQueryFlags(criteria, query);
+        query.setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE);
+        query.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+        return (ScrollableCursor) query.getSingleResult();
+    }
+
     /**
      * {@inheritDoc}
      */
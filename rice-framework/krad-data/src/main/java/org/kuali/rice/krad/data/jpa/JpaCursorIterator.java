@@ -0,0 +1,138 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.data.jpa;
+
+import java.util.NoSuchElementException;
+
+import javax.persistence.EntityManager;
+
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.kuali.rice.krad.data.CloseableIterator;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+
+/**
+ * Iterates over the rows of an EclipseLink {@link ScrollableCursor}, keeping memory use flat regardless of the size of
+ * the result set.
+ *
+ * <p>The cursor is read through an {@link EntityManager} owned by this iterator.  Every {@code chunkSize} objects, the
+ * objects already read are released from both the cursor and the entity manager, so that neither holds on to
+ * objects which have been handed to the caller.  The cursor and the entity manager are closed once the iterator is
+ * exhausted or {@link #close()} is called.</p>
+ *
+ * @param <T> the type of the objects being iterated over
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+class JpaCursorIterator<T> implements CloseableIterator<T> {
+
+    private final EntityManager entityManager;
+    private final ScrollableCursor cursor;
+    private final int chunkSize;
+    private final PersistenceExceptionTranslator persistenceExceptionTranslator;
+
+    private int readInChunk;
+    private boolean closed;
+
+    /**
+     * Creates an iterator over the given cursor.
+     *
+     * @param entityManager the entity manager the cursor was opened through, which will be closed with the iterator
+     * @param cursor the cursor to iterate over
+     * @param chunkSize the number of objects to read before releasing them from the persistence context
+     * @param persistenceExceptionTranslator the translator to use for exceptions thrown while reading the cursor
+     */
+    JpaCursorIterator(EntityManager entityManager, ScrollableCursor cursor, int chunkSize,
+            PersistenceExceptionTranslator persistenceExceptionTranslator) {
+        this.entityManager = entityManager;
+        this.cursor = cursor;
+        this.chunkSize = chunkSize;
+        this.persistenceExceptionTranslator = persistenceExceptionTranslator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        try {
+            boolean hasNext = cursor.hasNext();
+            if (!hasNext) {
+                close();
+            }
+            return hasNext;
+        } catch (RuntimeException e) {
+            close();
+            throw DataAccessUtils.translateIfNecessary(e, persistenceExceptionTranslator);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            if (readInChunk >= chunkSize) {
+                cursor.clear();
+                entityManager.clear();
+                readInChunk = 0;
+            }
+            readInChunk++;
+            return (T) cursor.next();
+        } catch (RuntimeException e) {
+            close();
+            throw DataAccessUtils.translateIfNecessary(e, persistenceExceptionTranslator);
+        }
+    }
+
+    /**
+     * Not supported, data objects must be deleted through the
+     * {@link org.kuali.rice.krad.data.DataObjectService}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove is not supported by query result iterators");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            cursor.close();
+        } finally {
+            if (entityManager.isOpen()) {
+                entityManager.close();
+            }
+        }
+    }
+
+}
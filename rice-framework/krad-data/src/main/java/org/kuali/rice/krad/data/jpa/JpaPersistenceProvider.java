@@ -30,6 +30,7 @@ import javax.persistence.metamodel.ManagedType;
 import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.queries.ScrollableCursor;
 import org.eclipse.persistence.sessions.CopyGroup;
 import org.kuali.rice.core.api.CoreConstants;
 import org.kuali.rice.core.api.config.property.ConfigContext;
@@ -38,6 +39,7 @@ import org.kuali.rice.core.api.criteria.QueryResults;
 import org.kuali.rice.core.api.exception.RiceRuntimeException;
 import org.kuali.rice.core.api.mo.common.GloballyUnique;
 import org.kuali.rice.core.api.mo.common.Versioned;
+import org.kuali.rice.krad.data.CloseableIterator;
 import org.kuali.rice.krad.data.CompoundKey;
 import org.kuali.rice.krad.data.CopyOption;
 import org.kuali.rice.krad.data.DataObjectService;
@@ -96,6 +98,14 @@ public class JpaPersistenceProvider implements PersistenceProvider, BeanFactoryA
      */
     public static final String AUTO_FLUSH = "rice.krad.data.jpa.autoFlush";
 
+    /**
+     * The number of rows fetched from the database at a time by {@link #iterateMatching(Class, QueryByCriteria)}, which
+     * is also the number of data objects read before the persistence context used for iteration is cleared.
+     */
+    public static final String ITERATION_FETCH_SIZE = "rice.krad.data.jpa.iterationFetchSize";
+
+    private static final int DEFAULT_ITERATION_FETCH_SIZE = 500;
+
     private EntityManager sharedEntityManager;
     private DataObjectService dataObjectService;
 
@@ -108,6 +118,8 @@ public class JpaPersistenceProvider implements PersistenceProvider, BeanFactoryA
      */
     private static final class LazyConfigHolder {
         private static final boolean autoFlush = ConfigContext.getCurrentContextConfig().getBooleanProperty(AUTO_FLUSH, false);
+        private static final int iterationFetchSize = Math.max(1, (int) ConfigContext.getCurrentContextConfig()
+                .getNumericProperty(ITERATION_FETCH_SIZE, DEFAULT_ITERATION_FETCH_SIZE));
     }
 
     /**
@@ -263,6 +275,32 @@ public class JpaPersistenceProvider implements PersistenceProvider, BeanFactoryA
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The results are read through a scrollable cursor opened on a dedicated {@link EntityManager}, which is
+     * cleared every {@link #ITERATION_FETCH_SIZE} rows so that data objects already returned can be garbage
+     * collected.</p>
+     */
+    @Override
+    public <T> CloseableIterator<T> iterateMatching(final Class<T> type, final QueryByCriteria queryByCriteria) {
+        return doWithExceptionTranslation(new Callable<CloseableIterator<T>>() {
+            @Override
+            public CloseableIterator<T> call() {
+                EntityManager entityManager = sharedEntityManager.getEntityManagerFactory().createEntityManager();
+                try {
+                    ScrollableCursor cursor = new JpaCriteriaQuery(entityManager).openCursor(type, queryByCriteria,
+                            LazyConfigHolder.iterationFetchSize);
+                    return new JpaCursorIterator<T>(entityManager, cursor, LazyConfigHolder.iterationFetchSize,
+                            persistenceExceptionTranslator);
+                } catch (RuntimeException e) {
+                    entityManager.close();
+                    throw e;
+                }
+            }
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -25,7 +25,9 @@ import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
@@ -39,6 +41,13 @@ import org.kuali.rice.core.api.criteria.QueryByCriteria;
 /**
  * JPA QueryTranslator that translates queries directly into native JPA 2 Criteria API.
  *
+ * <p>
+ * Criteria values are never embedded in the translated query, they are bound to parameters instead.  Criteria of the
+ * same "shape" (the same data object type, predicates, property paths and order by fields, but different values)
+ * therefore issue identical SQL, which the database can match against its statement cache.  A new JPA criteria query
+ * is built for every translation, as criteria queries are not safe to share between threads or entity managers.
+ * </p>
+ *
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTranslator.TranslationContext, TypedQuery> {
@@ -93,6 +102,18 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
 		 */
 		TranslationContext parentTranslationContext;
 
+        /**
+         * The parameters created for the criteria values, in the order they were created.  Shared by all of the
+         * contexts of a single translation.
+         */
+        List<ParameterExpression> parameters = new ArrayList<ParameterExpression>();
+
+        /**
+         * The criteria values to bind to the parameters, in the same order.  Shared by all of the contexts of a single
+         * translation.
+         */
+        List<Object> values = new ArrayList<Object>();
+
         /**
          * Creates a new criteria parsing context.
          *
@@ -119,6 +140,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
         TranslationContext( EntityManager entityManager, Class queryClass, TranslationContext parentContext ) {
         	this(entityManager, queryClass);
         	this.parentTranslationContext = parentContext;
+            this.parameters = parentContext.parameters;
+            this.values = parentContext.values;
         }
         
         /**
@@ -131,6 +154,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
             query = parent.query;
             root = parent.root;
 			parentTranslationContext = parent.parentTranslationContext;
+            parameters = parent.parameters;
+            values = parent.values;
         }
 
         /**
@@ -250,7 +275,10 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
         if (!criteria.predicates.isEmpty()) {
             jpaQuery = jpaQuery.where(criteria.getCriteriaPredicate());
         }
-        return entityManager.createQuery(jpaQuery);
+
+        TypedQuery query = entityManager.createQuery(jpaQuery);
+        bindParameters(query, criteria.parameters, criteria.values);
+        return query;
     }
 
     /**
@@ -264,7 +292,37 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
             jpaQuery = jpaQuery.where(criteria.getCriteriaPredicate());
         }
 
-        return entityManager.createQuery(jpaQuery);
+        Query query = entityManager.createQuery(jpaQuery);
+        bindParameters(query, criteria.parameters, criteria.values);
+        return query;
+    }
+
+    /**
+     * Binds the criteria values to the parameters of the query.
+     */
+    @SuppressWarnings("unchecked")
+    private void bindParameters(Query query, List<ParameterExpression> parameters, List<Object> values) {
+        if (parameters.size() != values.size()) {
+            throw new IllegalStateException("Criteria contain " + values.size() + " values but the query has "
+                    + parameters.size() + " parameters");
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(parameters.get(i), values.get(i));
+        }
+    }
+
+    /**
+     * Creates a parameter for the given criteria value, to be bound when the query is created.
+     *
+     * @param criteria the criteria the value belongs to.
+     * @param value the value.
+     * @return the parameter for the value.
+     */
+    protected ParameterExpression parameter(TranslationContext criteria, Object value) {
+        ParameterExpression parameter = criteria.builder.parameter(value.getClass());
+        criteria.parameters.add(parameter);
+        criteria.values.add(value);
+        return parameter;
     }
 
     /**
@@ -372,7 +430,7 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
 			Path path = translatePropertyPathIntoJpaPath(criteria, (PropertyPath) value);
 			criteria.addPredicate(criteria.builder.equal(criteria.attr(propertyPath), path));
 		} else {
-			criteria.addPredicate(criteria.builder.equal(criteria.attr(propertyPath), value));
+			criteria.addPredicate(criteria.builder.equal(criteria.attr(propertyPath), parameter(criteria, value)));
 		}
     }
 
@@ -381,7 +439,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addEqualToIgnoreCase(TranslationContext criteria, String propertyPath, String value) {
-        criteria.addPredicate(criteria.builder.equal(criteria.builder.upper(criteria.attr(propertyPath)), value.toUpperCase()));
+        criteria.addPredicate(criteria.builder.equal(criteria.builder.upper(criteria.attr(propertyPath)),
+                parameter(criteria, value.toUpperCase())));
     }
 
     /**
@@ -389,7 +448,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addGreaterOrEqualTo(TranslationContext criteria, String propertyPath, Object value) {
-        criteria.addPredicate(criteria.builder.greaterThanOrEqualTo(criteria.attr(propertyPath), (Comparable) value));
+        criteria.addPredicate(criteria.builder.greaterThanOrEqualTo(criteria.attr(propertyPath),
+                (Expression<Comparable>) parameter(criteria, value)));
     }
 
     /**
@@ -397,7 +457,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addGreaterThan(TranslationContext criteria, String propertyPath, Object value) {
-        criteria.addPredicate(criteria.builder.greaterThan(criteria.attr(propertyPath), (Comparable) value));
+        criteria.addPredicate(criteria.builder.greaterThan(criteria.attr(propertyPath),
+                (Expression<Comparable>) parameter(criteria, value)));
     }
 
     /**
@@ -405,7 +466,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addLessOrEqualTo(TranslationContext criteria, String propertyPath, Object value) {
-        criteria.addPredicate(criteria.builder.lessThanOrEqualTo(criteria.attr(propertyPath), (Comparable) value));
+        criteria.addPredicate(criteria.builder.lessThanOrEqualTo(criteria.attr(propertyPath),
+                (Expression<Comparable>) parameter(criteria, value)));
     }
 
     /**
@@ -413,7 +475,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addLessThan(TranslationContext criteria, String propertyPath, Object value) {
-        criteria.addPredicate(criteria.builder.lessThan(criteria.attr(propertyPath), (Comparable) value));
+        criteria.addPredicate(criteria.builder.lessThan(criteria.attr(propertyPath),
+                (Expression<Comparable>) parameter(criteria, value)));
     }
 
     /**
@@ -422,7 +485,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
     @Override
     protected void addLike(TranslationContext criteria, String propertyPath, Object value) {
         // value should be a String pattern
-		criteria.addPredicate(criteria.builder.like(criteria.attr(propertyPath), fixSearchPattern(value.toString())));
+        String pattern = fixSearchPattern(value.toString());
+		criteria.addPredicate(criteria.builder.like(criteria.attr(propertyPath), parameter(criteria, pattern)));
     }
 
     /**
@@ -430,8 +494,9 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addLikeIgnoreCase(TranslationContext criteria, String propertyPath, String value){
+        String pattern = fixSearchPattern(value.toUpperCase());
         criteria.addPredicate(criteria.builder.like(criteria.builder.upper(criteria.attr(propertyPath)),
-                fixSearchPattern(value.toUpperCase())));
+                parameter(criteria, pattern)));
     }
 
 	/**
@@ -439,8 +504,9 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
 	 */
 	@Override
 	protected void addNotLikeIgnoreCase(TranslationContext criteria, String propertyPath, String value) {
+        String pattern = fixSearchPattern(value.toUpperCase());
 		criteria.addPredicate(criteria.builder.notLike(criteria.builder.upper(criteria.attr(propertyPath)),
-				fixSearchPattern(value.toUpperCase())));
+				parameter(criteria, pattern)));
 	}
 
 	/**
@@ -512,7 +578,7 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
 			Path path = translatePropertyPathIntoJpaPath(criteria, (PropertyPath) value);
 			criteria.addPredicate(criteria.builder.notEqual(criteria.attr(propertyPath), path));
 		} else {
-			criteria.addPredicate(criteria.builder.notEqual(criteria.attr(propertyPath), value));
+			criteria.addPredicate(criteria.builder.notEqual(criteria.attr(propertyPath), parameter(criteria, value)));
 		}
     }
 
@@ -521,7 +587,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addNotEqualToIgnoreCase(TranslationContext criteria, String propertyPath, String value) {
-        criteria.addPredicate(criteria.builder.notEqual(criteria.builder.upper(criteria.attr(propertyPath)), value.toUpperCase()));
+        criteria.addPredicate(criteria.builder.notEqual(criteria.builder.upper(criteria.attr(propertyPath)),
+                parameter(criteria, value.toUpperCase())));
     }
 
     /**
@@ -530,7 +597,8 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
     @Override
     protected void addNotLike(TranslationContext criteria, String propertyPath, Object value) {
         // value should be a String pattern
-		criteria.addPredicate(criteria.builder.notLike(criteria.attr(propertyPath), fixSearchPattern(value.toString())));
+        String pattern = fixSearchPattern(value.toString());
+		criteria.addPredicate(criteria.builder.notLike(criteria.attr(propertyPath), parameter(criteria, pattern)));
     }
 
     /**
@@ -538,7 +606,7 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addIn(TranslationContext criteria, String propertyPath, Collection values) {
-        criteria.addPredicate(criteria.attr(propertyPath).in(values));
+        criteria.addPredicate(criteria.attr(propertyPath).in(parameters(criteria, values)));
     }
 
     /**
@@ -546,7 +614,22 @@ class NativeJpaQueryTranslator extends QueryTranslatorBase<NativeJpaQueryTransla
      */
     @Override
     protected void addNotIn(TranslationContext criteria, String propertyPath, Collection values) {
-        criteria.addPredicate(criteria.builder.not(criteria.attr(propertyPath).in(values)));
+        criteria.addPredicate(criteria.builder.not(criteria.attr(propertyPath).in(parameters(criteria, values))));
+    }
+
+    /**
+     * Creates a parameter for each of the given criteria values.
+     *
+     * @param criteria the criteria the values belong to.
+     * @param values the values.
+     * @return the parameters for the values, in the same order.
+     */
+    protected Expression<?>[] parameters(TranslationContext criteria, Collection<?> values) {
+        List<Expression<?>> parameters = new ArrayList<Expression<?>>(values.size());
+        for (Object value : values) {
+            parameters.add(parameter(criteria, value));
+        }
+        return parameters.toArray(new Expression<?>[parameters.size()]);
     }
 
     /**
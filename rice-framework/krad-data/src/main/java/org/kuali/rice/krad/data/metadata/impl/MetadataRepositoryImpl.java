@@ -16,7 +16,10 @@
 package org.kuali.rice.krad.data.metadata.impl;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.kuali.rice.krad.data.metadata.DataObjectMetadata;
 import org.kuali.rice.krad.data.metadata.MetadataRepository;
@@ -27,26 +30,54 @@ import org.springframework.beans.factory.annotation.Required;
 /**
  * MetadataRepository implementation backed by the ProviderRegistry
  *
+ * <p>
+ * Lookups are answered from an index of data object type to metadata (including types which no provider handles),
+ * so that the metadata providers are only consulted once per type.  The index is tied to the list of
+ * MetadataProviders it was built from and is replaced as a whole when that list changes, so lookups never block
+ * one another.  Types missing from the index are still resolved one at a time, as providers initialize their
+ * metadata lazily on first use and a lookup racing with that initialization could otherwise be answered (and
+ * remembered) incorrectly.
+ * </p>
+ *
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public class MetadataRepositoryImpl implements MetadataRepository {
 
     private ProviderRegistry registry;
 
+    private volatile MetadataIndex index;
+
+    // serializes calls into the providers, which is only needed the first time each type is looked up
+    private final Object providerLock = new Object();
+
     @Required
     public void setProviderRegistry(ProviderRegistry registry) {
         this.registry = registry;
+        this.index = null;
     }
 
     @Override
-	public synchronized DataObjectMetadata getMetadata(Class<?> type) {
-        // don't compose, just return first provider result
-        for (MetadataProvider provider: registry.getMetadataProviders()) {
-            if (provider.handles(type)) {
-                return provider.getMetadataForType(type);
-            }
+	public DataObjectMetadata getMetadata(Class<?> type) {
+        if (type == null) {
+            return null;
         }
-        return null;
+        return getIndex().getMetadata(type);
+    }
+
+    /**
+     * Returns the index for the currently registered MetadataProviders, replacing the current index if the providers
+     * have changed since it was built.
+     *
+     * @return the index for the currently registered MetadataProviders
+     */
+    protected MetadataIndex getIndex() {
+        List<MetadataProvider> providers = registry.getMetadataProviders();
+        MetadataIndex current = index;
+        if (current == null || !current.isFor(providers)) {
+            current = new MetadataIndex(providers, providerLock);
+            index = current;
+        }
+        return current;
     }
 
     @Override
@@ -66,4 +97,51 @@ public class MetadataRepositoryImpl implements MetadataRepository {
         return getMetadata(type) != null;
     }
 
+    /**
+     * Index of data object type to the metadata returned by the first provider which handles it, for a fixed list of
+     * providers.
+     */
+    protected static final class MetadataIndex {
+
+        // marks types which none of the providers handle, since the map cannot hold nulls
+        private static final Object NO_METADATA = new Object();
+
+        private final List<MetadataProvider> providers;
+        private final Object providerLock;
+        private final ConcurrentMap<Class<?>, Object> metadataByType = new ConcurrentHashMap<Class<?>, Object>();
+
+        MetadataIndex(List<MetadataProvider> providers, Object providerLock) {
+            this.providers = providers;
+            this.providerLock = providerLock;
+        }
+
+        boolean isFor(List<MetadataProvider> providers) {
+            return this.providers == providers || this.providers.equals(providers);
+        }
+
+        DataObjectMetadata getMetadata(Class<?> type) {
+            Object metadata = metadataByType.get(type);
+            if (metadata == null) {
+                synchronized (providerLock) {
+                    metadata = metadataByType.get(type);
+                    if (metadata == null) {
+                        metadata = findMetadata(type);
+                        metadataByType.put(type, metadata == null ? NO_METADATA : metadata);
+                    }
+                }
+            }
+            return metadata == NO_METADATA ? null : (DataObjectMetadata) metadata;
+        }
+
+        private DataObjectMetadata findMetadata(Class<?> type) {
+            // don't compose, just return first provider result
+            for (MetadataProvider provider : providers) {
+                if (provider.handles(type)) {
+                    return provider.getMetadataForType(type);
+                }
+            }
+            return null;
+        }
+    }
+
 }
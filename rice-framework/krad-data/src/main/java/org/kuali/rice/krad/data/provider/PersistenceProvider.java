@@ -17,6 +17,7 @@ package org.kuali.rice.krad.data.provider;
 
 import org.kuali.rice.core.api.criteria.QueryByCriteria;
 import org.kuali.rice.core.api.criteria.QueryResults;
+import org.kuali.rice.krad.data.CloseableIterator;
 import org.kuali.rice.krad.data.CopyOption;
 import org.kuali.rice.krad.data.PersistenceOption;
 
@@ -96,6 +97,26 @@ public interface PersistenceProvider extends Provider {
      */
     <T> QueryResults<T> findMatching(Class<T> type, QueryByCriteria queryByCriteria);
 
+    /**
+     * <p>
+     * Iterates over the data objects matching the given QueryByCriteria, reading them from the backend as the iterator
+     * is advanced. Implementations should not retain references to data objects which have already been returned, so
+     * that arbitrarily large result sets can be processed in constant memory.
+     * </p>
+     *
+     * @param type the type of the data objects to query
+     * @param queryByCriteria query object, can contain sorting and page request configuration
+     * @param <T> the data object class type
+     *
+     * @return an iterator over the results of the query which must be closed by the caller, will never return null
+     *
+     * @throws IllegalArgumentException if {@code type} does not denote a data object type or if {@code queryByCriteria}
+     *  is null
+     * @throws org.springframework.dao.DataAccessException if data access fails
+     * @since 2.5.2
+     */
+    <T> CloseableIterator<T> iterateMatching(Class<T> type, QueryByCriteria queryByCriteria);
+
     /**
      * Retrieves all data objects for the given type.
      *
@@ -19,6 +19,7 @@ import java.util.Set;
 
 import org.kuali.rice.core.api.criteria.QueryByCriteria;
 import org.kuali.rice.core.api.criteria.QueryResults;
+import org.kuali.rice.krad.data.CloseableIterator;
 import org.kuali.rice.krad.data.CompoundKey;
 import org.kuali.rice.krad.data.CopyOption;
 import org.kuali.rice.krad.data.DataObjectService;
@@ -96,6 +97,14 @@ public class ProviderBasedDataObjectService implements DataObjectService {
         return persistenceProviderForType(type).findMatching(type, queryByCriteria);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> CloseableIterator<T> iterateMatching(Class<T> type, QueryByCriteria queryByCriteria) {
+        return persistenceProviderForType(type).iterateMatching(type, queryByCriteria);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -54,6 +54,11 @@ public class ProviderRegistryImpl implements ProviderRegistry {
     // The implementation is a LinkedHashMultimap to enforce the ordering semantic for PersistenceProvider selection
     private final Multimap<Class<? extends Provider>, Provider> providersByType = LinkedHashMultimap.<Class<? extends Provider>, Provider>create();
 
+    // Immutable snapshot of the registered MetadataProviders, replaced whenever the registrations change so that the
+    // (very frequent) metadata lookups never need to take the registry lock.  A new list instance is published on
+    // every change, which allows callers to detect changes by identity.
+    private volatile List<MetadataProvider> metadataProviders = Collections.emptyList();
+
     /**
      * Enumerates all Provider-derived interfaces in the type hierarchy of the specified Provider class.
      *
@@ -87,6 +92,7 @@ public class ProviderRegistryImpl implements ProviderRegistry {
         for (Class<? extends Provider> providerInterface: enumerateProviderInterfaces(provider)) {
             providersByType.put(providerInterface, provider);
         }
+        refreshMetadataProviders();
     }
 
     /**
@@ -103,10 +109,21 @@ public class ProviderRegistryImpl implements ProviderRegistry {
         while (providers.remove(provider)) {
             removed = true;
         }
+        refreshMetadataProviders();
 
         return removed;
     }
 
+    /**
+     * Publishes a new snapshot of the registered MetadataProviders.  Must be called while holding the registry lock.
+     */
+    private void refreshMetadataProviders() {
+        List<MetadataProvider> providers = new ArrayList(providersByType.get(MetadataProvider.class));
+        if (!providers.equals(metadataProviders)) {
+            metadataProviders = Collections.unmodifiableList(providers);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -126,11 +143,13 @@ public class ProviderRegistryImpl implements ProviderRegistry {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>The returned list is an immutable snapshot, and the same instance is returned until a MetadataProvider is
+     * registered or unregistered.</p>
      */
     @Override
-    public synchronized List<MetadataProvider> getMetadataProviders() {
-        Collection<Provider> metadataProviders = providersByType.get(MetadataProvider.class);
-        return Collections.unmodifiableList(new ArrayList(metadataProviders));
+    public List<MetadataProvider> getMetadataProviders() {
+        return metadataProviders;
     }
 
     /**
@@ -0,0 +1,160 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.data.metadata.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kuali.rice.krad.data.metadata.DataObjectMetadata;
+import org.kuali.rice.krad.data.provider.MetadataProvider;
+import org.kuali.rice.krad.data.provider.ProviderRegistry;
+import org.kuali.rice.krad.data.provider.impl.ProviderRegistryImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests MetadataRepositoryImpl
+ */
+public class MetadataRepositoryImplTest {
+
+    // test types
+    private static class A {}
+    private static class B {}
+    private static class C {}
+
+    private ProviderRegistry registry;
+    private MetadataRepositoryImpl repository;
+
+    private MetadataProvider providerA;
+    private MetadataProvider providerAB;
+    private DataObjectMetadata metadataA;
+    private DataObjectMetadata metadataB;
+
+    @Before
+    public void setup() {
+        registry = new ProviderRegistryImpl();
+        repository = new MetadataRepositoryImpl();
+        repository.setProviderRegistry(registry);
+
+        metadataA = mock(DataObjectMetadata.class);
+        metadataB = mock(DataObjectMetadata.class);
+
+        providerA = mock(MetadataProvider.class);
+        when(providerA.handles(A.class)).thenReturn(true);
+        when(providerA.getMetadataForType(A.class)).thenReturn(metadataA);
+
+        providerAB = mock(MetadataProvider.class);
+        when(providerAB.handles(A.class)).thenReturn(true);
+        when(providerAB.handles(B.class)).thenReturn(true);
+        when(providerAB.getMetadataForType(A.class)).thenReturn(mock(DataObjectMetadata.class));
+        when(providerAB.getMetadataForType(B.class)).thenReturn(metadataB);
+    }
+
+    /**
+     * Verifies the first provider which handles a type supplies its metadata, and that providers are only consulted
+     * the first time a type is looked up
+     */
+    @Test
+    public void testGetMetadata() {
+        registry.registerProvider(providerA);
+        registry.registerProvider(providerAB);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(metadataA, repository.getMetadata(A.class));
+            assertSame(metadataB, repository.getMetadata(B.class));
+            assertNull(repository.getMetadata(C.class));
+            assertNull(repository.getMetadata(null));
+        }
+
+        assertTrue(repository.contains(A.class));
+        assertFalse(repository.contains(C.class));
+
+        verify(providerA, times(1)).handles(A.class);
+        verify(providerA, times(1)).getMetadataForType(A.class);
+        verify(providerAB, times(1)).handles(B.class);
+        verify(providerAB, times(1)).handles(C.class);
+    }
+
+    /**
+     * Verifies types remembered as unhandled are looked up again once the registered providers change
+     */
+    @Test
+    public void testProviderRegistrationRefreshesIndex() {
+        registry.registerProvider(providerA);
+        assertNull(repository.getMetadata(B.class));
+
+        registry.registerProvider(providerAB);
+        assertSame(metadataB, repository.getMetadata(B.class));
+
+        registry.unregisterProvider(providerAB);
+        assertNull(repository.getMetadata(B.class));
+        assertSame(metadataA, repository.getMetadata(A.class));
+    }
+
+    /**
+     * Runs many concurrent lookups against the repository, verifying each is answered correctly and that each type
+     * is only resolved against the providers once
+     */
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        registry.registerProvider(providerA);
+        registry.registerProvider(providerAB);
+
+        int threads = 16;
+        final int lookups = 20000;
+        ExecutorService threadpool = Executors.newFixedThreadPool(threads);
+        List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    for (int j = 0; j < lookups; j++) {
+                        if (repository.getMetadata(A.class) != metadataA
+                                || repository.getMetadata(B.class) != metadataB
+                                || repository.getMetadata(C.class) != null) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            });
+        }
+
+        List<Future<Boolean>> results = threadpool.invokeAll(tasks, 60, TimeUnit.SECONDS);
+        threadpool.shutdown();
+
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        verify(providerA, times(1)).handles(A.class);
+        verify(providerAB, times(1)).handles(B.class);
+        verify(providerAB, times(1)).handles(C.class);
+    }
+}
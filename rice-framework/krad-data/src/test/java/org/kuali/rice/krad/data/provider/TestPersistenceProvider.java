@@ -17,6 +17,7 @@ package org.kuali.rice.krad.data.provider;
 
 import org.kuali.rice.core.api.criteria.QueryByCriteria;
 import org.kuali.rice.core.api.criteria.QueryResults;
+import org.kuali.rice.krad.data.CloseableIterator;
 import org.kuali.rice.krad.data.CopyOption;
 import org.kuali.rice.krad.data.PersistenceOption;
 
@@ -36,6 +37,11 @@ public class TestPersistenceProvider implements PersistenceProvider {
         return null;
     }
 
+    @Override
+    public <T> CloseableIterator<T> iterateMatching(Class<T> type, QueryByCriteria queryByCriteria) {
+        return null;
+    }
+
     @Override
     public <T> QueryResults<T> findAll(Class<T> type) {
         return null;
@@ -386,6 +386,72 @@ public class DictionaryValidationServiceImplTest extends KRADTestCase {
 
     }
 
+    /**
+     * Validates a company with a large number of employees several times, verifying that validation results do not
+     * change once constraints are served from the cached constraint plans, and that the plans are rebuilt when the
+     * constraint providers change
+     *
+     * @see DictionaryValidationServiceImpl#getProvidedConstraints
+     */
+    @Test
+    public void testLargeCollectionValidation() throws IOException {
+        DataDictionaryService dataDictionaryService = new DataDictionaryServiceImpl(dataDictionary);
+        service.setDataDictionaryService(dataDictionaryService);
+
+        DataObjectEntry companyEntry = dataDictionary.getDataObjectEntry(
+                "org.kuali.rice.krad.datadictionary.validation.Company");
+
+        Company acmeCompany = new Company();
+        Address acmeMainAddress = new Address();
+        acmeMainAddress.setCountry("US");
+        acmeMainAddress.setPostalCode("11111");
+        acmeCompany.setMainAddress(acmeMainAddress);
+
+        int employeeCount = 2000;
+        List<Employee> employees = new ArrayList<Employee>();
+        for (int i = 0; i < employeeCount; i++) {
+            Employee employee = new Employee();
+            if (i % 2 == 0) {
+                Person person = new Person();
+                person.setBirthDate(new Date());
+                person.setGender("M");
+                employee.setEmployeeDetails(person);
+                employee.setEmployeeId(Integer.toString(100000000 + i));
+            }
+            employees.add(employee);
+        }
+        acmeCompany.setEmployees(employees);
+
+        List<String> slogans = new ArrayList<String>();
+        slogans.add("Slogan One");
+        slogans.add("Slogan Two");
+        acmeCompany.setSlogans(slogans);
+
+        // every invalid employee is missing both its id and its details
+        for (int i = 0; i < 3; i++) {
+            DictionaryValidationResult dictionaryValidationResult = service.validate(acmeCompany,
+                    "org.kuali.rice.krad.datadictionary.validation.Company", companyEntry, true);
+
+            Assert.assertEquals(employeeCount, dictionaryValidationResult.getNumberOfErrors());
+            Assert.assertTrue(hasError(dictionaryValidationResult, "employees[1].employeeId",
+                    RiceKeyConstants.ERROR_REQUIRED));
+            Assert.assertTrue(hasError(dictionaryValidationResult, "employees[" + (employeeCount - 1)
+                    + "].employeeDetails", RiceKeyConstants.ERROR_REQUIRED));
+        }
+
+        // collection constraints only apply once a provider for them has been added
+        employees.subList(3, employeeCount).clear();
+        DictionaryValidationResult dictionaryValidationResult = service.validate(acmeCompany,
+                "org.kuali.rice.krad.datadictionary.validation.Company", companyEntry, true);
+        Assert.assertEquals(2, dictionaryValidationResult.getNumberOfErrors());
+
+        service.getConstraintProviders().add(new CollectionDefinitionConstraintProvider());
+        dictionaryValidationResult = service.validate(acmeCompany,
+                "org.kuali.rice.krad.datadictionary.validation.Company", companyEntry, true);
+        Assert.assertEquals(3, dictionaryValidationResult.getNumberOfErrors());
+        Assert.assertTrue(hasError(dictionaryValidationResult, "employees", RiceKeyConstants.ERROR_QUANTITY_RANGE));
+    }
+
     /**
      * General test for state based using case constraints and valid characters constraints.
      *
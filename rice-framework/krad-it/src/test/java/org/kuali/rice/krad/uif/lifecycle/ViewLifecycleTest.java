@@ -17,6 +17,7 @@ package org.kuali.rice.krad.uif.lifecycle;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -126,6 +127,30 @@ public class ViewLifecycleTest extends KRADTestCase {
         testFormView(form, "TestPagedView");
     }
 
+    @Test
+    public void testAsynchronousLifecycle() throws Throwable {
+        String asynchronous = Boolean.toString(ViewLifecycle.isAsynchronousLifecycle());
+        ConfigContext.getCurrentContextConfig().putProperty(
+                KRADConstants.ConfigParameters.KRAD_VIEW_LIFECYCLE_ASYNCHRONOUS, "true");
+        try {
+            ViewService viewService = KRADServiceLocatorWeb.getViewService();
+            View view = viewService.getViewById("TestPagedView");
+
+            ViewLifecycle.encapsulateLifecycle(view, new UifFormBase(), null, new Runnable() {
+                @Override
+                public void run() {
+                    assertTrue(ViewLifecycle.getProcessor() instanceof AsynchronousViewLifecycleProcessor);
+                }
+            });
+
+            testSanity();
+            testPagedView();
+        } finally {
+            ConfigContext.getCurrentContextConfig().putProperty(
+                    KRADConstants.ConfigParameters.KRAD_VIEW_LIFECYCLE_ASYNCHRONOUS, asynchronous);
+        }
+    }
+
     @Test
     public void testInitializationPhase() throws Throwable {
         ViewService viewService = KRADServiceLocatorWeb.getViewService();
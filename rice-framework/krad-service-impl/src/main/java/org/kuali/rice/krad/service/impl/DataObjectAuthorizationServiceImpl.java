@@ -20,12 +20,16 @@ import org.kuali.rice.krad.datadictionary.AttributeSecurity;
 import org.kuali.rice.krad.document.DocumentAuthorizer;
 import org.kuali.rice.krad.document.DocumentPresentationController;
 import org.kuali.rice.krad.maintenance.MaintenanceDocumentAuthorizer;
+import org.kuali.rice.krad.maintenance.MaintenanceDocumentAuthorizerBase;
 import org.kuali.rice.krad.maintenance.MaintenanceDocumentPresentationController;
 import org.kuali.rice.krad.service.DataDictionaryService;
 import org.kuali.rice.krad.service.DataObjectAuthorizationService;
 import org.kuali.rice.krad.service.DocumentDictionaryService;
 import org.kuali.rice.krad.service.KRADServiceLocatorWeb;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Implementation of <code>DataObjectAuthorizationService</code> that uses the
  * configured <code>AttributeSecurity</code> for a field to determine authorization
@@ -74,6 +78,26 @@ public class DataObjectAuthorizationServiceImpl implements DataObjectAuthorizati
                 .canMaintain(dataObject, user);
     }
 
+    /**
+     * @see org.kuali.rice.krad.service.DataObjectAuthorizationService#getMaintainAuthorizations
+     */
+    @Override
+    public List<Boolean> getMaintainAuthorizations(List<?> dataObjects, Person user, String docTypeName) {
+        DocumentAuthorizer documentAuthorizer = getDocumentDictionaryService().getDocumentAuthorizer(docTypeName);
+        if (documentAuthorizer instanceof MaintenanceDocumentAuthorizerBase) {
+            return ((MaintenanceDocumentAuthorizerBase) documentAuthorizer).getMaintainAuthorizations(dataObjects,
+                    user);
+        }
+
+        List<Boolean> authorizations = new ArrayList<Boolean>(dataObjects.size());
+        for (Object dataObject : dataObjects) {
+            authorizations.add(Boolean.valueOf(((MaintenanceDocumentAuthorizer) documentAuthorizer).canMaintain(
+                    dataObject, user)));
+        }
+
+        return authorizations;
+    }
+
     protected DataDictionaryService getDataDictionaryService() {
         if (dataDictionaryService == null) {
             this.dataDictionaryService = KRADServiceLocatorWeb.getDataDictionaryService();
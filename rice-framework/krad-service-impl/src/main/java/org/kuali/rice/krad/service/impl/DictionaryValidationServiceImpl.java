@@ -26,6 +26,7 @@ import org.kuali.rice.krad.data.DataObjectWrapper;
 import org.kuali.rice.krad.data.KradDataServiceLocator;
 import org.kuali.rice.krad.datadictionary.CollectionDefinition;
 import org.kuali.rice.krad.datadictionary.ComplexAttributeDefinition;
+import org.kuali.rice.krad.datadictionary.DataDictionaryDefinition;
 import org.kuali.rice.krad.datadictionary.DataDictionaryEntry;
 import org.kuali.rice.krad.datadictionary.DataDictionaryEntryBase;
 import org.kuali.rice.krad.datadictionary.DataObjectEntry;
@@ -58,16 +59,21 @@ import org.kuali.rice.krad.util.KRADUtils;
 import org.kuali.rice.krad.util.MessageMap;
 import org.springframework.beans.PropertyAccessorUtils;
 
+import com.google.common.collect.MapMaker;
+
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Validates Documents, Business Objects, and Attributes against the data dictionary. Including min, max lengths, and
@@ -103,6 +109,11 @@ public class DictionaryValidationServiceImpl implements DictionaryValidationServ
     @SuppressWarnings("unchecked")
     private List<ConstraintProcessor> elementConstraintProcessors;
 
+    private volatile ConstraintPlanCache constraintPlanCache;
+
+    private final ConcurrentMap<Class<?>, UpdatableReferences> updatableReferencesCache =
+            new ConcurrentHashMap<Class<?>, UpdatableReferences>();
+
     /**
      * creates a new IdentitySet.
      *
@@ -252,78 +263,109 @@ public class DictionaryValidationServiceImpl implements DictionaryValidationServ
             return;
         }
         processedBOs.add(businessObject);  // add bo to list to prevent excessive looping
-        Map<String, Class> references = getLegacyDataAdapter().listReferenceObjectFields(businessObject.getClass());
-        for (String referenceName : references.keySet()) {
-            if (getLegacyDataAdapter().isReferenceUpdatable(businessObject.getClass(), referenceName)) {
-                Object referenceObj = KradDataServiceLocator.getDataObjectService().wrap(businessObject)
-                        .getPropertyValueNullSafe(referenceName);
+        UpdatableReferences updatableReferences = getUpdatableReferences(businessObject.getClass());
+        if (updatableReferences.isEmpty()) {
+            return;
+        }
 
-                if (KRADUtils.isNull(referenceObj) || !(referenceObj instanceof PersistableBusinessObject)) {
-                    continue;
-                }
+        DataObjectWrapper<Object> wrapper = KradDataServiceLocator.getDataObjectService().wrap(businessObject);
+        for (String referenceName : updatableReferences.referenceNames) {
+            Object referenceObj = wrapper.getPropertyValueNullSafe(referenceName);
 
-                BusinessObject referenceBusinessObject = (BusinessObject) referenceObj;
-                GlobalVariables.getMessageMap().addToErrorPath(referenceName);
-                validateBusinessObject(referenceBusinessObject, validateRequired);
-                if (maxDepth > 0) {
-                    validateUpdatabableReferencesRecursively(referenceBusinessObject, maxDepth - 1, validateRequired,
-                            chompLastLetterSFromCollectionName, processedBOs);
-                }
-                GlobalVariables.getMessageMap().removeFromErrorPath(referenceName);
+            if (KRADUtils.isNull(referenceObj) || !(referenceObj instanceof PersistableBusinessObject)) {
+                continue;
             }
+
+            BusinessObject referenceBusinessObject = (BusinessObject) referenceObj;
+            GlobalVariables.getMessageMap().addToErrorPath(referenceName);
+            validateBusinessObject(referenceBusinessObject, validateRequired);
+            if (maxDepth > 0) {
+                validateUpdatabableReferencesRecursively(referenceBusinessObject, maxDepth - 1, validateRequired,
+                        chompLastLetterSFromCollectionName, processedBOs);
+            }
+            GlobalVariables.getMessageMap().removeFromErrorPath(referenceName);
         }
-        Map<String, Class> collections = getLegacyDataAdapter().listCollectionObjectTypes(businessObject.getClass());
-        for (String collectionName : collections.keySet()) {
-            if (getLegacyDataAdapter().isCollectionUpdatable(businessObject.getClass(), collectionName)) {
-                Object listObj = KradDataServiceLocator.getDataObjectService().wrap(businessObject)
-                        .getPropertyValueNullSafe(collectionName);
+        for (String collectionName : updatableReferences.collectionNames) {
+            Object listObj = wrapper.getPropertyValueNullSafe(collectionName);
 
-                if (KRADUtils.isNull(listObj)) {
-                    continue;
-                }
+            if (KRADUtils.isNull(listObj)) {
+                continue;
+            }
 
-                if (!(listObj instanceof List)) {
-                    if (LOG.isInfoEnabled()) {
-                        LOG.info("The reference named " + collectionName + " of BO class " +
-                                businessObject.getClass().getName() +
-                                " should be of type java.util.List to be validated properly.");
-                    }
-                    continue;
+            if (!(listObj instanceof List)) {
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("The reference named " + collectionName + " of BO class " +
+                            businessObject.getClass().getName() +
+                            " should be of type java.util.List to be validated properly.");
                 }
+                continue;
+            }
 
-                List list = (List) listObj;
+            List list = (List) listObj;
 
-                //should we materialize the proxied collection or just skip validation here assuming an unmaterialized objects are valid?
-                KRADUtils.materializeObjects(list);
+            //should we materialize the proxied collection or just skip validation here assuming an unmaterialized objects are valid?
+            KRADUtils.materializeObjects(list);
 
-                for (int i = 0; i < list.size(); i++) {
-                    final Object o = list.get(i);
-                    if (KRADUtils.isNotNull(o) && o instanceof PersistableBusinessObject) {
-                        final BusinessObject element = (BusinessObject) o;
+            for (int i = 0; i < list.size(); i++) {
+                final Object o = list.get(i);
+                if (KRADUtils.isNotNull(o) && o instanceof PersistableBusinessObject) {
+                    final BusinessObject element = (BusinessObject) o;
 
-                        final String errorPathAddition;
-                        if (chompLastLetterSFromCollectionName) {
-                            errorPathAddition = StringUtils.chomp(collectionName, "s")
-                                    + "["
-                                    + Integer.toString(i)
-                                    + "]";
-                        } else {
-                            errorPathAddition = collectionName + "[" + Integer.toString(i) + "]";
-                        }
+                    final String errorPathAddition;
+                    if (chompLastLetterSFromCollectionName) {
+                        errorPathAddition = StringUtils.chomp(collectionName, "s")
+                                + "["
+                                + Integer.toString(i)
+                                + "]";
+                    } else {
+                        errorPathAddition = collectionName + "[" + Integer.toString(i) + "]";
+                    }
 
-                        GlobalVariables.getMessageMap().addToErrorPath(errorPathAddition);
-                        validateBusinessObject(element, validateRequired);
-                        if (maxDepth > 0) {
-                            validateUpdatabableReferencesRecursively(element, maxDepth - 1, validateRequired,
-                                    chompLastLetterSFromCollectionName, processedBOs);
-                        }
-                        GlobalVariables.getMessageMap().removeFromErrorPath(errorPathAddition);
+                    GlobalVariables.getMessageMap().addToErrorPath(errorPathAddition);
+                    validateBusinessObject(element, validateRequired);
+                    if (maxDepth > 0) {
+                        validateUpdatabableReferencesRecursively(element, maxDepth - 1, validateRequired,
+                                chompLastLetterSFromCollectionName, processedBOs);
                     }
+                    GlobalVariables.getMessageMap().removeFromErrorPath(errorPathAddition);
                 }
             }
         }
     }
 
+    /**
+     * Gets the names of the updatable references and collections of the given business object class.
+     *
+     * <p>These only depend on the persistence metadata of the class, so they are looked up once per class rather
+     * than for every business object validated by {@link #validateUpdatabableReferencesRecursively}.</p>
+     *
+     * @param businessObjectClass the class of the business object being validated
+     * @return the updatable references of the class
+     */
+    private UpdatableReferences getUpdatableReferences(Class<?> businessObjectClass) {
+        UpdatableReferences updatableReferences = updatableReferencesCache.get(businessObjectClass);
+        if (updatableReferences == null) {
+            List<String> referenceNames = new ArrayList<String>();
+            for (String referenceName : getLegacyDataAdapter().listReferenceObjectFields(businessObjectClass).keySet()) {
+                if (getLegacyDataAdapter().isReferenceUpdatable(businessObjectClass, referenceName)) {
+                    referenceNames.add(referenceName);
+                }
+            }
+
+            List<String> collectionNames = new ArrayList<String>();
+            for (String collectionName : getLegacyDataAdapter().listCollectionObjectTypes(businessObjectClass).keySet()) {
+                if (getLegacyDataAdapter().isCollectionUpdatable(businessObjectClass, collectionName)) {
+                    collectionNames.add(collectionName);
+                }
+            }
+
+            updatableReferences = new UpdatableReferences(referenceNames, collectionNames);
+            updatableReferencesCache.put(businessObjectClass, updatableReferences);
+        }
+
+        return updatableReferences;
+    }
+
     /**
      * @see org.kuali.rice.krad.service.DictionaryValidationService#isBusinessObjectValid(org.kuali.rice.krad.bo.BusinessObject)
      */
@@ -920,15 +962,7 @@ public class DictionaryValidationServiceImpl implements DictionaryValidationServ
                 Class<? extends Constraint> constraintType = processor.getConstraintType();
 
                 // Add all of the constraints for this constraint type for all providers to the queue
-                for (ConstraintProvider constraintProvider : constraintProviders) {
-                    if (constraintProvider.isSupported(selectedDefinition)) {
-                        Collection<Constraint> constraintList = constraintProvider.getConstraints(selectedDefinition,
-                                constraintType);
-                        if (constraintList != null) {
-                            constraintQueue.addAll(constraintList);
-                        }
-                    }
-                }
+                constraintQueue.addAll(getProvidedConstraints(selectedDefinition, constraintType));
 
                 // If there are no constraints provided for this definition, then just skip it
                 if (constraintQueue.isEmpty()) {
@@ -982,6 +1016,61 @@ public class DictionaryValidationServiceImpl implements DictionaryValidationServ
         }
     }
 
+    /**
+     * Gets the constraints of the given type which the constraint providers supply for a definition.
+     *
+     * <p>Data dictionary definitions do not change once the dictionary is loaded, so their constraints are resolved
+     * against the providers the first time they are needed and kept in a {@link ConstraintPlan} for the definition.
+     * Other definitions, such as those of input fields built for a single request, are resolved every time.</p>
+     *
+     * @param definition - the definition to get constraints for
+     * @param constraintType - the type of constraints to get
+     * @return the provided constraints, never null
+     */
+    protected List<Constraint> getProvidedConstraints(Constrainable definition,
+            Class<? extends Constraint> constraintType) {
+        if (!(definition instanceof DataDictionaryDefinition) && !(definition instanceof DataDictionaryEntry)) {
+            return resolveProvidedConstraints(definition, constraintType);
+        }
+
+        ConstraintPlanCache planCache = constraintPlanCache;
+        if (planCache == null || !planCache.isFor(constraintProviders)) {
+            planCache = new ConstraintPlanCache(constraintProviders);
+            constraintPlanCache = planCache;
+        }
+
+        ConstraintPlan plan = planCache.getPlan(definition);
+        List<Constraint> constraints = plan.constraints.get(constraintType);
+        if (constraints == null) {
+            constraints = resolveProvidedConstraints(definition, constraintType);
+            plan.constraints.put(constraintType, constraints);
+        }
+
+        return constraints;
+    }
+
+    /**
+     * Asks each of the constraint providers which support the definition for its constraints of the given type.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Constraint> resolveProvidedConstraints(Constrainable definition,
+            Class<? extends Constraint> constraintType) {
+        List<Constraint> constraints = new ArrayList<Constraint>();
+        for (ConstraintProvider constraintProvider : constraintProviders) {
+            if (constraintProvider.isSupported(definition)) {
+                Collection<Constraint> constraintList = constraintProvider.getConstraints(definition, constraintType);
+                if (constraintList != null) {
+                    constraints.addAll(constraintList);
+                }
+            }
+        }
+
+        if (constraints.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(constraints);
+    }
+
     /**
      * validates an attribute
      *
@@ -1249,4 +1338,61 @@ public class DictionaryValidationServiceImpl implements DictionaryValidationServ
         }
         return legacyDataAdapter;
     }
+
+    /**
+     * The constraints supplied by the constraint providers for a single data dictionary definition, by constraint
+     * type.
+     */
+    private static final class ConstraintPlan {
+        final ConcurrentMap<Class<? extends Constraint>, List<Constraint>> constraints =
+                new ConcurrentHashMap<Class<? extends Constraint>, List<Constraint>>();
+    }
+
+    /**
+     * The constraint plans built for a particular list of constraint providers.
+     *
+     * <p>Definitions are held weakly and compared by identity, so plans for definitions from a data dictionary which
+     * has since been reloaded are discarded along with it.</p>
+     */
+    private static final class ConstraintPlanCache {
+        final List<ConstraintProvider> constraintProviders;
+        final ConcurrentMap<Constrainable, ConstraintPlan> plans = new MapMaker().weakKeys().makeMap();
+
+        ConstraintPlanCache(List<ConstraintProvider> constraintProviders) {
+            this.constraintProviders = new ArrayList<ConstraintProvider>(constraintProviders);
+        }
+
+        boolean isFor(List<ConstraintProvider> constraintProviders) {
+            return this.constraintProviders.equals(constraintProviders);
+        }
+
+        ConstraintPlan getPlan(Constrainable definition) {
+            ConstraintPlan plan = plans.get(definition);
+            if (plan == null) {
+                plan = new ConstraintPlan();
+                ConstraintPlan existing = plans.putIfAbsent(definition, plan);
+                if (existing != null) {
+                    plan = existing;
+                }
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * The names of the references and collections of a business object class which are updatable.
+     */
+    private static final class UpdatableReferences {
+        final List<String> referenceNames;
+        final List<String> collectionNames;
+
+        UpdatableReferences(List<String> referenceNames, List<String> collectionNames) {
+            this.referenceNames = referenceNames;
+            this.collectionNames = collectionNames;
+        }
+
+        boolean isEmpty() {
+            return referenceNames.isEmpty() && collectionNames.isEmpty();
+        }
+    }
 }
@@ -17,12 +17,18 @@ package org.kuali.rice.krad.bo;
 
 import org.kuali.rice.kim.api.KimConstants;
 import org.kuali.rice.kim.api.identity.PersonService;
+import org.kuali.rice.kim.api.permission.PermissionCheck;
 import org.kuali.rice.kim.api.permission.PermissionService;
 import org.kuali.rice.kim.api.services.KimApiServiceLocator;
 import org.kuali.rice.krad.util.KRADUtils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -98,6 +104,64 @@ public class DataObjectAuthorizerBase implements DataObjectAuthorizer, Serializa
                 permissionDetails, roleQualifiers);
     }
 
+    /**
+     * Builds the permission check that
+     * {@link #isAuthorizedByTemplate(Object, String, String, String, java.util.Map, java.util.Map)} evaluates for the
+     * given data object, so that the checks of many data objects can be evaluated together through
+     * {@link #isAuthorizedForChecks(String, java.util.Collection)}.
+     *
+     * @param dataObject data object to build the check for
+     * @param namespaceCode namespace of the permission template
+     * @param permissionTemplateName name of the permission template
+     * @param principalId id of the principal to authorize
+     * @param collectionOrFieldLevelPermissionDetails additional permission details, may be null
+     * @param collectionOrFieldLevelRoleQualification additional role qualifiers, may be null
+     * @return the permission check for the data object
+     */
+    protected final PermissionCheck getPermissionCheckByTemplate(Object dataObject, String namespaceCode,
+            String permissionTemplateName, String principalId,
+            Map<String, String> collectionOrFieldLevelPermissionDetails,
+            Map<String, String> collectionOrFieldLevelRoleQualification) {
+        Map<String, String> roleQualifiers = new HashMap<String, String>(getRoleQualification(dataObject, principalId));
+        Map<String, String> permissionDetails = new HashMap<String, String>(getPermissionDetailValues(dataObject));
+
+        if (collectionOrFieldLevelRoleQualification != null) {
+            roleQualifiers.putAll(collectionOrFieldLevelRoleQualification);
+        }
+
+        if (collectionOrFieldLevelPermissionDetails != null) {
+            permissionDetails.putAll(collectionOrFieldLevelPermissionDetails);
+        }
+
+        return PermissionCheck.Builder.createForTemplate(namespaceCode, permissionTemplateName, permissionDetails,
+                roleQualifiers).build();
+    }
+
+    /**
+     * Evaluates the given permission checks in a single call to
+     * {@link PermissionService#isAuthorizedForChecks(String, java.util.List)}, sending each distinct check once.
+     *
+     * @param principalId id of the principal to authorize
+     * @param permissionChecks permission checks to evaluate, may contain duplicates
+     * @return the decision for each distinct permission check
+     */
+    protected final Map<PermissionCheck, Boolean> isAuthorizedForChecks(String principalId,
+            Collection<PermissionCheck> permissionChecks) {
+        List<PermissionCheck> distinctChecks = new ArrayList<PermissionCheck>(new LinkedHashSet<PermissionCheck>(
+                permissionChecks));
+        Map<PermissionCheck, Boolean> decisions = new LinkedHashMap<PermissionCheck, Boolean>(distinctChecks.size());
+        if (distinctChecks.isEmpty()) {
+            return decisions;
+        }
+
+        List<Boolean> authorizations = getPermissionService().isAuthorizedForChecks(principalId, distinctChecks);
+        for (int i = 0; i < distinctChecks.size(); i++) {
+            decisions.put(distinctChecks.get(i), authorizations.get(i));
+        }
+
+        return decisions;
+    }
+
     /**
      * Override this method to populate the role qualifier attributes from the
      * primary data object or document. This will only be called once per
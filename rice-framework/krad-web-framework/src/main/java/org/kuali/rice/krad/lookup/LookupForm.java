@@ -75,6 +75,8 @@ public class LookupForm extends UifFormBase {
 
     private Collection<?> lookupResults;
 
+    private transient Map<Object, Boolean> displayedResultMaintainAuthorizations;
+
     @RequestAccessible
     private boolean displayResults;
 
@@ -384,6 +386,25 @@ public class LookupForm extends UifFormBase {
         this.lookupResults = lookupResults;
     }
 
+    /**
+     * Maintain authorizations of the lookup results displayed by the current view lifecycle, keyed by result
+     * identity.
+     *
+     * @return maintain authorizations of the displayed results, or null if not authorized yet
+     * @see LookupableImpl#processBeforeBuildLines(org.kuali.rice.krad.uif.view.ViewModel,
+     * org.kuali.rice.krad.uif.container.CollectionGroup, java.util.List)
+     */
+    Map<Object, Boolean> getDisplayedResultMaintainAuthorizations() {
+        return displayedResultMaintainAuthorizations;
+    }
+
+    /**
+     * @see LookupForm#getDisplayedResultMaintainAuthorizations()
+     */
+    void setDisplayedResultMaintainAuthorizations(Map<Object, Boolean> displayedResultMaintainAuthorizations) {
+        this.displayedResultMaintainAuthorizations = displayedResultMaintainAuthorizations;
+    }
+
     public boolean isDisplayResults() {
         return displayResults;
     }
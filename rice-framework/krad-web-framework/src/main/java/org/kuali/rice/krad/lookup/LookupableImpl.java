@@ -34,6 +34,7 @@ import org.kuali.rice.krad.service.ModuleService;
 import org.kuali.rice.krad.uif.UifConstants;
 import org.kuali.rice.krad.uif.UifParameters;
 import org.kuali.rice.krad.uif.UifPropertyPaths;
+import org.kuali.rice.krad.uif.container.CollectionGroup;
 import org.kuali.rice.krad.uif.control.Control;
 import org.kuali.rice.krad.uif.control.FilterableLookupCriteriaControl;
 import org.kuali.rice.krad.uif.control.FilterableLookupCriteriaControlPostData;
@@ -41,11 +42,13 @@ import org.kuali.rice.krad.uif.control.HiddenControl;
 import org.kuali.rice.krad.uif.control.ValueConfiguredControl;
 import org.kuali.rice.krad.uif.element.Link;
 import org.kuali.rice.krad.uif.field.InputField;
+import org.kuali.rice.krad.uif.lifecycle.ViewLifecycle;
 import org.kuali.rice.krad.uif.lifecycle.ViewPostMetadata;
 import org.kuali.rice.krad.uif.service.impl.ViewHelperServiceImpl;
 import org.kuali.rice.krad.uif.util.ComponentUtils;
 import org.kuali.rice.krad.uif.util.ObjectPropertyUtils;
 import org.kuali.rice.krad.uif.util.ScriptUtils;
+import org.kuali.rice.krad.uif.view.ViewModel;
 import org.kuali.rice.krad.util.BeanPropertyComparator;
 import org.kuali.rice.krad.util.ErrorMessage;
 import org.kuali.rice.krad.util.GlobalVariables;
@@ -60,6 +63,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -1096,8 +1100,7 @@ public class LookupableImpl extends ViewHelperServiceImpl implements Lookupable
 
         String maintDocTypeName = getMaintenanceDocumentTypeName();
         if (StringUtils.isNotBlank(maintDocTypeName)) {
-            allowsEdit = getDataObjectAuthorizationService().canMaintain(dataObject,
-                    GlobalVariables.getUserSession().getPerson(), maintDocTypeName);
+            allowsEdit = isMaintainAuthorized(dataObject, maintDocTypeName);
         }
 
         return allowsEdit;
@@ -1112,8 +1115,7 @@ public class LookupableImpl extends ViewHelperServiceImpl implements Lookupable
 
         String maintDocTypeName = getMaintenanceDocumentTypeName();
         if (StringUtils.isNotBlank(maintDocTypeName)) {
-            allowsMaintain = getDataObjectAuthorizationService().canMaintain(dataObject,
-                    GlobalVariables.getUserSession().getPerson(), maintDocTypeName);
+            allowsMaintain = isMaintainAuthorized(dataObject, maintDocTypeName);
         }
 
         boolean allowsDelete = getDocumentDictionaryService().getAllowsRecordDeletion(getDataObjectClass());
@@ -1121,6 +1123,71 @@ public class LookupableImpl extends ViewHelperServiceImpl implements Lookupable
         return allowsDelete && allowsMaintain;
     }
 
+    /**
+     * Authorizes the maintenance actions of the lookup results that will be displayed in a single pass (see
+     * {@link DataObjectAuthorizationService#getMaintainAuthorizations(java.util.List,
+     * org.kuali.rice.kim.api.identity.Person, String)}), rather than as the action links of each line are built.
+     *
+     * <p>The decisions are kept on the lookup form for the lines of the current view lifecycle only.</p>
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void processBeforeBuildLines(ViewModel model, CollectionGroup collectionGroup, List<?> lines) {
+        super.processBeforeBuildLines(model, collectionGroup, lines);
+
+        if (!(model instanceof LookupForm) || !UifPropertyPaths.LOOKUP_RESULTS.equals(
+                collectionGroup.getPropertyName())) {
+            return;
+        }
+
+        Map<Object, Boolean> authorizations = new IdentityHashMap<Object, Boolean>(lines.size());
+
+        String maintDocTypeName = getMaintenanceDocumentTypeName();
+        if (StringUtils.isNotBlank(maintDocTypeName) && !lines.isEmpty()) {
+            long startTime = System.currentTimeMillis();
+
+            List<Boolean> lineAuthorizations = getDataObjectAuthorizationService().getMaintainAuthorizations(lines,
+                    GlobalVariables.getUserSession().getPerson(), maintDocTypeName);
+            for (int i = 0; i < lines.size(); i++) {
+                authorizations.put(lines.get(i), lineAuthorizations.get(i));
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Authorized maintenance actions for " + lines.size() + " displayed lookup results of "
+                        + getDataObjectClass().getName() + " in " + (System.currentTimeMillis() - startTime) + "ms");
+            }
+        }
+
+        ((LookupForm) model).setDisplayedResultMaintainAuthorizations(authorizations);
+    }
+
+    /**
+     * Determines whether the current user can maintain the given result data object.
+     *
+     * <p>The decision made for the displayed results by
+     * {@link #processBeforeBuildLines(org.kuali.rice.krad.uif.view.ViewModel,
+     * org.kuali.rice.krad.uif.container.CollectionGroup, java.util.List)} is used when available, otherwise the
+     * data object is authorized on its own.</p>
+     *
+     * @param dataObject result data object to authorize
+     * @param maintDocTypeName name of the maintenance document type for the data object class
+     * @return true if the current user can maintain the data object, false if not
+     */
+    protected boolean isMaintainAuthorized(Object dataObject, String maintDocTypeName) {
+        Object model = ViewLifecycle.isActive() ? ViewLifecycle.getModel() : null;
+        if (model instanceof LookupForm) {
+            Map<Object, Boolean> authorizations = ((LookupForm) model).getDisplayedResultMaintainAuthorizations();
+            Boolean authorized = authorizations == null ? null : authorizations.get(dataObject);
+            if (authorized != null) {
+                return authorized.booleanValue();
+            }
+        }
+
+        return getDataObjectAuthorizationService().canMaintain(dataObject,
+                GlobalVariables.getUserSession().getPerson(), maintDocTypeName);
+    }
+
     /**
      * Returns the maintenance document type associated with the business object class or null if one does not exist.
      *
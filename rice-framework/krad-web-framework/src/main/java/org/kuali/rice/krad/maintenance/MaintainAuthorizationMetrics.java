@@ -0,0 +1,103 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.maintenance;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts of the result-set maintain authorizations made for lookups, and of the distinct permission checks they were
+ * answered with.
+ *
+ * <p>
+ * Each call to {@link MaintenanceDocumentAuthorizerBase#getMaintainAuthorizations(java.util.List,
+ * org.kuali.rice.kim.api.identity.Person)} authorizes the results displayed by one lookup. Counts are kept on this
+ * node since it started, or since the last {@link #reset()}.
+ * </p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public final class MaintainAuthorizationMetrics {
+
+    private static final AtomicLong AUTHORIZATION_COUNT = new AtomicLong();
+    private static final AtomicLong DATA_OBJECT_COUNT = new AtomicLong();
+    private static final AtomicLong PERMISSION_CHECK_COUNT = new AtomicLong();
+
+    private MaintainAuthorizationMetrics() {}
+
+    /**
+     * Records a result-set maintain authorization.
+     *
+     * @param dataObjectCount the number of data objects authorized
+     * @param permissionCheckCount the number of distinct permission checks evaluated for them
+     */
+    static void record(int dataObjectCount, int permissionCheckCount) {
+        AUTHORIZATION_COUNT.incrementAndGet();
+        DATA_OBJECT_COUNT.addAndGet(dataObjectCount);
+        PERMISSION_CHECK_COUNT.addAndGet(permissionCheckCount);
+    }
+
+    /**
+     * @return the number of result-set maintain authorizations made
+     */
+    public static long getAuthorizationCount() {
+        return AUTHORIZATION_COUNT.get();
+    }
+
+    /**
+     * @return the total number of data objects authorized
+     */
+    public static long getDataObjectCount() {
+        return DATA_OBJECT_COUNT.get();
+    }
+
+    /**
+     * @return the total number of distinct permission checks evaluated
+     */
+    public static long getPermissionCheckCount() {
+        return PERMISSION_CHECK_COUNT.get();
+    }
+
+    /**
+     * Formats the counts for logging, including the average number of rows and permission checks per lookup.
+     *
+     * @return the counts, formatted for logging
+     */
+    public static String getReport() {
+        long authorizations = getAuthorizationCount();
+        long dataObjects = getDataObjectCount();
+        long permissionChecks = getPermissionCheckCount();
+
+        StringBuilder report = new StringBuilder("Lookup maintain authorizations: ").append(authorizations);
+        report.append(", rows: ").append(dataObjects).append(", permission checks: ").append(permissionChecks);
+        if (authorizations > 0) {
+            report.append(", rows per lookup: ").append(dataObjects / authorizations);
+            report.append(", permission checks per lookup: ").append(permissionChecks / authorizations);
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Discards all recorded counts.
+     */
+    public static void reset() {
+        AUTHORIZATION_COUNT.set(0);
+        DATA_OBJECT_COUNT.set(0);
+        PERMISSION_CHECK_COUNT.set(0);
+    }
+
+}
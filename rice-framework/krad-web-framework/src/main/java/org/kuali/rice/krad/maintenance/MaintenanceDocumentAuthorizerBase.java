@@ -17,13 +17,17 @@ package org.kuali.rice.krad.maintenance;
 
 import org.kuali.rice.kim.api.KimConstants;
 import org.kuali.rice.kim.api.identity.Person;
+import org.kuali.rice.kim.api.permission.PermissionCheck;
 import org.kuali.rice.krad.document.DocumentAuthorizerBase;
 import org.kuali.rice.krad.service.DocumentDictionaryService;
 import org.kuali.rice.krad.service.KRADServiceLocatorWeb;
 import org.kuali.rice.krad.util.KRADConstants;
 import org.kuali.rice.krad.util.KRADUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,6 +39,8 @@ import java.util.Map;
  */
 public class MaintenanceDocumentAuthorizerBase extends DocumentAuthorizerBase implements MaintenanceDocumentAuthorizer {
     private static final long serialVersionUID = 6780013889553259327L;
+    private static final org.apache.log4j.Logger LOG = org.apache.log4j.Logger.getLogger(
+            MaintenanceDocumentAuthorizerBase.class);
 
     private transient DocumentDictionaryService documentDictionaryService;
 
@@ -72,6 +78,90 @@ public class MaintenanceDocumentAuthorizerBase extends DocumentAuthorizerBase im
                 null);
     }
 
+    /**
+     * Evaluates {@link #canMaintain(Object, org.kuali.rice.kim.api.identity.Person)} for each of the given data
+     * objects as a single pass.
+     *
+     * <p>Whether the maintain permission exists is checked once per data object class.  The permission details and
+     * role qualifiers of each data object are built through the authorizer hooks, and the distinct permission checks
+     * are evaluated together by one {@link org.kuali.rice.kim.api.permission.PermissionService#isAuthorizedForChecks(
+     * String, java.util.List)} call.  The number of data objects and distinct checks is recorded in
+     * {@link MaintainAuthorizationMetrics}.</p>
+     *
+     * <p>If a subclass overrides {@link #canMaintain(Object, org.kuali.rice.kim.api.identity.Person)} the override is
+     * honored by authorizing each data object individually.</p>
+     *
+     * @param dataObjects data objects to authorize
+     * @param user person requesting the maintenance action
+     * @return list of authorization decisions, in the same order as the given data objects
+     */
+    public List<Boolean> getMaintainAuthorizations(List<?> dataObjects, Person user) {
+        List<Boolean> authorizations = new ArrayList<Boolean>(dataObjects.size());
+
+        if (isCanMaintainOverridden()) {
+            for (Object dataObject : dataObjects) {
+                authorizations.add(Boolean.valueOf(canMaintain(dataObject, user)));
+            }
+            MaintainAuthorizationMetrics.record(dataObjects.size(), dataObjects.size());
+
+            return authorizations;
+        }
+
+        // the permission details, and therefore whether the permission exists, only depend on the data object class
+        Map<Class<?>, Map<String, String>> permissionDetailsByClass = new HashMap<Class<?>, Map<String, String>>();
+        List<PermissionCheck> permissionChecks = new ArrayList<PermissionCheck>(dataObjects.size());
+
+        for (Object dataObject : dataObjects) {
+            Class<?> dataObjectClass = dataObject.getClass();
+
+            if (!permissionDetailsByClass.containsKey(dataObjectClass)) {
+                Map<String, String> permissionDetails = new HashMap<String, String>(2);
+                permissionDetails.put(KimConstants.AttributeConstants.DOCUMENT_TYPE_NAME,
+                        getDocumentDictionaryService().getMaintenanceDocumentTypeName(dataObjectClass));
+                permissionDetails.put(KRADConstants.MAINTENANCE_ACTN, KRADConstants.MAINTENANCE_EDIT_ACTION);
+
+                permissionDetailsByClass.put(dataObjectClass, permissionExistsByTemplate(KRADConstants.KNS_NAMESPACE,
+                        KimConstants.PermissionTemplateNames.CREATE_MAINTAIN_RECORDS, permissionDetails) ?
+                        permissionDetails : null);
+            }
+
+            // data objects whose class has no maintain permission defined are always allowed
+            Map<String, String> permissionDetails = permissionDetailsByClass.get(dataObjectClass);
+            permissionChecks.add(permissionDetails == null ? null : getPermissionCheckByTemplate(dataObject,
+                    KRADConstants.KNS_NAMESPACE, KimConstants.PermissionTemplateNames.CREATE_MAINTAIN_RECORDS,
+                    user.getPrincipalId(), permissionDetails, null));
+        }
+
+        List<PermissionCheck> definedChecks = new ArrayList<PermissionCheck>(permissionChecks);
+        definedChecks.removeAll(Collections.singleton(null));
+        Map<PermissionCheck, Boolean> decisions = isAuthorizedForChecks(user.getPrincipalId(), definedChecks);
+
+        for (PermissionCheck permissionCheck : permissionChecks) {
+            authorizations.add(permissionCheck == null ? Boolean.TRUE : decisions.get(permissionCheck));
+        }
+        MaintainAuthorizationMetrics.record(dataObjects.size(), decisions.size());
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Authorized maintenance of " + dataObjects.size() + " data objects with " + decisions.size()
+                    + " distinct permission checks");
+        }
+
+        return authorizations;
+    }
+
+    /**
+     * Indicates whether this authorizer customizes {@link #canMaintain(Object, org.kuali.rice.kim.api.identity.Person)},
+     * in which case maintain authorizations cannot be evaluated as a batch.
+     */
+    private boolean isCanMaintainOverridden() {
+        try {
+            return !MaintenanceDocumentAuthorizerBase.class.equals(getClass().getMethod("canMaintain", Object.class,
+                    Person.class).getDeclaringClass());
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     /**
      * @see org.kuali.rice.krad.maintenance.MaintenanceDocumentAuthorizer#canCreateOrMaintain(MaintenanceDocument, org.kuali.rice.kim.api.identity.Person)
      */
@@ -17,6 +17,8 @@ package org.kuali.rice.krad.service;
 
 import org.kuali.rice.kim.api.identity.Person;
 
+import java.util.List;
+
 /**
  * Provides methods for checking authorization for actions
  * on a given data object class including the security of fields
@@ -58,4 +60,18 @@ public interface DataObjectAuthorizationService {
      * @return boolean true if the user has maintain authorization, false if not
      */
     public boolean canMaintain(Object dataObject, Person user, String docTypeName);
+
+    /**
+     * Indicates, for each of the given data object instances, whether the given user has permission to maintain
+     * (edit/delete) it with the given document type
+     *
+     * <p>Equivalent to calling {@link #canMaintain(Object, org.kuali.rice.kim.api.identity.Person, String)} for each
+     * data object, but allows implementations to share the checks that are the same for every data object</p>
+     *
+     * @param dataObjects - data object instances to check authorization for
+     * @param user - person requesting action
+     * @param docTypeName - name of the document type that provides the action
+     * @return List<Boolean> maintain authorization for each data object, in the same order as the data objects
+     */
+    public List<Boolean> getMaintainAuthorizations(List<?> dataObjects, Person user, String docTypeName);
 }
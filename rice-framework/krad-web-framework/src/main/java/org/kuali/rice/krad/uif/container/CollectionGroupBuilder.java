@@ -28,6 +28,7 @@ import org.kuali.rice.krad.uif.container.collections.LineBuilderContext;
 import org.kuali.rice.krad.uif.element.Action;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecycle;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecycleUtils;
+import org.kuali.rice.krad.uif.lifecycle.ViewPostMetadata;
 import org.kuali.rice.krad.uif.util.ComponentFactory;
 import org.kuali.rice.krad.uif.util.ComponentUtils;
 import org.kuali.rice.krad.uif.util.ContextUtils;
@@ -41,6 +42,7 @@ import org.kuali.rice.krad.util.KRADUtils;
 import org.kuali.rice.krad.web.form.UifFormBase;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -71,7 +73,10 @@ public class CollectionGroupBuilder implements Serializable {
      * fields to indicate what collection and line they apply to.</p>
      *
      * <p>Only the lines that are to be rendered (as specified by the displayStart
-     * and displayLength properties of the CollectionGroup) will be built.</p>
+     * and displayLength properties of the CollectionGroup) will be built. When the
+     * collection is paged on the server, the binding paths and property editors recorded
+     * in the view post metadata for previously built lines are removed first, so the post
+     * metadata only holds the lines of the current page.</p>
      *
      * @param view View instance the collection belongs to
      * @param model Top level object containing the data
@@ -103,26 +108,19 @@ public class CollectionGroupBuilder implements Serializable {
         if (collectionGroup.getDisplayCollectionSize() != -1 && showIndexes.size() > collectionGroup
                 .getDisplayCollectionSize()) {
             // remove all indexes in showIndexes beyond the collection's size limitation
-            List<Integer> newShowIndexes = new ArrayList<Integer>();
-            Integer counter = 0;
-
-            for (int index = 0; index < showIndexes.size(); index++) {
-                newShowIndexes.add(showIndexes.get(index));
-
-                counter++;
-
-                if (counter == collectionGroup.getDisplayCollectionSize()) {
-                    break;
-                }
-            }
-
-            showIndexes = newShowIndexes;
+            showIndexes = showIndexes.subList(0, collectionGroup.getDisplayCollectionSize());
         }
 
         // dataTables needs to know the number of filtered elements for rendering purposes
         List<IndexedElement> filteredIndexedElements = buildFilteredIndexedCollection(showIndexes, modelCollection);
         collectionGroup.setFilteredCollectionSize(filteredIndexedElements.size());
 
+        // lines of other pages are no longer on the client, so stop accepting their paths
+        ViewPostMetadata viewPostMetadata = ViewLifecycle.getViewPostMetadata();
+        if (collectionGroup.isUseServerPaging() && viewPostMetadata != null) {
+            viewPostMetadata.removeCollectionLineMetadata(collectionGroup.getBindingInfo().getBindingPath());
+        }
+
         buildLinesForDisplayedRows(filteredIndexedElements, view, model, collectionGroup);
     }
 
@@ -136,22 +134,31 @@ public class CollectionGroupBuilder implements Serializable {
      * </ul>
      * </p>
      *
+     * <p>The returned list is a view over the show indexes and the model collection, so only the
+     * elements of the rows that are built are wrapped.</p>
+     *
      * @param showIndexes A List of indexes to model collection elements that were not filtered out
      * @param modelCollection the model collection
      * @return a filtered and indexed version of the model collection
      *
      * @see IndexedElement
      */
-    private List<IndexedElement> buildFilteredIndexedCollection(List<Integer> showIndexes,
-            List<Object> modelCollection) {
+    private List<IndexedElement> buildFilteredIndexedCollection(final List<Integer> showIndexes,
+            final List<Object> modelCollection) {
         // apply the filtering in a way that preserves the original indices for binding path use
-        List<IndexedElement> filteredIndexedElements = new ArrayList<IndexedElement>(modelCollection.size());
+        return new AbstractList<IndexedElement>() {
+            @Override
+            public IndexedElement get(int index) {
+                int showIndex = showIndexes.get(index);
 
-        for (Integer showIndex : showIndexes) {
-            filteredIndexedElements.add(new IndexedElement(showIndex, modelCollection.get(showIndex)));
-        }
+                return new IndexedElement(showIndex, modelCollection.get(showIndex));
+            }
 
-        return filteredIndexedElements;
+            @Override
+            public int size() {
+                return showIndexes.size();
+            }
+        };
     }
 
     /**
@@ -186,6 +193,13 @@ public class CollectionGroupBuilder implements Serializable {
         List<IndexedElement> renderedIndexedElements = filteredIndexedElements.subList(displayStart,
                 displayEndExclusive);
 
+        List<Object> renderedLines = new ArrayList<Object>(renderedIndexedElements.size());
+        for (IndexedElement indexedElement : renderedIndexedElements) {
+            renderedLines.add(indexedElement.element);
+        }
+
+        ViewLifecycle.getHelper().processBeforeBuildLines((ViewModel) model, collectionGroup, renderedLines);
+
         // for each unfiltered collection row to be rendered, build the line fields
         for (IndexedElement indexedElement : renderedIndexedElements) {
             Object currentLine = indexedElement.element;
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.freemarker;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.kuali.rice.krad.uif.component.Component;
+
+/**
+ * Tracks the output assigned to components rendered during a view lifecycle.
+ * 
+ * <p>
+ * One instance is shared by all rendering contexts used by a lifecycle, so output assigned using
+ * one context may be released using another. This is the case when rendering asynchronously,
+ * where a component and its parent are rendered by different phases, each using a rendering
+ * context taken from a pool.
+ * </p>
+ * 
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public class LifecycleRenderedOutputs {
+
+    /**
+     * Output assigned to rendered components, by component.
+     */
+    private final Map<Component, String> renderedOutputs = new IdentityHashMap<Component, String>();
+
+    /**
+     * Assign rendered output to a component, and mark the component as self-rendered.
+     * 
+     * @param component The rendered component.
+     * @param renderedOutput The output rendered for the component.
+     */
+    public void assignRenderedOutput(Component component, String renderedOutput) {
+        component.setRenderedHtmlOutput(renderedOutput);
+        component.setSelfRendered(true);
+
+        synchronized (renderedOutputs) {
+            renderedOutputs.put(component, renderedOutput);
+        }
+    }
+
+    /**
+     * Release the output assigned to a component by {@link #assignRenderedOutput(Component, String)},
+     * once the output has been included in the output of its parent.
+     * 
+     * <p>
+     * The component is no longer marked as self-rendered, so if it is rendered again its template
+     * will be used. Output that was not assigned by this instance, or that has since been replaced,
+     * is left as is.
+     * </p>
+     * 
+     * @param component The component to release the output of.
+     */
+    public void releaseRenderedOutput(Component component) {
+        String renderedOutput;
+        synchronized (renderedOutputs) {
+            renderedOutput = renderedOutputs.remove(component);
+        }
+
+        if (renderedOutput == null || component.getRenderedHtmlOutput() != renderedOutput) {
+            return;
+        }
+
+        component.setRenderedHtmlOutput(null);
+        component.setSelfRendered(false);
+    }
+
+    /**
+     * Get the number of components holding output that has not been released.
+     * 
+     * @return The number of components holding assigned output.
+     */
+    public int getAssignedCount() {
+        synchronized (renderedOutputs) {
+            return renderedOutputs.size();
+        }
+    }
+
+}
@@ -17,9 +17,9 @@ package org.kuali.rice.krad.uif.freemarker;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +35,7 @@ import javax.servlet.http.HttpServletResponseWrapper;
 import org.kuali.rice.core.api.CoreApiServiceLocator;
 import org.kuali.rice.krad.uif.UifConstants;
 import org.kuali.rice.krad.uif.UifParameters;
+import org.kuali.rice.krad.uif.component.Component;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecycle;
 import org.kuali.rice.krad.uif.util.ProcessLogger;
 import org.kuali.rice.krad.uif.util.UifRenderHelperMethods;
@@ -62,6 +63,14 @@ import freemarker.template.TemplateException;
 /**
  * Encapsulates a FreeMarker environment for rendering within the view lifecycle.
  * 
+ * <p>
+ * Output is captured as character data, so rendered output is not encoded to bytes and decoded
+ * again before it is assigned to a component. Once a component has been rendered, the output of
+ * its nested components is part of its own output, and may be released using
+ * {@link #releaseRenderedOutput(Component)} so that a large page is not held in memory once for
+ * each level of nesting.
+ * </p>
+ * 
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public class LifecycleRenderingContext {
@@ -79,13 +88,25 @@ public class LifecycleRenderingContext {
     /**
      * The buffer to use for capturing rendered output.
      */
-    private final ByteArrayOutputStream buffer;
+    private final StringWriter buffer;
+
+    /**
+     * Bytes written to the servlet output stream during rendering, not yet decoded to the output
+     * buffer.
+     */
+    private final ByteArrayOutputStream pendingBytes;
 
     /**
      * The FreeMarker writer, for passing character data to the output buffer.
      */
     private final PrintWriter writer;
 
+    /**
+     * Output assigned to components rendered during the lifecycle, shared with the other rendering
+     * contexts used by the same lifecycle.
+     */
+    private final LifecycleRenderedOutputs renderedOutputs;
+
     /**
      * Create FreeMarker environment for rendering within the view lifecycle.
      * 
@@ -93,6 +114,21 @@ public class LifecycleRenderingContext {
      * @param rawresponse The active servlet response.
      */
     public LifecycleRenderingContext(Object model, HttpServletRequest request) {
+        this(model, request, new LifecycleRenderedOutputs());
+    }
+
+    /**
+     * Create FreeMarker environment for rendering within the view lifecycle, tracking rendered
+     * output together with the other rendering contexts used by the lifecycle.
+     * 
+     * @param model The model for the view being rendered.
+     * @param request The active servlet request.
+     * @param renderedOutputs The output assigned to components rendered during the lifecycle.
+     */
+    public LifecycleRenderingContext(Object model, HttpServletRequest request,
+            LifecycleRenderedOutputs renderedOutputs) {
+        this.renderedOutputs = renderedOutputs;
+
         try {
             ProcessLogger.countBegin("render");
             Map<String, Object> modelAttrs = new HashMap<String, Object>();
@@ -108,8 +144,8 @@ public class LifecycleRenderingContext {
 
             modelAttrs.put(UifParameters.RENDER_HELPER_METHODS, new UifRenderHelperMethods());
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            writer = new PrintWriter(new OutputStreamWriter(out, "UTF-8"));
+            StringWriter out = new StringWriter();
+            writer = new PrintWriter(out);
 
             Configuration config = FreeMarkerInlineRenderBootstrap.getFreeMarkerConfig();
             Template template = new Template("", new StringReader(""), config);
@@ -147,6 +183,7 @@ public class LifecycleRenderingContext {
             
             environment = env;
             buffer = out;
+            pendingBytes = new ByteArrayOutputStream();
             importedTemplates = new HashSet<String>();
 
         } catch (IOException e) {
@@ -174,21 +211,60 @@ public class LifecycleRenderingContext {
      * using the same environment.
      */
     public void clearRenderingBuffer() {
-        buffer.reset();
+        writer.flush();
+        pendingBytes.reset();
+        buffer.getBuffer().setLength(0);
     }
 
     /**
      * Get all output rendered in the FreeMarker environment.
      */
     public String getRenderedOutput() {
+        flushPendingBytes();
+        return buffer.toString();
+    }
+
+    /**
+     * Assign all output rendered in the FreeMarker environment to a component, marking the
+     * component as self-rendered.
+     * 
+     * @param component The component that was rendered.
+     */
+    public void setRenderedOutput(Component component) {
+        renderedOutputs.assignRenderedOutput(component, getRenderedOutput());
+    }
+
+    /**
+     * Release the output assigned to a component by {@link #setRenderedOutput(Component)}, once
+     * the output has been included in the output of its parent.
+     * 
+     * <p>
+     * The component is no longer marked as self-rendered, so if it is rendered again its template
+     * will be used. Output assigned using any rendering context of the same lifecycle is released,
+     * other output is left as is.
+     * </p>
+     * 
+     * @param component The component to release the output of.
+     */
+    public void releaseRenderedOutput(Component component) {
+        renderedOutputs.releaseRenderedOutput(component);
+    }
+
+    /**
+     * Decode bytes written to the servlet output stream into the output buffer.
+     */
+    private void flushPendingBytes() {
+        writer.flush();
+
+        if (pendingBytes.size() == 0) {
+            return;
+        }
+
         try {
-            writer.flush();
-            buffer.flush();
-            return buffer.toString("UTF-8");
+            buffer.write(pendingBytes.toString("UTF-8"));
+            pendingBytes.reset();
         } catch (UnsupportedEncodingException e) {
             throw new IllegalStateException("UTF-8 is unsupported", e);
-        } catch (IOException e) {
-            throw new IllegalStateException("Unexpected exception flusing buffer", e);
         }
     }
 
@@ -243,7 +319,12 @@ public class LifecycleRenderingContext {
             return new ServletOutputStream() {
                 @Override
                 public void write(int b) throws IOException {
-                    buffer.write(b);
+                    pendingBytes.write(b);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    flushPendingBytes();
                 }
             };
         }
@@ -261,7 +342,7 @@ public class LifecycleRenderingContext {
          */
         @Override
         public int getBufferSize() {
-            return buffer.size();
+            return buffer.getBuffer().length();
         }
 
         /**
@@ -269,7 +350,7 @@ public class LifecycleRenderingContext {
          */
         @Override
         public void flushBuffer() throws IOException {
-            writer.flush();
+            flushPendingBytes();
         }
 
         /**
@@ -285,8 +366,7 @@ public class LifecycleRenderingContext {
          */
         @Override
         public void resetBuffer() {
-            writer.flush();
-            buffer.reset();
+            clearRenderingBuffer();
         }
 
     }
@@ -18,10 +18,13 @@ package org.kuali.rice.krad.uif.freemarker;
 import java.util.Collections;
 
 import org.apache.log4j.Logger;
+import org.kuali.rice.krad.uif.UifConstants;
 import org.kuali.rice.krad.uif.component.Component;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecycle;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecyclePhase;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecycleTaskBase;
+import org.kuali.rice.krad.uif.lifecycle.ViewLifecycleUtils;
+import org.kuali.rice.krad.uif.util.LifecycleElement;
 
 import freemarker.core.Environment;
 import freemarker.core.Macro;
@@ -83,8 +86,15 @@ public class RenderComponentTask extends ViewLifecycleTaskBase<Component> {
             FreeMarkerInlineRenderUtils.renderTemplate(env, component,
                     null, false, false, Collections.<String, TemplateModel> emptyMap());
 
-            component.setRenderedHtmlOutput(renderingContext.getRenderedOutput());
-            component.setSelfRendered(true);
+            renderingContext.setRenderedOutput(component);
+
+            // the output of nested components is now included in the output of this component
+            for (LifecycleElement nestedElement : ViewLifecycleUtils.getElementsForLifecycle(component,
+                    UifConstants.ViewPhases.RENDER).values()) {
+                if (nestedElement instanceof Component) {
+                    renderingContext.releaseRenderedOutput((Component) nestedElement);
+                }
+            }
         } catch (Throwable e) {
             if (ViewLifecycle.isStrict()) {
                 LOG.warn("Error rendering component during lifecycle phase " + getElementState()
@@ -21,6 +21,9 @@ import org.kuali.rice.krad.uif.field.Field;
 import org.kuali.rice.krad.uif.layout.TableLayoutManager;
 import org.kuali.rice.krad.util.KRADUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -40,21 +43,42 @@ public class TableExporter {
      * @return generated table data
      */
     public static String buildExportTableData(CollectionGroup collectionGroup, Object model, String formatType) {
-        // load table format elements used for generated particular style
-        Map<String, String> exportTableFormatOptions = getExportTableFormatOptions(formatType);
-        String startTable = exportTableFormatOptions.get("startTable");
-        String endTable = exportTableFormatOptions.get("endTable");
+        StringWriter writer = new StringWriter();
 
-        StringBuilder tableRows = new StringBuilder("");
+        try {
+            writeExportTableStart(collectionGroup, formatType, writer);
+            writeExportTableRows(collectionGroup, model, formatType, writer, -1);
+            writeExportTableEnd(formatType, writer);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to build export table data", e);
+        }
 
-        TableLayoutManager layoutManager = (TableLayoutManager) collectionGroup.getLayoutManager();
+        return writer.toString();
+    }
 
-        List<Label> headerLabels = layoutManager.getHeaderLabels();
-        List<Field> rowFields = layoutManager.getAllRowFields();
-        int numberOfColumns = layoutManager.getNumberOfColumns();
+    /**
+     * Writes the start of the formatted table, including the header row, for the given collection group.
+     *
+     * <p>Together with {@link #writeExportTableRows(CollectionGroup, Object, String, java.io.Writer, int)} and
+     * {@link #writeExportTableEnd(String, java.io.Writer)} this allows a table to be exported directly to the
+     * response, one built chunk of lines at a time, instead of being assembled in memory first.</p>
+     *
+     * @param collectionGroup collection group instance that should be exported
+     * @param formatType format which the table should be generated in
+     * @param writer writer the table data is written to
+     * @throws IOException if the table data cannot be written
+     * @since 2.5.2
+     */
+    public static void writeExportTableStart(CollectionGroup collectionGroup, String formatType,
+            Writer writer) throws IOException {
+        Map<String, String> exportTableFormatOptions = getExportTableFormatOptions(formatType);
 
+        TableLayoutManager layoutManager = (TableLayoutManager) collectionGroup.getLayoutManager();
+        List<Label> headerLabels = layoutManager.getHeaderLabels();
         List<Integer> ignoredColumns = findIgnoredColumns(layoutManager, collectionGroup);
 
+        writer.write(exportTableFormatOptions.get("startTable"));
+
         // append table header data as first row
         if (!headerLabels.isEmpty()) {
             List<String> labels = new ArrayList<String>();
@@ -63,24 +87,61 @@ public class TableExporter {
                 labels.add(label.getLabelText());
             }
 
-            tableRows.append(buildExportTableRow(labels, exportTableFormatOptions, ignoredColumns));
+            writer.write(buildExportTableRow(labels, exportTableFormatOptions, ignoredColumns));
         }
+    }
 
-        // load all subsequent rows to the table
-        if (!rowFields.isEmpty()) {
-            List<String> columnData = new ArrayList<String>();
+    /**
+     * Writes a formatted row for each line which has been built for the given collection group.
+     *
+     * @param collectionGroup collection group instance whose lines should be exported
+     * @param model top level object containing the data
+     * @param formatType format which the table should be generated in
+     * @param writer writer the table data is written to
+     * @param rowLimit maximum number of rows to write, or -1 to write all rows
+     * @return number of rows written
+     * @throws IOException if the table data cannot be written
+     * @since 2.5.2
+     */
+    public static int writeExportTableRows(CollectionGroup collectionGroup, Object model, String formatType,
+            Writer writer, int rowLimit) throws IOException {
+        Map<String, String> exportTableFormatOptions = getExportTableFormatOptions(formatType);
+
+        TableLayoutManager layoutManager = (TableLayoutManager) collectionGroup.getLayoutManager();
+        List<Field> rowFields = layoutManager.getAllRowFields();
+        int numberOfColumns = layoutManager.getNumberOfColumns();
+        List<Integer> ignoredColumns = findIgnoredColumns(layoutManager, collectionGroup);
 
-            for (Field field : rowFields) {
-                columnData.add(KRADUtils.getSimpleFieldValue(model, field));
+        int rowCount = 0;
+        List<String> columnData = new ArrayList<String>();
 
-                if (columnData.size() >= numberOfColumns) {
-                    tableRows.append(buildExportTableRow(columnData, exportTableFormatOptions, ignoredColumns));
-                    columnData.clear();
-                }
+        for (Field field : rowFields) {
+            if (rowLimit != -1 && rowCount >= rowLimit) {
+                break;
+            }
+
+            columnData.add(KRADUtils.getSimpleFieldValue(model, field));
+
+            if (columnData.size() >= numberOfColumns) {
+                writer.write(buildExportTableRow(columnData, exportTableFormatOptions, ignoredColumns));
+                columnData.clear();
+                rowCount++;
             }
         }
 
-        return startTable + tableRows.toString() + endTable;
+        return rowCount;
+    }
+
+    /**
+     * Writes the end of the formatted table.
+     *
+     * @param formatType format which the table should be generated in
+     * @param writer writer the table data is written to
+     * @throws IOException if the table data cannot be written
+     * @since 2.5.2
+     */
+    public static void writeExportTableEnd(String formatType, Writer writer) throws IOException {
+        writer.write(getExportTableFormatOptions(formatType).get("endTable"));
     }
 
     /**
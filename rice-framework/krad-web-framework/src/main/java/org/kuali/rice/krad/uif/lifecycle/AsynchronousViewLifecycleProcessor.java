@@ -15,18 +15,17 @@
  */
 package org.kuali.rice.krad.uif.lifecycle;
 
-import java.util.Deque;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 import org.kuali.rice.core.api.config.property.ConfigContext;
@@ -36,7 +35,6 @@ import org.kuali.rice.krad.uif.freemarker.LifecycleRenderingContext;
 import org.kuali.rice.krad.uif.service.ViewHelperService;
 import org.kuali.rice.krad.uif.util.LifecycleElement;
 import org.kuali.rice.krad.uif.util.ProcessLogger;
-import org.kuali.rice.krad.uif.util.RecycleUtils;
 import org.kuali.rice.krad.uif.view.DefaultExpressionEvaluator;
 import org.kuali.rice.krad.uif.view.ExpressionEvaluator;
 import org.kuali.rice.krad.uif.view.ExpressionEvaluatorFactory;
@@ -47,20 +45,19 @@ import org.kuali.rice.krad.util.KRADConstants;
  * Static utility class for handling executor configuration and spreading {@link ViewLifecycle}
  * across multiple threads.
  * 
+ * <p>
+ * Phases are processed on a work-stealing {@link ForkJoinPool}. Phases queued by a worker are
+ * forked onto that worker's own queue, and idle workers steal queued phases from busy workers.
+ * </p>
+ * 
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProcessorBase {
 
     private static final Logger LOG = Logger.getLogger(AsynchronousViewLifecycleProcessor.class);
 
-    private static final ThreadFactory LIFECYCLE_THREAD_FACTORY = new LifecycleThreadFactory();
-
-    private static final ThreadPoolExecutor LIFECYCLE_EXECUTOR = new ThreadPoolExecutor(
-            getMinThreads(), getMaxThreads(), getTimeout(), TimeUnit.MILLISECONDS,
-            new LinkedBlockingDeque<Runnable>(), LIFECYCLE_THREAD_FACTORY);
-
-    private static final Deque<AsynchronousLifecyclePhase> PENDING_PHASE_QUEUE =
-            new LinkedList<AsynchronousLifecyclePhase>();
+    private static final ForkJoinPool LIFECYCLE_POOL = new ForkJoinPool(getMaxThreads(),
+            new LifecycleThreadFactory(), null, false);
 
     private static final ThreadLocal<AsynchronousLifecyclePhase> ACTIVE_PHASE =
             new ThreadLocal<AsynchronousLifecyclePhase>();
@@ -77,18 +74,20 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
     private final Queue<ExpressionEvaluator> expressionEvaluatorPool =
             new ConcurrentLinkedQueue<ExpressionEvaluator>();
 
-    private Throwable error;
+    private volatile Throwable error;
 
     /**
      * Gets the minimum number of lifecycle worker threads to maintain.
      * 
      * <p>
      * This value is controlled by the configuration parameter
-     * &quot;krad.uif.lifecycle.asynchronous.minThreads&quot;.
+     * &quot;rice.krad.lifecycle.asynchronous.minThreads&quot;.
      * </p>
      * 
      * @return minimum number of worker threads to maintain
+     * @deprecated the lifecycle pool starts and retires workers as needed, this value is no longer used
      */
+    @Deprecated
     public static int getMinThreads() {
         if (minThreads == null) {
             String propStr = null;
@@ -104,14 +103,17 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
     }
 
     /**
-     * Gets the maximum number of lifecycle worker threads to maintain.
+     * Gets the maximum number of lifecycle worker threads to run at once, which is the parallelism
+     * of the lifecycle pool.
      * 
      * <p>
      * This value is controlled by the configuration parameter
-     * &quot;krad.uif.lifecycle.asynchronous.maxThreads&quot;.
+     * &quot;rice.krad.lifecycle.asynchronous.maxThreads&quot;, and defaults to 48. Phases may block
+     * on database and identity service calls, which the pool does not compensate for, so this should
+     * be well above the number of available processors.
      * </p>
      * 
-     * @return maximum number of worker threads to maintain
+     * @return maximum number of worker threads to run at once
      */
     public static int getMaxThreads() {
         if (maxThreads == null) {
@@ -132,7 +134,7 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
      * 
      * <p>
      * This value is controlled by the configuration parameter
-     * &quot;krad.uif.lifecycle.asynchronous.timeout&quot;.
+     * &quot;rice.krad.lifecycle.asynchronous.timeout&quot;.
      * </p>
      * 
      * @return time in milliseconds to wait for the initial phase to process
@@ -165,16 +167,15 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
      * 
      * @author Kuali Rice Team (rice.collab@kuali.org)
      */
-    private static class LifecycleThreadFactory implements ThreadFactory {
-
-        private static final ThreadGroup GROUP = new ThreadGroup("krad-lifecycle-group");
+    private static class LifecycleThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
-        private int sequenceNumber = 0;
+        private final AtomicInteger sequenceNumber = new AtomicInteger();
 
         @Override
-        public Thread newThread(Runnable r) {
-            return new Thread(GROUP, r, "krad-lifecycle("
-                    + Integer.toString(++sequenceNumber) + ")");
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("krad-lifecycle(" + sequenceNumber.incrementAndGet() + ")");
+            return thread;
         }
     }
 
@@ -218,9 +219,7 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
                     "Another lifecycle phase is already active on this thread "
                             + aphase.phase + ", setting " + phase);
         }
-
-        aphase.phase = phase;
-    };
+    }
 
     /**
      * {@inheritDoc}
@@ -248,7 +247,8 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
         if (renderContext == null) {
             // Create a new rendering context if a pooled instance is not available.
             ViewLifecycle lifecycle = getLifecycle();
-            renderContext = new LifecycleRenderingContext(lifecycle.model, lifecycle.request);
+            renderContext = new LifecycleRenderingContext(lifecycle.model, lifecycle.request,
+                    getRenderedOutputs());
         }
 
         // Ensure that all view templates have been imported on the new/reused context
@@ -318,19 +318,7 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
      */
     @Override
     public void pushPendingPhase(ViewLifecyclePhase phase) {
-        AsynchronousLifecyclePhase aphase = getAsynchronousPhase(phase);
-        if (phase.getStartViewStatus().equals(phase.getElement().getViewStatus())) {
-            synchronized (BUSY_ELEMENTS) {
-                BUSY_ELEMENTS.put(phase.getElement(), aphase);
-            }
-        }
-
-        synchronized (PENDING_PHASE_QUEUE) {
-            PENDING_PHASE_QUEUE.push(aphase);
-            PENDING_PHASE_QUEUE.notify();
-        }
-
-        spawnWorkers();
+        forkPhase(phase);
     }
 
     /**
@@ -338,19 +326,7 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
      */
     @Override
     public void offerPendingPhase(ViewLifecyclePhase phase) {
-        AsynchronousLifecyclePhase aphase = getAsynchronousPhase(phase);
-        if (phase.getStartViewStatus().equals(phase.getElement().getViewStatus())) {
-            synchronized (BUSY_ELEMENTS) {
-                BUSY_ELEMENTS.put(phase.getElement(), aphase);
-            }
-        }
-
-        synchronized (PENDING_PHASE_QUEUE) {
-            PENDING_PHASE_QUEUE.offer(aphase);
-            PENDING_PHASE_QUEUE.notify();
-        }
-
-        spawnWorkers();
+        forkPhase(phase);
     }
 
     /**
@@ -366,15 +342,7 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
 
         long now = System.currentTimeMillis();
         try {
-            AsynchronousLifecyclePhase aphase = getAsynchronousPhase(initialPhase);
-            aphase.initial = true;
-
-            synchronized (PENDING_PHASE_QUEUE) {
-                PENDING_PHASE_QUEUE.offer(aphase);
-                PENDING_PHASE_QUEUE.notify();
-            }
-
-            spawnWorkers();
+            LIFECYCLE_POOL.execute(getAsynchronousPhase(initialPhase));
 
             while (System.currentTimeMillis() - now < getTimeout() &&
                     error == null && !initialPhase.isComplete()) {
@@ -402,189 +370,175 @@ public final class AsynchronousViewLifecycleProcessor extends ViewLifecycleProce
     }
 
     /**
-     * Gets a new context wrapper for processing a lifecycle phase using the same lifecycle and
-     * thread context as the current thread.
+     * Queues a phase for processing.
      * 
-     * @param phase The lifecycle phase.
-     * @return context wrapper for processing the phase
-     */
-    private AsynchronousLifecyclePhase getAsynchronousPhase(ViewLifecyclePhase phase) {
-        AsynchronousLifecyclePhase rv = RecycleUtils.getRecycledInstance(AsynchronousLifecyclePhase.class);
-        if (rv == null) {
-            rv = new AsynchronousLifecyclePhase();
-        }
-
-        rv.processor = this;
-        rv.globalVariables = GlobalVariables.getCurrentGlobalVariables();
-        rv.phase = phase;
-
-        return rv;
-    }
-
-    /**
-     * Recycles a phase context after processing.
+     * <p>
+     * When called from a lifecycle worker the phase is forked onto the worker's own queue,
+     * otherwise it is submitted to the pool.
+     * </p>
      * 
-     * @param aphase phase context previously acquired using
-     *        {@link #getAsynchronousPhase(ViewLifecyclePhase)}
+     * @param phase The lifecycle phase.
      */
-    private static void recyclePhase(AsynchronousLifecyclePhase aphase) {
-        if (aphase.initial) {
-            return;
+    private void forkPhase(ViewLifecyclePhase phase) {
+        AsynchronousLifecyclePhase aphase = getAsynchronousPhase(phase);
+        if (phase.getStartViewStatus().equals(phase.getElement().getViewStatus())) {
+            synchronized (BUSY_ELEMENTS) {
+                BUSY_ELEMENTS.put(phase.getElement(), aphase);
+            }
         }
 
-        assert aphase.renderingContext == null;
-        aphase.processor = null;
-        aphase.phase = null;
-        aphase.globalVariables = null;
-        aphase.expressionEvaluator = null;
-        RecycleUtils.recycle(aphase);
-    }
-
-    /**
-     * Spawns new worker threads if needed.
-     */
-    private static void spawnWorkers() {
-        int active = LIFECYCLE_EXECUTOR.getActiveCount();
-        if (active < LIFECYCLE_EXECUTOR.getCorePoolSize() ||
-                (active * 16 < PENDING_PHASE_QUEUE.size() &&
-                active < LIFECYCLE_EXECUTOR.getMaximumPoolSize())) {
-            LIFECYCLE_EXECUTOR.submit(new AsynchronousLifecycleWorker());
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == LIFECYCLE_POOL) {
+            aphase.fork();
+        } else {
+            LIFECYCLE_POOL.execute(aphase);
         }
     }
 
     /**
-     * Private context wrapper for forwarding lifecycle state to worker threads.
+     * Gets a new context wrapper for processing a lifecycle phase using the same lifecycle and
+     * thread context as the current thread.
      * 
-     * @author Kuali Rice Team (rice.collab@kuali.org)
+     * @param phase The lifecycle phase.
+     * @return context wrapper for processing the phase
      */
-    private static class AsynchronousLifecyclePhase {
-        private boolean initial;
-        private GlobalVariables globalVariables;
-        private AsynchronousViewLifecycleProcessor processor;
-        private ViewLifecyclePhase phase;
-        private ExpressionEvaluator expressionEvaluator;
-        private LifecycleRenderingContext renderingContext;
+    private AsynchronousLifecyclePhase getAsynchronousPhase(ViewLifecyclePhase phase) {
+        return new AsynchronousLifecyclePhase(this, GlobalVariables.getCurrentGlobalVariables(), phase);
     }
 
     /**
-     * Encapsulates lifecycle phase worker activity.
+     * Lifecycle phase task, forwards lifecycle state to the worker thread which performs the phase.
+     * 
+     * <p>
+     * A phase on an element which is reserved by another phase is held back, and forked once the
+     * other phase has been performed.
+     * </p>
      * 
      * @author Kuali Rice Team (rice.collab@kuali.org)
      */
-    private static class PhaseWorkerCall implements Callable<Void> {
+    private static class AsynchronousLifecyclePhase extends RecursiveAction {
 
-        @Override
-        public Void call() throws Exception {
-            while (!PENDING_PHASE_QUEUE.isEmpty()) {
-                AsynchronousLifecyclePhase aphase;
-                synchronized (PENDING_PHASE_QUEUE) {
-                    aphase = PENDING_PHASE_QUEUE.poll();
-                }
-                
-                if (aphase == null) {
-                    continue;
-                }
+        private static final long serialVersionUID = 3618520562981385394L;
 
-                AsynchronousViewLifecycleProcessor processor = aphase.processor;
-                ViewLifecyclePhase phase = aphase.phase;
+        private final AsynchronousViewLifecycleProcessor processor;
+        private final GlobalVariables globalVariables;
+        private final ViewLifecyclePhase phase;
+        private ExpressionEvaluator expressionEvaluator;
+        private LifecycleRenderingContext renderingContext;
+        private List<AsynchronousLifecyclePhase> heldPhases;
 
-                if (processor.error != null) {
-                    synchronized (phase) {
-                        phase.notifyAll();
-                    }
+        private AsynchronousLifecyclePhase(AsynchronousViewLifecycleProcessor processor,
+                GlobalVariables globalVariables, ViewLifecyclePhase phase) {
+            this.processor = processor;
+            this.globalVariables = globalVariables;
+            this.phase = phase;
+        }
 
-                    continue;
-                }
+        @Override
+        protected void compute() {
+            final LifecycleElement element = phase.getElement();
 
-                LifecycleElement element = phase.getElement();
+            synchronized (BUSY_ELEMENTS) {
                 AsynchronousLifecyclePhase busyPhase = BUSY_ELEMENTS.get(element);
-                if (busyPhase != null && busyPhase != aphase) {
-                    // Another phase is already active on this component, requeue
-                    synchronized (PENDING_PHASE_QUEUE) {
-                        PENDING_PHASE_QUEUE.offer(aphase);
+                if (busyPhase != null && busyPhase != this) {
+                    // Another phase is already active on this component, wait for it
+                    if (busyPhase.heldPhases == null) {
+                        busyPhase.heldPhases = new ArrayList<AsynchronousLifecyclePhase>();
                     }
-                    
-                    continue;
-                }
-
-                try {
-                    assert ACTIVE_PHASE.get() == null;
-                    ACTIVE_PHASE.set(aphase);
-                    ViewLifecycle.setProcessor(aphase.processor);
-                    GlobalVariables.injectGlobalVariables(aphase.globalVariables);
 
-                    synchronized (element) {
-                        phase.run();
-                    }
+                    // phases held back on this phase are released along with it
+                    AsynchronousLifecyclePhase heldPhase =
+                            new AsynchronousLifecyclePhase(processor, globalVariables, phase);
+                    heldPhase.heldPhases = heldPhases;
+                    heldPhases = null;
 
-                } catch (Throwable t) {
-                    processor.error = t;
+                    busyPhase.heldPhases.add(heldPhase);
+                    return;
+                }
+            }
 
-                    ViewLifecyclePhase topPhase = phase;
-                    while (topPhase.getPredecessor() != null) {
-                        topPhase = topPhase.getPredecessor();
-                    }
-                    
-                    synchronized (topPhase) {
-                        topPhase.notifyAll();
+            try {
+                if (processor.error != null) {
+                    synchronized (phase) {
+                        phase.notifyAll();
                     }
-                } finally {
-                    ACTIVE_PHASE.remove();
-                    LifecycleRenderingContext renderingContext = aphase.renderingContext;
-                    aphase.renderingContext = null;
-                    if (renderingContext != null && aphase.processor != null) {
-                        aphase.processor.renderingContextPool.offer(renderingContext);
+                } else if (ViewLifecycle.isTrace()) {
+                    ProcessLogger.follow("view-lifecycle", "KRAD lifecycle phase", new Callable<Void>() {
+                        @Override
+                        public Void call() throws Exception {
+                            performPhase(element);
+                            return null;
+                        }
+                    });
+                } else {
+                    performPhase(element);
+                }
+            } catch (Throwable t) {
+                LOG.fatal("Fatal error in View Lifecycle worker", t);
+            } finally {
+                List<AsynchronousLifecyclePhase> released;
+                synchronized (BUSY_ELEMENTS) {
+                    if (BUSY_ELEMENTS.get(element) == this) {
+                        BUSY_ELEMENTS.remove(element);
                     }
 
-                    ExpressionEvaluator expressionEvaluator = aphase.expressionEvaluator;
-                    aphase.expressionEvaluator = null;
-                    if (expressionEvaluator != null && aphase.processor != null) {
-                        aphase.processor.expressionEvaluatorPool.offer(expressionEvaluator);
-                    }
+                    released = heldPhases;
+                    heldPhases = null;
+                }
 
-                    synchronized (BUSY_ELEMENTS) {
-                        BUSY_ELEMENTS.remove(element);
+                if (released != null) {
+                    for (AsynchronousLifecyclePhase heldPhase : released) {
+                        heldPhase.fork();
                     }
-                    GlobalVariables.popGlobalVariables();
-                    ViewLifecycle.setProcessor(null);
                 }
-
-                recyclePhase(aphase);
             }
-            return null;
         }
 
-    }
+        /**
+         * Performs the phase with the lifecycle state of the thread that queued it.
+         * 
+         * @param element The element the phase applies to.
+         */
+        private void performPhase(LifecycleElement element) {
+            try {
+                assert ACTIVE_PHASE.get() == null;
+                ACTIVE_PHASE.set(this);
+                ViewLifecycle.setProcessor(processor);
+                GlobalVariables.injectGlobalVariables(globalVariables);
 
-    /**
-     * Worker process to submit to the executor. Wraps {@link PhaseWorkerCall} in a process logger
-     * for tracing activity.
-     * 
-     * @author Kuali Rice Team (rice.collab@kuali.org)
-     */
-    private static class AsynchronousLifecycleWorker implements Runnable {
+                synchronized (element) {
+                    phase.run();
+                }
 
-        @Override
-        public void run() {
-            try {
-                PhaseWorkerCall call = new PhaseWorkerCall();
-                do {
-                    if (PENDING_PHASE_QUEUE.isEmpty()) {
-                        synchronized (PENDING_PHASE_QUEUE) {
-                            PENDING_PHASE_QUEUE.wait(15000L);
-                        }
-                    } else if (ViewLifecycle.isTrace()) {
-                        ProcessLogger.follow(
-                                "view-lifecycle", "KRAD lifecycle worker", call);
-                    } else {
-                        call.call();
-                    }
-                } while (LIFECYCLE_EXECUTOR.getActiveCount() <= getMinThreads());
             } catch (Throwable t) {
-                LOG.fatal("Fatal error in View Lifecycle worker", t);
+                processor.error = t;
+
+                ViewLifecyclePhase topPhase = phase;
+                while (topPhase.getPredecessor() != null) {
+                    topPhase = topPhase.getPredecessor();
+                }
+                
+                synchronized (topPhase) {
+                    topPhase.notifyAll();
+                }
+            } finally {
+                ACTIVE_PHASE.remove();
+                LifecycleRenderingContext renderingContext = this.renderingContext;
+                this.renderingContext = null;
+                if (renderingContext != null) {
+                    processor.renderingContextPool.offer(renderingContext);
+                }
+
+                ExpressionEvaluator expressionEvaluator = this.expressionEvaluator;
+                this.expressionEvaluator = null;
+                if (expressionEvaluator != null) {
+                    processor.expressionEvaluatorPool.offer(expressionEvaluator);
+                }
+
+                GlobalVariables.popGlobalVariables();
+                ViewLifecycle.setProcessor(null);
             }
         }
-
     }
 
 }
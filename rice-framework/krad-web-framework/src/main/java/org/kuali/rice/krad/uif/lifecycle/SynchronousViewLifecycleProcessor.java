@@ -251,7 +251,8 @@ public class SynchronousViewLifecycleProcessor extends ViewLifecycleProcessorBas
     public LifecycleRenderingContext getRenderingContext() {
         if (renderingContext == null && ViewLifecycle.isRenderInLifecycle()) {
             ViewLifecycle lifecycle = getLifecycle();
-            this.renderingContext = new LifecycleRenderingContext(lifecycle.model, lifecycle.request);
+            this.renderingContext = new LifecycleRenderingContext(lifecycle.model, lifecycle.request,
+                    getRenderedOutputs());
         }
 
         return this.renderingContext;
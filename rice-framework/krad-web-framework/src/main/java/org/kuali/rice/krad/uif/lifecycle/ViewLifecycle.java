@@ -65,6 +65,7 @@ public class ViewLifecycle implements Serializable {
     private static Boolean strict;
     private static Boolean renderInLifecycle;
     private static Boolean trace;
+    private static Boolean metrics;
 
     private final List<EventRegistration> eventRegistrations;
     private final View view;
@@ -475,6 +476,28 @@ public class ViewLifecycle implements Serializable {
         return trace;
     }
 
+    /**
+     * Determines whether or not to record the time taken by lifecycle phases in {@link ViewLifecycleMetrics}.
+     *
+     * <p>
+     * This value is controlled by the configuration parameter &quot;rice.krad.lifecycle.metrics&quot;.
+     * </p>
+     *
+     * @return true if view lifecycle phase times should be recorded
+     */
+    public static boolean isMetrics() {
+        if (metrics == null) {
+            Config config = ConfigContext.getCurrentContextConfig();
+            if (config == null) {
+                return false;
+            }
+
+            metrics = config.getBooleanProperty(KRADConstants.ConfigParameters.KRAD_VIEW_LIFECYCLE_METRICS, false);
+        }
+
+        return metrics;
+    }
+
     /**
      * Report an illegal state in the view lifecycle.
      *
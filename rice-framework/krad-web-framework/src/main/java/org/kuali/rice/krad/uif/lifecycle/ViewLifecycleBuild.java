@@ -89,6 +89,10 @@ public class ViewLifecycleBuild implements Runnable {
         ViewLifecycle.getViewPostMetadata().cleanAfterLifecycle();
 
         ProcessLogger.trace("finalize:" + view.getId());
+
+        if (ViewLifecycle.isMetrics() && ProcessLogger.isTraceActive()) {
+            ProcessLogger.addExtra(ViewLifecycleMetrics.getReport());
+        }
     }
 
     /**
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.lifecycle;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograms of the time taken to perform the tasks of lifecycle phases, by view phase and by
+ * lifecycle element type.
+ *
+ * <p>
+ * Times are recorded on this node since it started, or since the last {@link #reset()}, when
+ * {@link ViewLifecycle#isMetrics()} is enabled. The histograms are added to the
+ * {@link org.kuali.rice.krad.uif.util.ProcessLogger} output of each traced view lifecycle.
+ * </p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public final class ViewLifecycleMetrics {
+
+    /**
+     * The upper bounds, in microseconds, of the histogram buckets. The last bucket holds longer times.
+     */
+    private static final long[] BUCKET_BOUNDS = {100, 1000, 10000, 100000, 1000000};
+    private static final String[] BUCKET_NAMES = {"<100us", "<1ms", "<10ms", "<100ms", "<1s", ">=1s"};
+
+    private static final ConcurrentMap<String, AtomicLongArray> PHASE_TIMES =
+            new ConcurrentHashMap<String, AtomicLongArray>();
+    private static final ConcurrentMap<String, AtomicLongArray> ELEMENT_TYPE_TIMES =
+            new ConcurrentHashMap<String, AtomicLongArray>();
+
+    private ViewLifecycleMetrics() {}
+
+    /**
+     * Records the time taken to perform the tasks of a lifecycle phase.
+     *
+     * @param viewPhase the view phase
+     * @param elementType the type of the element the phase was performed on
+     * @param elapsedNanos the time taken, in nanoseconds
+     */
+    static void recordPhase(String viewPhase, Class<?> elementType, long elapsedNanos) {
+        long elapsedMicros = elapsedNanos / 1000;
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && elapsedMicros >= BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+
+        getCounts(PHASE_TIMES, viewPhase).incrementAndGet(bucket);
+        getCounts(ELEMENT_TYPE_TIMES, elementType.getName()).incrementAndGet(bucket);
+    }
+
+    private static AtomicLongArray getCounts(ConcurrentMap<String, AtomicLongArray> times, String key) {
+        AtomicLongArray counts = times.get(key);
+        if (counts == null) {
+            AtomicLongArray newCounts = new AtomicLongArray(BUCKET_NAMES.length);
+            counts = times.putIfAbsent(key, newCounts);
+            if (counts == null) {
+                counts = newCounts;
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Returns the number of phases performed by the time taken, keyed by view phase and then by the
+     * upper bound of each bucket.
+     *
+     * @return phase time histograms by view phase
+     * @see org.kuali.rice.krad.uif.UifConstants.ViewPhases
+     */
+    public static Map<String, Map<String, Long>> getPhaseTimeHistograms() {
+        return snapshot(PHASE_TIMES);
+    }
+
+    /**
+     * Returns the number of phases performed by the time taken, keyed by the class name of the
+     * lifecycle element and then by the upper bound of each bucket.
+     *
+     * @return phase time histograms by element type
+     */
+    public static Map<String, Map<String, Long>> getElementTypeTimeHistograms() {
+        return snapshot(ELEMENT_TYPE_TIMES);
+    }
+
+    /**
+     * Formats the phase time histograms for logging, one line per view phase and per element type.
+     *
+     * @return phase time histograms, formatted for logging
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder("View lifecycle phase times");
+        appendHistograms(report, getPhaseTimeHistograms());
+        appendHistograms(report, getElementTypeTimeHistograms());
+
+        return report.toString();
+    }
+
+    private static void appendHistograms(StringBuilder report, Map<String, Map<String, Long>> histograms) {
+        for (Map.Entry<String, Map<String, Long>> entry : histograms.entrySet()) {
+            report.append('\n').append(entry.getKey()).append(' ').append(entry.getValue());
+        }
+    }
+
+    /**
+     * Discards all recorded times.
+     */
+    public static void reset() {
+        PHASE_TIMES.clear();
+        ELEMENT_TYPE_TIMES.clear();
+    }
+
+    private static Map<String, Map<String, Long>> snapshot(Map<String, AtomicLongArray> times) {
+        Map<String, Map<String, Long>> snapshot = new TreeMap<String, Map<String, Long>>();
+        for (Map.Entry<String, AtomicLongArray> entry : times.entrySet()) {
+            Map<String, Long> histogram = new LinkedHashMap<String, Long>();
+            for (int i = 0; i < BUCKET_NAMES.length; i++) {
+                histogram.put(BUCKET_NAMES[i], entry.getValue().get(i));
+            }
+            snapshot.put(entry.getKey(), histogram);
+        }
+
+        return snapshot;
+    }
+
+}
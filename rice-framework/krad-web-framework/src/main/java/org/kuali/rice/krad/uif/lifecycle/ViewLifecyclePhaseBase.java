@@ -147,6 +147,9 @@ public abstract class ViewLifecyclePhaseBase implements ViewLifecyclePhase {
 
                 List<ViewLifecycleTask<?>> pendingTasks = skipLifecycle ? skipLifecycleTasks : tasks;
 
+                boolean recordMetrics = ViewLifecycle.isMetrics();
+                long startTime = recordMetrics ? System.nanoTime() : 0;
+
                 StringBuilder trace;
                 if (ViewLifecycle.isTrace() && LOG.isDebugEnabled()) {
                     trace = new StringBuilder("Tasks");
@@ -181,6 +184,10 @@ public abstract class ViewLifecyclePhaseBase implements ViewLifecyclePhase {
                 element.setViewStatus(getEndViewStatus());
                 processed = true;
 
+                if (recordMetrics) {
+                    ViewLifecycleMetrics.recordPhase(getViewPhase(), element.getClass(), System.nanoTime() - startTime);
+                }
+
             } finally {
                 processor.setActivePhase(null);
 
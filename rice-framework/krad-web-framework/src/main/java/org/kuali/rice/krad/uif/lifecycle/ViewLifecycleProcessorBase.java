@@ -15,6 +15,8 @@
  */
 package org.kuali.rice.krad.uif.lifecycle;
 
+import org.kuali.rice.krad.uif.freemarker.LifecycleRenderedOutputs;
+
 /**
  * Abstract base lifecycle processor implementation.
  * 
@@ -27,6 +29,12 @@ public abstract class ViewLifecycleProcessorBase implements ViewLifecycleProcess
      */
     private final ViewLifecycle lifecycle;
 
+    /**
+     * Output assigned to components rendered during the lifecycle, shared by all rendering contexts
+     * used by the lifecycle.
+     */
+    private final LifecycleRenderedOutputs renderedOutputs;
+
     /**
      * Creates a new processor for a lifecycle.
      * 
@@ -34,6 +42,7 @@ public abstract class ViewLifecycleProcessorBase implements ViewLifecycleProcess
      */
     ViewLifecycleProcessorBase(ViewLifecycle lifecycle) {
         this.lifecycle = lifecycle;
+        this.renderedOutputs = new LifecycleRenderedOutputs();
     }
 
     /**
@@ -44,6 +53,16 @@ public abstract class ViewLifecycleProcessorBase implements ViewLifecycleProcess
         return lifecycle;
     }
 
+    /**
+     * Gets the output assigned to components rendered during the lifecycle.
+     * 
+     * @return output assigned to rendered components, shared by all rendering contexts used by the
+     *         lifecycle
+     */
+    LifecycleRenderedOutputs getRenderedOutputs() {
+        return renderedOutputs;
+    }
+
     /**
      * Reports a phase as active on the current thread.
      * 
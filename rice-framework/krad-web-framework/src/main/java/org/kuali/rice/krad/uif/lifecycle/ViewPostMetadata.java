@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -441,6 +442,46 @@ public class ViewPostMetadata implements Serializable {
         this.accessibleBindingPaths.add(accessibleBindingPath);
     }
 
+    /**
+     * Removes the accessible binding paths and field property editors recorded for the lines of a collection.
+     *
+     * <p>Used when only a page of the collection lines is built, so that the paths of lines which are no longer
+     * rendered are not accepted by the binding process and do not accumulate in the session.</p>
+     *
+     * @param collectionBindingPath full binding path of the collection, including the binding object path, without
+     * a line index
+     */
+    public void removeCollectionLineMetadata(String collectionBindingPath) {
+        String linePathPrefix = collectionBindingPath + "[";
+
+        if (accessibleBindingPaths != null) {
+            synchronized (accessibleBindingPaths) {
+                removePathsWithPrefix(accessibleBindingPaths, linePathPrefix);
+            }
+        }
+
+        if (fieldPropertyEditors != null) {
+            synchronized (fieldPropertyEditors) {
+                removePathsWithPrefix(fieldPropertyEditors.keySet(), linePathPrefix);
+            }
+        }
+
+        if (secureFieldPropertyEditors != null) {
+            synchronized (secureFieldPropertyEditors) {
+                removePathsWithPrefix(secureFieldPropertyEditors.keySet(), linePathPrefix);
+            }
+        }
+    }
+
+    private static void removePathsWithPrefix(Collection<String> paths, String prefix) {
+        Iterator<String> iterator = paths.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().startsWith(prefix)) {
+                iterator.remove();
+            }
+        }
+    }
+
     /**
      * Set of method to calls configured within the view that access should be allowed for.
      *
@@ -15,6 +15,7 @@
  */
 package org.kuali.rice.krad.uif.service;
 
+import java.util.List;
 import java.util.Map;
 
 import org.kuali.rice.krad.uif.component.Component;
@@ -114,6 +115,19 @@ public interface ViewHelperService {
      */
     void processBeforeAddLine(ViewModel model, Object addLine, String collectionId, String collectionPath);
 
+    /**
+     * Hook for service overrides to process the collection lines that will be displayed, before
+     * the lines are built
+     *
+     * <p>This allows work that is needed for each displayed line, such as authorization, to be
+     * done for all of the displayed lines at once</p>
+     *
+     * @param model object instance that contain's the view's data
+     * @param collectionGroup the collection group the lines are built for
+     * @param lines the collection lines that will be displayed, in display order
+     */
+    void processBeforeBuildLines(ViewModel model, CollectionGroup collectionGroup, List<?> lines);
+
     /**
      * Hook for service overrides to process the new collection line after it has been added to the
      * collection
@@ -205,6 +205,14 @@ public class ViewHelperServiceImpl implements ViewHelperService, Serializable {
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void processBeforeBuildLines(ViewModel model, CollectionGroup collectionGroup, List<?> lines) {
+
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,7 +15,12 @@
  */
 package org.kuali.rice.krad.uif.util;
 
+import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.mutable.MutableInt;
 import org.kuali.rice.krad.datadictionary.state.StateMapping;
 import org.kuali.rice.krad.datadictionary.validation.constraint.BaseConstraint;
 import org.kuali.rice.krad.datadictionary.validation.constraint.CaseConstraint;
@@ -51,15 +56,26 @@ import java.util.Map;
  * 
  * Methods now take into account state based validation and states on constraints.
  * 
+ * The validator methods for valid characters constraints are named after a hash of their regular
+ * expression and message key, so fields with the same constraint share the method name and the
+ * generated script is cached instead of being rebuilt for each field. The script is still added to the
+ * document ready script of each field, since a field may be rendered or refreshed on its own.
+ * 
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public class ClientValidationUtils {
-    // used to give validation methods unique signatures
-    private static int methodKey = 0;
+    // used to give validation methods unique signatures, counted per field on each thread
+    private static final ThreadLocal<MutableInt> METHOD_KEY = new ThreadLocal<MutableInt>() {
+        @Override
+        protected MutableInt initialValue() {
+            return new MutableInt();
+        }
+    };
 
-    // list used to temporarily store mustOccurs field names for the error
-    // message
-    private static List<List<String>> mustOccursPathNames;
+    // cache of valid characters validator methods, keyed by the constraint properties they are built from
+    private static final int VALID_CHARACTERS_METHODS_MAX_SIZE = 1000;
+    private static final Cache<String, ValidCharactersMethod> VALID_CHARACTERS_METHODS = CacheBuilder.newBuilder()
+            .maximumSize(VALID_CHARACTERS_METHODS_MAX_SIZE).build();
 
     public static final String LABEL_KEY_SPLIT_PATTERN = ",";
 
@@ -181,33 +197,12 @@ public class ClientValidationUtils {
      *
      * @param field input field
      * @param validCharactersConstraint constraint providing the regex
-     * @param escape whether to escape key or not
+     * @param escape no longer used, the method name does not contain characters that need escaping
      * @return js validator.addMethod script
      */
     public static String getRegexMethod(InputField field, ValidCharactersConstraint validCharactersConstraint,
             boolean escape) {
-        String message = generateMessageText(validCharactersConstraint.getMessageNamespaceCode(),
-                validCharactersConstraint.getMessageComponentCode(), validCharactersConstraint.getMessageKey(),
-                validCharactersConstraint.getValidationMessageParams());
-        String key = "validChar-" + field.getBindingInfo().getBindingPath() + methodKey;
-
-        // replace characters known to cause issues if not escaped
-        String regex = validCharactersConstraint.getValue();
-        if (regex.contains("\\\\")) {
-            regex = regex.replaceAll("\\\\", "\\\\\\\\");
-        }
-        if (regex.contains("/")) {
-            regex = regex.replace("/", "\\/");
-        }
-
-        return "\njQuery.validator.addMethod(\"" + (escape ? ScriptUtils.escapeName(key) : key)
-                + "\", function(value, element) {\n "
-                + "return (this.optional(element) !== false) || /"
-                + regex
-                + "/.test(value);"
-                + "}, \""
-                + message
-                + "\");";
+        return getValidCharactersMethod(validCharactersConstraint, false).script;
     }
 
     /**
@@ -221,13 +216,40 @@ public class ClientValidationUtils {
      */
     public static String getRegexMethodWithBooleanCheck(InputField field,
             ValidCharactersConstraint validCharactersConstraint) {
+        return getValidCharactersMethod(validCharactersConstraint, true).script;
+    }
+
+    /**
+     * Returns the validator method for the regular expression stored in the valid characters constraint.
+     *
+     * <p>The method is named after a hash of its regular expression, message key, message parameters and
+     * kind, and is cached, so fields with the same constraint share the same method and script without
+     * looking up the message again.</p>
+     *
+     * @param validCharactersConstraint constraint providing the regex
+     * @param booleanCheck whether the method accepts a parameter which disables the check
+     * @return validator method name and script
+     */
+    static ValidCharactersMethod getValidCharactersMethod(ValidCharactersConstraint validCharactersConstraint,
+            boolean booleanCheck) {
+        String regex = validCharactersConstraint.getValue();
+        String content = booleanCheck + "\n" + regex + "\n" + validCharactersConstraint.getMessageNamespaceCode()
+                + "\n" + validCharactersConstraint.getMessageComponentCode() + "\n"
+                + validCharactersConstraint.getMessageKey() + "\n"
+                + validCharactersConstraint.getValidationMessageParams();
+
+        ValidCharactersMethod method = VALID_CHARACTERS_METHODS.getIfPresent(content);
+        if (method != null) {
+            return method;
+        }
+
         String message = generateMessageText(validCharactersConstraint.getMessageNamespaceCode(),
                 validCharactersConstraint.getMessageComponentCode(), validCharactersConstraint.getMessageKey(),
                 validCharactersConstraint.getValidationMessageParams());
-        String key = "validChar-" + field.getBindingInfo().getBindingPath() + methodKey;
+        String key = "validChar-" + Long.toHexString(Hashing.murmur3_128().hashString(content, Charsets.UTF_8)
+                .asLong());
 
         // replace characters known to cause issues if not escaped
-        String regex = validCharactersConstraint.getValue();
         if (regex.contains("\\\\")) {
             regex = regex.replaceAll("\\\\", "\\\\\\\\");
         }
@@ -235,15 +257,52 @@ public class ClientValidationUtils {
             regex = regex.replace("/", "\\/");
         }
 
-        return "\njQuery.validator.addMethod(\""
-                + ScriptUtils.escapeName(key)
-                + "\", function(value, element, doCheck) {\n if(doCheck === false){return true;}else{"
-                + "return (this.optional(element) !== false) || /"
-                + regex
-                + "/.test(value);}"
-                + "}, \""
-                + message
-                + "\");";
+        String script;
+        if (booleanCheck) {
+            script = "\njQuery.validator.addMethod(\""
+                    + key
+                    + "\", function(value, element, doCheck) {\n if(doCheck === false){return true;}else{"
+                    + "return (this.optional(element) !== false) || /"
+                    + regex
+                    + "/.test(value);}"
+                    + "}, \""
+                    + message
+                    + "\");";
+        } else {
+            script = "\njQuery.validator.addMethod(\"" + key
+                    + "\", function(value, element) {\n "
+                    + "return (this.optional(element) !== false) || /"
+                    + regex
+                    + "/.test(value);"
+                    + "}, \""
+                    + message
+                    + "\");";
+        }
+
+        method = new ValidCharactersMethod(key, script);
+        VALID_CHARACTERS_METHODS.put(content, method);
+
+        return method;
+    }
+
+    /**
+     * Returns the next key for making the names of the validation methods of the current field unique.
+     *
+     * @return method key
+     */
+    static int nextMethodKey() {
+        MutableInt methodKey = METHOD_KEY.get();
+        methodKey.increment();
+
+        return methodKey.intValue();
+    }
+
+    /**
+     * Restarts the keys for making the names of the validation methods unique, before processing the
+     * constraints of a field.
+     */
+    static void resetMethodKey() {
+        METHOD_KEY.get().setValue(0);
     }
 
     /**
@@ -515,10 +574,10 @@ public class ClientValidationUtils {
                 String regexMethod = "";
                 String methodName = "";
                 if (StringUtils.isNotEmpty(((ValidCharactersConstraint) constraint).getValue())) {
-                    regexMethod = ClientValidationUtils.getRegexMethodWithBooleanCheck(field,
-                            (ValidCharactersConstraint) constraint) + "\n";
-                    methodName = "validChar-" + field.getBindingInfo().getBindingPath() + methodKey;
-                    methodKey++;
+                    ValidCharactersMethod validCharactersMethod = getValidCharactersMethod(
+                            (ValidCharactersConstraint) constraint, true);
+                    regexMethod = validCharactersMethod.script + "\n";
+                    methodName = validCharactersMethod.name;
                 } else {
                     if (StringUtils.isNotEmpty(((ValidCharactersConstraint) constraint).getMessageKey())) {
                         methodName = ((ValidCharactersConstraint) constraint).getMessageKey();
@@ -615,7 +674,7 @@ public class ClientValidationUtils {
      */
     private static String getPrerequisiteStatement(InputField field, View view, PrerequisiteConstraint constraint,
             String booleanStatement) {
-        methodKey++;
+        int methodKey = nextMethodKey();
 
         MessageService messageService = KRADServiceLocatorWeb.getMessageService();
 
@@ -742,8 +801,8 @@ public class ClientValidationUtils {
      */
     public static void processMustOccurConstraint(InputField field, View view, MustOccurConstraint mc,
             String booleanStatement) {
-        methodKey++;
-        mustOccursPathNames = new ArrayList<List<String>>();
+        int methodKey = nextMethodKey();
+        List<List<String>> mustOccursPathNames = new ArrayList<List<String>>();
         // TODO make this show the fields its requiring
         String methodName = "moConstraint-"
                 + ScriptUtils.escapeName(field.getBindingInfo().getBindingPath())
@@ -752,11 +811,11 @@ public class ClientValidationUtils {
                 " if("
                 + booleanStatement
                 + "){return ((this.optional(element) !== false) || ("
-                + getMustOccurStatement(field, mc)
+                + getMustOccurStatement(field, mc, mustOccursPathNames)
                 + "));}else{return true;}"
                 +
                 "}, \""
-                + getMustOccursMessage(view, mc)
+                + getMustOccursMessage(view, mc, mustOccursPathNames)
                 + "\");";
         String rule = method
                 + "jQuery('[name=\""
@@ -776,10 +835,12 @@ public class ClientValidationUtils {
      * mustOccurCheck by calling this method recursively.
      * 
      * @param constraint must occur constraint
+     * @param mustOccursPathNames list the field names of the constraint are added to, for the error message
      * @return statement derived from the constraint
      */
     @SuppressWarnings("boxing")
-    private static String getMustOccurStatement(InputField field, MustOccurConstraint constraint) {
+    private static String getMustOccurStatement(InputField field, MustOccurConstraint constraint,
+            List<List<String>> mustOccursPathNames) {
         String statement = "";
         List<String> attributePaths = new ArrayList<String>();
         if (constraint != null && constraint.getApplyClientSide()) {
@@ -818,8 +879,9 @@ public class ClientValidationUtils {
             }
             if (constraint.getMustOccurConstraints() != null) {
                 for (MustOccurConstraint mc : constraint.getMustOccurConstraints()) {
-                    statement = "mustOccurCheck(" + statement + " + " + getMustOccurStatement(field, mc) +
-                            ", " + constraint.getMin() + ", " + constraint.getMax() + ")";
+                    statement = "mustOccurCheck(" + statement + " + "
+                            + getMustOccurStatement(field, mc, mustOccursPathNames)
+                            + ", " + constraint.getMin() + ", " + constraint.getMax() + ")";
                 }
             } else {
                 statement = "mustOccurCheck(" + statement +
@@ -837,9 +899,11 @@ public class ClientValidationUtils {
      * 
      * @param view active view
      * @param constraint must occur constraint
+     * @param mustOccursPathNames field names of the constraint, with the min and max last
      * @return message generated from for the must occur contraint
      */
-    private static String getMustOccursMessage(View view, MustOccurConstraint constraint) {
+    private static String getMustOccursMessage(View view, MustOccurConstraint constraint,
+            List<List<String>> mustOccursPathNames) {
         MessageService messageService = KRADServiceLocatorWeb.getMessageService();
 
         String message = "";
@@ -937,7 +1001,7 @@ public class ClientValidationUtils {
      */
     @SuppressWarnings("boxing")
     public static void processAndApplyConstraints(InputField field, View view, Object model) {
-        methodKey = 0;
+        resetMethodKey();
         String validationState = ConstraintStateUtils.getClientViewValidationState(model, view);
         StateMapping stateMapping = view.getStateMapping();
 
@@ -994,14 +1058,14 @@ public class ClientValidationUtils {
             if (validCharactersConstraint != null && validCharactersConstraint.getApplyClientSide()) {
                 if (StringUtils.isNotEmpty(validCharactersConstraint.getValue())) {
                     // set regex value takes precedence
-                    String script = ClientValidationUtils.getRegexMethod(field, validCharactersConstraint, false);
+                    ValidCharactersMethod validCharactersMethod = getValidCharactersMethod(validCharactersConstraint,
+                            false);
+                    String script = validCharactersMethod.script;
                     if (((UifFormBase) model).getRequestJsonTemplate() == UifConstants.TableToolsValues.JSON_TEMPLATE) {
                         script = script.replaceAll("\\.", "\\\\u002e");
                     }
                     addScriptToPage(view, field, script);
-                    field.getControl().addStyleClass(
-                            "validChar-" + field.getBindingInfo().getBindingPath() + methodKey);
-                    methodKey++;
+                    field.getControl().addStyleClass(validCharactersMethod.name);
                 } else {
                     //blindly assume that if there is no regex value defined that there must be a method by this name
                     if (StringUtils.isNotEmpty(validCharactersConstraint.getMessageKey())) {
@@ -1037,4 +1101,18 @@ public class ClientValidationUtils {
         }
     }
 
+    /**
+     * Name and script of a valid characters validator method.
+     */
+    static class ValidCharactersMethod {
+
+        final String name;
+        final String script;
+
+        ValidCharactersMethod(String name, String script) {
+            this.name = name;
+            this.script = script;
+        }
+    }
+
 }
@@ -63,7 +63,7 @@ public final class CopyUtils {
      * </p>
      *
      * <p>
-     * This value is controlled by the parameter &quot;krad.uif.copyable.delay&quot;. By default,
+     * This value is controlled by the parameter &quot;rice.krad.copyable.delay&quot;. By default,
      * full deep copy will be used.
      * </p>
      *
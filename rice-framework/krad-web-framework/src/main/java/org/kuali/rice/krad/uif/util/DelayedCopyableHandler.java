@@ -42,6 +42,8 @@ import org.kuali.rice.krad.datadictionary.Copyable;
 public class DelayedCopyableHandler implements InvocationHandler {
 
     private static final String COPY = "copy";
+    private static final String EQUALS = "equals";
+    private static final String TO_STRING = "toString";
 
     private final Copyable original;
     private Copyable copy;
@@ -55,7 +57,7 @@ public class DelayedCopyableHandler implements InvocationHandler {
      * a method is read-write is made based on the method name and/or return type as follows:
      * 
      * <ul>
-     * <li>Methods starting with "get" or "is", are considered read-only</li>
+     * <li>Methods starting with "get" or "is", and toString(), are considered read-only</li>
      * <li>Methods returning Copyable, List, Map, or an array, are considered read-write regardless
      * of name</li>
      * </ul>
@@ -65,13 +67,13 @@ public class DelayedCopyableHandler implements InvocationHandler {
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         String methodName = method.getName();
-        Class<?> returnType = method.getReturnType();
-        boolean atomic = copy == null && (COPY.equals(methodName) ||
-                ((methodName.startsWith("get") || methodName.startsWith("is"))
-                        && !Copyable.class.isAssignableFrom(returnType)
-                        && !List.class.isAssignableFrom(returnType)
-                        && !Map.class.isAssignableFrom(returnType)
-                        && !returnType.isArray()));
+
+        // A proxy is always equal to itself, there is no need to copy the original to find out
+        if (EQUALS.equals(methodName) && method.getDeclaringClass() == Object.class && proxy == args[0]) {
+            return true;
+        }
+
+        boolean atomic = copy == null && isReadOnly(method);
         ProcessLogger.ntrace("delay-" + (copy != null ? "dup" : atomic ? "atomic" : "copy") +
                 ":", ":" + methodName + ":" + original.getClass().getSimpleName(), 1000);
 
@@ -90,6 +92,25 @@ public class DelayedCopyableHandler implements InvocationHandler {
         }
     }
 
+    /**
+     * Determine if a method may be invoked on the original source object without copying it.
+     *
+     * @param method The method.
+     * @return True if the method is considered read-only, false if the original source object
+     *         must be copied before invoking the method.
+     * @see #invoke(Object, Method, Object[])
+     */
+    private static boolean isReadOnly(Method method) {
+        String methodName = method.getName();
+        Class<?> returnType = method.getReturnType();
+        return COPY.equals(methodName) || TO_STRING.equals(methodName) ||
+                ((methodName.startsWith("get") || methodName.startsWith("is"))
+                        && !Copyable.class.isAssignableFrom(returnType)
+                        && !List.class.isAssignableFrom(returnType)
+                        && !Map.class.isAssignableFrom(returnType)
+                        && !returnType.isArray());
+    }
+
     /**
      * Copy a source object if needed, and unwrap from the proxy.
      *
@@ -161,6 +182,8 @@ public class DelayedCopyableHandler implements InvocationHandler {
             }
         }
 
+        ProcessLogger.ntrace("delay-create:", ":" + sourceClass.getSimpleName(), 1000);
+
         return (Copyable) Proxy.newProxyInstance(sourceClass.getClassLoader(),
                 getMetadata(sourceClass).interfaces, new DelayedCopyableHandler(source));
     }
@@ -15,6 +15,10 @@
  */
 package org.kuali.rice.krad.uif.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides modular support parsing path expressions using Spring's BeanWrapper expression Syntax.
@@ -32,6 +36,24 @@ public final class ObjectPathExpressionParser {
      */
     private static final ThreadLocal<ParseState> TL_EL_PARSE_STATE = new ThreadLocal<ParseState>();
 
+    /**
+     * The maximum number of parsed path expressions to keep in {@link #PARSED_PATH_CACHE}.
+     */
+    private static final int PARSED_PATH_CACHE_SIZE = 10000;
+
+    /**
+     * Path expressions already broken down into parse steps, by path expression.
+     *
+     * <p>
+     * Breaking down a path expression does not depend on the object it is evaluated against, so
+     * each expression only needs to be scanned once. The cache is cleared when it reaches
+     * {@link #PARSED_PATH_CACHE_SIZE} entries, to bound the memory used by paths that include
+     * collection indexes.
+     * </p>
+     */
+    private static final ConcurrentMap<String, ParsedPath> PARSED_PATH_CACHE =
+            new ConcurrentHashMap<String, ParsedPath>();
+
     /**
      * Path entry interface for use with
      * {@link ObjectPathExpressionParser#parsePathExpression(Object, String, PathEntry)}.
@@ -241,6 +263,73 @@ public final class ObjectPathExpressionParser {
 
     }
 
+    /**
+     * A path expression broken down into the steps passed to
+     * {@link PathEntry#parse(String, Object, String)}.
+     */
+    private static final class ParsedPath {
+
+        /**
+         * The path expression parsed before each step.
+         */
+        private final String[] parentPaths;
+
+        /**
+         * The path token for each step.
+         */
+        private final String[] tokens;
+
+        /**
+         * Create a parsed path from the steps recorded by {@link ParseStepRecorder}.
+         * 
+         * @param steps The parent path and token of each step.
+         */
+        private ParsedPath(List<String[]> steps) {
+            parentPaths = new String[steps.size()];
+            tokens = new String[steps.size()];
+            for (int i = 0; i < steps.size(); i++) {
+                parentPaths[i] = steps.get(i)[0];
+                tokens[i] = steps.get(i)[1];
+            }
+        }
+
+        /**
+         * Pass each step of this path to a path entry adaptor.
+         * 
+         * @param root The root object.
+         * @param pathEntry The path entry adaptor.
+         * @return The continuation resulting from the last step.
+         */
+        private Object evaluate(Object root, PathEntry pathEntry) {
+            Object continuation = pathEntry.parse(null, root, null);
+            for (int i = 0; i < tokens.length; i++) {
+                continuation = pathEntry.parse(parentPaths[i], continuation, tokens[i]);
+            }
+            return continuation;
+        }
+    }
+
+    /**
+     * Path entry adaptor for recording the steps of a path expression into a {@link ParsedPath}.
+     */
+    private static final class ParseStepRecorder implements PathEntry {
+
+        /**
+         * {@inheritDoc}
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public Object parse(String parentPath, Object node, String next) {
+            if (next == null) {
+                return new ArrayList<String[]>();
+            }
+
+            List<String[]> steps = (List<String[]>) node;
+            steps.add(new String[] {parentPath, next});
+            return steps;
+        }
+    }
+
     /**
      * Return the index of the close bracket that matches the bracket at the start of the path.
      * 
@@ -316,6 +405,11 @@ public final class ObjectPathExpressionParser {
     /**
      * Parse a path expression.
      * 
+     * <p>
+     * Path expressions are only scanned the first time they are seen, after which the parse steps
+     * are replayed against the path entry adaptor.
+     * </p>
+     * 
      * @param root The root object.
      * @param path The path expression.
      * @param pathEntry The path entry adaptor to use for processing parse node transition.
@@ -326,6 +420,34 @@ public final class ObjectPathExpressionParser {
      */
     @SuppressWarnings("unchecked")
     public static <T> T parsePathExpression(Object root, String path, final PathEntry pathEntry) {
+        if (path == null) {
+            return (T) pathEntry.parse(null, root, null);
+        }
+
+        ParsedPath parsedPath = PARSED_PATH_CACHE.get(path);
+        if (parsedPath == null) {
+            List<String[]> steps = scanPathExpression(null, path, new ParseStepRecorder());
+            parsedPath = new ParsedPath(steps);
+
+            if (PARSED_PATH_CACHE.size() >= PARSED_PATH_CACHE_SIZE) {
+                PARSED_PATH_CACHE.clear();
+            }
+            PARSED_PATH_CACHE.put(path, parsedPath);
+        }
+
+        return (T) parsedPath.evaluate(root, pathEntry);
+    }
+
+    /**
+     * Scan a path expression, passing each step to a path entry adaptor.
+     * 
+     * @param root The root object.
+     * @param path The path expression.
+     * @param pathEntry The path entry adaptor to use for processing parse node transition.
+     * @return The continuation resulting from the last step.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T scanPathExpression(Object root, String path, final PathEntry pathEntry) {
 
         // NOTE: This iterative parser allows support for subexpressions
         // without recursion. When a subexpression start token '[' is
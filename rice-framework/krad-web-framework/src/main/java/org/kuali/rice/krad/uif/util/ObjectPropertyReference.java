@@ -16,6 +16,7 @@
 package org.kuali.rice.krad.uif.util;
 
 import java.beans.PropertyEditor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -738,6 +739,19 @@ public class ObjectPropertyReference {
             return null;
         }
 
+        MethodHandle readMethodHandle = ObjectPropertyUtils.getReadMethodHandle(implClass, name);
+        if (readMethodHandle != null) {
+            try {
+                return (Object) readMethodHandle.invokeExact(bean);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Unexpected exception invoking property read method " + readMethod, t);
+            }
+        }
+
         try {
             return readMethod.invoke(bean);
         } catch (IllegalAccessException e) {
@@ -897,6 +911,26 @@ public class ObjectPropertyReference {
                     (implClass == beanClass ? implClass.toString() : "impl " + implClass + ", bean " + beanClass));
         }
 
+        MethodHandle writeMethodHandle = ObjectPropertyUtils.getWriteMethodHandle(implClass, name);
+        if (writeMethodHandle != null) {
+            if (propertyValue == null && writeMethod.getParameterTypes()[0].isPrimitive()) {
+                throw new IllegalArgumentException("Cannot set null on primitive property '" + name + "' using "
+                        + writeMethod);
+            }
+
+            try {
+                writeMethodHandle.invokeExact(bean, propertyValue);
+                return;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Unexpected exception invoking property write method "
+                        + writeMethod, t);
+            }
+        }
+
         try {
             writeMethod.invoke(bean, propertyValue);
         } catch (IllegalAccessException e) {
@@ -22,6 +22,9 @@ import java.beans.PropertyDescriptor;
 import java.beans.PropertyEditor;
 import java.beans.PropertyEditorManager;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -31,6 +34,7 @@ import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -40,8 +44,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.google.common.collect.MapMaker;
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 import org.kuali.rice.krad.service.DataDictionaryService;
@@ -67,15 +72,24 @@ public final class ObjectPropertyUtils {
      * Internal metadata cache.
      * 
      * <p>
-     * NOTE: WeakHashMap is used as the internal cache representation. Since class objects are used
-     * as the keys, this allows property descriptors to stay in cache until the class loader is
-     * unloaded, but will not prevent the class loader itself from unloading. PropertyDescriptor
-     * instances do not hold hard references back to the classes they refer to, so weak value
-     * maintenance is not necessary.
+     * NOTE: A concurrent map with weak keys is used as the internal cache representation, so
+     * cache lookups do not lock. Since class objects are used as the keys, this allows property
+     * descriptors to stay in cache until the class loader is unloaded, but will not prevent the
+     * class loader itself from unloading.
      * </p>
      */
-    private static final Map<Class<?>, ObjectPropertyMetadata> METADATA_CACHE = Collections
-            .synchronizedMap(new WeakHashMap<Class<?>, ObjectPropertyMetadata>(2048));
+    private static final ConcurrentMap<Class<?>, ObjectPropertyMetadata> METADATA_CACHE = new MapMaker()
+            .weakKeys().initialCapacity(2048).makeMap();
+
+    /**
+     * Method type of the handles returned by {@link #getReadMethodHandle(Class, String)}.
+     */
+    private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Method type of the handles returned by {@link #getWriteMethodHandle(Class, String)}.
+     */
+    private static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
     /**
      * Get a mapping of property descriptors by property name for a bean class.
@@ -164,6 +178,40 @@ public final class ObjectPropertyUtils {
         return getMetadata(beanClass).writeMethods.get(propertyName);
     }
 
+    /**
+     * Get a method handle for the read method of a specific property on a bean class.
+     * 
+     * <p>
+     * The handle takes the bean as an Object and returns the property value as an Object, so it
+     * may be invoked using {@link MethodHandle#invokeExact(Object...)}.
+     * </p>
+     * 
+     * @param beanClass The bean class.
+     * @param propertyName The property name.
+     * @return A method handle for the read method, null if the property is not readable or the
+     *         read method is not accessible by method handle.
+     */
+    static MethodHandle getReadMethodHandle(Class<?> beanClass, String propertyName) {
+        return getMetadata(beanClass).readMethodHandles.get(propertyName);
+    }
+
+    /**
+     * Get a method handle for the write method of a specific property on a bean class.
+     * 
+     * <p>
+     * The handle takes the bean and the property value as Objects, so it may be invoked using
+     * {@link MethodHandle#invokeExact(Object...)}.
+     * </p>
+     * 
+     * @param beanClass The bean class.
+     * @param propertyName The property name.
+     * @return A method handle for the write method, null if the property is not writable or the
+     *         write method is not accessible by method handle.
+     */
+    static MethodHandle getWriteMethodHandle(Class<?> beanClass, String propertyName) {
+        return getMetadata(beanClass).writeMethodHandles.get(propertyName);
+    }
+
     /**
      * Copy properties from a string map to an object.
      * 
@@ -960,15 +1008,42 @@ public final class ObjectPropertyUtils {
      * @return cached metadata for beanClass
      */
     private static ObjectPropertyMetadata getMetadata(Class<?> beanClass) {
+        if (beanClass == null) {
+            throw new RuntimeException("Class to retrieve property from was null");
+        }
+
         ObjectPropertyMetadata metadata = METADATA_CACHE.get(beanClass);
 
         if (metadata == null) {
             metadata = new ObjectPropertyMetadata(beanClass);
-            METADATA_CACHE.put(beanClass, metadata);
+            ObjectPropertyMetadata existingMetadata = METADATA_CACHE.putIfAbsent(beanClass, metadata);
+            if (existingMetadata != null) {
+                metadata = existingMetadata;
+            }
         }
 
         return metadata;
     }
+
+    /**
+     * Convert a read or write method to a method handle of the given type.
+     * 
+     * @param method The method, may be null.
+     * @param methodType The type of the method handle.
+     * @return A method handle for the method, null if the method is null or not accessible.
+     */
+    private static MethodHandle toMethodHandle(Method method, MethodType methodType) {
+        if (method == null) {
+            return null;
+        }
+
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(methodType);
+        } catch (IllegalAccessException e) {
+            // Fall back to invoking the method by reflection
+            return null;
+        }
+    }
     
     /**
      * Stores property metadata related to a bean class, for reducing introspection and reflection
@@ -981,12 +1056,14 @@ public final class ObjectPropertyUtils {
         private final Map<String, PropertyDescriptor> propertyDescriptors;
         private final Map<String, Method> readMethods;
         private final Map<String, Method> writeMethods;
+        private final Map<String, MethodHandle> readMethodHandles;
+        private final Map<String, MethodHandle> writeMethodHandles;
         private final Map<Class<?>, Set<String>> readablePropertyNamesByPropertyType =
-                Collections.synchronizedMap(new WeakHashMap<Class<?>, Set<String>>());
+                new MapMaker().weakKeys().makeMap();
         private final Map<Class<?>, Set<String>> readablePropertyNamesByAnnotationType =
-                Collections.synchronizedMap(new WeakHashMap<Class<?>, Set<String>>());
+                new MapMaker().weakKeys().makeMap();
         private final Map<Class<?>, Set<String>> readablePropertyNamesByCollectionType =
-                Collections.synchronizedMap(new WeakHashMap<Class<?>, Set<String>>());
+                new MapMaker().weakKeys().makeMap();
         
         /**
          * Gets the property names by type, based on the read methods.
@@ -1035,7 +1112,7 @@ public final class ObjectPropertyUtils {
             }
             
             propertyNames = Collections.unmodifiableSet(propertyNames);
-            readablePropertyNamesByPropertyType.put(annotationType, propertyNames);
+            readablePropertyNamesByAnnotationType.put(annotationType, propertyNames);
             
             return propertyNames;
         }
@@ -1123,10 +1200,6 @@ public final class ObjectPropertyUtils {
          * @param beanClass The bean class.
          */
         private ObjectPropertyMetadata(Class<?> beanClass) {
-            if (beanClass == null) {
-                throw new RuntimeException("Class to retrieve property from was null");
-            }
-
             BeanInfo beanInfo;
             try {
                 beanInfo = Introspector.getBeanInfo(beanClass);
@@ -1138,6 +1211,8 @@ public final class ObjectPropertyUtils {
             Map<String, PropertyDescriptor> mutablePropertyDescriptorMap = new LinkedHashMap<String, PropertyDescriptor>();
             Map<String, Method> mutableReadMethodMap = new LinkedHashMap<String, Method>();
             Map<String, Method> mutableWriteMethodMap = new LinkedHashMap<String, Method>();
+            Map<String, MethodHandle> mutableReadMethodHandleMap = new HashMap<String, MethodHandle>();
+            Map<String, MethodHandle> mutableWriteMethodHandleMap = new HashMap<String, MethodHandle>();
 
             if (beanInfo != null) {
                 for (PropertyDescriptor propertyDescriptor : beanInfo.getPropertyDescriptors()) {
@@ -1160,12 +1235,24 @@ public final class ObjectPropertyUtils {
                     assert writeMethod == null
                             || (writeMethod.getParameterTypes().length == 1 && writeMethod.getParameterTypes()[0] != null) : writeMethod;
                     mutableWriteMethodMap.put(propertyName, writeMethod);
+
+                    MethodHandle readMethodHandle = toMethodHandle(readMethod, READ_METHOD_TYPE);
+                    if (readMethodHandle != null) {
+                        mutableReadMethodHandleMap.put(propertyName, readMethodHandle);
+                    }
+
+                    MethodHandle writeMethodHandle = toMethodHandle(writeMethod, WRITE_METHOD_TYPE);
+                    if (writeMethodHandle != null) {
+                        mutableWriteMethodHandleMap.put(propertyName, writeMethodHandle);
+                    }
                 }
             }
 
             propertyDescriptors = Collections.unmodifiableMap(mutablePropertyDescriptorMap);
             readMethods = Collections.unmodifiableMap(mutableReadMethodMap);
             writeMethods = Collections.unmodifiableMap(mutableWriteMethodMap);
+            readMethodHandles = Collections.unmodifiableMap(mutableReadMethodHandleMap);
+            writeMethodHandles = Collections.unmodifiableMap(mutableWriteMethodHandleMap);
         }
 
         /**
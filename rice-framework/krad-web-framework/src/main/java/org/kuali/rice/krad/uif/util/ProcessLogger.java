@@ -952,6 +952,19 @@ public class ProcessLogger {
         }
     }
 
+    /**
+     * Append an informational message to all process traces active on the current thread.
+     * 
+     * @param message The information message.
+     */
+    public static void addExtra(Object message) {
+        if (TL_STAT.get() != null) {
+            for (String k : TL_STAT.get().keySet()) {
+                addExtra(k, message);
+            }
+        }
+    }
+
     /**
      * Append an informational message to a process trace.
      * 
@@ -17,6 +17,7 @@ package org.kuali.rice.krad.web.controller;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
+import org.kuali.rice.core.api.config.property.ConfigContext;
 import org.kuali.rice.krad.bo.Exporter;
 import org.kuali.rice.krad.datadictionary.DataDictionary;
 import org.kuali.rice.krad.datadictionary.DataObjectEntry;
@@ -24,6 +25,7 @@ import org.kuali.rice.krad.service.DataDictionaryService;
 import org.kuali.rice.krad.service.KRADServiceLocatorWeb;
 import org.kuali.rice.krad.uif.UifConstants;
 import org.kuali.rice.krad.uif.UifParameters;
+import org.kuali.rice.krad.uif.component.BindingInfo;
 import org.kuali.rice.krad.uif.container.CollectionGroup;
 import org.kuali.rice.krad.uif.layout.collections.TableExporter;
 import org.kuali.rice.krad.uif.lifecycle.ViewLifecycle;
@@ -43,6 +45,9 @@ import org.springframework.web.servlet.ModelAndView;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -56,6 +61,8 @@ import java.util.List;
 public class UifExportController extends UifControllerBase {
     private static final org.apache.log4j.Logger LOG = org.apache.log4j.Logger.getLogger(UifExportController.class);
 
+    private static final int DEFAULT_EXPORT_CHUNK_SIZE = 1000;
+
     @Autowired
     protected HttpServletRequest request;
 
@@ -154,22 +161,33 @@ public class UifExportController extends UifControllerBase {
     /**
      * Generates exportable table data based on the rich table selected.
      *
-     * <p>First the lifecycle process is run to rebuild the collection group, then
-     * {@link org.kuali.rice.krad.uif.layout.collections.TableExporter} is invoked to build the export data from
-     * the collection.</p>
+     * <p>If a custom exporter is configured for the collection's data object it is given the whole collection.
+     * Otherwise the table is written directly to the response by
+     * {@link #writeTableData(org.kuali.rice.krad.web.form.UifFormBase, javax.servlet.http.HttpServletRequest, String,
+     * java.util.List, String, java.io.Writer)}, and null is returned.</p>
      */
     protected String retrieveTableData(@ModelAttribute("KualiForm") UifFormBase form, HttpServletRequest request,
             HttpServletResponse response) {
         LOG.debug("processing table data request");
 
-        CollectionGroup collectionGroup = (CollectionGroup) ViewLifecycle.performComponentLifecycle(form.getView(),
-                form, request, form.getViewPostMetadata(), form.getUpdateComponentId());
+        String collectionId = form.getUpdateComponentId();
+        if (form.getViewPostMetadata() == null) {
+            throw new RuntimeException("View post metadata is null which cannot occur for export. Form id: "
+                    + form.getFormKey() + ", requested form id: " + form.getRequestedFormKey());
+        }
 
-        List<Object> modelCollection = ObjectPropertyUtils.getPropertyValue(form,
-                collectionGroup.getBindingInfo().getBindingPath());
+        BindingInfo bindingInfo = (BindingInfo) form.getViewPostMetadata().getComponentPostData(collectionId,
+                UifConstants.PostMetadata.BINDING_INFO);
+        Class<?> dataObjectClass = (Class<?>) form.getViewPostMetadata().getComponentPostData(collectionId,
+                UifConstants.PostMetadata.COLL_OBJECT_CLASS);
+        if (bindingInfo == null || dataObjectClass == null) {
+            throw new RuntimeException("Unable to export collection group with id: " + collectionId
+                    + ", no collection post metadata was found");
+        }
 
+        String bindingPath = bindingInfo.getBindingPath();
+        List<Object> modelCollection = ObjectPropertyUtils.getPropertyValue(form, bindingPath);
 
-        Class<?> dataObjectClass = collectionGroup.getCollectionObjectClass();
         String formatType = getValidatedFormatType(request.getParameter(UifParameters.FORMAT_TYPE));
 
         // set update none to prevent the lifecycle from being run after the controller finishes
@@ -180,7 +198,94 @@ public class UifExportController extends UifControllerBase {
         }
 
         // generic export
-        return TableExporter.buildExportTableData(collectionGroup, form, formatType);
+        try {
+            writeTableData(form, request, bindingPath, modelCollection, formatType, response.getWriter());
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write export table data", e);
+        } finally {
+            ObjectPropertyUtils.setPropertyValue(form, bindingPath, modelCollection);
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes the table data for the collection group being exported to the given writer.
+     *
+     * <p>Rather than building lines for the entire collection at once, the collection is exported in chunks of
+     * {@link #getExportChunkSize()} lines. For each chunk the collection on the form is replaced with just the
+     * lines of that chunk, the lifecycle process is run to rebuild the collection group, and
+     * {@link org.kuali.rice.krad.uif.layout.collections.TableExporter} writes the rows for the built lines. The
+     * components built for a chunk are released before the next chunk is built, so the memory needed for an
+     * export does not grow with the size of the collection. The display collection size limit of the collection
+     * group is applied across all chunks.</p>
+     *
+     * <p>The form's collection is left set to the last chunk; callers are responsible for restoring it.</p>
+     *
+     * @param form form containing the collection to export
+     * @param request the http request that was made
+     * @param bindingPath binding path for the collection on the form
+     * @param modelCollection the full collection to export
+     * @param formatType format which the table should be generated in
+     * @param writer writer the table data is written to
+     * @throws IOException if the table data cannot be written
+     */
+    protected void writeTableData(UifFormBase form, HttpServletRequest request, String bindingPath,
+            List<Object> modelCollection, String formatType, Writer writer) throws IOException {
+        int collectionSize = modelCollection == null ? 0 : modelCollection.size();
+        int chunkSize = getExportChunkSize();
+
+        int rowLimit = -1;
+        int rowCount = 0;
+        int chunkStart = 0;
+
+        do {
+            int chunkEnd = Math.min(chunkStart + chunkSize, collectionSize);
+
+            if (modelCollection != null) {
+                ObjectPropertyUtils.setPropertyValue(form, bindingPath,
+                        new ArrayList<Object>(modelCollection.subList(chunkStart, chunkEnd)));
+            }
+
+            // build each subsequent chunk on a new view instance so the previous chunk's lines can be released
+            if (chunkStart > 0) {
+                form.setView(KRADServiceLocatorWeb.getViewService().getViewById(form.getViewId()));
+            }
+
+            CollectionGroup collectionGroup = (CollectionGroup) ViewLifecycle.performComponentLifecycle(
+                    form.getView(), form, request, form.getViewPostMetadata(), form.getUpdateComponentId());
+
+            if (chunkStart == 0) {
+                TableExporter.writeExportTableStart(collectionGroup, formatType, writer);
+                rowLimit = collectionGroup.getDisplayCollectionSize();
+            }
+
+            rowCount += TableExporter.writeExportTableRows(collectionGroup, form, formatType, writer,
+                    rowLimit == -1 ? -1 : rowLimit - rowCount);
+            writer.flush();
+
+            chunkStart = chunkEnd;
+        } while (chunkStart < collectionSize && (rowLimit == -1 || rowCount < rowLimit));
+
+        TableExporter.writeExportTableEnd(formatType, writer);
+        writer.flush();
+    }
+
+    /**
+     * Number of collection lines built at a time when writing table data for export, configured with
+     * {@link KRADConstants.Config#TABLE_EXPORT_CHUNK_SIZE}.
+     *
+     * @return number of lines to build per chunk, defaults to 1000
+     */
+    protected int getExportChunkSize() {
+        if (ConfigContext.getCurrentContextConfig() == null) {
+            return DEFAULT_EXPORT_CHUNK_SIZE;
+        }
+
+        int chunkSize = (int) ConfigContext.getCurrentContextConfig().getNumericProperty(
+                KRADConstants.Config.TABLE_EXPORT_CHUNK_SIZE, DEFAULT_EXPORT_CHUNK_SIZE);
+
+        return chunkSize > 0 ? chunkSize : DEFAULT_EXPORT_CHUNK_SIZE;
     }
 
     /**
@@ -237,6 +342,8 @@ public class UifExportController extends UifControllerBase {
 
             if (exporter.getSupportedFormats(dataObjectEntry.getDataObjectClass()).contains(formatType)) {
                 exporter.export(dataObjectEntry.getDataObjectClass(), dataObjectCollection, formatType, response.getOutputStream());
+
+                return true;
             }
         } catch (Exception e) {
             throw new RuntimeException("Cannot invoked custom exporter class", e);
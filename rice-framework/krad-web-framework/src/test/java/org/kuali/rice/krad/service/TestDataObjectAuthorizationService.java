@@ -18,6 +18,9 @@ package org.kuali.rice.krad.service;
 import org.kuali.rice.kim.api.identity.Person;
 import org.kuali.rice.krad.service.DataObjectAuthorizationService;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
@@ -37,4 +40,9 @@ public class TestDataObjectAuthorizationService implements DataObjectAuthorizati
     public boolean canMaintain(Object dataObject, Person user, String docTypeName) {
         return true;
     }
+
+    @Override
+    public List<Boolean> getMaintainAuthorizations(List<?> dataObjects, Person user, String docTypeName) {
+        return Collections.nCopies(dataObjects.size(), Boolean.TRUE);
+    }
 }
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.freemarker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.kuali.rice.krad.uif.element.Message;
+
+/**
+ * Unit tests for {@link LifecycleRenderedOutputs}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class LifecycleRenderedOutputsTest {
+
+    @Test
+    public void testReleaseRenderedOutput() {
+        LifecycleRenderedOutputs renderedOutputs = new LifecycleRenderedOutputs();
+        Message message = new Message();
+
+        renderedOutputs.assignRenderedOutput(message, "<span>foobar</span>");
+        assertTrue(message.isSelfRendered());
+        assertEquals("<span>foobar</span>", message.getRenderedHtmlOutput());
+        assertEquals(1, renderedOutputs.getAssignedCount());
+
+        renderedOutputs.releaseRenderedOutput(message);
+        assertFalse(message.isSelfRendered());
+        assertNull(message.getRenderedHtmlOutput());
+        assertEquals(0, renderedOutputs.getAssignedCount());
+    }
+
+    @Test
+    public void testReleaseLeavesReplacedOutput() {
+        LifecycleRenderedOutputs renderedOutputs = new LifecycleRenderedOutputs();
+        Message message = new Message();
+        Message other = new Message();
+        other.setRenderedHtmlOutput("<span>content</span>");
+        other.setSelfRendered(true);
+
+        renderedOutputs.assignRenderedOutput(message, "<span>foobar</span>");
+        message.setRenderedHtmlOutput("<span>finalized</span>");
+
+        renderedOutputs.releaseRenderedOutput(message);
+        renderedOutputs.releaseRenderedOutput(other);
+
+        assertTrue(message.isSelfRendered());
+        assertEquals("<span>finalized</span>", message.getRenderedHtmlOutput());
+        assertTrue(other.isSelfRendered());
+        assertEquals("<span>content</span>", other.getRenderedHtmlOutput());
+        assertEquals(0, renderedOutputs.getAssignedCount());
+    }
+
+    /**
+     * Tests that output assigned on one thread is released on another, as when a component and its
+     * parent are rendered by different phases of an asynchronous lifecycle.
+     */
+    @Test
+    public void testReleaseFromAnotherThread() throws Exception {
+        final LifecycleRenderedOutputs renderedOutputs = new LifecycleRenderedOutputs();
+        final List<Message> messages = new ArrayList<Message>();
+        for (int i = 0; i < 100; i++) {
+            messages.add(new Message());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> assigned = new ArrayList<Future<?>>();
+            for (final Message message : messages) {
+                assigned.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        renderedOutputs.assignRenderedOutput(message, "<span>" + message.hashCode() + "</span>");
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : assigned) {
+                future.get();
+            }
+            assertEquals(messages.size(), renderedOutputs.getAssignedCount());
+
+            List<Future<?>> released = new ArrayList<Future<?>>();
+            for (final Message message : messages) {
+                released.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        renderedOutputs.releaseRenderedOutput(message);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : released) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, renderedOutputs.getAssignedCount());
+        for (Message message : messages) {
+            assertFalse(message.isSelfRendered());
+            assertNull(message.getRenderedHtmlOutput());
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.layout.collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kuali.rice.krad.uif.container.CollectionGroup;
+import org.kuali.rice.krad.uif.element.Label;
+import org.kuali.rice.krad.uif.field.Field;
+import org.kuali.rice.krad.uif.field.LinkField;
+import org.kuali.rice.krad.uif.layout.TableLayoutManager;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the table data generated by TableExporter
+ */
+public class TableExporterTest {
+
+    private CollectionGroup collectionGroup;
+
+    @Before
+    public void setup() {
+        List<Label> headerLabels = new ArrayList<Label>();
+        headerLabels.add(createLabel("Id"));
+        headerLabels.add(createLabel("Name"));
+
+        List<Field> rowFields = new ArrayList<Field>();
+        for (int i = 1; i <= 3; i++) {
+            rowFields.add(createField(Integer.toString(i)));
+            rowFields.add(createField("name" + i));
+        }
+
+        TableLayoutManager layoutManager = mock(TableLayoutManager.class);
+        when(layoutManager.getHeaderLabels()).thenReturn(headerLabels);
+        when(layoutManager.getAllRowFields()).thenReturn(rowFields);
+        when(layoutManager.getNumberOfColumns()).thenReturn(2);
+
+        collectionGroup = mock(CollectionGroup.class);
+        when(collectionGroup.getLayoutManager()).thenReturn(layoutManager);
+    }
+
+    /**
+     * Verifies the header and every row are exported in each format
+     */
+    @Test
+    public void testBuildExportTableData() {
+        assertEquals("Id, Name\n1, name1\n2, name2\n3, name3\n",
+                TableExporter.buildExportTableData(collectionGroup, null, "csv"));
+        assertEquals("\"Id\"\t\"Name\"\t\n\"1\"\t\"name1\"\t\n\"2\"\t\"name2\"\t\n\"3\"\t\"name3\"\t\n",
+                TableExporter.buildExportTableData(collectionGroup, null, "xls"));
+        assertEquals("<table>\n  <row>\n    <column>Id</column>\n    <column>Name</column>\n  </row>\n"
+                + "  <row>\n    <column>1</column>\n    <column>name1</column>\n  </row>\n"
+                + "  <row>\n    <column>2</column>\n    <column>name2</column>\n  </row>\n"
+                + "  <row>\n    <column>3</column>\n    <column>name3</column>\n  </row>\n</table>\n",
+                TableExporter.buildExportTableData(collectionGroup, null, "xml"));
+    }
+
+    /**
+     * Verifies a table written in separate pieces matches the table built at once, and that the row limit is
+     * honored
+     */
+    @Test
+    public void testWriteExportTableData() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        TableExporter.writeExportTableStart(collectionGroup, "xml", writer);
+        assertEquals(3, TableExporter.writeExportTableRows(collectionGroup, null, "xml", writer, -1));
+        TableExporter.writeExportTableEnd("xml", writer);
+
+        assertEquals(TableExporter.buildExportTableData(collectionGroup, null, "xml"), writer.toString());
+
+        writer = new StringWriter();
+        assertEquals(2, TableExporter.writeExportTableRows(collectionGroup, null, "csv", writer, 2));
+        assertEquals("1, name1\n2, name2\n", writer.toString());
+
+        writer = new StringWriter();
+        assertEquals(0, TableExporter.writeExportTableRows(collectionGroup, null, "csv", writer, 0));
+        assertEquals("", writer.toString());
+    }
+
+    private Label createLabel(String labelText) {
+        Label label = mock(Label.class);
+        when(label.getLabelText()).thenReturn(labelText);
+
+        return label;
+    }
+
+    private Field createField(String linkText) {
+        LinkField field = mock(LinkField.class);
+        when(field.getLinkText()).thenReturn(linkText);
+
+        return field;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ViewLifecycleMetrics}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class ViewLifecycleMetricsTest {
+
+    @After
+    public void tearDown() {
+        ViewLifecycleMetrics.reset();
+    }
+
+    @Test
+    public void testRecordPhase() {
+        ViewLifecycleMetrics.recordPhase("INITIALIZE", String.class, 50000L);
+        ViewLifecycleMetrics.recordPhase("INITIALIZE", Integer.class, 5000000L);
+        ViewLifecycleMetrics.recordPhase("FINALIZE", String.class, 2000000000L);
+
+        Map<String, Map<String, Long>> phaseTimes = ViewLifecycleMetrics.getPhaseTimeHistograms();
+        assertEquals(2, phaseTimes.size());
+        assertEquals(Long.valueOf(1), phaseTimes.get("INITIALIZE").get("<100us"));
+        assertEquals(Long.valueOf(1), phaseTimes.get("INITIALIZE").get("<10ms"));
+        assertEquals(Long.valueOf(0), phaseTimes.get("INITIALIZE").get("<1ms"));
+        assertEquals(Long.valueOf(1), phaseTimes.get("FINALIZE").get(">=1s"));
+
+        Map<String, Map<String, Long>> elementTypeTimes = ViewLifecycleMetrics.getElementTypeTimeHistograms();
+        assertEquals(Long.valueOf(1), elementTypeTimes.get(String.class.getName()).get("<100us"));
+        assertEquals(Long.valueOf(1), elementTypeTimes.get(String.class.getName()).get(">=1s"));
+        assertEquals(6, elementTypeTimes.get(Integer.class.getName()).size());
+
+        ViewLifecycleMetrics.reset();
+        assertTrue(ViewLifecycleMetrics.getPhaseTimeHistograms().isEmpty());
+    }
+
+    @Test
+    public void testGetReport() {
+        ViewLifecycleMetrics.recordPhase("INITIALIZE", String.class, 50000L);
+
+        String report = ViewLifecycleMetrics.getReport();
+        assertTrue(report.contains("\nINITIALIZE {<100us=1, <1ms=0"));
+        assertTrue(report.contains("\n" + String.class.getName() + " {<100us=1"));
+    }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.PropertyEditorSupport;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ViewPostMetadata}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class ViewPostMetadataTest {
+
+    @Test
+    public void testRemoveCollectionLineMetadata() {
+        ViewPostMetadata viewPostMetadata = new ViewPostMetadata("TestView");
+        viewPostMetadata.addAccessibleBindingPath("accounts[0].number");
+        viewPostMetadata.addAccessibleBindingPath("accounts[1].subAccounts[0].number");
+        viewPostMetadata.addAccessibleBindingPath("accountsTotal");
+        viewPostMetadata.addAccessibleBindingPath("otherAccounts[0].number");
+        viewPostMetadata.addFieldPropertyEditor("accounts[0].amount", new PropertyEditorSupport());
+        viewPostMetadata.addFieldPropertyEditor("otherAccounts[0].amount", new PropertyEditorSupport());
+        viewPostMetadata.addSecureFieldPropertyEditor("accounts[1].secret", new PropertyEditorSupport());
+
+        viewPostMetadata.removeCollectionLineMetadata("accounts");
+
+        assertEquals(2, viewPostMetadata.getAccessibleBindingPaths().size());
+        assertTrue(viewPostMetadata.getAccessibleBindingPaths().contains("accountsTotal"));
+        assertTrue(viewPostMetadata.getAccessibleBindingPaths().contains("otherAccounts[0].number"));
+        assertNull(viewPostMetadata.getFieldPropertyEditors().get("accounts[0].amount"));
+        assertNotNull(viewPostMetadata.getFieldPropertyEditors().get("otherAccounts[0].amount"));
+        assertTrue(viewPostMetadata.getSecureFieldPropertyEditors().isEmpty());
+    }
+
+    @Test
+    public void testRemoveCollectionLineMetadataWithObjectPath() {
+        ViewPostMetadata viewPostMetadata = new ViewPostMetadata("TestView");
+        viewPostMetadata.addAccessibleBindingPath("document.accounts[0].number");
+        viewPostMetadata.addAccessibleBindingPath("document.accounts[1].amount");
+        viewPostMetadata.addAccessibleBindingPath("document.accountsTotal");
+        viewPostMetadata.addFieldPropertyEditor("document.accounts[0].amount", new PropertyEditorSupport());
+
+        // the path without the object path does not match any line
+        viewPostMetadata.removeCollectionLineMetadata("accounts");
+        assertEquals(3, viewPostMetadata.getAccessibleBindingPaths().size());
+
+        viewPostMetadata.removeCollectionLineMetadata("document.accounts");
+
+        assertEquals(1, viewPostMetadata.getAccessibleBindingPaths().size());
+        assertTrue(viewPostMetadata.getAccessibleBindingPaths().contains("document.accountsTotal"));
+        assertTrue(viewPostMetadata.getFieldPropertyEditors().isEmpty());
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.kuali.rice.krad.datadictionary.validation.constraint.ValidCharactersConstraint;
+
+/**
+ * Unit tests for {@link ClientValidationUtils}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class ClientValidationUtilsTest {
+
+    /**
+     * Tests that fields with the same valid characters constraint share the validator method.
+     */
+    @Test
+    public void testSharedValidCharactersMethod() {
+        ClientValidationUtils.ValidCharactersMethod method = ClientValidationUtils.getValidCharactersMethod(
+                newValidCharactersConstraint("^[0-9]*$"), true);
+        ClientValidationUtils.ValidCharactersMethod sameMethod = ClientValidationUtils.getValidCharactersMethod(
+                newValidCharactersConstraint("^[0-9]*$"), true);
+
+        assertTrue(method.name.startsWith("validChar-"));
+        assertTrue(method.script.contains("jQuery.validator.addMethod(\"" + method.name + "\""));
+        assertTrue(method.script.contains("doCheck"));
+        assertSame(method, sameMethod);
+        assertEquals(method.script, ClientValidationUtils.getRegexMethodWithBooleanCheck(null,
+                newValidCharactersConstraint("^[0-9]*$")));
+
+        ClientValidationUtils.ValidCharactersMethod otherRegexMethod = ClientValidationUtils.getValidCharactersMethod(
+                newValidCharactersConstraint("^[a-z]*$"), true);
+        assertFalse(method.name.equals(otherRegexMethod.name));
+
+        ClientValidationUtils.ValidCharactersMethod withoutCheckMethod =
+                ClientValidationUtils.getValidCharactersMethod(newValidCharactersConstraint("^[0-9]*$"), false);
+        assertFalse(method.name.equals(withoutCheckMethod.name));
+        assertFalse(withoutCheckMethod.script.contains("doCheck"));
+    }
+
+    /**
+     * Tests that the keys making validation method names unique are counted separately on each thread.
+     */
+    @Test
+    public void testMethodKeyPerThread() throws Exception {
+        ClientValidationUtils.resetMethodKey();
+        assertEquals(1, ClientValidationUtils.nextMethodKey());
+        assertEquals(2, ClientValidationUtils.nextMethodKey());
+
+        final AtomicInteger otherThreadKey = new AtomicInteger();
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                ClientValidationUtils.resetMethodKey();
+                otherThreadKey.set(ClientValidationUtils.nextMethodKey());
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertEquals(1, otherThreadKey.get());
+        assertEquals(3, ClientValidationUtils.nextMethodKey());
+
+        ClientValidationUtils.resetMethodKey();
+        assertEquals(1, ClientValidationUtils.nextMethodKey());
+    }
+
+    private static ValidCharactersConstraint newValidCharactersConstraint(String regex) {
+        ValidCharactersConstraint constraint = new ValidCharactersConstraint();
+        constraint.setValue(regex);
+
+        return constraint;
+    }
+
+}
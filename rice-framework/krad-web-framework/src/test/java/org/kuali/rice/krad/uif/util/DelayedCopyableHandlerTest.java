@@ -0,0 +1,81 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krad.uif.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.kuali.rice.krad.datadictionary.Copyable;
+
+public class DelayedCopyableHandlerTest extends ProcessLoggingUnitTest {
+
+    public interface Named extends Copyable {
+
+        String getName();
+
+        void setName(String name);
+    }
+
+    public static class NamedBean implements Named {
+
+        private String name;
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            return super.clone();
+        }
+    }
+
+    @Test
+    public void testReadOnlyMethodsUseOriginal() {
+        NamedBean original = new NamedBean();
+        original.setName("foo");
+
+        Named delayedCopy = (Named) DelayedCopyableHandler.getDelayedCopy(original);
+        assertEquals("foo", delayedCopy.getName());
+        assertNotNull(delayedCopy.toString());
+        assertTrue(delayedCopy.equals(delayedCopy));
+        assertTrue(DelayedCopyableHandler.isPendingDelayedCopy(delayedCopy));
+    }
+
+    @Test
+    public void testWriteMethodsCopyOriginal() {
+        NamedBean original = new NamedBean();
+        original.setName("foo");
+
+        Named delayedCopy = (Named) DelayedCopyableHandler.getDelayedCopy(original);
+        delayedCopy.setName("bar");
+        assertFalse(DelayedCopyableHandler.isPendingDelayedCopy(delayedCopy));
+        assertEquals("bar", delayedCopy.getName());
+        assertEquals("foo", original.getName());
+        assertNotSame(original, CopyUtils.unwrap(delayedCopy));
+    }
+
+}
@@ -18,6 +18,9 @@ package org.kuali.rice.krad.uif.util;
 import org.kuali.rice.kim.api.identity.Person;
 import org.kuali.rice.krad.service.DataObjectAuthorizationService;
 
+import java.util.Collections;
+import java.util.List;
+
 public class MockDataObjectAuthorizationService implements DataObjectAuthorizationService {
 
     @Override
@@ -35,4 +38,8 @@ public class MockDataObjectAuthorizationService implements DataObjectAuthorizati
         return false;
     }
 
+    @Override
+    public List<Boolean> getMaintainAuthorizations(List<?> dataObjects, Person user, String docTypeName) {
+        return Collections.nCopies(dataObjects.size(), Boolean.FALSE);
+    }
 }
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
@@ -115,4 +116,40 @@ public class ObjectPathExpressionParserTest extends ProcessLoggingUnitTest {
         assertEquals("fez", l3.get(2));
     }
 
+    private static class ParentPathIt implements PathEntry {
+
+        @Override
+        public List<String> parse(String parentPath, Object node, String next) {
+            if (next == null) {
+                return new ArrayList<String>();
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> rv = (List<String>) node;
+            rv.add(parentPath + ":" + next);
+
+            return rv;
+        }
+    }
+
+    @Test
+    public void testRepeatedParsePathExpression() {
+        for (int i = 0; i < 2; i++) {
+            List<String> l1 = ObjectPathExpressionParser.parsePathExpression(null, "foo[bar].baz", new ParentPathIt());
+            assertEquals(Arrays.asList("null:foo", "foo:bar", "foo[bar]:baz"), l1);
+        }
+
+        // a path that has been parsed before may be evaluated while evaluating another path
+        String nested = ObjectPathExpressionParser.parsePathExpression(null, "foo.bar", new PathEntry() {
+            @Override
+            public String parse(String parentPath, Object node, String next) {
+                List<String> l2 = ObjectPathExpressionParser.parsePathExpression(null, "foo[bar].baz",
+                        new ParentPathIt());
+                assertEquals(3, l2.size());
+                return next;
+            }
+        });
+        assertEquals("bar", nested);
+    }
+
 }
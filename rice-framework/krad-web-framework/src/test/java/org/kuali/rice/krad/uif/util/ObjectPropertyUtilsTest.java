@@ -383,6 +383,20 @@ public class ObjectPropertyUtilsTest extends ProcessLoggingUnitTest {
         assertEquals(expectedDate, tb.getDateProp());
     }
 
+    @Test
+    public void testMethodHandles() {
+        assertNotNull(ObjectPropertyUtils.getReadMethodHandle(TestBean.class, "rwProp"));
+        assertNotNull(ObjectPropertyUtils.getWriteMethodHandle(TestBean.class, "rwProp"));
+        assertNull(ObjectPropertyUtils.getReadMethodHandle(TestBean.class, "woProp"));
+        assertNull(ObjectPropertyUtils.getWriteMethodHandle(TestBean.class, "roProp"));
+
+        TestBean tb = new TestBean();
+        ObjectPropertyUtils.setPropertyValue(tb, "booleanProp", Boolean.TRUE);
+        assertEquals(Boolean.TRUE, ObjectPropertyUtils.getPropertyValue(tb, "booleanProp"));
+        ObjectPropertyUtils.setPropertyValue(tb, "booleanProp", Boolean.FALSE);
+        assertFalse(tb.isBooleanProp());
+    }
+
     @Test
     public void testGetAsText() throws Throwable {
         String dateStr = "01/03/2013";
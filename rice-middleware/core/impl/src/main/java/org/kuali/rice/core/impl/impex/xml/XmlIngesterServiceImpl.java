@@ -16,17 +16,42 @@
 package org.kuali.rice.core.impl.impex.xml;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.log4j.Logger;
 import org.kuali.rice.core.api.impex.xml.XmlDoc;
@@ -34,8 +59,12 @@ import org.kuali.rice.core.api.impex.xml.XmlDocCollection;
 import org.kuali.rice.core.api.impex.xml.XmlIngesterService;
 import org.kuali.rice.core.framework.impex.xml.XmlImpexRegistry;
 import org.kuali.rice.core.framework.impex.xml.XmlLoader;
+import org.springframework.beans.factory.DisposableBean;
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
 import org.xml.sax.EntityResolver;
 import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
@@ -66,14 +95,30 @@ import org.xml.sax.SAXParseException;
  * we are asynchronously initializing Spring?  There is a 30 second built-in delay before
  * XmlPoller is first run, but suffice it to say there is a possible race condition.
  *
+ * Validation has no side-effects, so the docs are validated concurrently on a pool of up to
+ * {@link #setValidationThreads(int) validationThreads} threads shared by all ingests.  The schemas
+ * named by the xsi:schemaLocation hints on the root element of a doc are compiled once and reused
+ * for every doc which names the same schemas, so those schemas must import any others the doc
+ * uses.  Docs which cannot be validated that way (for instance because they use a DTD) are
+ * validated with a validating DOM parse as before.  Ingestion itself remains serial, in
+ * XmlLoader order, since the content of one collection may depend upon another.  The time spent
+ * validating and ingesting each doc is appended to its processing message.
+ *
  * @see org.kuali.rice.core.api.impex.xml.batch.XmlIngesterService
  * @see org.kuali.rice.core.impl.impex.xml.batch.XmlDigesterServiceImpl
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
-public class XmlIngesterServiceImpl implements XmlIngesterService {
+public class XmlIngesterServiceImpl implements XmlIngesterService, DisposableBean {
 	
     private static final Logger LOG = Logger.getLogger(XmlIngesterServiceImpl.class);
 
+    private static final String SCHEMA_FULL_CHECKING_FEATURE =
+            "http://apache.org/xml/features/validation/schema-full-checking";
+
+    private static final int DEFAULT_VALIDATION_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static final long VALIDATION_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     /**
      * The entity resolver to use during validation
      */
@@ -88,6 +133,21 @@ public class XmlIngesterServiceImpl implements XmlIngesterService {
      */
     private boolean validate = true;
 
+    /**
+     * The maximum number of docs to validate concurrently
+     */
+    private int validationThreads = DEFAULT_VALIDATION_THREADS;
+
+    /**
+     * Compiled schemas, keyed by the schema locations they were compiled from
+     */
+    private final ConcurrentMap<String, Schema> schemas = new ConcurrentHashMap<String, Schema>();
+
+    /**
+     * The pool validating docs, created on first use
+     */
+    private ThreadPoolExecutor validationExecutor;
+
     // ---- bean properties
 
     public void setXmlDigesterService(XmlDigesterService digesterService) {
@@ -100,20 +160,48 @@ public class XmlIngesterServiceImpl implements XmlIngesterService {
 
     public void setEntityResolver(EntityResolver resolver) {
         this.resolver = resolver;
+        schemas.clear();
     }
 
     public void setValidate(boolean b) {
         validate = b;
     }
 
+    public synchronized void setValidationThreads(int validationThreads) {
+        this.validationThreads = validationThreads;
+        if (validationExecutor != null && validationThreads > 0) {
+            if (validationThreads > validationExecutor.getMaximumPoolSize()) {
+                validationExecutor.setMaximumPoolSize(validationThreads);
+                validationExecutor.setCorePoolSize(validationThreads);
+            } else {
+                validationExecutor.setCorePoolSize(validationThreads);
+                validationExecutor.setMaximumPoolSize(validationThreads);
+            }
+        }
+    }
+
+    /**
+     * Shuts down the validation threads.
+     */
+    public synchronized void destroy() {
+        if (validationExecutor != null) {
+            validationExecutor.shutdownNow();
+            validationExecutor = null;
+        }
+    }
+
     // ---- implementation
 
     private static void addProcessingException(XmlDoc xmlDoc, String message, Throwable t) {
+        addProcessingMessage(xmlDoc, message + "\n" + ExceptionUtils.getFullStackTrace(t));
+    }
+
+    private static void addProcessingMessage(XmlDoc xmlDoc, String message) {
         String msg = xmlDoc.getProcessingMessage();
         if (msg == null) {
             msg = "";
         }
-        msg += message + "\n" + ExceptionUtils.getFullStackTrace(t);
+        msg += message;
         xmlDoc.setProcessingMessage(msg);
     }
 
@@ -124,63 +212,218 @@ public class XmlIngesterServiceImpl implements XmlIngesterService {
         dbf.setAttribute("http://java.sun.com/xml/jaxp/properties/schemaLanguage", XMLConstants.W3C_XML_SCHEMA_NS_URI);
         DocumentBuilder db = dbf.newDocumentBuilder();
         db.setEntityResolver(resolver);
-        db.setErrorHandler(new ErrorHandler() {
-            public void warning(SAXParseException se) {
-                LOG.warn("Warning parsing xml doc " + xmlDoc, se);
-                addProcessingException(xmlDoc, "Warning parsing xml doc " + xmlDoc, se);
+        db.setErrorHandler(new XmlDocErrorHandler(xmlDoc));
+        InputStream stream = xmlDoc.getStream();
+        try {
+            db.parse(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Validates the given doc against the compiled schema for its schema locations, falling back to a validating
+     * DOM parse if no such schema can be obtained.
+     */
+    private void validate(final XmlDoc xmlDoc) throws ParserConfigurationException, IOException, SAXException {
+        Schema schema = getSchema(xmlDoc);
+        if (schema == null) {
+            validate(xmlDoc, resolver);
+            return;
+        }
+        Validator validator = schema.newValidator();
+        validator.setErrorHandler(new XmlDocErrorHandler(xmlDoc));
+        InputStream stream = xmlDoc.getStream();
+        try {
+            validator.validate(new StreamSource(stream));
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Returns the compiled schema for the xsi:schemaLocation hints of the given doc, compiling it if this is the
+     * first doc to name those schemas.
+     *
+     * @return the schema, or null if the doc does not name its schemas or they could not be compiled
+     */
+    Schema getSchema(XmlDoc xmlDoc) throws IOException {
+        Map<String, String> schemaLocations = readSchemaLocations(xmlDoc);
+        if (schemaLocations == null || schemaLocations.isEmpty()) {
+            return null;
+        }
+        String key = schemaLocations.toString();
+        Schema schema = schemas.get(key);
+        if (schema == null) {
+            schema = compileSchema(key, schemaLocations);
+        }
+        return schema;
+    }
+
+    /**
+     * Reads the root element of the given doc, collecting the first schema location hinted for each namespace.  The
+     * rest of the doc is not read.
+     *
+     * @return the schema locations keyed by namespace, or null if the doc uses a DTD, names a schema without a
+     * namespace or is not well formed, all of which are left to the validating DOM parse
+     */
+    private static Map<String, String> readSchemaLocations(XmlDoc xmlDoc) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        Map<String, String> schemaLocations = new LinkedHashMap<String, String>();
+        InputStream stream = xmlDoc.getStream();
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(stream);
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.DTD) {
+                        return null;
+                    } else if (event == XMLStreamConstants.START_ELEMENT) {
+                        if (reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                                "noNamespaceSchemaLocation") != null) {
+                            return null;
+                        }
+                        String hints = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                                "schemaLocation");
+                        if (hints != null) {
+                            String[] tokens = StringUtils.split(hints);
+                            for (int i = 0; i + 1 < tokens.length; i += 2) {
+                                if (!schemaLocations.containsKey(tokens[i])) {
+                                    schemaLocations.put(tokens[i], tokens[i + 1]);
+                                }
+                            }
+                        }
+                        break;
+                    }
+                }
+            } finally {
+                reader.close();
             }
-            public void error(SAXParseException se) throws SAXException {
-                LOG.error("Error parsing xml doc " + xmlDoc, se);
-                addProcessingException(xmlDoc, "Error parsing xml doc " + xmlDoc, se);
-                throw se;
+        } catch (XMLStreamException e) {
+            LOG.debug("Unable to read schema locations of " + xmlDoc + ", it will be validated by a DOM parse", e);
+            return null;
+        } finally {
+            stream.close();
+        }
+        return schemaLocations;
+    }
+
+    /**
+     * Compiles the schema for the given schema locations.  Compilation is serialized so that docs naming the same
+     * schemas which are validated concurrently do not compile them more than once.
+     */
+    private synchronized Schema compileSchema(String key, Map<String, String> schemaLocations) throws IOException {
+        Schema schema = schemas.get(key);
+        if (schema != null) {
+            return schema;
+        }
+        List<InputStream> streams = new ArrayList<InputStream>();
+        try {
+            List<Source> sources = new ArrayList<Source>();
+            for (String location : schemaLocations.values()) {
+                InputSource inputSource = resolver.resolveEntity(null, location);
+                if (inputSource == null || inputSource.getByteStream() == null) {
+                    LOG.debug("Schema " + location + " cannot be resolved locally, docs naming it will be validated "
+                            + "by a DOM parse");
+                    return null;
+                }
+                streams.add(inputSource.getByteStream());
+                sources.add(new StreamSource(inputSource.getByteStream(), location));
             }
-            public void fatalError(SAXParseException se) throws SAXException {
-                LOG.error("Fatal error parsing xml doc " + xmlDoc, se);
-                addProcessingException(xmlDoc, "Fatal error parsing xml doc " + xmlDoc, se);
-                throw se;
+            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            // like the validating DOM parse, do not apply the full (and stricter) schema constraint checks
+            schemaFactory.setFeature(SCHEMA_FULL_CHECKING_FEATURE, false);
+            schemaFactory.setResourceResolver(new EntityResolverResourceResolver(resolver));
+            schema = schemaFactory.newSchema(sources.toArray(new Source[sources.size()]));
+        } catch (SAXException e) {
+            LOG.warn("Unable to compile schemas " + key + ", docs naming them will be validated by a DOM parse", e);
+            return null;
+        } finally {
+            for (InputStream stream : streams) {
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    LOG.warn("Error closing schema stream", e);
+                }
             }
-        });
-        db.parse(xmlDoc.getStream());
+        }
+        schemas.put(key, schema);
+        return schema;
     }
 
     /**
      * Validates (if possible) all XmlDocs, and accumulates only those
      * which either were not possible to validate, or passed validation.
      * @param collections collection of XmlDocCollection
-     * @param resolver the entity resolver to use
      * @param successful xmldoccollections in which all docs successfully validated
      * @param failed xmldoccollections in which one or more docs failed validation
+     * @param validationTimes the time spent validating each doc, in milliseconds
      */
-    private static void validate(List<XmlDocCollection> collections, EntityResolver resolver, Set<XmlDocCollection> successful, Set<XmlDocCollection> failed) {
-        // for every collection, validate all docs
-        for (XmlDocCollection collection : collections)
-        {
+    private void validate(List<XmlDocCollection> collections, Set<XmlDocCollection> successful, Set<XmlDocCollection> failed, Map<XmlDoc, Long> validationTimes) {
+        // validate every xml doc in every collection; we do not stop at the first
+        // failure, since validation has no side-effects we might as well validate
+        // all the docs now instead of forcing the user to continually re-submit
+        List<ValidationTask> tasks = new ArrayList<ValidationTask>();
+        for (XmlDocCollection collection : collections) {
+            for (XmlDoc xmlDoc : collection.getXmlDocs()) {
+                tasks.add(new ValidationTask(collection, xmlDoc));
+            }
+        }
 
-            // for every xml doc in the collection, try to validate it
-            for (XmlDoc xmlDoc : collection.getXmlDocs())
-            {
-                try
-                {
-                    validate(xmlDoc, resolver);
-                } catch (Exception e)
-                {
-                    LOG.error("Error validating doc: " + xmlDoc, e);
-                    addProcessingException(xmlDoc, "Error validating doc: " + xmlDoc, e);
-                    // validation failed, so add collection to successful set
-                    // do not break here, so that we can attempt validation on all
-                    // docs in a collection; since validation has no side-effects
-                    // we might as well validate all the docs now instead of forcing
-                    // the user to continually re-submit
-                    failed.add(collection);
-                }
+        if (validationThreads > 1 && tasks.size() > 1) {
+            try {
+                // tasks still pending when the ingesting thread is interrupted are cancelled by invokeAll
+                getValidationExecutor().invokeAll(tasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            for (ValidationTask task : tasks) {
+                task.call();
+            }
+        }
+
+        for (ValidationTask task : tasks) {
+            if (!task.completed) {
+                addProcessingMessage(task.xmlDoc, "Validation of doc " + task.xmlDoc + " was interrupted\n");
+                failed.add(task.collection);
+            } else if (!task.valid) {
+                failed.add(task.collection);
+            }
+            validationTimes.put(task.xmlDoc, task.elapsedMillis);
+        }
+
+        for (XmlDocCollection collection : collections) {
+            if (!failed.contains(collection)) {
+                successful.add(collection);
             }
+        }
+    }
 
-            // all files validated, so add collection to successful set
-            successful.add(collection);
+    /**
+     * Returns the pool validating docs, creating it if this is the first ingest to validate concurrently.  Idle
+     * validation threads are discarded after a minute.
+     */
+    private synchronized ExecutorService getValidationExecutor() {
+        if (validationExecutor == null) {
+            validationExecutor = new ThreadPoolExecutor(validationThreads, validationThreads,
+                    VALIDATION_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                    new ValidationThreadFactory());
+            validationExecutor.allowCoreThreadTimeOut(true);
         }
+        return validationExecutor;
+    }
+
+    /**
+     * @return the number of schema sets compiled for validation
+     */
+    int getCompiledSchemaCount() {
+        return schemas.size();
     }
 
-    private void ingest(XmlLoader xmlLoader, Collection<XmlDocCollection> xmlDocCollections, String principalId, Set<Object> successful, Set<XmlDocCollection> failed) {
+    private void ingest(XmlLoader xmlLoader, Collection<XmlDocCollection> xmlDocCollections, String principalId, Set<Object> successful, Set<XmlDocCollection> failed, Map<XmlDocCollection, Long> ingestionTimes) {
         for (XmlDocCollection xmlDocCollection : xmlDocCollections)
         {
 
@@ -190,6 +433,7 @@ public class XmlIngesterServiceImpl implements XmlIngesterService {
                 continue;
             }
 
+            long start = System.currentTimeMillis();
             try
             {
                 digesterService.digest(xmlLoader, xmlDocCollection, principalId);
@@ -197,6 +441,11 @@ public class XmlIngesterServiceImpl implements XmlIngesterService {
             {
                 LOG.error("Caught Exception loading xml data from " + xmlDocCollection.getFile() + ".  Will move associated file to problem dir.", e);
                 failed.add(xmlDocCollection);
+            } finally
+            {
+                Long elapsed = ingestionTimes.get(xmlDocCollection);
+                ingestionTimes.put(xmlDocCollection, (elapsed == null ? 0 : elapsed.longValue())
+                        + System.currentTimeMillis() - start);
             }
         }
     }
@@ -205,35 +454,255 @@ public class XmlIngesterServiceImpl implements XmlIngesterService {
         return ingest(collections, null);
     }
 
-    private void ingestThroughOrderedLoaders(Collection<XmlDocCollection> xmlDocCollections, String principalId, Set<Object> successful, Set<XmlDocCollection> failed) {
+    private void ingestThroughOrderedLoaders(Collection<XmlDocCollection> xmlDocCollections, String principalId, Set<Object> successful, Set<XmlDocCollection> failed, Map<XmlDocCollection, Long> ingestionTimes) {
         LOG.debug("Ingesting through ordered XmlLoaders");
         List<XmlLoader> xmlLoaders = xmlImpexRegistry.getLoaders();
         for (XmlLoader xmlLoader : xmlLoaders) {
         	LOG.debug("Ingesting through ordered XmlLoader: " + xmlLoader);
-        	ingest(xmlLoader, xmlDocCollections, principalId, successful, failed);
+        	ingest(xmlLoader, xmlDocCollections, principalId, successful, failed, ingestionTimes);
         }
     }
 
     public Collection<XmlDocCollection> ingest(List<XmlDocCollection> collections, String principalId) {
         Set<XmlDocCollection> failed = new LinkedHashSet<XmlDocCollection>();
+        Map<XmlDoc, Long> validationTimes = new IdentityHashMap<XmlDoc, Long>();
+        Map<XmlDocCollection, Long> ingestionTimes = new IdentityHashMap<XmlDocCollection, Long>();
+        List<XmlDocCollection> allCollections = collections;
         // validate all the docs up-front because we will be iterating over them
         // multiple times: one for each XmlLoader.  If we delegated validation to
         // XmlDigesterService then the docs would re-validated over and over again,
         // for each XmlLoader
         if (validate) {
             Set<XmlDocCollection> successful = new LinkedHashSet<XmlDocCollection>();
-            validate(collections, resolver, successful, failed);
+            validate(collections, successful, failed, validationTimes);
             collections = new LinkedList<XmlDocCollection>(successful);
         }
 
         Set<Object> successful = new LinkedHashSet<Object>();
         // ingest docs first by ordered services
-        ingestThroughOrderedLoaders(collections, principalId, successful, failed);
+        ingestThroughOrderedLoaders(collections, principalId, successful, failed, ingestionTimes);
         // then by unordered services
 //        collections = new LinkedList(successful);
 
         //ingestThroughUnorderedLoaders(collections, user, successful, failed);
 
+        reportTimes(allCollections, validationTimes, ingestionTimes);
+
         return failed;
     }
+
+    /**
+     * Logs and appends to the processing message of each doc the time spent validating it and ingesting its
+     * collection.
+     */
+    private static void reportTimes(List<XmlDocCollection> collections, Map<XmlDoc, Long> validationTimes, Map<XmlDocCollection, Long> ingestionTimes) {
+        for (XmlDocCollection collection : collections) {
+            Long ingestionTime = ingestionTimes.get(collection);
+            for (XmlDoc xmlDoc : collection.getXmlDocs()) {
+                Long validationTime = validationTimes.get(xmlDoc);
+                StringBuilder message = new StringBuilder();
+                if (validationTime != null) {
+                    message.append("Validated in ").append(validationTime).append("ms");
+                }
+                if (ingestionTime != null) {
+                    message.append(message.length() == 0 ? "Ingested" : ", ingested").append(" in ")
+                            .append(ingestionTime).append("ms");
+                }
+                if (message.length() > 0) {
+                    LOG.info(xmlDoc + ": " + message);
+                    addProcessingMessage(xmlDoc, message.append("\n").toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates a single doc, recording the outcome and how long it took.
+     */
+    private class ValidationTask implements Callable<Object> {
+
+        private final XmlDocCollection collection;
+        private final XmlDoc xmlDoc;
+        private volatile boolean completed;
+        private volatile boolean valid;
+        private volatile long elapsedMillis;
+
+        ValidationTask(XmlDocCollection collection, XmlDoc xmlDoc) {
+            this.collection = collection;
+            this.xmlDoc = xmlDoc;
+        }
+
+        public Object call() {
+            long start = System.currentTimeMillis();
+            try {
+                validate(xmlDoc);
+                valid = true;
+            } catch (Exception e) {
+                LOG.error("Error validating doc: " + xmlDoc, e);
+                addProcessingException(xmlDoc, "Error validating doc: " + xmlDoc, e);
+            } finally {
+                elapsedMillis = System.currentTimeMillis() - start;
+                completed = true;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Creates daemon validation threads which share the context class loader of the thread which first validated
+     * docs concurrently, so that schemas resolve from the same class path.
+     */
+    private static class ValidationThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger threadNumber = new AtomicInteger();
+
+        private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "XmlIngesterValidation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }
+    }
+
+    /**
+     * Records the errors encountered while validating a doc in its processing message.
+     */
+    private static class XmlDocErrorHandler implements ErrorHandler {
+
+        private final XmlDoc xmlDoc;
+
+        XmlDocErrorHandler(XmlDoc xmlDoc) {
+            this.xmlDoc = xmlDoc;
+        }
+
+        public void warning(SAXParseException se) {
+            LOG.warn("Warning parsing xml doc " + xmlDoc, se);
+            addProcessingException(xmlDoc, "Warning parsing xml doc " + xmlDoc, se);
+        }
+        public void error(SAXParseException se) throws SAXException {
+            LOG.error("Error parsing xml doc " + xmlDoc, se);
+            addProcessingException(xmlDoc, "Error parsing xml doc " + xmlDoc, se);
+            throw se;
+        }
+        public void fatalError(SAXParseException se) throws SAXException {
+            LOG.error("Fatal error parsing xml doc " + xmlDoc, se);
+            addProcessingException(xmlDoc, "Fatal error parsing xml doc " + xmlDoc, se);
+            throw se;
+        }
+    }
+
+    /**
+     * Resolves the schemas imported or included while compiling a schema through the ingester's entity resolver.
+     */
+    private static class EntityResolverResourceResolver implements LSResourceResolver {
+
+        private final EntityResolver entityResolver;
+
+        EntityResolverResourceResolver(EntityResolver entityResolver) {
+            this.entityResolver = entityResolver;
+        }
+
+        public LSInput resolveResource(String type, String namespaceURI, String publicId, String systemId, String baseURI) {
+            if (systemId == null) {
+                return null;
+            }
+            try {
+                InputSource inputSource = entityResolver.resolveEntity(publicId, systemId);
+                if (inputSource == null) {
+                    return null;
+                }
+                return new ResolvedInput(publicId, systemId, baseURI, inputSource);
+            } catch (SAXException e) {
+                throw new IllegalStateException("Unable to resolve schema " + systemId, e);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to resolve schema " + systemId, e);
+            }
+        }
+    }
+
+    /**
+     * An LSInput wrapping a resolved InputSource.
+     */
+    private static class ResolvedInput implements LSInput {
+
+        private String publicId;
+        private String systemId;
+        private String baseURI;
+        private InputStream byteStream;
+        private Reader characterStream;
+        private String encoding;
+
+        ResolvedInput(String publicId, String systemId, String baseURI, InputSource inputSource) {
+            this.publicId = publicId;
+            this.systemId = systemId;
+            this.baseURI = baseURI;
+            this.byteStream = inputSource.getByteStream();
+            this.characterStream = inputSource.getCharacterStream();
+            this.encoding = inputSource.getEncoding();
+        }
+
+        public Reader getCharacterStream() {
+            return characterStream;
+        }
+
+        public void setCharacterStream(Reader characterStream) {
+            this.characterStream = characterStream;
+        }
+
+        public InputStream getByteStream() {
+            return byteStream;
+        }
+
+        public void setByteStream(InputStream byteStream) {
+            this.byteStream = byteStream;
+        }
+
+        public String getStringData() {
+            return null;
+        }
+
+        public void setStringData(String stringData) {
+        }
+
+        public String getSystemId() {
+            return systemId;
+        }
+
+        public void setSystemId(String systemId) {
+            this.systemId = systemId;
+        }
+
+        public String getPublicId() {
+            return publicId;
+        }
+
+        public void setPublicId(String publicId) {
+            this.publicId = publicId;
+        }
+
+        public String getBaseURI() {
+            return baseURI;
+        }
+
+        public void setBaseURI(String baseURI) {
+            this.baseURI = baseURI;
+        }
+
+        public String getEncoding() {
+            return encoding;
+        }
+
+        public void setEncoding(String encoding) {
+            this.encoding = encoding;
+        }
+
+        public boolean getCertifiedText() {
+            return false;
+        }
+
+        public void setCertifiedText(boolean certifiedText) {
+        }
+    }
 }
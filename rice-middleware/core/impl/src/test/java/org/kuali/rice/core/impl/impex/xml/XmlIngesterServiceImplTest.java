@@ -0,0 +1,149 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.core.impl.impex.xml;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kuali.rice.core.api.impex.xml.FileXmlDocCollection;
+import org.kuali.rice.core.api.impex.xml.XmlDoc;
+import org.kuali.rice.core.api.impex.xml.XmlDocCollection;
+import org.kuali.rice.core.framework.impex.xml.XmlLoader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the validation and ingestion performed by XmlIngesterServiceImpl
+ */
+public class XmlIngesterServiceImplTest {
+
+    private static final String RESOURCE_BASE = "org/kuali/rice/core/impl/impex/xml";
+
+    private XmlIngesterServiceImpl ingesterService;
+    private List<String> loaded;
+
+    @Before
+    public void setUp() {
+        loaded = Collections.synchronizedList(new ArrayList<String>());
+
+        XmlImpexRegistryImpl registry = new XmlImpexRegistryImpl();
+        registry.registerLoader(new XmlLoader() {
+            public void loadXml(InputStream inputStream, String principalId) {
+                loaded.add(principalId);
+            }
+        });
+
+        ingesterService = new XmlIngesterServiceImpl();
+        ingesterService.setXmlDigesterService(new XmlDigesterServiceImpl());
+        ingesterService.setXmlImpexRegistry(registry);
+        ingesterService.setEntityResolver(new ClassLoaderEntityResolver(RESOURCE_BASE));
+    }
+
+    @After
+    public void tearDown() {
+        ingesterService.destroy();
+    }
+
+    /**
+     * Verifies that only the collections which pass validation are ingested, regardless of how many threads
+     * validate them
+     */
+    @Test
+    public void testIngest() throws Exception {
+        for (int threads = 1; threads <= 4; threads *= 2) {
+            loaded.clear();
+            ingesterService.setValidationThreads(threads);
+
+            List<XmlDocCollection> collections = new ArrayList<XmlDocCollection>();
+            for (int i = 0; i < 5; i++) {
+                collections.add(getCollection("IngesterTest_valid.xml"));
+            }
+            XmlDocCollection invalid = getCollection("IngesterTest_invalid.xml");
+            XmlDocCollection malformed = getCollection("IngesterTest_malformed.xml");
+            collections.add(invalid);
+            collections.add(malformed);
+
+            Collection<XmlDocCollection> failed = ingesterService.ingest(collections, "admin");
+
+            assertEquals(2, failed.size());
+            assertTrue(failed.contains(invalid));
+            assertTrue(failed.contains(malformed));
+            assertEquals(5, loaded.size());
+
+            for (XmlDocCollection collection : collections) {
+                XmlDoc xmlDoc = collection.getXmlDocs().get(0);
+                assertNotNull(xmlDoc.getProcessingMessage());
+                assertTrue(xmlDoc.getProcessingMessage().contains("Validated in "));
+                if (failed.contains(collection)) {
+                    assertFalse(xmlDoc.isProcessed());
+                    assertTrue(xmlDoc.getProcessingMessage().contains("Error validating doc"));
+                } else {
+                    assertTrue(xmlDoc.isProcessed());
+                    assertTrue(xmlDoc.getProcessingMessage().contains("ingested in "));
+                }
+            }
+        }
+
+        // every doc named the same schemas, which were compiled once rather than falling back to a DOM parse
+        assertEquals(1, ingesterService.getCompiledSchemaCount());
+    }
+
+    /**
+     * Verifies that the schemas named on the root element of a doc are compiled once and shared by every doc which
+     * names them
+     */
+    @Test
+    public void testCompiledSchema() throws Exception {
+        XmlDoc valid = getCollection("IngesterTest_valid.xml").getXmlDocs().get(0);
+        XmlDoc invalid = getCollection("IngesterTest_invalid.xml").getXmlDocs().get(0);
+
+        assertNotNull(ingesterService.getSchema(valid));
+        assertSame(ingesterService.getSchema(valid), ingesterService.getSchema(invalid));
+        assertEquals(1, ingesterService.getCompiledSchemaCount());
+    }
+
+    /**
+     * Verifies that docs are ingested without validation when it is disabled
+     */
+    @Test
+    public void testIngestWithoutValidation() throws Exception {
+        ingesterService.setValidate(false);
+
+        List<XmlDocCollection> collections = new ArrayList<XmlDocCollection>();
+        collections.add(getCollection("IngesterTest_valid.xml"));
+        collections.add(getCollection("IngesterTest_invalid.xml"));
+
+        assertTrue(ingesterService.ingest(collections, "admin").isEmpty());
+        assertEquals(2, loaded.size());
+    }
+
+    private XmlDocCollection getCollection(String name) throws Exception {
+        return new FileXmlDocCollection(new File(getClass().getClassLoader().getResource(
+                RESOURCE_BASE + "/" + name).toURI()));
+    }
+
+}
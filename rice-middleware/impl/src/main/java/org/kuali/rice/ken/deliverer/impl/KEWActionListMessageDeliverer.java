@@ -17,11 +17,15 @@ package org.kuali.rice.ken.deliverer.impl;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 
+import org.kuali.rice.ken.bo.NotificationBo;
 import org.kuali.rice.ken.bo.NotificationMessageDelivery;
 import org.kuali.rice.ken.core.GlobalNotificationServiceLocator;
-import org.kuali.rice.ken.deliverer.NotificationMessageDeliverer;
+import org.kuali.rice.ken.deliverer.BulkNotificationMessageDeliverer;
 import org.kuali.rice.ken.exception.NotificationAutoRemoveException;
 import org.kuali.rice.ken.exception.NotificationMessageDeliveryException;
 import org.kuali.rice.ken.service.NotificationWorkflowDocumentService;
@@ -31,10 +35,11 @@ import org.kuali.rice.kew.api.WorkflowDocument;
 
 /**
  * This class is responsible for describing the default delivery mechanism for the system - the KEW
- * Action List.
+ * Action List.  Message deliveries are either delivered one at a time, each through its own workflow document, or in
+ * bulk, through one workflow document which is routed to all of the recipients.
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
-public class KEWActionListMessageDeliverer implements NotificationMessageDeliverer {
+public class KEWActionListMessageDeliverer implements BulkNotificationMessageDeliverer {
     private static org.apache.log4j.Logger LOG = org.apache.log4j.Logger.getLogger(KEWActionListMessageDeliverer.class);
 
     /**
@@ -43,6 +48,13 @@ public class KEWActionListMessageDeliverer implements NotificationMessageDeliver
      */
     public static final String INTERNAL_COMMAND_FLAG = "internal_command";
 
+    /**
+     * Property set in the attribute content along with {@link #INTERNAL_COMMAND_FLAG} that holds the principal on whose
+     * behalf the Notification System takes the action, since a workflow document which delivers a notification in
+     * bulk is acted on by many recipients.
+     */
+    public static final String INTERNAL_COMMAND_PRINCIPAL_ID = "internal_command_principal_id";
+
     private NotificationWorkflowDocumentService notificationWorkflowDocumentService;
 
     /**
@@ -71,6 +83,41 @@ public class KEWActionListMessageDeliverer implements NotificationMessageDeliver
         LOG.debug("Message Delivery: " + messageDelivery.toString());
     }
 
+    /**
+     * This implementation routes a single workflow document to the recipients of all of the message deliveries, which
+     * must all be deliveries of the same notification, and sets its id into the delivery system id of each of them.
+     * @see org.kuali.rice.ken.deliverer.BulkNotificationMessageDeliverer#deliverMessage(java.util.Collection)
+     */
+    public void deliverMessage(Collection<NotificationMessageDelivery> messageDeliveries)
+            throws NotificationMessageDeliveryException {
+        if (messageDeliveries.isEmpty()) {
+            return;
+        }
+
+        NotificationBo notification = messageDeliveries.iterator().next().getNotification();
+        List<String> recipientIds = new ArrayList<String>(messageDeliveries.size());
+        for (NotificationMessageDelivery messageDelivery : messageDeliveries) {
+            if (!notification.getId().equals(messageDelivery.getNotification().getId())) {
+                throw new NotificationMessageDeliveryException("Message deliveries of notifications "
+                        + notification.getId() + " and " + messageDelivery.getNotification().getId()
+                        + " cannot be delivered through the same workflow document");
+            }
+            recipientIds.add(messageDelivery.getUserRecipientId());
+        }
+
+        String documentId = notificationWorkflowDocumentService.createAndAdHocRouteNotificationWorkflowDocument(
+                notification,
+                Util.getNotificationSystemUser(),
+                recipientIds,
+                NotificationConstants.KEW_CONSTANTS.GENERIC_DELIVERY_ANNOTATION);
+
+        for (NotificationMessageDelivery messageDelivery : messageDeliveries) {
+            messageDelivery.setDeliverySystemId(documentId);
+        }
+        LOG.debug("Delivered notification " + notification.getId() + " to " + recipientIds.size()
+                + " recipients through workflow document " + documentId);
+    }
+
     /**
      * This implementation does an auto-remove by "canceling" the workflow document associated with
      * the message delivery record. This prevents the user from seeing the item in their list
@@ -100,6 +147,16 @@ public class KEWActionListMessageDeliverer implements NotificationMessageDeliver
                 NotificationConstants.KEW_CONSTANTS.GENERIC_AUTO_REMOVE_ANNOTATION);
     }
 
+    /**
+     * @see org.kuali.rice.ken.deliverer.BulkNotificationMessageDeliverer#autoRemoveMessageDelivery(java.util.Collection)
+     */
+    public void autoRemoveMessageDelivery(Collection<NotificationMessageDelivery> messageDeliveries)
+            throws NotificationAutoRemoveException {
+        for (NotificationMessageDelivery messageDelivery : messageDeliveries) {
+            autoRemoveMessageDelivery(messageDelivery);
+        }
+    }
+
     /**
      * @see org.kuali.rice.ken.deliverer.NotificationMessageDeliverer#dismissMessageDelivery(org.kuali.rice.ken.bo.NotificationMessageDelivery,
      *      java.lang.String, java.lang.String)
@@ -154,6 +211,7 @@ public class KEWActionListMessageDeliverer implements NotificationMessageDeliver
     protected void flagWorkflowDocument(WorkflowDocument doc) {
         Properties p = new Properties();
         p.setProperty(INTERNAL_COMMAND_FLAG, "true");
+        p.setProperty(INTERNAL_COMMAND_PRINCIPAL_ID, doc.getPrincipalId());
         ByteArrayOutputStream baos = new ByteArrayOutputStream(100);
         try {
             p.store(baos, null);
@@ -89,8 +89,12 @@ public class NotificationPostProcessor implements PostProcessor {
             throw new RuntimeException(ioe);
         }
         String internalCommand = p.getProperty(KEWActionListMessageDeliverer.INTERNAL_COMMAND_FLAG);
+        // the flag is left in the document after the action, which only matters for the principal it was set for when
+        // the document delivers the notification to many recipients
+        String internalCommandPrincipalId = p.getProperty(KEWActionListMessageDeliverer.INTERNAL_COMMAND_PRINCIPAL_ID);
 
-        if (Boolean.valueOf(internalCommand).booleanValue()) {
+        if (Boolean.valueOf(internalCommand).booleanValue() && (internalCommandPrincipalId == null
+                || internalCommandPrincipalId.equals(event.getActionTaken().getPrincipalId()))) {
             LOG.info("Internal command detected by NotificationPostProcessor - will not invoke KEN");
             return new ProcessDocReport(true, "");
         }
@@ -103,7 +107,8 @@ public class NotificationPostProcessor implements PostProcessor {
             ".  We are now changing the status of the associated NotificationMessageDelivery to REMOVED.");
 
             try {
-                NotificationMessageDelivery nmd = msgDeliverySvc.getNotificationMessageDeliveryByDelivererId(event.getDocumentId());
+                NotificationMessageDelivery nmd = msgDeliverySvc.getNotificationMessageDeliveryByDelivererId(
+                        event.getDocumentId(), event.getActionTaken().getPrincipalId());
 
                 if (nmd == null) {
                     throw new RuntimeException("Could not find message delivery from workflow document " + event.getDocumentId() + " to dismiss");
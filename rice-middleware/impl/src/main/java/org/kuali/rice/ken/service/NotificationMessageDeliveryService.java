@@ -42,6 +42,18 @@ public interface NotificationMessageDeliveryService {
      */
     public NotificationMessageDelivery getNotificationMessageDeliveryByDelivererId(String id);
 
+    /**
+     * This method will retrieve the NotificationMessageDelivery object for the given user from the system, given the
+     * external deliverer system id registered with the NotificationMessageDelivery.  Several message deliveries share
+     * the deliverer system id when a notification was delivered in bulk; otherwise the single message delivery
+     * registered with the id is returned, whichever user it was delivered to.
+     * @param id the external deliverer system id
+     * @param userRecipientId the id of the user whose message delivery to obtain
+     * @return NotificationMessageDelivery, or null if none was found
+     * @since 2.5.2
+     */
+    public NotificationMessageDelivery getNotificationMessageDeliveryByDelivererId(String id, String userRecipientId);
+
     /**
      * This method will return all NotificationMessageDelivery objects in the system 
      * actual record.
@@ -15,9 +15,12 @@
  */
 package org.kuali.rice.ken.service;
 
+import org.kuali.rice.ken.bo.NotificationBo;
 import org.kuali.rice.ken.bo.NotificationMessageDelivery;
 import org.kuali.rice.kew.api.WorkflowDocument;
 
+import java.util.Collection;
+
 
 /**
  * The NotificationWorkflowDocumentService class is responsible for housing service methods for interacting with KEW.
@@ -36,10 +39,28 @@ public interface NotificationWorkflowDocumentService {
      */
     public String createAndAdHocRouteNotificationWorkflowDocument(NotificationMessageDelivery messageDelivery, String initiatorUserId, 
 	    String recipientUserId, String annotation);
+
+    /**
+     * This service method is responsible for creating a single NotificationWorkflowDocument for the given
+     * notification and ad-hoc routing it to every one of the passed in recipients, so that each recipient gets an
+     * action item without a workflow document being created for each of them.  Every action taken on the document
+     * reads all of its pending requests, so callers should keep the number of recipients per document modest.  The application document id of the
+     * workflow document is the id of the notification, prefixed with
+     * {@link org.kuali.rice.ken.util.NotificationConstants.KEW_CONSTANTS#BULK_DELIVERY_APPLICATION_DOCUMENT_ID_PREFIX}.
+     * @param notification - the notification being delivered
+     * @param initiatorUserId - the person/workflow user who is responsible for "initiating" this workflow document
+     * @param recipientUserIds - the principal ids of the workflow users who will receive this document via an ad hoc route
+     * @param annotation - a description of the workflow ad hoc route transaction
+     * @return String - the id of the workflow document
+     * @since 2.5.2
+     */
+    public String createAndAdHocRouteNotificationWorkflowDocument(NotificationBo notification, String initiatorUserId,
+            Collection<String> recipientUserIds, String annotation);
     
     /**
      * This method is responsible for canceling a workflow document; which in turn simulates the "checking-off" 
-     * of a notification in the notification list by the system through an auto-removal.
+     * of a notification in the notification list by the system through an auto-removal.  Only the requests to the
+     * given user are taken.
      * @param initiatorUserId
      * @param workflowDocument
      * @param annotation
@@ -15,11 +15,15 @@
  */
 package org.kuali.rice.ken.service.impl;
 
+import org.apache.commons.lang.StringUtils;
+import org.kuali.rice.core.api.config.property.Config;
+import org.kuali.rice.core.api.config.property.ConfigContext;
 import org.kuali.rice.ken.bo.NotificationBo;
 import org.kuali.rice.ken.bo.NotificationMessageDelivery;
 import org.kuali.rice.ken.bo.NotificationRecipientBo;
 import org.kuali.rice.ken.bo.NotificationRecipientListBo;
 import org.kuali.rice.ken.bo.UserChannelSubscriptionBo;
+import org.kuali.rice.ken.deliverer.BulkNotificationMessageDeliverer;
 import org.kuali.rice.ken.deliverer.impl.KEWActionListMessageDeliverer;
 import org.kuali.rice.ken.exception.NotificationMessageDeliveryException;
 import org.kuali.rice.ken.service.NotificationMessageDeliveryResolverService;
@@ -35,10 +39,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
 
@@ -46,12 +51,35 @@ import java.util.concurrent.ExecutorService;
  * This is the default out-of-the-box implementation that leverages the status flag on a notification (RESOLVED versus UNRESOLVED) to determine whether
  * the notification's message deliveries need to be resolved or not.  This also looks at the start and auto remove
  * dates and times.
+ *
+ * <p>Notifications sent on a channel listed in {@link #BULK_DELIVERY_CHANNELS_PARAM}, or by a producer listed in
+ * {@link #BULK_DELIVERY_PRODUCERS_PARAM}, are delivered in bulk: one workflow document is routed to each group of
+ * {@link #BULK_DELIVERY_RECIPIENTS_PER_DOCUMENT_PARAM} recipients instead of one workflow document to each recipient.
+ * All other notifications are delivered one recipient at a time.</p>
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public class NotificationMessageDeliveryResolverServiceImpl extends ConcurrentJob<NotificationBo> implements NotificationMessageDeliveryResolverService {
     private static org.apache.log4j.Logger LOG = org.apache.log4j.Logger
 	.getLogger(NotificationMessageDeliveryResolverServiceImpl.class);
 
+    /**
+     * Config parameter holding the comma separated names of the channels whose notifications are delivered in bulk.
+     */
+    public static final String BULK_DELIVERY_CHANNELS_PARAM = "ken.resolver.bulkDelivery.channels";
+
+    /**
+     * Config parameter holding the comma separated names of the producers whose notifications are delivered in bulk.
+     */
+    public static final String BULK_DELIVERY_PRODUCERS_PARAM = "ken.resolver.bulkDelivery.producers";
+
+    /**
+     * Config parameter for the number of recipients a single workflow document is routed to when a notification is
+     * delivered in bulk.  Every action taken on such a document reads all of its pending requests, so this bounds the
+     * cost of a recipient acknowledging the notification as much as it bounds the number of documents created.
+     */
+    public static final String BULK_DELIVERY_RECIPIENTS_PER_DOCUMENT_PARAM = "ken.resolver.bulkDelivery.recipientsPerDocument";
+    public static final int DEFAULT_BULK_DELIVERY_RECIPIENTS_PER_DOCUMENT = 100;
+
     private NotificationRecipientService notificationRecipientService;
     private DataObjectService dataObjectService;
     private NotificationService notificationService;
@@ -90,53 +118,58 @@ public class NotificationMessageDeliveryResolverServiceImpl extends ConcurrentJo
     /**
      * This method is responsible for building out the complete recipient list, which will resolve all members for groups, and add
      * them to the official list only if they are not already in the list.
+     *
+     * <p>Recipients are first collected as sets of distinct group ids and principal names across the notification's own
+     * recipients and its channel's recipient lists, so that each group is only expanded, and each principal name only
+     * resolved, once no matter how many times it is referenced.</p>
      * @param notification
-     * @return HashSet<String>
+     * @return the principal ids of all recipients, in the order they were first encountered
      */
-    private HashSet<String> buildCompleteRecipientList(NotificationBo notification) {
-        HashSet<String> completeRecipientList = new HashSet<String>(notification.getRecipients().size());
+    private Set<String> buildCompleteRecipientList(NotificationBo notification) {
+        Set<String> groupIds = new LinkedHashSet<String>();
+        Set<String> principalNames = new LinkedHashSet<String>();
 
         // process the list that came in with the notification request
-           for (int i = 0; i < notification.getRecipients().size(); i++) {
-               NotificationRecipientBo recipient = notification.getRecipient(i);
-               if (KimGroupMemberTypes.GROUP_MEMBER_TYPE.getCode().equals(recipient.getRecipientType())) {
-                   // resolve group's users
-                   String[] groupMembers = notificationRecipientService.getGroupMembers(recipient.getRecipientId());
-                   for(int j = 0; j < groupMembers.length; j++) {
-                       completeRecipientList.add(groupMembers[j]);
-                   }
-               } else {  // just a user, so add to the list
-                   Principal principal = KimApiServiceLocator.getIdentityService().getPrincipalByPrincipalName(recipient.getRecipientId());
-            	   completeRecipientList.add(principal.getPrincipalId());
-               }
-           }
-
-           // now process the default recipient lists that are associated with the channel
-           Iterator<NotificationRecipientListBo> i = notification.getChannel().getRecipientLists().iterator();
-           while (i.hasNext()) {
-               NotificationRecipientListBo listRecipient  = i.next();
-               if (KimGroupMemberTypes.GROUP_MEMBER_TYPE.getCode().equals(listRecipient.getRecipientType())) {
-                   // resolve group's users
-                   String[] groupMembers = notificationRecipientService.getGroupMembers(listRecipient.getRecipientId());
-                   for (int j = 0; j < groupMembers.length; j++) {
-                       completeRecipientList.add(groupMembers[j]);
-                   }
-               } else {  // just a user, so add to the list
-                   Principal principal = KimApiServiceLocator.getIdentityService().getPrincipalByPrincipalName(listRecipient.getRecipientId());
-    	 	 	   completeRecipientList.add(principal.getPrincipalId());
-               }
-           }
-
-           // now process the subscribers that are associated with the channel
-           List<UserChannelSubscriptionBo> subscriptions = notification.getChannel().getSubscriptions();
-           for (UserChannelSubscriptionBo subscription: subscriptions) {
-               // NOTE: at this time channel subscriptions are USER-only - GROUP is not supported
-               // this could be implemented by adding a recipientType/userType column as we do in
-               // other recipient/user-related tables/BOs
-               completeRecipientList.add(subscription.getUserId());
-           }
-
-           return completeRecipientList;
+        for (NotificationRecipientBo recipient : notification.getRecipients()) {
+            if (KimGroupMemberTypes.GROUP_MEMBER_TYPE.getCode().equals(recipient.getRecipientType())) {
+                groupIds.add(recipient.getRecipientId());
+            } else {
+                principalNames.add(recipient.getRecipientId());
+            }
+        }
+
+        // now process the default recipient lists that are associated with the channel
+        for (NotificationRecipientListBo listRecipient : notification.getChannel().getRecipientLists()) {
+            if (KimGroupMemberTypes.GROUP_MEMBER_TYPE.getCode().equals(listRecipient.getRecipientType())) {
+                groupIds.add(listRecipient.getRecipientId());
+            } else {
+                principalNames.add(listRecipient.getRecipientId());
+            }
+        }
+
+        Set<String> completeRecipientList = new LinkedHashSet<String>();
+
+        // just users, so add them to the list
+        for (String principalName : principalNames) {
+            Principal principal = KimApiServiceLocator.getIdentityService().getPrincipalByPrincipalName(principalName);
+            completeRecipientList.add(principal.getPrincipalId());
+        }
+
+        // resolve each group's users
+        for (String groupId : groupIds) {
+            completeRecipientList.addAll(Arrays.asList(notificationRecipientService.getGroupMembers(groupId)));
+        }
+
+        // now process the subscribers that are associated with the channel
+        List<UserChannelSubscriptionBo> subscriptions = notification.getChannel().getSubscriptions();
+        for (UserChannelSubscriptionBo subscription: subscriptions) {
+            // NOTE: at this time channel subscriptions are USER-only - GROUP is not supported
+            // this could be implemented by adding a recipientType/userType column as we do in
+            // other recipient/user-related tables/BOs
+            completeRecipientList.add(subscription.getUserId());
+        }
+
+        return completeRecipientList;
     }
 
     /**
@@ -154,47 +187,157 @@ public class NotificationMessageDeliveryResolverServiceImpl extends ConcurrentJo
         // because this concurrent job does not performed grouping of work items, there should only
         // ever be one notification object per work unit anyway...
         for (NotificationBo notification: notifications) {
+            long startTime = System.currentTimeMillis();
+
             // now figure out each unique recipient for this notification
-            HashSet<String> uniqueRecipients = buildCompleteRecipientList(notification);
-
-            // now for each unique recipient, figure out each delivery end point and create a NotificationMessageDelivery record
-            Iterator<String> j = uniqueRecipients.iterator();
-            while(j.hasNext()) {
-                String userRecipientId = j.next();
-
-                NotificationMessageDelivery defaultMessageDelivery = new NotificationMessageDelivery();
-                defaultMessageDelivery.setMessageDeliveryStatus(NotificationConstants.MESSAGE_DELIVERY_STATUS.UNDELIVERED);
-                defaultMessageDelivery.setNotification(notification);
-                defaultMessageDelivery.setUserRecipientId(userRecipientId);
-
-                //now save that delivery end point; this record will be later processed by the dispatch service which will actually deliver it
-               defaultMessageDelivery =  dataObjectService.save(defaultMessageDelivery);
-
-                try {
-                    new KEWActionListMessageDeliverer().deliverMessage(defaultMessageDelivery);
-                } catch (NotificationMessageDeliveryException e) {
-                    throw new RuntimeException(e);
-                }
-
-                // we have no delivery stage any more, anything we send to KCB needs to be considered "delivered" from
-                // the perspective of KEN
-                defaultMessageDelivery.setMessageDeliveryStatus(NotificationConstants.MESSAGE_DELIVERY_STATUS.DELIVERED);
-                defaultMessageDelivery = dataObjectService.save(defaultMessageDelivery);
-
-                successes.add(defaultMessageDelivery);
-
-                // also, update the status of the notification so that it's message deliveries are not resolved again
-                notification.setProcessingFlag(NotificationConstants.PROCESSING_FLAGS.RESOLVED);
-                // unlock the record now
-                notification.setLockedDateValue(null);
-                dataObjectService.save(notification);
+            Set<String> uniqueRecipients = buildCompleteRecipientList(notification);
+            long resolvedTime = System.currentTimeMillis();
+
+            boolean bulk = isBulkDelivery(notification);
+            if (bulk) {
+                successes.addAll(deliverInBulk(notification, uniqueRecipients));
+            } else {
+                successes.addAll(deliver(notification, uniqueRecipients));
             }
 
+            // also, update the status of the notification so that it's message deliveries are not resolved again
+            notification.setProcessingFlag(NotificationConstants.PROCESSING_FLAGS.RESOLVED);
+            // unlock the record now
+            notification.setLockedDateValue(null);
+            dataObjectService.save(notification);
+
+            if (LOG.isDebugEnabled()) {
+                long elapsed = System.currentTimeMillis() - startTime;
+                LOG.debug("Resolved notification " + notification.getId() + " to " + uniqueRecipients.size()
+                        + " recipients in " + (resolvedTime - startTime) + "ms and delivered it"
+                        + (bulk ? " in bulk" : "") + " in " + (elapsed - (resolvedTime - startTime)) + "ms"
+                        + (elapsed > 0 ? " (" + (uniqueRecipients.size() * 1000L / elapsed) + " recipients/s)" : ""));
+            }
         }
 
         return successes;
     }
 
+    /**
+     * Creates, delivers and saves a message delivery for each of the given recipients within the current transaction.
+     *
+     * <p>Each delivery is saved once, already marked as delivered, before it is delivered, since its id is the
+     * application document id of the workflow document the deliverer routes.  The workflow document id which the
+     * deliverer then sets on the saved (managed) delivery is written when the transaction commits, and if delivery
+     * fails the transaction, and with it the delivery, is rolled back.</p>
+     * @param notification the notification being delivered
+     * @param userRecipientIds the principal ids of the recipients
+     * @return the saved message deliveries
+     */
+    protected List<NotificationMessageDelivery> deliver(NotificationBo notification,
+            Collection<String> userRecipientIds) {
+        List<NotificationMessageDelivery> deliveries = new ArrayList<NotificationMessageDelivery>(userRecipientIds.size());
+        KEWActionListMessageDeliverer deliverer = new KEWActionListMessageDeliverer();
+
+        // now for each unique recipient, create a NotificationMessageDelivery record
+        for (String userRecipientId : userRecipientIds) {
+            NotificationMessageDelivery defaultMessageDelivery = new NotificationMessageDelivery();
+            // we have no delivery stage any more, anything we send to KCB needs to be considered "delivered" from
+            // the perspective of KEN
+            defaultMessageDelivery.setMessageDeliveryStatus(NotificationConstants.MESSAGE_DELIVERY_STATUS.DELIVERED);
+            defaultMessageDelivery.setNotification(notification);
+            defaultMessageDelivery.setUserRecipientId(userRecipientId);
+
+            // the delivery must be saved first since its id is the workflow document's application document id
+            defaultMessageDelivery = dataObjectService.save(defaultMessageDelivery);
+
+            try {
+                deliverer.deliverMessage(defaultMessageDelivery);
+            } catch (NotificationMessageDeliveryException e) {
+                throw new RuntimeException(e);
+            }
+
+            deliveries.add(defaultMessageDelivery);
+        }
+
+        return deliveries;
+    }
+
+    /**
+     * Determines whether the given notification is delivered in bulk, which is the case when its channel is listed in
+     * {@link #BULK_DELIVERY_CHANNELS_PARAM} or its producer in {@link #BULK_DELIVERY_PRODUCERS_PARAM}.
+     * @param notification the notification being delivered
+     * @return true if the notification is delivered in bulk, false if it is delivered one recipient at a time
+     */
+    protected boolean isBulkDelivery(NotificationBo notification) {
+        Config config = ConfigContext.getCurrentContextConfig();
+        return (notification.getChannel() != null && isListed(config.getProperty(BULK_DELIVERY_CHANNELS_PARAM),
+                notification.getChannel().getName()))
+                || (notification.getProducer() != null && isListed(config.getProperty(BULK_DELIVERY_PRODUCERS_PARAM),
+                notification.getProducer().getName()));
+    }
+
+    private static boolean isListed(String names, String name) {
+        if (StringUtils.isBlank(names) || name == null) {
+            return false;
+        }
+        for (String listedName : names.split(",")) {
+            if (name.equals(listedName.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates and delivers a message delivery for each of the given recipients within the current transaction, routing
+     * one workflow document to every {@link #BULK_DELIVERY_RECIPIENTS_PER_DOCUMENT_PARAM} recipients.
+     *
+     * <p>Since the workflow document no longer refers to any one delivery, the deliveries are only saved once their
+     * document has been routed.  Nothing reads them back before the transaction commits, so their inserts are written
+     * together at commit, in JDBC batches where batch writing is enabled for the KEN persistence unit.</p>
+     * @param notification the notification being delivered
+     * @param userRecipientIds the principal ids of the recipients
+     * @return the saved message deliveries
+     */
+    protected List<NotificationMessageDelivery> deliverInBulk(NotificationBo notification,
+            Collection<String> userRecipientIds) {
+        int recipientsPerDocument = Math.max(1, (int) ConfigContext.getCurrentContextConfig().getNumericProperty(
+                BULK_DELIVERY_RECIPIENTS_PER_DOCUMENT_PARAM, DEFAULT_BULK_DELIVERY_RECIPIENTS_PER_DOCUMENT));
+        List<NotificationMessageDelivery> deliveries = new ArrayList<NotificationMessageDelivery>(userRecipientIds.size());
+        BulkNotificationMessageDeliverer deliverer = new KEWActionListMessageDeliverer();
+
+        List<NotificationMessageDelivery> documentDeliveries = new ArrayList<NotificationMessageDelivery>();
+        for (String userRecipientId : userRecipientIds) {
+            NotificationMessageDelivery messageDelivery = new NotificationMessageDelivery();
+            messageDelivery.setMessageDeliveryStatus(NotificationConstants.MESSAGE_DELIVERY_STATUS.DELIVERED);
+            messageDelivery.setNotification(notification);
+            messageDelivery.setUserRecipientId(userRecipientId);
+            documentDeliveries.add(messageDelivery);
+
+            if (documentDeliveries.size() == recipientsPerDocument) {
+                deliveries.addAll(deliverAndSave(deliverer, documentDeliveries));
+                documentDeliveries = new ArrayList<NotificationMessageDelivery>();
+            }
+        }
+        if (!documentDeliveries.isEmpty()) {
+            deliveries.addAll(deliverAndSave(deliverer, documentDeliveries));
+        }
+
+        return deliveries;
+    }
+
+    private List<NotificationMessageDelivery> deliverAndSave(BulkNotificationMessageDeliverer deliverer,
+            List<NotificationMessageDelivery> messageDeliveries) {
+        try {
+            deliverer.deliverMessage(messageDeliveries);
+        } catch (NotificationMessageDeliveryException e) {
+            throw new RuntimeException(e);
+        }
+
+        List<NotificationMessageDelivery> savedDeliveries =
+                new ArrayList<NotificationMessageDelivery>(messageDeliveries.size());
+        for (NotificationMessageDelivery messageDelivery : messageDeliveries) {
+            savedDeliveries.add(dataObjectService.save(messageDelivery));
+        }
+        return savedDeliveries;
+    }
+
     /**
      * @see org.kuali.rice.ken.service.impl.ConcurrentJob#unlockWorkItem(java.lang.Object)
      */
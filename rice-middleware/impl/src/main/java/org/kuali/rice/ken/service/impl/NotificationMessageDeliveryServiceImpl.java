@@ -82,6 +82,29 @@ public class NotificationMessageDeliveryServiceImpl implements NotificationMessa
         return results.iterator().next();
     }
 
+    /**
+     * @see org.kuali.rice.ken.service.NotificationMessageDeliveryService#getNotificationMessageDeliveryByDelivererId(java.lang.String, java.lang.String)
+     */
+    @Override
+    public NotificationMessageDelivery getNotificationMessageDeliveryByDelivererId(String id, String userRecipientId) {
+        QueryByCriteria.Builder criteria = QueryByCriteria.Builder.create();
+        criteria.setPredicates(equal(NotificationConstants.BO_PROPERTY_NAMES.DELIVERY_SYSTEM_ID, id),
+                equal(NotificationConstants.BO_PROPERTY_NAMES.USER_RECIPIENT_ID, userRecipientId));
+        Collection<NotificationMessageDelivery> results = dataObjectService.findMatching(NotificationMessageDelivery.class, criteria.build()).getResults();
+        if (!results.isEmpty()) {
+            return results.iterator().next();
+        }
+
+        // a delivery which has its own deliverer id is returned whoever is asking (a delegate, for instance), as it
+        // always has been, but a deliverer id shared by a bulk delivery says nothing about which delivery is meant
+        criteria = QueryByCriteria.Builder.create();
+        criteria.setPredicates(equal(NotificationConstants.BO_PROPERTY_NAMES.DELIVERY_SYSTEM_ID, id));
+        criteria.setMaxResults(2);
+        results = dataObjectService.findMatching(NotificationMessageDelivery.class, criteria.build()).getResults();
+
+        return results.size() == 1 ? results.iterator().next() : null;
+    }
+
     /**
      * @see org.kuali.rice.ken.service.NotificationMessageDeliveryService#getNotificationMessageDeliveries()
      */
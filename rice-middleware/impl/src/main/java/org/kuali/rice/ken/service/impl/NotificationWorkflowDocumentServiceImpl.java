@@ -16,6 +16,7 @@
 package org.kuali.rice.ken.service.impl;
 
 import org.apache.commons.lang.StringUtils;
+import org.kuali.rice.ken.bo.NotificationBo;
 import org.kuali.rice.ken.bo.NotificationMessageDelivery;
 import org.kuali.rice.ken.document.kew.NotificationWorkflowDocument;
 import org.kuali.rice.ken.service.NotificationMessageContentService;
@@ -28,6 +29,7 @@ import org.kuali.rice.kew.api.action.ActionRequestType;
 import org.kuali.rice.kim.api.identity.principal.Principal;
 import org.kuali.rice.kim.api.services.KimApiServiceLocator;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -114,6 +116,53 @@ public class NotificationWorkflowDocumentServiceImpl implements NotificationWork
         return document.getDocumentId();
     }
 
+    /**
+     * Implements by instantiating a single NotificationWorkflowDocument for the notification and ad hoc routing it to
+     * each of the recipients before routing it once.  The content of the document is the notification itself rather
+     * than the notification addressed to any one recipient.
+     * @see org.kuali.rice.ken.service.NotificationWorkflowDocumentService#createAndAdHocRouteNotificationWorkflowDocument(org.kuali.rice.ken.bo.NotificationBo,
+     *      java.lang.String, java.util.Collection, java.lang.String)
+     */
+    @Override
+    public String createAndAdHocRouteNotificationWorkflowDocument(NotificationBo notification, String initiatorUserId,
+            Collection<String> recipientUserIds, String annotation) {
+        WorkflowDocument document;
+        if (StringUtils.isNotBlank(notification.getDocTypeName())) {
+            document = NotificationWorkflowDocument.createNotificationDocument(initiatorUserId,
+                    notification.getDocTypeName());
+        } else {
+            document = NotificationWorkflowDocument.createNotificationDocument(initiatorUserId);
+        }
+
+        // the message deliveries all refer to this document, so it refers back to their notification
+        document.setApplicationDocumentId(NotificationConstants.KEW_CONSTANTS.BULK_DELIVERY_APPLICATION_DOCUMENT_ID_PREFIX
+                + notification.getId());
+        document.setApplicationContent(messageContentService.generateNotificationMessage(notification));
+
+        if (!StringUtils.isBlank(notification.getTitle())) {
+            document.setTitle(notification.getTitle());
+        } else {
+            LOG.error("Encountered notification with no title set: Notification #" + notification.getId());
+        }
+
+        ActionRequestType actionRequested;
+        if (NotificationConstants.DELIVERY_TYPES.ACK.equals(notification.getDeliveryType())) {
+            actionRequested = ActionRequestType.fromCode(NotificationConstants.KEW_CONSTANTS.ACK_AD_HOC_ROUTE);
+        } else {
+            actionRequested = ActionRequestType.fromCode(NotificationConstants.KEW_CONSTANTS.FYI_AD_HOC_ROUTE);
+        }
+
+        // the recipients are principal ids already, see NotificationMessageDeliveryResolverServiceImpl.buildCompleteRecipientList()
+        for (String recipientUserId : recipientUserIds) {
+            document.adHocToPrincipal(actionRequested, annotation, recipientUserId,
+                    notification.getProducer().getName(), true);
+        }
+
+        document.route(annotation);
+
+        return document.getDocumentId();
+    }
+
     /**
      * This service method is implemented by constructing a NotificationWorkflowDocument using the
      * pre-existing document Id that is passed in.
@@ -138,6 +187,10 @@ public class NotificationWorkflowDocumentServiceImpl implements NotificationWork
             WorkflowDocument workflowDocument, String annotation) {
         List<ActionRequest> reqs = workflowDocument.getRootActionRequests();
         for (int i = 0; i < reqs.size(); i++) {
+            // a document which delivers a notification in bulk holds the requests of other recipients as well
+            if (!initiatorUserId.equals(reqs.get(i).getPrincipalId())) {
+                continue;
+            }
             LOG.info("Action Request[" + i + "] = " + reqs.get(i).getActionRequested());
             if (reqs.get(i).getActionRequested().equals(ActionRequestType.ACKNOWLEDGE)) {
                 workflowDocument.acknowledge(annotation);
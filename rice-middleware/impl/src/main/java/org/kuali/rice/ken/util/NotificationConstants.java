@@ -275,6 +275,11 @@ public final class NotificationConstants {
         public static final String GENERIC_AUTO_REMOVE_ANNOTATION = "The notification message has been auto-removed by the Notification System.";
         public static final String NOTIFICATION_ADMIN_GROUP_NAME = "NotificationAdmin";
         public static final String SEND_NOTIFICATION_REQ_DOC_TYPE = "SendNotificationRequest";
+        /**
+         * Prefix of the application document id of a workflow document which delivers a notification to all of its
+         * recipients at once, followed by the id of the notification.
+         */
+        public static final String BULK_DELIVERY_APPLICATION_DOCUMENT_ID_PREFIX = "NTFCTN-";
 
         private KEW_CONSTANTS() {
             throw new UnsupportedOperationException("do not call");
@@ -167,6 +167,18 @@ public class NotificationController extends MultiActionController {
      * @return the {@link NotificationMessageDelivery} or null if not found
      */
     protected NotificationMessageDelivery determineMessageFromRequest(HttpServletRequest request) {
+        return determineMessageFromRequest(request, null);
+    }
+
+    /**
+     * This method retrieves the NotificationMessageDelivery given an HttpServletRequest which
+     * may contain EITHER a message delivery id or a workflow doc id.  A workflow doc id which delivers a
+     * notification in bulk resolves to the message delivery of the given principal.
+     * @param request the incoming {@link HttpServletRequest}
+     * @param principalId the id of the principal viewing the message
+     * @return the {@link NotificationMessageDelivery} or null if not found
+     */
+    protected NotificationMessageDelivery determineMessageFromRequest(HttpServletRequest request, String principalId) {
         /**
          * We can get the NotificationMessageDelivery object given a workflow ID or a NotificationMessageDelivery
          * Id.  This method might be called either from a workflow action list or
@@ -189,7 +201,12 @@ public class NotificationController extends MultiActionController {
         } else if (delivererId != null) {  // this means that the request was triggered via the action list
             LOG.debug("Looking up notification with workflowId: "+delivererId);
             try {
-                messageDelivery = messageDeliveryService.getNotificationMessageDeliveryByDelivererId(delivererId);
+                if (StringUtils.isBlank(principalId)) {
+                    messageDelivery = messageDeliveryService.getNotificationMessageDeliveryByDelivererId(delivererId);
+                } else {
+                    messageDelivery = messageDeliveryService.getNotificationMessageDeliveryByDelivererId(delivererId,
+                            principalId);
+                }
             } catch (Exception e) {
                 LOG.error("Error getting message with from deliverer id: " + delivererId, e);
                 throw new RuntimeException("Error getting message with deliverer id: " + delivererId, e);
@@ -239,7 +256,7 @@ public class NotificationController extends MultiActionController {
         String command = request.getParameter(NotificationConstants.NOTIFICATION_CONTROLLER_CONSTANTS.COMMAND);
         String standaloneWindow = request.getParameter(NotificationConstants.NOTIFICATION_CONTROLLER_CONSTANTS.STANDALONE_WINDOW);
 
-        NotificationMessageDelivery messageDelivery = determineMessageFromRequest(request);
+        NotificationMessageDelivery messageDelivery = determineMessageFromRequest(request, principalId);
         // now get the notification from the message delivery object
         NotificationBo notification = messageDelivery.getNotification();
         boolean actionable = false;
@@ -37,6 +37,7 @@ import org.kuali.rice.kew.actionrequest.Recipient;
 import org.kuali.rice.kew.actionrequest.service.ActionRequestService;
 import org.kuali.rice.kew.actiontaken.ActionTakenValue;
 import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.doctype.service.DocumentTypeService;
 import org.kuali.rice.kew.notification.service.NotificationService;
@@ -564,7 +565,7 @@ public class ActionListServiceImpl implements ActionListService {
         ActionItem actionItem = new ActionItem();
 
         DocumentRouteHeaderValue routeHeader = actionRequest.getRouteHeader();
-        DocumentType docType = routeHeader.getDocumentType();
+        ResolvedDocumentType docType = routeHeader.getResolvedDocumentType();
 
         actionItem.setActionRequestCd(actionRequest.getActionRequested());
         actionItem.setActionRequestId(actionRequest.getActionRequestId());
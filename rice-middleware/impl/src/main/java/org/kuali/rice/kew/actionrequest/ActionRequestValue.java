@@ -82,6 +82,11 @@ import java.util.Map;
   @NamedQuery(name="ActionRequestValue.FindPendingByResponsibilityIds", query = "SELECT DISTINCT(arv.documentId) FROM ActionRequestValue arv WHERE (arv.status = '"
           + KewApiConstants.ActionRequestStatusVals.INITIALIZED + "' OR arv.status = '" +
                   KewApiConstants.ActionRequestStatusVals.ACTIVATED
+          + "') AND arv.responsibilityId IN :respIds"),
+  @NamedQuery(name="ActionRequestValue.FindPendingDocumentTypeIdsByResponsibilityIds", query = "SELECT DISTINCT "
+          + "arv.documentId, dh.documentTypeId FROM ActionRequestValue arv, DocumentRouteHeaderValue dh WHERE "
+          + "arv.documentId = dh.documentId AND (arv.status = '" + KewApiConstants.ActionRequestStatusVals.INITIALIZED
+          + "' OR arv.status = '" + KewApiConstants.ActionRequestStatusVals.ACTIVATED
           + "') AND arv.responsibilityId IN :respIds")
 })
 public class ActionRequestValue implements Serializable {
@@ -38,9 +38,11 @@ import org.kuali.rice.kew.api.action.ActionRequestPolicy;
 import org.kuali.rice.kew.api.action.ActionRequestStatus;
 import org.kuali.rice.kew.api.action.RecipientType;
 import org.kuali.rice.kew.api.document.DocumentRefreshQueue;
-import org.kuali.rice.kew.doctype.bo.DocumentType;
+import org.kuali.rice.kew.api.doctype.DocumentTypePolicy;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.engine.ActivationContext;
 import org.kuali.rice.kew.engine.node.RouteNodeInstance;
+import org.kuali.rice.kew.impl.document.PendingDocumentRefreshes;
 import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValue;
 import org.kuali.rice.kew.routeheader.service.RouteHeaderService;
 import org.kuali.rice.kew.routemodule.RouteModule;
@@ -61,6 +63,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -646,7 +649,8 @@ public class ActionRequestServiceImpl implements ActionRequestService {
     	if ( LOG.isInfoEnabled() ) {
     		performanceLogger = new PerformanceLogger();
     	}
-        Collection<String> documentsAffected = getRouteHeaderService().findPendingByResponsibilityIds(responsibilityIds);
+        Map<String, String> documentsAffected =
+                getRouteHeaderService().findPendingDocumentTypeIdsByResponsibilityIds(responsibilityIds);
         String cacheWaitValue = CoreFrameworkServiceLocator.getParameterService().getParameterValueAsString(KewApiConstants.KEW_NAMESPACE, KRADConstants.DetailTypes.RULE_DETAIL_TYPE, KewApiConstants.RULE_CACHE_REQUEUE_DELAY);
         Long cacheWait = KewApiConstants.DEFAULT_CACHE_REQUEUE_WAIT_TIME;
         if (!org.apache.commons.lang.StringUtils.isEmpty(cacheWaitValue)) {
@@ -661,23 +665,54 @@ public class ActionRequestServiceImpl implements ActionRequestService {
                     + " responsibility changes.  Installing a processing wait time of " + cacheWait
                     + " milliseconds to avoid stale rule cache.");
         }
-        for (String documentId : documentsAffected) {
 
-             String applicationId = null;
-             DocumentType documentType = KEWServiceLocator.getDocumentTypeService().findByDocumentId(documentId);
-
-             if (documentType != null) {
-                applicationId = documentType.getApplicationId();
-             }
+        // group the documents to refresh by the application which owns them, resolving each document type only once,
+        // and skip the documents whose earlier refresh has not started yet since it will read the latest rules anyway
+        Map<String, ResolvedDocumentType> documentTypes = new HashMap<String, ResolvedDocumentType>();
+        Map<String, List<String>> documentIdsByApplicationId = new LinkedHashMap<String, List<String>>();
+        int alreadyPending = 0;
+        for (Map.Entry<String, String> documentAffected : documentsAffected.entrySet()) {
+            if (PendingDocumentRefreshes.isPending(documentAffected.getKey())) {
+                alreadyPending++;
+                continue;
+            }
+            String documentTypeId = documentAffected.getValue();
+            if (!documentTypes.containsKey(documentTypeId)) {
+                documentTypes.put(documentTypeId, KEWServiceLocator.getDocumentTypeService().findResolvedById(
+                        documentTypeId));
+            }
+            ResolvedDocumentType documentType = documentTypes.get(documentTypeId);
+            if (documentType != null && !documentType.getPolicyValue(
+                    DocumentTypePolicy.REGENERATE_ACTION_REQUESTS_ON_CHANGE, true)) {
+                continue;
+            }
 
-            if (applicationId == null)
-            {
+            String applicationId = documentType == null ? null : documentType.getApplicationId();
+            if (applicationId == null) {
                 applicationId = CoreConfigHelper.getApplicationId();
             }
-            if(documentType.getRegenerateActionRequestsOnChange().getPolicyValue()) {
-                DocumentRefreshQueue documentRequeuer = KewApiServiceLocator.getDocumentRequeuerService(applicationId,
-                        documentId, cacheWait);
-                documentRequeuer.refreshDocument(documentId);
+            List<String> documentIds = documentIdsByApplicationId.get(applicationId);
+            if (documentIds == null) {
+                documentIds = new ArrayList<String>();
+                documentIdsByApplicationId.put(applicationId, documentIds);
+            }
+            documentIds.add(documentAffected.getKey());
+        }
+        if (alreadyPending > 0 && LOG.isInfoEnabled()) {
+            LOG.info("Skipping " + alreadyPending + " documents whose earlier refresh has not started yet.");
+        }
+
+        int batchSize = Math.max(1, (int) ConfigContext.getCurrentContextConfig().getNumericProperty(
+                KewApiConstants.DOCUMENT_REFRESH_BATCH_SIZE, KewApiConstants.DEFAULT_DOCUMENT_REFRESH_BATCH_SIZE));
+        for (Map.Entry<String, List<String>> applicationDocuments : documentIdsByApplicationId.entrySet()) {
+            List<String> documentIds = applicationDocuments.getValue();
+            for (int start = 0; start < documentIds.size(); start += batchSize) {
+                List<String> batch = new ArrayList<String>(documentIds.subList(start,
+                        Math.min(start + batchSize, documentIds.size())));
+                DocumentRefreshQueue documentRequeuer = KewApiServiceLocator.getDocumentRefreshQueue(
+                        applicationDocuments.getKey(), cacheWait);
+                PendingDocumentRefreshes.markPending(batch, cacheWait);
+                documentRequeuer.refreshDocuments(batch);
             }
         }
         if ( LOG.isInfoEnabled() ) {
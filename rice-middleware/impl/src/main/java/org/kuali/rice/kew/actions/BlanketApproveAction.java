@@ -31,6 +31,7 @@ import org.kuali.rice.kew.actiontaken.ActionTakenValue;
 import org.kuali.rice.kew.api.WorkflowRuntimeException;
 import org.kuali.rice.kew.api.document.DocumentProcessingOptions;
 import org.kuali.rice.kew.api.exception.InvalidActionTakenException;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.engine.BlanketApproveEngine;
 import org.kuali.rice.kew.engine.CompatUtils;
@@ -169,9 +170,10 @@ public class BlanketApproveAction extends ActionTakenEvent {
 
     protected void queueDeferredWork(ActionTakenValue actionTaken) {
         try {
-        	final boolean shouldIndex = getRouteHeader().getDocumentType().hasSearchableAttributes() && RouteContext.getCurrentRouteContext().isSearchIndexingRequestedForContext();
+        	ResolvedDocumentType documentType = getRouteHeader().getResolvedDocumentType();
+        	final boolean shouldIndex = documentType.hasSearchableAttributes() && RouteContext.getCurrentRouteContext().isSearchIndexingRequestedForContext();
 
-            String applicationId = routeHeader.getDocumentType().getApplicationId();
+            String applicationId = documentType.getApplicationId();
             DocumentOrchestrationQueue blanketApprove = KewApiServiceLocator.getDocumentOrchestrationQueue(
                     routeHeader.getDocumentId(), applicationId);
             org.kuali.rice.kew.api.document.OrchestrationConfig orchestrationConfig =
@@ -29,6 +29,7 @@ import org.kuali.rice.kew.api.action.MovePoint;
 import org.kuali.rice.kew.api.document.DocumentOrchestrationQueue;
 import org.kuali.rice.kew.api.document.DocumentProcessingOptions;
 import org.kuali.rice.kew.api.exception.InvalidActionTakenException;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.engine.RouteContext;
 import org.kuali.rice.kew.engine.node.RouteNode;
 import org.kuali.rice.kew.engine.node.RouteNodeInstance;
@@ -127,8 +128,9 @@ public class MoveDocumentAction extends ActionTakenEvent {
                 Set<String> targetNodeNames = new HashSet<String>();
                 targetNodeNames.add(determineFutureNodeName(startNodeInstance, movePoint));
 
-        	    final boolean shouldIndex = getRouteHeader().getDocumentType().hasSearchableAttributes() && RouteContext.getCurrentRouteContext().isSearchIndexingRequestedForContext();
-                String applicationId = routeHeader.getDocumentType().getApplicationId();
+        	    ResolvedDocumentType documentType = getRouteHeader().getResolvedDocumentType();
+        	    final boolean shouldIndex = documentType.hasSearchableAttributes() && RouteContext.getCurrentRouteContext().isSearchIndexingRequestedForContext();
+                String applicationId = documentType.getApplicationId();
                 DocumentOrchestrationQueue orchestrationQueue = KewApiServiceLocator.getDocumentOrchestrationQueue(
                         routeHeader.getDocumentId(), applicationId);
                 org.kuali.rice.kew.api.document.OrchestrationConfig orchestrationConfig =
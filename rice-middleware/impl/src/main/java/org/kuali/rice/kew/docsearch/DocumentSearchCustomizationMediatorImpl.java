@@ -20,16 +20,17 @@ import org.kuali.rice.core.api.uif.RemotableAttributeError;
 import org.kuali.rice.kew.api.WorkflowRuntimeException;
 import org.kuali.rice.kew.api.document.search.DocumentSearchCriteria;
 import org.kuali.rice.kew.api.document.search.DocumentSearchResults;
+import org.kuali.rice.kew.api.extension.ExtensionDefinition;
 import org.kuali.rice.kew.framework.document.search.AttributeFields;
 import org.kuali.rice.kew.framework.document.search.DocumentSearchCriteriaConfiguration;
 import org.kuali.rice.kew.framework.document.search.DocumentSearchResultSetConfiguration;
 import org.kuali.rice.kew.framework.document.search.DocumentSearchResultValues;
-import org.kuali.rice.kew.doctype.DocumentTypeAttributeBo;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.framework.KewFrameworkServiceLocator;
 import org.kuali.rice.kew.framework.document.search.DocumentSearchCustomization;
 import org.kuali.rice.kew.framework.document.search.DocumentSearchCustomizationHandlerService;
-import org.kuali.rice.kew.rule.bo.RuleAttribute;
+import org.kuali.rice.kew.service.KEWServiceLocator;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -45,7 +46,7 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
     @Override
     public DocumentSearchCriteriaConfiguration getDocumentSearchCriteriaConfiguration(DocumentType documentType) {
 
-        List<DocumentTypeAttributeBo> searchableAttributes = documentType.getSearchableAttributes();
+        List<ExtensionDefinition> searchableAttributes = getResolvedDocumentType(documentType).getSearchableAttributes();
 
         // This first map is used to partition our attributes by application id.  It maps an application id to the
         // list of searchable attribute names that are associated with that application id.  Note that 'null' is a
@@ -60,10 +61,9 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
         LinkedHashMap<String, AttributeFields> orderedSearchFieldMap = new LinkedHashMap<String, AttributeFields>();
         LinkedHashMap<String, AttributeFields> orderedResultSetFieldMap = new LinkedHashMap<String, AttributeFields>();
 
-        for (DocumentTypeAttributeBo searchableAttribute : searchableAttributes) {
-            RuleAttribute ruleAttribute = searchableAttribute.getRuleAttribute();
-            String attributeName = ruleAttribute.getName();
-            String applicationId = ruleAttribute.getApplicationId();
+        for (ExtensionDefinition searchableAttribute : searchableAttributes) {
+            String attributeName = searchableAttribute.getName();
+            String applicationId = searchableAttribute.getApplicationId();
             if (!applicationIdToAttributeNameMap.containsKey(applicationId)) {
                 applicationIdToAttributeNameMap.put(applicationId, new ArrayList<String>());
             }
@@ -90,13 +90,12 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
     public List<RemotableAttributeError> validateLookupFieldParameters(DocumentType documentType,
             DocumentSearchCriteria documentSearchCriteria) {
 
-        List<DocumentTypeAttributeBo> searchableAttributes = documentType.getSearchableAttributes();
+        List<ExtensionDefinition> searchableAttributes = getResolvedDocumentType(documentType).getSearchableAttributes();
         LinkedHashMap<String, List<String>> applicationIdToAttributeNameMap = new LinkedHashMap<String, List<String>>();
 
-        for (DocumentTypeAttributeBo searchableAttribute : searchableAttributes) {
-            RuleAttribute ruleAttribute = searchableAttribute.getRuleAttribute();
-            String attributeName = ruleAttribute.getName();
-            String applicationId = ruleAttribute.getApplicationId();
+        for (ExtensionDefinition searchableAttribute : searchableAttributes) {
+            String attributeName = searchableAttribute.getName();
+            String applicationId = searchableAttribute.getApplicationId();
             if (!applicationIdToAttributeNameMap.containsKey(applicationId)) {
                 applicationIdToAttributeNameMap.put(applicationId, new ArrayList<String>());
             }
@@ -119,12 +118,12 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
 
     @Override
     public DocumentSearchCriteria customizeCriteria(DocumentType documentType, DocumentSearchCriteria documentSearchCriteria) {
-        DocumentTypeAttributeBo customizerAttribute = documentType.getCustomizerAttribute();
+        ExtensionDefinition customizerAttribute = getResolvedDocumentType(documentType).getCustomizerAttribute();
         if (customizerAttribute != null) {
-            DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getRuleAttribute().getApplicationId());
-            if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getRuleAttribute().getName()).contains(
+            DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getApplicationId());
+            if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getName()).contains(
                     DocumentSearchCustomization.CRITERIA)) {
-                DocumentSearchCriteria customizedCriteria = service.customizeCriteria(documentSearchCriteria, customizerAttribute.getRuleAttribute().getName());
+                DocumentSearchCriteria customizedCriteria = service.customizeCriteria(documentSearchCriteria, customizerAttribute.getName());
                 if (customizedCriteria != null) {
                     return customizedCriteria;
                 }
@@ -135,12 +134,12 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
 
     @Override
     public DocumentSearchCriteria customizeClearCriteria(DocumentType documentType, DocumentSearchCriteria documentSearchCriteria) {
-        DocumentTypeAttributeBo customizerAttribute = documentType.getCustomizerAttribute();
+        ExtensionDefinition customizerAttribute = getResolvedDocumentType(documentType).getCustomizerAttribute();
         if (customizerAttribute != null) {
-            DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getRuleAttribute().getApplicationId());
-            if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getRuleAttribute().getName()).contains(
+            DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getApplicationId());
+            if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getName()).contains(
                     DocumentSearchCustomization.CLEAR_CRITERIA)) {
-                DocumentSearchCriteria customizedCriteria = service.customizeClearCriteria(documentSearchCriteria, customizerAttribute.getRuleAttribute().getName());
+                DocumentSearchCriteria customizedCriteria = service.customizeClearCriteria(documentSearchCriteria, customizerAttribute.getName());
                 if (customizedCriteria != null) {
                     return customizedCriteria;
                 }
@@ -153,12 +152,12 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
     public DocumentSearchResultValues customizeResults(DocumentType documentType,
             DocumentSearchCriteria documentSearchCriteria, DocumentSearchResults results) {
         if (!results.getSearchResults().isEmpty()) {
-            DocumentTypeAttributeBo customizerAttribute = documentType.getCustomizerAttribute();
+            ExtensionDefinition customizerAttribute = getResolvedDocumentType(documentType).getCustomizerAttribute();
             if (customizerAttribute != null) {
-                DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getRuleAttribute().getApplicationId());
-                if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getRuleAttribute().getName()).contains(
+                DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getApplicationId());
+                if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getName()).contains(
                         DocumentSearchCustomization.RESULTS)) {
-                    DocumentSearchResultValues customizedResults = service.customizeResults(documentSearchCriteria, results.getSearchResults(), customizerAttribute.getRuleAttribute().getName());
+                    DocumentSearchResultValues customizedResults = service.customizeResults(documentSearchCriteria, results.getSearchResults(), customizerAttribute.getName());
                     if (customizedResults != null) {
                         return customizedResults;
                     }
@@ -172,13 +171,13 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
     @Override
     public DocumentSearchResultSetConfiguration customizeResultSetConfiguration(DocumentType documentType,
             DocumentSearchCriteria documentSearchCriteria) {
-        DocumentTypeAttributeBo customizerAttribute = documentType.getCustomizerAttribute();
+        ExtensionDefinition customizerAttribute = getResolvedDocumentType(documentType).getCustomizerAttribute();
         if (customizerAttribute != null) {
-            DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getRuleAttribute().getApplicationId());
-            if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getRuleAttribute().getName()).contains(
+            DocumentSearchCustomizationHandlerService service = loadCustomizationService(customizerAttribute.getApplicationId());
+            if (service.getEnabledCustomizations(documentType.getName(), customizerAttribute.getName()).contains(
                     DocumentSearchCustomization.RESULT_SET_FIELDS)) {
                 DocumentSearchResultSetConfiguration resultSetConfiguration = service.customizeResultSetConfiguration(
-                        documentSearchCriteria, customizerAttribute.getRuleAttribute().getName());
+                        documentSearchCriteria, customizerAttribute.getName());
                 if (resultSetConfiguration != null) {
                     return resultSetConfiguration;
                 }
@@ -187,6 +186,14 @@ public class DocumentSearchCustomizationMediatorImpl implements DocumentSearchCu
         return null;
     }
 
+    /**
+     * Returns the cached snapshot of the given document type, so that its inherited attributes are not resolved
+     * again on every search.
+     */
+    protected ResolvedDocumentType getResolvedDocumentType(DocumentType documentType) {
+        return KEWServiceLocator.getDocumentTypeService().findResolvedById(documentType.getId());
+    }
+
     protected DocumentSearchCustomizationHandlerService loadCustomizationService(String applicationId) {
         DocumentSearchCustomizationHandlerService service = KewFrameworkServiceLocator.getDocumentSearchCustomizationHandlerService(
                 applicationId);
@@ -0,0 +1,341 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.doctype;
+
+import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.api.doctype.ProcessDefinition;
+import org.kuali.rice.kew.api.extension.ExtensionDefinition;
+import org.kuali.rice.kew.doctype.bo.DocumentType;
+import org.kuali.rice.kew.engine.node.ProcessDefinitionBo;
+import org.kuali.rice.kew.rule.bo.RuleAttribute;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, fully resolved snapshot of a {@link DocumentType}.
+ *
+ * <p>The {@link DocumentType} business object resolves most of its inheritable state (policies, application
+ * document statuses, searchable attributes, processes) by climbing the parent hierarchy on every call.  A resolved
+ * document type walks that hierarchy exactly once when it is built so that routing, document search and action list
+ * rendering can consult the effective values directly.  Lookups go through
+ * {@link org.kuali.rice.kew.doctype.service.DocumentTypeService#findResolvedById(String)} or
+ * {@link org.kuali.rice.kew.doctype.service.DocumentTypeService#findResolvedByName(String)}.  Instances are safe to share between threads and are cached
+ * by the {@link org.kuali.rice.kew.doctype.service.DocumentTypeService} in the document type cache, which is flushed
+ * (locally and across the cluster) whenever a document type is saved or versioned.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public final class ResolvedDocumentType implements Serializable {
+
+    private static final long serialVersionUID = 2640417930291416538L;
+
+    private final String documentTypeId;
+    private final String name;
+    private final String label;
+    private final Integer version;
+    private final String parentId;
+    private final String applicationId;
+    private final boolean active;
+    private final String routeDefiningDocumentTypeId;
+    private final String resolvedDocumentHandlerUrl;
+    private final Map<String, ResolvedPolicy> policies;
+    private final boolean appDocStatusInUse;
+    private final List<String> validApplicationStatuses;
+    private final List<ExtensionDefinition> searchableAttributes;
+    private final List<ExtensionDefinition> customActionListAttributes;
+    private final List<ExtensionDefinition> customizerAttributes;
+    private final List<ProcessDefinition> processes;
+
+    private ResolvedDocumentType(DocumentType documentType) {
+        this.documentTypeId = documentType.getDocumentTypeId();
+        this.name = documentType.getName();
+        this.label = documentType.getLabel();
+        this.version = documentType.getVersion();
+        this.parentId = documentType.getDocTypeParentId();
+        this.applicationId = documentType.getApplicationId();
+        this.active = documentType.isDocTypeActive();
+        this.routeDefiningDocumentTypeId = documentType.getRouteDefiningDocumentType().getDocumentTypeId();
+        this.resolvedDocumentHandlerUrl = documentType.getResolvedDocumentHandlerUrl();
+        this.policies = Collections.unmodifiableMap(resolvePolicies(documentType));
+        this.appDocStatusInUse = documentType.isAppDocStatusInUse().booleanValue();
+
+        List<String> statuses = new ArrayList<String>();
+        List<ApplicationDocumentStatus> validStatuses = documentType.getValidApplicationStatuses();
+        if (validStatuses != null) {
+            for (ApplicationDocumentStatus status : validStatuses) {
+                statuses.add(status.getStatusName());
+            }
+        }
+        this.validApplicationStatuses = Collections.unmodifiableList(statuses);
+
+        this.searchableAttributes = toExtensionDefinitions(documentType.getSearchableAttributes());
+        this.customActionListAttributes = toExtensionDefinitions(documentType.getDocumentTypeAttributes(
+                KewApiConstants.ACTION_LIST_ATTRIBUTE_TYPE));
+        this.customizerAttributes = toExtensionDefinitions(documentType.getDocumentTypeAttributes(
+                KewApiConstants.DOCUMENT_SEARCH_CUSTOMIZER_ATTRIBUTE_TYPE));
+
+        List<ProcessDefinition> processDefinitions = new ArrayList<ProcessDefinition>();
+        for (Object process : documentType.getProcesses()) {
+            processDefinitions.add(ProcessDefinition.Builder.create((ProcessDefinitionBo) process).build());
+        }
+        this.processes = Collections.unmodifiableList(processDefinitions);
+    }
+
+    /**
+     * Builds a resolved snapshot of the given document type, walking its parent hierarchy once.
+     *
+     * @param documentType the document type to resolve, may be null
+     * @return the resolved document type, or null if the given document type was null
+     */
+    public static ResolvedDocumentType from(DocumentType documentType) {
+        if (documentType == null) {
+            return null;
+        }
+        return new ResolvedDocumentType(documentType);
+    }
+
+    private static List<ExtensionDefinition> toExtensionDefinitions(List<DocumentTypeAttributeBo> documentTypeAttributes) {
+        List<ExtensionDefinition> attributes = new ArrayList<ExtensionDefinition>();
+        for (DocumentTypeAttributeBo documentTypeAttribute : documentTypeAttributes) {
+            attributes.add(RuleAttribute.to(documentTypeAttribute.getRuleAttribute()));
+        }
+        return Collections.unmodifiableList(attributes);
+    }
+
+    /**
+     * Collects the effective policies for the given document type.  Policies defined closer to the given document
+     * type take precedence over those defined on its ancestors, matching
+     * {@link DocumentType#getPolicyByName(String, Boolean)}.
+     */
+    private static Map<String, ResolvedPolicy> resolvePolicies(DocumentType documentType) {
+        Map<String, ResolvedPolicy> resolved = new LinkedHashMap<String, ResolvedPolicy>();
+        Set<String> visited = new HashSet<String>();
+        boolean inherited = false;
+        DocumentType current = documentType;
+        while (current != null && (current.getDocumentTypeId() == null || visited.add(current.getDocumentTypeId()))) {
+            if (current.getDocumentTypePolicies() != null) {
+                for (DocumentTypePolicy policy : current.getDocumentTypePolicies()) {
+                    if (!resolved.containsKey(policy.getPolicyName())) {
+                        resolved.put(policy.getPolicyName(), new ResolvedPolicy(policy, inherited));
+                    }
+                }
+            }
+            current = current.getParentDocType();
+            inherited = true;
+        }
+        return resolved;
+    }
+
+    public String getDocumentTypeId() {
+        return documentTypeId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public String getParentId() {
+        return parentId;
+    }
+
+    /**
+     * @return the effective application id, inherited from the parent hierarchy or defaulted if not set
+     */
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * @return true if this document type and all of its ancestors are active
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return the id of the document type which defines the processes used to route this document type
+     */
+    public String getRouteDefiningDocumentTypeId() {
+        return routeDefiningDocumentTypeId;
+    }
+
+    /**
+     * @return the effective document handler url, inherited from the parent hierarchy and with its variables resolved
+     */
+    public String getResolvedDocumentHandlerUrl() {
+        return resolvedDocumentHandlerUrl;
+    }
+
+    /**
+     * @return an unmodifiable map of policy name to effective policy, including inherited policies
+     */
+    public Map<String, ResolvedPolicy> getPolicies() {
+        return policies;
+    }
+
+    public boolean isPolicyDefined(org.kuali.rice.kew.api.doctype.DocumentTypePolicy policy) {
+        return policies.containsKey(policy.getCode());
+    }
+
+    /**
+     * Returns the effective policy for the given policy type, or null if it is not defined on this document type or
+     * any of its ancestors.
+     */
+    public ResolvedPolicy getPolicy(org.kuali.rice.kew.api.doctype.DocumentTypePolicy policy) {
+        return policies.get(policy.getCode());
+    }
+
+    /**
+     * Returns the effective boolean value of the given policy, or the default value if the policy is not defined.
+     */
+    public boolean getPolicyValue(org.kuali.rice.kew.api.doctype.DocumentTypePolicy policy, boolean defaultValue) {
+        ResolvedPolicy resolvedPolicy = getPolicy(policy);
+        if (resolvedPolicy == null || resolvedPolicy.getPolicyValue() == null) {
+            return defaultValue;
+        }
+        return resolvedPolicy.getPolicyValue().booleanValue();
+    }
+
+    public boolean isAppDocStatusInUse() {
+        return appDocStatusInUse;
+    }
+
+    /**
+     * @return an unmodifiable list of the effective valid application document status names, in sequence order
+     */
+    public List<String> getValidApplicationStatuses() {
+        return validApplicationStatuses;
+    }
+
+    /**
+     * @return an unmodifiable list of the effective searchable attribute definitions
+     */
+    public List<ExtensionDefinition> getSearchableAttributes() {
+        return searchableAttributes;
+    }
+
+    public boolean hasSearchableAttributes() {
+        return !searchableAttributes.isEmpty();
+    }
+
+    /**
+     * Returns the effective action list attribute definition, matching
+     * {@link DocumentType#getCustomActionListRuleAttribute()}.
+     *
+     * @return the action list attribute definition, or null if none is defined on this document type or its ancestors
+     * @throws IllegalStateException if more than one action list attribute is defined
+     */
+    public ExtensionDefinition getCustomActionListAttribute() {
+        if (customActionListAttributes.size() > 1) {
+            throw new IllegalStateException("Encountered more than one ActionListAttribute on this document type: " + name);
+        }
+        if (customActionListAttributes.isEmpty()) {
+            return null;
+        }
+        return customActionListAttributes.get(0);
+    }
+
+    /**
+     * Returns the effective document search customizer attribute definition, matching
+     * {@link DocumentType#getCustomizerAttribute()}.
+     *
+     * @return the customizer attribute definition, or null if none is defined on this document type or its ancestors
+     * @throws IllegalStateException if more than one customizer attribute is defined
+     */
+    public ExtensionDefinition getCustomizerAttribute() {
+        if (customizerAttributes.size() > 1) {
+            throw new IllegalStateException("Encountered more than one DocumentSearchCustomizer attribute on this document type: " + name);
+        }
+        if (customizerAttributes.isEmpty()) {
+            return null;
+        }
+        return customizerAttributes.get(0);
+    }
+
+    /**
+     * @return an unmodifiable list of the effective process definitions, including their route node graphs
+     */
+    public List<ProcessDefinition> getProcesses() {
+        return processes;
+    }
+
+    public ProcessDefinition getPrimaryProcess() {
+        for (ProcessDefinition process : processes) {
+            if (process.isInitial()) {
+                return process;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "ResolvedDocumentType[name=" + name + ", version=" + version + ", documentTypeId=" + documentTypeId + "]";
+    }
+
+    /**
+     * Immutable view of an effective {@link DocumentTypePolicy}.
+     */
+    public static final class ResolvedPolicy implements Serializable {
+
+        private static final long serialVersionUID = -3025816211463281795L;
+
+        private final String policyName;
+        private final Boolean policyValue;
+        private final String policyStringValue;
+        private final boolean inherited;
+
+        ResolvedPolicy(DocumentTypePolicy policy, boolean inherited) {
+            this.policyName = policy.getPolicyName();
+            // inherited policies without an explicit value are treated as enabled, as in DocumentType.getPolicyByName
+            this.policyValue = (inherited && policy.getPolicyValue() == null) ? Boolean.TRUE : policy.getPolicyValue();
+            this.policyStringValue = policy.getPolicyStringValue();
+            this.inherited = inherited;
+        }
+
+        public String getPolicyName() {
+            return policyName;
+        }
+
+        public Boolean getPolicyValue() {
+            return policyValue;
+        }
+
+        public String getPolicyStringValue() {
+            return policyStringValue;
+        }
+
+        public boolean isInherited() {
+            return inherited;
+        }
+    }
+
+}
@@ -17,6 +17,7 @@ package org.kuali.rice.kew.doctype.service;
 
 import org.kuali.rice.core.framework.impex.xml.XmlExporter;
 import org.kuali.rice.kew.api.rule.Rule;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kim.api.permission.Permission;
 import org.springframework.cache.annotation.CacheEvict;
@@ -57,4 +58,29 @@ public interface DocumentTypeService extends DocumentTypeQueryService, XmlExport
      * @return
      */
     DocumentType findByNameCaseInsensitive(String name);
+
+    /**
+     * Returns an immutable snapshot of the current version of the named document type with all of its inheritable
+     * state (policies, application document statuses, searchable attributes and processes) resolved up front.
+     *
+     * <p>Snapshots live in the document type cache and are therefore discarded, on every node, whenever a document
+     * type is saved or versioned; the next call rebuilds them.</p>
+     *
+     * @param name the name of the document type
+     * @return the resolved document type, or null if no current document type exists with the given name
+     * @since 2.5.2
+     */
+    @Cacheable(value= org.kuali.rice.kew.api.doctype.DocumentType.Cache.NAME, key="'{resolved}' + 'name=' + #p0")
+    ResolvedDocumentType findResolvedByName(String name);
+
+    /**
+     * Returns an immutable, fully resolved snapshot of the document type with the given id.  Because every version
+     * of a document type is stored with its own id, this identifies a specific name and version.
+     *
+     * @param documentTypeId the id of the document type
+     * @return the resolved document type, or null if no document type exists with the given id
+     * @since 2.5.2
+     */
+    @Cacheable(value= org.kuali.rice.kew.api.doctype.DocumentType.Cache.NAME, key="'{resolved}' + 'documentTypeId=' + #p0")
+    ResolvedDocumentType findResolvedById(String documentTypeId);
 }
@@ -20,6 +20,7 @@ import org.jdom.Element;
 import org.kuali.rice.core.api.criteria.QueryByCriteria;
 import org.kuali.rice.core.api.criteria.QueryResults;
 import org.kuali.rice.core.api.impex.ExportDataSet;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.doctype.dao.DocumentTypeDAO;
 import org.kuali.rice.kew.doctype.service.DocumentTypeService;
@@ -84,6 +85,14 @@ public class DocumentTypeServiceImpl implements DocumentTypeService {
     	return this.findByName(name, false);
     }
 
+    public ResolvedDocumentType findResolvedByName(String name) {
+        return ResolvedDocumentType.from(findByName(name));
+    }
+
+    public ResolvedDocumentType findResolvedById(String documentTypeId) {
+        return ResolvedDocumentType.from(findById(documentTypeId));
+    }
+
     /**
      * 
      * This method seaches for a DocumentType by document name.
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.engine.simulation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.kuali.rice.core.api.config.property.ConfigContext;
+import org.kuali.rice.kew.actionrequest.ActionRequestValue;
+import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the {@link SimulatedRouteLog} of documents, so that checking whether many principals are in the future
+ * route log of the same document only simulates the route of the document once.
+ *
+ * <p>Each route log is cached against the state of its document: the version and status of the route header, a
+ * hash of the document content, and the id, status and current indicator of each of its action requests.  Once
+ * the document routes, its content is saved, an action is taken or a request is generated or deactivated the
+ * state no longer matches, so the next check simulates the route again.  Routing rule changes made on this node invalidate the whole cache through
+ * {@link #invalidateAll()}.  Changes which are not visible in the document state, such as rule changes made on
+ * another node or changes to role and group membership, are picked up once cached route logs expire after
+ * {@link KewApiConstants#ROUTE_LOG_SIMULATION_CACHE_EXPIRATION} seconds.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public class RouteLogSimulationCache {
+
+    private final Cache<String, SimulatedRouteLog> cache;
+
+    /**
+     * Creates a cache configured from {@link KewApiConstants#ROUTE_LOG_SIMULATION_CACHE_EXPIRATION} and
+     * {@link KewApiConstants#ROUTE_LOG_SIMULATION_CACHE_SIZE}.
+     */
+    public RouteLogSimulationCache() {
+        this(getConfiguredValue(KewApiConstants.ROUTE_LOG_SIMULATION_CACHE_EXPIRATION,
+                KewApiConstants.DEFAULT_ROUTE_LOG_SIMULATION_CACHE_EXPIRATION), getConfiguredValue(
+                KewApiConstants.ROUTE_LOG_SIMULATION_CACHE_SIZE, KewApiConstants.DEFAULT_ROUTE_LOG_SIMULATION_CACHE_SIZE));
+    }
+
+    /**
+     * @param expirationSeconds the number of seconds a route log is cached for, or 0 to disable caching
+     * @param maximumSize the maximum number of route logs to cache
+     */
+    public RouteLogSimulationCache(long expirationSeconds, long maximumSize) {
+        if (expirationSeconds > 0 && maximumSize > 0) {
+            cache = CacheBuilder.newBuilder().expireAfterWrite(expirationSeconds, TimeUnit.SECONDS).maximumSize(
+                    maximumSize).build();
+        } else {
+            cache = null;
+        }
+    }
+
+    private static long getConfiguredValue(String key, long defaultValue) {
+        if (ConfigContext.getCurrentContextConfig() == null) {
+            return defaultValue;
+        }
+        return ConfigContext.getCurrentContextConfig().getNumericProperty(key, defaultValue);
+    }
+
+    /**
+     * Returns the simulated route log for the current state of the given document, invoking the simulation if it
+     * has not already been cached.  Concurrent requests for the same document state wait for a single simulation.
+     *
+     * @param routeHeader the document to retrieve the route log for
+     * @param actionRequests all action requests of the document
+     * @param flattenNodes whether the simulation flattens nodes
+     * @param simulation simulates the route of the document
+     * @return the simulated route log
+     * @throws Exception if the simulation fails
+     */
+    public SimulatedRouteLog getSimulatedRouteLog(DocumentRouteHeaderValue routeHeader,
+            List<ActionRequestValue> actionRequests, boolean flattenNodes,
+            Callable<SimulatedRouteLog> simulation) throws Exception {
+        if (cache == null) {
+            return simulation.call();
+        }
+
+        String key = routeHeader.getDocumentId() + ":" + flattenNodes + ":" + getDocumentState(routeHeader,
+                actionRequests);
+
+        try {
+            return cache.get(key, simulation);
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        } catch (UncheckedExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (ExecutionError e) {
+            throw (Error) e.getCause();
+        }
+    }
+
+    /**
+     * Discards all cached route logs, for instance because routing rules have changed.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Computes a digest of the state of the document which determines its future route.
+     */
+    protected String getDocumentState(DocumentRouteHeaderValue routeHeader, List<ActionRequestValue> actionRequests) {
+        List<String> requestStates = new ArrayList<String>();
+        if (actionRequests != null) {
+            for (ActionRequestValue actionRequest : actionRequests) {
+                requestStates.add(actionRequest.getActionRequestId() + ":" + actionRequest.getStatus() + ":"
+                        + actionRequest.getCurrentIndicator());
+            }
+        }
+        Collections.sort(requestStates);
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putUnencodedChars(String.valueOf(routeHeader.getVersionNumber()));
+        hasher.putUnencodedChars(":" + routeHeader.getDocRouteStatus());
+
+        // content changes are saved without a new route header version, and rules may route on the content
+        String docContent = routeHeader.getDocContent();
+        hasher.putUnencodedChars(":" + (docContent == null ? "" : docContent));
+        for (String requestState : requestStates) {
+            hasher.putUnencodedChars("|" + requestState);
+        }
+
+        return hasher.hash().toString();
+    }
+
+}
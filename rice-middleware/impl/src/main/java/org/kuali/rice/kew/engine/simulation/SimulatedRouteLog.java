@@ -0,0 +1,158 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.engine.simulation;
+
+import org.kuali.rice.kew.actionrequest.ActionRequestValue;
+import org.kuali.rice.kim.api.services.KimApiServiceLocator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The future recipients of a document, as determined by simulating its route to completion.
+ *
+ * <p>Only the principals and groups which the simulated action requests (including any child requests) were
+ * routed to are kept, grouped by the name of the node which generated the request, so the result is small enough to
+ * be cached by the {@link RouteLogSimulationCache} and checking whether a principal is in the future route log
+ * does not require walking the request graphs again.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public final class SimulatedRouteLog {
+
+    private final Map<String, Set<String>> principalIdsByNodeName;
+    private final Map<String, Set<String>> groupIdsByNodeName;
+    private final Set<String> principalIds;
+    private final Set<String> groupIds;
+
+    private SimulatedRouteLog(Map<String, Set<String>> principalIdsByNodeName,
+            Map<String, Set<String>> groupIdsByNodeName) {
+        this.principalIdsByNodeName = unmodifiable(principalIdsByNodeName);
+        this.groupIdsByNodeName = unmodifiable(groupIdsByNodeName);
+        this.principalIds = Collections.unmodifiableSet(union(principalIdsByNodeName));
+        this.groupIds = Collections.unmodifiableSet(union(groupIdsByNodeName));
+    }
+
+    /**
+     * Creates the route log for the action requests generated by a simulation.
+     *
+     * @param simulatedActionRequests the simulated action requests
+     * @return the route log of the recipients of the requests
+     */
+    public static SimulatedRouteLog create(List<ActionRequestValue> simulatedActionRequests) {
+        Map<String, Set<String>> principalIdsByNodeName = new HashMap<String, Set<String>>();
+        Map<String, Set<String>> groupIdsByNodeName = new HashMap<String, Set<String>>();
+
+        if (simulatedActionRequests != null) {
+            for (ActionRequestValue actionRequest : simulatedActionRequests) {
+                String nodeName = actionRequest.getNodeInstance() == null ? null :
+                        actionRequest.getNodeInstance().getName();
+                addRecipients(actionRequest, nodeName, principalIdsByNodeName, groupIdsByNodeName);
+            }
+        }
+
+        return new SimulatedRouteLog(principalIdsByNodeName, groupIdsByNodeName);
+    }
+
+    private static void addRecipients(ActionRequestValue actionRequest, String nodeName,
+            Map<String, Set<String>> principalIdsByNodeName, Map<String, Set<String>> groupIdsByNodeName) {
+        if (actionRequest.isReviewerUser() && actionRequest.getPrincipalId() != null) {
+            add(principalIdsByNodeName, nodeName, actionRequest.getPrincipalId());
+        } else if (actionRequest.isGroupRequest() && actionRequest.getGroupId() != null) {
+            add(groupIdsByNodeName, nodeName, actionRequest.getGroupId());
+        }
+
+        for (ActionRequestValue childRequest : actionRequest.getChildrenRequests()) {
+            addRecipients(childRequest, nodeName, principalIdsByNodeName, groupIdsByNodeName);
+        }
+    }
+
+    private static void add(Map<String, Set<String>> idsByNodeName, String nodeName, String id) {
+        Set<String> ids = idsByNodeName.get(nodeName);
+        if (ids == null) {
+            ids = new HashSet<String>();
+            idsByNodeName.put(nodeName, ids);
+        }
+        ids.add(id);
+    }
+
+    private static Map<String, Set<String>> unmodifiable(Map<String, Set<String>> idsByNodeName) {
+        Map<String, Set<String>> unmodifiable = new HashMap<String, Set<String>>();
+        for (Map.Entry<String, Set<String>> entry : idsByNodeName.entrySet()) {
+            unmodifiable.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(unmodifiable);
+    }
+
+    private static Set<String> union(Map<String, Set<String>> idsByNodeName) {
+        Set<String> union = new HashSet<String>();
+        for (Set<String> ids : idsByNodeName.values()) {
+            union.addAll(ids);
+        }
+        return union;
+    }
+
+    /**
+     * Indicates whether the given principal would receive any of the simulated requests, either directly or as a
+     * member of a group the request was routed to.
+     *
+     * @param principalId the id of the principal to check
+     * @return true if the principal is a future recipient of the document
+     */
+    public boolean isRecipient(String principalId) {
+        if (principalIds.contains(principalId)) {
+            return true;
+        }
+
+        for (String groupId : groupIds) {
+            if (KimApiServiceLocator.getGroupService().isMemberOfGroup(principalId, groupId)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the ids of the principals the simulated requests were routed to, keyed by the name of the node which
+     * generated the request
+     */
+    public Map<String, Set<String>> getPrincipalIdsByNodeName() {
+        return principalIdsByNodeName;
+    }
+
+    /**
+     * @return the ids of the groups the simulated requests were routed to, keyed by the name of the node which
+     * generated the request
+     */
+    public Map<String, Set<String>> getGroupIdsByNodeName() {
+        return groupIdsByNodeName;
+    }
+
+    public Set<String> getPrincipalIds() {
+        return principalIds;
+    }
+
+    public Set<String> getGroupIds() {
+        return groupIds;
+    }
+
+}
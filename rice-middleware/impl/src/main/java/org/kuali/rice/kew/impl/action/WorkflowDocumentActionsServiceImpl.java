@@ -61,11 +61,14 @@ import org.kuali.rice.kew.api.document.attribute.DocumentAttributeIndexingQueue;
 import org.kuali.rice.kew.api.document.attribute.WorkflowAttributeDefinition;
 import org.kuali.rice.kew.api.exception.WorkflowException;
 import org.kuali.rice.kew.definition.AttributeDefinition;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.dto.DTOConverter;
 import org.kuali.rice.kew.engine.ActivationContext;
 import org.kuali.rice.kew.engine.node.RouteNode;
 import org.kuali.rice.kew.engine.node.RouteNodeInstance;
+import org.kuali.rice.kew.engine.simulation.RouteLogSimulationCache;
+import org.kuali.rice.kew.engine.simulation.SimulatedRouteLog;
 import org.kuali.rice.kew.engine.simulation.SimulationCriteria;
 import org.kuali.rice.kew.engine.simulation.SimulationResults;
 import org.kuali.rice.kew.engine.simulation.SimulationWorkflowEngine;
@@ -85,6 +88,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 /**
  * Reference implementation of the {@link WorkflowDocumentActionsService} api.
@@ -97,6 +101,7 @@ public class WorkflowDocumentActionsServiceImpl implements WorkflowDocumentActio
     private static final Logger LOG = Logger.getLogger(WorkflowDocumentActionsServiceImpl.class);
 
     private DocumentTypeService documentTypeService;
+    private RouteLogSimulationCache routeLogSimulationCache;
 
     private static final DocumentActionCallback ACKNOWLEDGE_CALLBACK = new StandardDocumentActionCallback() {
         public DocumentRouteHeaderValue doInDocumentBo(DocumentRouteHeaderValue documentBo, String principalId,
@@ -787,8 +792,9 @@ public class WorkflowDocumentActionsServiceImpl implements WorkflowDocumentActio
     public void initiateIndexing(String documentId) {
         incomingParamCheck(documentId, "documentId");
         DocumentRouteHeaderValue documentBo = KEWServiceLocator.getRouteHeaderService().getRouteHeader(documentId);
-        if (documentBo.getDocumentType().hasSearchableAttributes()) {
-            DocumentAttributeIndexingQueue queue = KewApiServiceLocator.getDocumentAttributeIndexingQueue(documentBo.getDocumentType().getApplicationId());
+        ResolvedDocumentType documentType = documentBo.getResolvedDocumentType();
+        if (documentType.hasSearchableAttributes()) {
+            DocumentAttributeIndexingQueue queue = KewApiServiceLocator.getDocumentAttributeIndexingQueue(documentType.getApplicationId());
             queue.indexDocument(documentId);
         }
     }
@@ -1223,7 +1229,7 @@ public class WorkflowDocumentActionsServiceImpl implements WorkflowDocumentActio
     }
 
     @Override
-    public boolean isUserInRouteLogWithOptionalFlattening(String documentId, String principalId, boolean lookFuture, boolean flattenNodes) {
+    public boolean isUserInRouteLogWithOptionalFlattening(final String documentId, String principalId, boolean lookFuture, final boolean flattenNodes) {
         incomingParamCheck(documentId, "documentId");
         incomingParamCheck(principalId, "principalId");
         boolean authorized = false;
@@ -1258,18 +1264,22 @@ public class WorkflowDocumentActionsServiceImpl implements WorkflowDocumentActio
         	return authorized;
         }
 
-
-        SimulationWorkflowEngine simulationEngine = KEWServiceLocator.getSimulationEngine();
-        SimulationCriteria criteria = SimulationCriteria.createSimulationCritUsingDocumentId(documentId);
-        criteria.setDestinationNodeName(null); // process entire document to conclusion
-        criteria.getDestinationRecipients().add(new KimPrincipalRecipient(principal));
-        criteria.setFlattenNodes(flattenNodes);
-
         try {
-        	SimulationResults results = simulationEngine.runSimulation(criteria);
-        	if (actionRequestListHasPrincipal(principal, results.getSimulatedActionRequests())) {
-        		authorized = true;
-        	}
+            SimulatedRouteLog routeLog;
+            if (routeLogSimulationCache == null) {
+                routeLog = simulateRouteLog(documentId, flattenNodes);
+            } else {
+                routeLog = routeLogSimulationCache.getSimulatedRouteLog(routeHeader, actionRequests, flattenNodes,
+                        new Callable<SimulatedRouteLog>() {
+                            @Override
+                            public SimulatedRouteLog call() throws Exception {
+                                return simulateRouteLog(documentId, flattenNodes);
+                            }
+                        });
+            }
+            if (routeLog.isRecipient(principal.getPrincipalId())) {
+                authorized = true;
+            }
         } catch (Exception e) {
         	throw new RiceRuntimeException(e);
         }
@@ -1277,6 +1287,20 @@ public class WorkflowDocumentActionsServiceImpl implements WorkflowDocumentActio
         return authorized;
     }
 
+    /**
+     * Simulates the route of the document to its conclusion.  The simulation is not stopped once any particular
+     * principal is found, so the resulting route log can answer route log checks for every principal.
+     */
+    private SimulatedRouteLog simulateRouteLog(String documentId, boolean flattenNodes) throws Exception {
+        SimulationWorkflowEngine simulationEngine = KEWServiceLocator.getSimulationEngine();
+        SimulationCriteria criteria = SimulationCriteria.createSimulationCritUsingDocumentId(documentId);
+        criteria.setDestinationNodeName(null); // process entire document to conclusion
+        criteria.setFlattenNodes(flattenNodes);
+
+        SimulationResults results = simulationEngine.runSimulation(criteria);
+        return SimulatedRouteLog.create(results.getSimulatedActionRequests());
+    }
+
     private boolean actionRequestListHasPrincipal(Principal principal, List<ActionRequestValue> actionRequests) {
         for (ActionRequestValue actionRequest : actionRequests) {
             if (actionRequest.isRecipientRoutedRequest(new KimPrincipalRecipient(principal))) {
@@ -1362,6 +1386,14 @@ public class WorkflowDocumentActionsServiceImpl implements WorkflowDocumentActio
         this.documentTypeService = documentTypeService;
     }
 
+    /**
+     * Sets the cache used to share simulated future route logs between route log checks for the same document.
+     * If no cache is set, each check which looks into the future simulates the route of the document.
+     */
+    public void setRouteLogSimulationCache(RouteLogSimulationCache routeLogSimulationCache) {
+        this.routeLogSimulationCache = routeLogSimulationCache;
+    }
+
     /**
      * TODO - this code is temporary until we get rid of all the crazy throwing of
      * "WorkflowException"
@@ -17,11 +17,14 @@ package org.kuali.rice.kew.impl.actionlist;
 
 import org.apache.commons.lang.StringUtils;
 import org.kuali.rice.core.api.exception.RiceIllegalArgumentException;
+import org.kuali.rice.core.api.exception.RiceRemoteServiceConnectionException;
 import org.kuali.rice.kew.actionlist.CustomActionListAttribute;
 import org.kuali.rice.kew.actionlist.DefaultCustomActionListAttribute;
 import org.kuali.rice.kew.api.action.ActionItem;
 import org.kuali.rice.kew.api.action.ActionItemCustomization;
-import org.kuali.rice.kew.doctype.bo.DocumentType;
+import org.kuali.rice.kew.api.extension.ExtensionDefinition;
+import org.kuali.rice.kew.api.extension.ExtensionUtils;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.service.DocumentTypeService;
 import org.kuali.rice.kew.framework.actionlist.ActionListCustomizationHandlerService;
 
@@ -54,12 +57,11 @@ public class ActionListCustomizationHandlerServiceImpl implements ActionListCust
                 new ArrayList<ActionItemCustomization>(actionItems.size());
 
         for (ActionItem actionItem : actionItems) {
-            DocumentType documentType = getDocumentTypeService().findByName(actionItem.getDocName());
-
             try { // try to get the custom action list attribute and convert it to an ActionItemCustomization
+                ResolvedDocumentType documentType = getDocumentTypeService().findResolvedByName(actionItem.getDocName());
                 CustomActionListAttribute customActionListAttribute = null;
                 if (documentType != null) {
-                    customActionListAttribute = documentType.getCustomActionListAttribute();
+                    customActionListAttribute = loadCustomActionListAttribute(documentType);
                 }
 
                 if (customActionListAttribute == null) {
@@ -81,6 +83,27 @@ public class ActionListCustomizationHandlerServiceImpl implements ActionListCust
         return actionItemCustomizations;
     }
 
+    /**
+     * Loads the custom action list attribute of a document type, using the attribute definition cached with the
+     * resolved document type.
+     *
+     * @param documentType the resolved document type
+     * @return the custom action list attribute, or null if none is defined or it could not be loaded
+     */
+    protected CustomActionListAttribute loadCustomActionListAttribute(ResolvedDocumentType documentType) {
+        ExtensionDefinition extensionDefinition = documentType.getCustomActionListAttribute();
+        if (extensionDefinition == null) {
+            return null;
+        }
+
+        try {
+            return ExtensionUtils.loadExtension(extensionDefinition, extensionDefinition.getApplicationId());
+        } catch (RiceRemoteServiceConnectionException e) {
+            LOG.warn("Unable to connect to load custom action list attribute for " + extensionDefinition, e);
+            return null;
+        }
+    }
+
     public DocumentTypeService getDocumentTypeService() {
         return documentTypeService;
     }
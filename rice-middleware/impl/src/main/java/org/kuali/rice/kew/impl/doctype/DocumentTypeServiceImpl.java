@@ -24,8 +24,8 @@ import org.kuali.rice.kew.api.doctype.DocumentTypeService;
 import org.kuali.rice.kew.api.doctype.ProcessDefinition;
 import org.kuali.rice.kew.api.doctype.RoutePath;
 import org.kuali.rice.kew.api.document.node.RouteNodeInstance;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.dao.DocumentTypeDAO;
-import org.kuali.rice.kew.engine.node.ProcessDefinitionBo;
 import org.kuali.rice.kew.engine.node.RouteNode;
 import org.kuali.rice.kew.service.KEWServiceLocator;
 import org.kuali.rice.krad.data.DataObjectService;
@@ -284,13 +284,12 @@ public class DocumentTypeServiceImpl implements DocumentTypeService {
         if (StringUtils.isBlank(documentTypeId)) {
             throw new RiceIllegalArgumentException("documentTypeId was null or blank");
         }
-        org.kuali.rice.kew.doctype.bo.DocumentType docType = KEWServiceLocator.getDocumentTypeService().findById(documentTypeId);
+        ResolvedDocumentType docType = KEWServiceLocator.getDocumentTypeService().findResolvedById(documentTypeId);
         if (docType == null) {
             return null;
         }
         RoutePath.Builder builder = RoutePath.Builder.create();
-        List<ProcessDefinitionBo> processes = docType.getProcesses();
-        for (ProcessDefinitionBo process : processes) {
+        for (ProcessDefinition process : docType.getProcesses()) {
             builder.getProcessDefinitions().add(ProcessDefinition.Builder.create(process));
         }
         return builder.build();
@@ -301,13 +300,12 @@ public class DocumentTypeServiceImpl implements DocumentTypeService {
         if (StringUtils.isBlank(documentTypeName)) {
             throw new RiceIllegalArgumentException("documentTypeName was null or blank");
         }
-        org.kuali.rice.kew.doctype.bo.DocumentType docType = KEWServiceLocator.getDocumentTypeService().findByName(documentTypeName);
+        ResolvedDocumentType docType = KEWServiceLocator.getDocumentTypeService().findResolvedByName(documentTypeName);
         if (docType == null) {
             return null;
         }
         RoutePath.Builder builder = RoutePath.Builder.create();
-        List<ProcessDefinitionBo> processes = docType.getProcesses();
-        for (ProcessDefinitionBo process : processes) {
+        for (ProcessDefinition process : docType.getProcesses()) {
             builder.getProcessDefinitions().add(ProcessDefinition.Builder.create(process));
         }
         return builder.build();
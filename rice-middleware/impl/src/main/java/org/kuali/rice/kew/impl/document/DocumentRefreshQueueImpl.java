@@ -17,14 +17,30 @@ package org.kuali.rice.kew.impl.document;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
+import org.kuali.rice.core.api.config.CoreConfigHelper;
+import org.kuali.rice.core.api.config.property.ConfigContext;
 import org.kuali.rice.core.api.exception.RiceIllegalArgumentException;
 import org.kuali.rice.kew.actionrequest.ActionRequestValue;
 import org.kuali.rice.kew.actionrequest.service.ActionRequestService;
 import org.kuali.rice.kew.actionrequest.service.impl.NotificationSuppression;
+import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.api.KewApiServiceLocator;
 import org.kuali.rice.kew.api.document.DocumentRefreshQueue;
 import org.kuali.rice.kew.api.WorkflowRuntimeException;
 import org.kuali.rice.kew.engine.OrchestrationConfig;
@@ -34,6 +50,10 @@ import org.kuali.rice.kew.engine.node.RouteNodeInstance;
 import org.kuali.rice.kew.engine.node.service.RouteNodeService;
 import org.kuali.rice.kew.service.KEWServiceLocator;
 import org.kuali.rice.kew.util.PerformanceLogger;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 /**
@@ -43,11 +63,19 @@ import org.kuali.rice.kew.util.PerformanceLogger;
  * which ActionRequestS will be regenerated. 
  * 
  * <p>Intended to be called async and wired that way in server/client spring beans.</p>
+ *
+ * <p>Batches of documents passed to {@link #refreshDocuments(java.util.List)} are refreshed concurrently, each in
+ * its own transaction, by at most {@link KewApiConstants#DOCUMENT_REFRESH_MAX_THREADS} threads.  When only one thread
+ * is configured, or the batch holds a single document, the documents are refreshed one after the other in the
+ * transaction of the refresh message itself.  A document which appears more than once in a batch is only refreshed
+ * once, and starting the refresh of a document clears its {@link PendingDocumentRefreshes pending mark}.</p>
  * 
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public class DocumentRefreshQueueImpl implements DocumentRefreshQueue {
-	
+
+    private static final Logger LOG = Logger.getLogger(DocumentRefreshQueueImpl.class);
+
 	private RouteHelper helper = new RouteHelper();
     
 	/**
@@ -62,6 +90,155 @@ public class DocumentRefreshQueueImpl implements DocumentRefreshQueue {
         }
 
         PerformanceLogger performanceLogger = new PerformanceLogger();
+        requeueDocument(documentId);
+        performanceLogger.log("Time to run DocumentRequeuer for document " + documentId);
+	}
+
+    /**
+     * Refreshes each of the given documents.  When the documents are refreshed concurrently, each is refreshed in its
+     * own transaction and the documents which fail to refresh are requeued individually through
+     * {@link #refreshDocument(String)}, so that they are retried (and ultimately put into exception routing) just as
+     * if they had been queued on their own.  When the documents are refreshed one after the other they share the
+     * transaction of the refresh message, so a failure rolls back the whole batch and the message is retried.
+     *
+     * @see org.kuali.rice.kew.api.document.DocumentRefreshQueue#refreshDocuments(java.util.List)
+     */
+    @Override
+    public void refreshDocuments(List<String> documentIds) {
+        if (documentIds == null) {
+            throw new RiceIllegalArgumentException("documentIds is null");
+        }
+
+        PerformanceLogger performanceLogger = new PerformanceLogger();
+        List<String> documentIdsToRefresh = new ArrayList<String>();
+        for (String documentId : new LinkedHashSet<String>(documentIds)) {
+            if (StringUtils.isNotBlank(documentId)) {
+                documentIdsToRefresh.add(documentId);
+            }
+        }
+        if (LOG.isDebugEnabled() && documentIdsToRefresh.size() < documentIds.size()) {
+            LOG.debug("Skipping " + (documentIds.size() - documentIdsToRefresh.size())
+                    + " documents which are blank or duplicated");
+        }
+
+        int maxThreads = getMaxThreads();
+        if (maxThreads <= 1 || documentIdsToRefresh.size() <= 1) {
+            refreshInCurrentTransaction(documentIdsToRefresh);
+            performanceLogger.log("Time to run DocumentRequeuer for " + documentIdsToRefresh.size() + " documents");
+            return;
+        }
+
+        List<String> failedDocumentIds = refreshConcurrently(documentIdsToRefresh, maxThreads);
+
+        for (String documentId : failedDocumentIds) {
+            KewApiServiceLocator.getDocumentRequeuerService(CoreConfigHelper.getApplicationId(), documentId, 0)
+                    .refreshDocument(documentId);
+        }
+        performanceLogger.log("Time to run DocumentRequeuer for " + documentIdsToRefresh.size() + " documents, "
+                + failedDocumentIds.size() + " of which were requeued individually");
+    }
+
+    /**
+     * Submits the refresh of each document to the shared refresh executor and waits for all of them to complete.
+     *
+     * @param documentIds the ids of the documents to refresh
+     * @param maxThreads the currently configured size of the shared refresh executor
+     * @return the ids of the documents which could not be refreshed
+     */
+    private List<String> refreshConcurrently(List<String> documentIds, int maxThreads) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ThreadPoolExecutor executor = RefreshExecutorHolder.getExecutor(maxThreads);
+        Map<String, Future<Boolean>> refreshes = new LinkedHashMap<String, Future<Boolean>>();
+        for (final String documentId : documentIds) {
+            refreshes.put(documentId, executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    Thread thread = Thread.currentThread();
+                    ClassLoader originalClassLoader = thread.getContextClassLoader();
+                    thread.setContextClassLoader(contextClassLoader);
+                    try {
+                        return refreshInNewTransaction(documentId);
+                    } finally {
+                        thread.setContextClassLoader(originalClassLoader);
+                    }
+                }
+            }));
+        }
+
+        List<String> failedDocumentIds = new ArrayList<String>();
+        boolean interrupted = false;
+        for (Map.Entry<String, Future<Boolean>> refresh : refreshes.entrySet()) {
+            try {
+                if (interrupted) {
+                    // only documents whose refresh never started need to be requeued
+                    if (refresh.getValue().cancel(false)) {
+                        failedDocumentIds.add(refresh.getKey());
+                    }
+                } else if (!refresh.getValue().get()) {
+                    failedDocumentIds.add(refresh.getKey());
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                if (refresh.getValue().cancel(false)) {
+                    failedDocumentIds.add(refresh.getKey());
+                }
+            } catch (ExecutionException e) {
+                LOG.error("Failed to refresh document " + refresh.getKey(), e.getCause());
+                failedDocumentIds.add(refresh.getKey());
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return failedDocumentIds;
+    }
+
+    /**
+     * Refreshes the given documents one after the other, joining the current transaction if there is one.
+     */
+    private void refreshInCurrentTransaction(final List<String> documentIds) {
+        TransactionTemplate template = new TransactionTemplate(KEWServiceLocator.getPlatformTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        template.execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                for (String documentId : documentIds) {
+                    requeueDocument(documentId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Refreshes the given document in a new transaction, so that a failure only rolls back the refresh of that one
+     * document.  Only used by the threads of the shared refresh executor, which never run inside the transaction of
+     * the refresh message.
+     *
+     * @return true if the document was refreshed, false if the refresh failed
+     */
+    private boolean refreshInNewTransaction(final String documentId) {
+        TransactionTemplate template = new TransactionTemplate(KEWServiceLocator.getPlatformTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            template.execute(new TransactionCallbackWithoutResult() {
+                @Override
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    requeueDocument(documentId);
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            LOG.error("Failed to refresh document " + documentId + ", it will be requeued individually", e);
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the pending route module requests at the active nodes of the document and sends it back through those
+     * nodes so that the requests are regenerated.
+     */
+    private void requeueDocument(String documentId) {
+        PendingDocumentRefreshes.clear(documentId);
         KEWServiceLocator.getRouteHeaderService().lockRouteHeader(documentId);
         Collection<RouteNodeInstance> activeNodes = getRouteNodeService().getActiveNodeInstances(documentId);
         List<ActionRequestValue> requestsToDelete = new ArrayList<ActionRequestValue>();
@@ -106,8 +283,12 @@ public class DocumentRefreshQueueImpl implements DocumentRefreshQueue {
         } catch (Exception e) {
         	throw new WorkflowRuntimeException(e);
         }
-        performanceLogger.log("Time to run DocumentRequeuer for document " + documentId);	
-	}
+    }
+
+    private static int getMaxThreads() {
+        return (int) ConfigContext.getCurrentContextConfig().getNumericProperty(
+                KewApiConstants.DOCUMENT_REFRESH_MAX_THREADS, KewApiConstants.DEFAULT_DOCUMENT_REFRESH_MAX_THREADS);
+    }
 
     private ActionRequestService getActionRequestService() {
         return KEWServiceLocator.getActionRequestService();
@@ -116,4 +297,44 @@ public class DocumentRefreshQueueImpl implements DocumentRefreshQueue {
     private RouteNodeService getRouteNodeService() {
         return KEWServiceLocator.getRouteNodeService();
     }
+
+    /**
+     * Lazily creates the executor shared by all batched refreshes on this node, which bounds the number of documents
+     * refreshed at once regardless of how many refresh messages are being processed.  The executor is resized when
+     * the configured number of threads changes.
+     */
+    private static final class RefreshExecutorHolder {
+        private static final int INITIAL_THREADS = Math.max(1, getMaxThreads());
+
+        private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(INITIAL_THREADS, INITIAL_THREADS, 60L,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "KEW-DocumentRefresh-" + threadNumber.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+
+        static {
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+
+        /**
+         * Gets the shared executor, resizing it first if the given number of threads differs from its current size.
+         */
+        static synchronized ThreadPoolExecutor getExecutor(int maxThreads) {
+            int threads = Math.max(1, maxThreads);
+            if (threads > EXECUTOR.getMaximumPoolSize()) {
+                EXECUTOR.setMaximumPoolSize(threads);
+                EXECUTOR.setCorePoolSize(threads);
+            } else if (threads < EXECUTOR.getMaximumPoolSize()) {
+                EXECUTOR.setCorePoolSize(threads);
+                EXECUTOR.setMaximumPoolSize(threads);
+            }
+            return EXECUTOR;
+        }
+    }
 }
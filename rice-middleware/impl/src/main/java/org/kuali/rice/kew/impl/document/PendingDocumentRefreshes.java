@@ -0,0 +1,143 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.impl.document;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps track of the documents for which this node has sent a delayed refresh which has not started yet, so that a
+ * document is not queued for refresh again while an earlier refresh of it is still waiting.  The waiting refresh reads
+ * the rules when it starts, so it picks up any change made in the meantime.
+ *
+ * <p>A document is marked as pending before its refresh is sent and the mark only counts once the sending transaction
+ * commits; it is dropped if that transaction rolls back.  The mark is cleared when the refresh of the document starts
+ * on this node, and otherwise expires once the refresh delay has passed, since a delayed message is never processed
+ * before its delay is up.  This way a document refreshed on another node is never skipped after its refresh may have
+ * started.  Refreshes sent without a delay are never marked.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public final class PendingDocumentRefreshes {
+
+    private static final ConcurrentMap<String, PendingRefresh> PENDING_REFRESHES =
+            new ConcurrentHashMap<String, PendingRefresh>();
+
+    private PendingDocumentRefreshes() {
+        throw new UnsupportedOperationException("do not call");
+    }
+
+    /**
+     * Determines whether a committed refresh of the given document is still waiting to start.
+     *
+     * @param documentId the id of the document
+     * @return true if a refresh of the document is pending, false otherwise
+     */
+    public static boolean isPending(String documentId) {
+        PendingRefresh pendingRefresh = PENDING_REFRESHES.get(documentId);
+        if (pendingRefresh == null) {
+            return false;
+        }
+        if (pendingRefresh.isExpired(System.currentTimeMillis())) {
+            PENDING_REFRESHES.remove(documentId, pendingRefresh);
+            return false;
+        }
+        return pendingRefresh.committed;
+    }
+
+    /**
+     * Marks the given documents as pending a refresh which will be sent with the given delay.  Must be called before
+     * the refresh is sent.  The marks count once the current transaction commits, or immediately if there is no
+     * transaction, and are dropped if the transaction rolls back.
+     *
+     * @param documentIds the ids of the documents whose refresh is about to be sent
+     * @param delayMilliseconds the number of milliseconds the refresh will wait before it is processed
+     */
+    public static void markPending(Collection<String> documentIds, long delayMilliseconds) {
+        if (delayMilliseconds <= 0 || documentIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        removeExpired(now);
+
+        final PendingRefresh pendingRefresh = new PendingRefresh(now + delayMilliseconds);
+        final Map<String, PendingRefresh> marked = new HashMap<String, PendingRefresh>();
+        for (String documentId : documentIds) {
+            PENDING_REFRESHES.put(documentId, pendingRefresh);
+            marked.put(documentId, pendingRefresh);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRefresh.committed = true;
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    pendingRefresh.committed = true;
+                } else {
+                    for (Map.Entry<String, PendingRefresh> entry : marked.entrySet()) {
+                        PENDING_REFRESHES.remove(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears the pending mark of the given document, called when its refresh starts.
+     *
+     * @param documentId the id of the document whose refresh is starting
+     */
+    public static void clear(String documentId) {
+        PENDING_REFRESHES.remove(documentId);
+    }
+
+    private static void removeExpired(long now) {
+        for (Iterator<PendingRefresh> iterator = PENDING_REFRESHES.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().isExpired(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A refresh sent by this node, shared by all the documents sent with it.
+     */
+    private static final class PendingRefresh {
+        private final long processAfter;
+        private volatile boolean committed;
+
+        PendingRefresh(long processAfter) {
+            this.processAfter = processAfter;
+        }
+
+        boolean isExpired(long now) {
+            return now >= processAfter;
+        }
+    }
+}
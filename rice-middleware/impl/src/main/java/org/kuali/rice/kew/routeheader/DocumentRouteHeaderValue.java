@@ -41,6 +41,7 @@ import org.kuali.rice.kew.api.util.CodeTranslator;
 import org.kuali.rice.kew.docsearch.DocumentSearchCriteriaEbo;
 import org.kuali.rice.kew.doctype.ApplicationDocumentStatus;
 import org.kuali.rice.kew.doctype.DocumentTypePolicy;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.engine.CompatUtils;
 import org.kuali.rice.kew.engine.node.Branch;
@@ -76,6 +77,7 @@ import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
+import javax.persistence.PostLoad;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
@@ -271,6 +273,11 @@ public class DocumentRouteHeaderValue extends DataObjectBase implements Document
     @Transient private boolean routingReport = false;
     @Transient private List<ActionRequestValue> simulatedActionRequests;
 
+    /**
+     * The route status the document had when it was loaded or last saved, used to count route status changes.
+     */
+    @Transient private String persistedDocRouteStatus;
+
     public Principal getInitiatorPrincipal() {
         // if we are running a simulation, there will be no initiator
         if ( StringUtils.isBlank( getInitiatorWorkflowId() ) ) {
@@ -378,6 +385,16 @@ public class DocumentRouteHeaderValue extends DataObjectBase implements Document
         return KEWServiceLocator.getDocumentTypeService().findById(getDocumentTypeId());
     }
 
+    /**
+     * Returns the cached snapshot of the document type of this document, with its inherited state resolved.
+     *
+     * @return the resolved document type
+     * @since 2.5.2
+     */
+    public ResolvedDocumentType getResolvedDocumentType() {
+        return KEWServiceLocator.getDocumentTypeService().findResolvedById(getDocumentTypeId());
+    }
+
     public java.lang.String getAppDocId() {
         return appDocId;
     }
@@ -427,6 +444,25 @@ public class DocumentRouteHeaderValue extends DataObjectBase implements Document
         this.docRouteStatus = docRouteStatus;
     }
 
+    /**
+     * Returns the route status the document had when it was loaded or last saved.
+     *
+     * @return the persisted route status, or null if the document has not been persisted
+     * @since 2.5.2
+     */
+    public String getPersistedDocRouteStatus() {
+        return persistedDocRouteStatus;
+    }
+
+    public void setPersistedDocRouteStatus(String persistedDocRouteStatus) {
+        this.persistedDocRouteStatus = persistedDocRouteStatus;
+    }
+
+    @PostLoad
+    protected void recordPersistedDocRouteStatus() {
+        this.persistedDocRouteStatus = docRouteStatus;
+    }
+
     public java.lang.String getDocTitle() {
         return docTitle;
     }
@@ -557,14 +593,12 @@ public class DocumentRouteHeaderValue extends DataObjectBase implements Document
     public void updateAppDocStatus(java.lang.String appDocStatus) throws WorkflowRuntimeException{
         //validate against allowable values if defined
         if (appDocStatus != null && appDocStatus.length() > 0 && !appDocStatus.equalsIgnoreCase(this.appDocStatus)){
-            DocumentType documentType = KEWServiceLocator.getDocumentTypeService().findById(this.getDocumentTypeId());
-            if (documentType.getValidApplicationStatuses() != null  && documentType.getValidApplicationStatuses().size() > 0){
-                Iterator<ApplicationDocumentStatus> iter = documentType.getValidApplicationStatuses().iterator();
+            List<String> validApplicationStatuses = getResolvedDocumentType().getValidApplicationStatuses();
+            if (!validApplicationStatuses.isEmpty()){
                 boolean statusValidated = false;
-                while (iter.hasNext())
+                for (String validApplicationStatus : validApplicationStatuses)
                 {
-                    ApplicationDocumentStatus myAppDocStat = iter.next();
-                    if (appDocStatus.compareToIgnoreCase(myAppDocStat.getStatusName()) == 0)
+                    if (appDocStatus.compareToIgnoreCase(validApplicationStatus) == 0)
                     {
                         statusValidated = true;
                         break;
@@ -1268,6 +1302,7 @@ public class DocumentRouteHeaderValue extends DataObjectBase implements Document
             copy.documentContent = documentContent.deepCopy(visited);
         }
         copy.routingReport = routingReport;
+        copy.persistedDocRouteStatus = persistedDocRouteStatus;
         if (initialRouteNodeInstances != null) {
             List<RouteNodeInstance> copies = new ArrayList<RouteNodeInstance>();
             for (RouteNodeInstance routeNodeInstance : initialRouteNodeInstances) {
@@ -20,6 +20,7 @@ import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValue;
 import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValueContent;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +43,14 @@ public interface DocumentRouteHeaderDAO {
 
     Collection<String> findPendingByResponsibilityIds(Set<String> responsibilityIds);
 
+    /**
+     * Finds the documents with pending requests for any of the given responsibilities, along with the id of each
+     * document's type.
+     *
+     * @return a map of document id to document type id
+     */
+    Map<String, String> findPendingDocumentTypeIdsByResponsibilityIds(Set<String> responsibilityIds);
+
     void clearRouteHeaderSearchValues(String documentId);
 
     Collection<SearchableAttributeValue> findSearchableAttributeValues(String documentId);
@@ -34,6 +34,7 @@ import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -147,6 +148,21 @@ public class DocumentRouteHeaderDAOJpa implements DocumentRouteHeaderDAO {
         return query.getResultList();
     }
 
+    @Override
+    public Map<String, String> findPendingDocumentTypeIdsByResponsibilityIds(Set<String> responsibilityIds) {
+        Map<String, String> documentTypeIds = new LinkedHashMap<String, String>();
+        if (responsibilityIds.isEmpty()) {
+            return documentTypeIds;
+        }
+        TypedQuery<Object[]> query = getEntityManager().createNamedQuery(
+                "ActionRequestValue.FindPendingDocumentTypeIdsByResponsibilityIds", Object[].class);
+        query.setParameter("respIds", responsibilityIds);
+        for (Object[] row : query.getResultList()) {
+            documentTypeIds.put((String) row[0], (String) row[1]);
+        }
+        return documentTypeIds;
+    }
+
     public void clearRouteHeaderSearchValues(String documentId) {
 
         Query query = getEntityManager().
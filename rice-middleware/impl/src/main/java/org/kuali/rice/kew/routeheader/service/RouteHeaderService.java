@@ -60,6 +60,14 @@ public interface RouteHeaderService {
 
     Collection findPendingByResponsibilityIds(Set responsibilityIds);
 
+    /**
+     * Finds the documents with pending requests for any of the given responsibilities, along with the id of each
+     * document's type, in a single query.
+     *
+     * @return a map of document id to document type id
+     */
+    Map<String, String> findPendingDocumentTypeIdsByResponsibilityIds(Set<String> responsibilityIds);
+
     Collection findByDocTypeAndAppId(String documentTypeName, String appId);
     
     /**
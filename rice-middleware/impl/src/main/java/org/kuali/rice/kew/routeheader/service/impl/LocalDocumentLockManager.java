@@ -0,0 +1,255 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.routeheader.service.impl;
+
+import org.kuali.rice.core.api.config.property.ConfigContext;
+import org.kuali.rice.kew.api.KewApiConstants;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Serializes the processing of a document within this node before its route header row is locked in the database.
+ *
+ * <p>Documents are locked on one of a fixed number of fair locks, chosen by the document id, and the lock is held until
+ * the current transaction completes, just like the row lock.  Threads processing the same document therefore queue
+ * up in memory, in arrival order, instead of all of them queueing for the row lock in the database.  Only one of
+ * them at a time goes on to lock the row, which only has to wait for other nodes.  The lock is taken inside a
+ * transaction which is already running, so a waiting thread still holds its connection.</p>
+ *
+ * <p>The locks are semaphores rather than thread owned locks, because the transaction may complete, and release the
+ * lock, on a different thread than the one which locked the document, for example when a transaction timeout rolls
+ * it back.  A transaction which locks several documents on the same stripe only takes the stripe once.</p>
+ *
+ * <p>Because unrelated documents can share a lock, waiting for a lock is bounded: once
+ * {@link KewApiConstants#LOCAL_DOCUMENT_LOCK_WAIT} seconds have passed the document is locked in the database without
+ * the local lock, so a stripe shared by two transactions which lock several documents can not deadlock.  The time
+ * spent waiting for locks is recorded in a histogram.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public class LocalDocumentLockManager {
+
+    private static final org.apache.log4j.Logger LOG = org.apache.log4j.Logger.getLogger(LocalDocumentLockManager.class);
+
+    /**
+     * The upper bounds, in milliseconds, of the wait time histogram buckets.  The last bucket holds longer waits.
+     */
+    private static final long[] WAIT_BUCKET_BOUNDS = {1, 10, 100, 1000, 10000};
+
+    private final Semaphore[] stripes;
+    private final long waitMillis;
+
+    private final AtomicLongArray waitCounts = new AtomicLongArray(WAIT_BUCKET_BOUNDS.length + 1);
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Creates a lock manager configured from {@link KewApiConstants#LOCAL_DOCUMENT_LOCK_STRIPES} and
+     * {@link KewApiConstants#LOCAL_DOCUMENT_LOCK_WAIT}.
+     */
+    public LocalDocumentLockManager() {
+        this((int) getConfiguredValue(KewApiConstants.LOCAL_DOCUMENT_LOCK_STRIPES,
+                KewApiConstants.DEFAULT_LOCAL_DOCUMENT_LOCK_STRIPES), getConfiguredValue(
+                KewApiConstants.LOCAL_DOCUMENT_LOCK_WAIT, KewApiConstants.DEFAULT_LOCAL_DOCUMENT_LOCK_WAIT) * 1000);
+    }
+
+    /**
+     * @param stripeCount the number of locks documents are spread over, or 0 to disable local locking
+     * @param waitMillis the number of milliseconds to wait for a lock
+     */
+    public LocalDocumentLockManager(int stripeCount, long waitMillis) {
+        this.stripes = new Semaphore[Math.max(0, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Semaphore(1, true);
+        }
+        this.waitMillis = waitMillis;
+    }
+
+    private static long getConfiguredValue(String key, long defaultValue) {
+        if (ConfigContext.getCurrentContextConfig() == null) {
+            return defaultValue;
+        }
+        return ConfigContext.getCurrentContextConfig().getNumericProperty(key, defaultValue);
+    }
+
+    /**
+     * Locks the given document on this node until the current transaction completes.  Nothing is locked when local
+     * locking is disabled or there is no transaction, since the route header row lock is not held either.
+     *
+     * @param documentId the id of the document to lock
+     * @return true if the document was locked, false if it was not locked or the wait for the lock timed out
+     */
+    public boolean lockForTransaction(String documentId) {
+        if (stripes.length == 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        Semaphore lock = getLock(documentId);
+        HeldLocks heldLocks = getHeldLocks();
+        if (heldLocks != null && heldLocks.locks.contains(lock)) {
+            // the stripe is already held by this transaction
+            recordWait(0);
+            return true;
+        }
+
+        if (!lock(lock, documentId)) {
+            return false;
+        }
+
+        if (heldLocks == null) {
+            heldLocks = new HeldLocks();
+            TransactionSynchronizationManager.registerSynchronization(heldLocks);
+        }
+        heldLocks.locks.add(lock);
+
+        return true;
+    }
+
+    /**
+     * Returns the locks held by the current transaction, or null if it has not locked any document yet.
+     */
+    private HeldLocks getHeldLocks() {
+        for (Object synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof HeldLocks && ((HeldLocks) synchronization).getManager() == this) {
+                return (HeldLocks) synchronization;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the lock stripe of the given document.
+     */
+    protected Semaphore getLock(String documentId) {
+        int hash = documentId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[(hash & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    /**
+     * Acquires the given lock, recording the time waited for it.
+     */
+    protected boolean lock(Semaphore lock, String documentId) {
+        if (lock.tryAcquire()) {
+            recordWait(0);
+            return true;
+        }
+
+        long start = System.currentTimeMillis();
+        boolean locked = false;
+        try {
+            locked = lock.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long waited = System.currentTimeMillis() - start;
+        recordWait(waited);
+
+        if (!locked) {
+            timeouts.incrementAndGet();
+            LOG.warn("Gave up waiting for the local lock of document " + documentId + " after " + waited
+                    + "ms, locking the route header without it");
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("Waited " + waited + "ms for the local lock of document " + documentId);
+        }
+
+        return locked;
+    }
+
+    /**
+     * Releases the given lock, which may be called from any thread.
+     */
+    protected void unlock(Semaphore lock) {
+        lock.release();
+    }
+
+    private void recordWait(long waited) {
+        int bucket = 0;
+        while (bucket < WAIT_BUCKET_BOUNDS.length && waited >= WAIT_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        waitCounts.incrementAndGet(bucket);
+        totalWaitMillis.addAndGet(waited);
+    }
+
+    /**
+     * Returns the number of lock acquisitions by the time waited for the lock, keyed by the upper bound of each bucket
+     * such as "&lt;10ms".
+     *
+     * @return the wait time histogram
+     */
+    public Map<String, Long> getWaitTimeHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<String, Long>();
+        for (int i = 0; i < WAIT_BUCKET_BOUNDS.length; i++) {
+            histogram.put("<" + WAIT_BUCKET_BOUNDS[i] + "ms", waitCounts.get(i));
+        }
+        histogram.put(">=" + WAIT_BUCKET_BOUNDS[WAIT_BUCKET_BOUNDS.length - 1] + "ms",
+                waitCounts.get(WAIT_BUCKET_BOUNDS.length));
+        return histogram;
+    }
+
+    /**
+     * @return the total number of milliseconds waited for locks
+     */
+    public long getTotalWaitMillis() {
+        return totalWaitMillis.get();
+    }
+
+    /**
+     * @return the number of times waiting for a lock timed out
+     */
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * @return the number of locks documents are spread over
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * The locks held by a transaction, which are released when it completes.
+     */
+    private class HeldLocks extends TransactionSynchronizationAdapter {
+
+        final List<Semaphore> locks = new ArrayList<Semaphore>();
+
+        LocalDocumentLockManager getManager() {
+            return LocalDocumentLockManager.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            for (Semaphore lock : locks) {
+                unlock(lock);
+            }
+            locks.clear();
+        }
+    }
+
+}
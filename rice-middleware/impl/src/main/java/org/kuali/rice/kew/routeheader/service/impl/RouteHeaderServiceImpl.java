@@ -29,6 +29,7 @@ import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValueContent;
 import org.kuali.rice.kew.routeheader.dao.DocumentRouteHeaderDAO;
 import org.kuali.rice.kew.routeheader.service.RouteHeaderService;
 import org.kuali.rice.kew.service.KEWServiceLocator;
+import org.kuali.rice.kew.stats.service.impl.DocumentStatusCounter;
 import org.kuali.rice.kim.api.identity.principal.Principal;
 import org.kuali.rice.kim.api.services.KimApiServiceLocator;
 import org.kuali.rice.krad.data.DataObjectService;
@@ -52,6 +53,8 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
 
     private DocumentRouteHeaderDAO routeHeaderDAO;
     private SearchableAttributeDAO searchableAttributeDAO;
+    private LocalDocumentLockManager localDocumentLockManager;
+    private DocumentStatusCounter documentStatusCounter;
 
     private DataObjectService dataObjectService;
 
@@ -87,6 +90,10 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
     }
     
     public void lockRouteHeader(String documentId) {
+        // queue up on this node first so that only one thread per document waits on the database
+        if (localDocumentLockManager != null) {
+            localDocumentLockManager.lockForTransaction(documentId);
+        }
         getRouteHeaderDAO().lockRouteHeader(documentId);
         LOG.debug("Successfully locked document [docId=" + documentId + "]");
     }
@@ -105,6 +112,9 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
             LOG.debug( ExceptionUtils.getStackTrace(new Throwable()) );
         }
         try {
+            // a document which has never been saved has no version number yet
+            boolean created = routeHeader.getVersionNumber() == null;
+            String persistedDocRouteStatus = routeHeader.getPersistedDocRouteStatus();
             // before saving, copy off the document content, since it's transient it will get erased during a JPA merge
             DocumentRouteHeaderValueContent content = routeHeader.getDocumentContent();
             DocumentRouteHeaderValue drvPersisted = dataObjectService.save(routeHeader, PersistenceOption.FLUSH);
@@ -112,6 +122,11 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
             content.setDocumentId(drvPersisted.getDocumentId());
             content = dataObjectService.save(content);
             drvPersisted.setDocumentContent(content);
+            if (created || persistedDocRouteStatus != null) {
+                recordStatusChange(drvPersisted, persistedDocRouteStatus, drvPersisted.getDocRouteStatus());
+            }
+            routeHeader.setPersistedDocRouteStatus(drvPersisted.getDocRouteStatus());
+            drvPersisted.setPersistedDocRouteStatus(drvPersisted.getDocRouteStatus());
             return drvPersisted;
         } catch ( RuntimeException ex ) {
             if ( ex.getCause() instanceof OptimisticLockException) {
@@ -127,6 +142,17 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
 
     public void deleteRouteHeader(DocumentRouteHeaderValue routeHeader) {
         dataObjectService.delete(routeHeader);
+        recordStatusChange(routeHeader, routeHeader.getPersistedDocRouteStatus(), null);
+    }
+
+    /**
+     * Counts a change of the route status of the given document for the document statistics.
+     */
+    protected void recordStatusChange(DocumentRouteHeaderValue routeHeader, String oldStatus, String newStatus) {
+        if (documentStatusCounter != null && routeHeader.getDocumentType() != null) {
+            documentStatusCounter.recordStatusChange(routeHeader.getDocumentType().getName(),
+                    routeHeader.getCreateDate(), oldStatus, newStatus);
+        }
     }
 
     public String getNextDocumentId() {
@@ -137,6 +163,11 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
         return getRouteHeaderDAO().findPendingByResponsibilityIds(responsibilityIds);
     }
 
+    @Override
+    public Map<String, String> findPendingDocumentTypeIdsByResponsibilityIds(Set<String> responsibilityIds) {
+        return getRouteHeaderDAO().findPendingDocumentTypeIdsByResponsibilityIds(responsibilityIds);
+    }
+
     public void clearRouteHeaderSearchValues(String documentId) {
         getRouteHeaderDAO().clearRouteHeaderSearchValues(documentId);
     }
@@ -252,6 +283,21 @@ public class RouteHeaderServiceImpl implements RouteHeaderService {
         this.routeHeaderDAO = routeHeaderDAO;
     }
 
+    public LocalDocumentLockManager getLocalDocumentLockManager() {
+        return localDocumentLockManager;
+    }
+
+    /**
+     * @param localDocumentLockManager locks documents on this node before their route header is locked, if set
+     */
+    public void setLocalDocumentLockManager(LocalDocumentLockManager localDocumentLockManager) {
+        this.localDocumentLockManager = localDocumentLockManager;
+    }
+
+    public void setDocumentStatusCounter(DocumentStatusCounter documentStatusCounter) {
+        this.documentStatusCounter = documentStatusCounter;
+    }
+
 	public List<Timestamp> getSearchableAttributeDateTimeValuesByKey(
 			String documentId, String key) {
 		return getSearchableAttributeDAO().getSearchableAttributeDateTimeValuesByKey(documentId, key);
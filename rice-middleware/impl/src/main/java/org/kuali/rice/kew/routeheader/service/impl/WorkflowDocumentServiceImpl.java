@@ -56,6 +56,7 @@ import org.kuali.rice.kew.api.doctype.IllegalDocumentTypeException;
 import org.kuali.rice.kew.api.document.attribute.DocumentAttributeIndexingQueue;
 import org.kuali.rice.kew.api.exception.InvalidActionTakenException;
 import org.kuali.rice.kew.api.exception.WorkflowException;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.engine.CompatUtils;
 import org.kuali.rice.kew.engine.OrchestrationConfig;
 import org.kuali.rice.kew.engine.OrchestrationConfig.EngineCapability;
@@ -214,8 +215,9 @@ public class WorkflowDocumentServiceImpl implements WorkflowDocumentService {
 	 */
 	protected void indexForSearchAfterActionIfNecessary(DocumentRouteHeaderValue routeHeader) {
 		RouteContext routeContext = RouteContext.getCurrentRouteContext();
-		if (routeHeader.getDocumentType().hasSearchableAttributes() && routeContext.isSearchIndexingRequestedForContext()) {
-            DocumentAttributeIndexingQueue queue = KewApiServiceLocator.getDocumentAttributeIndexingQueue(routeHeader.getDocumentType().getApplicationId());
+		ResolvedDocumentType documentType = routeHeader.getResolvedDocumentType();
+		if (documentType.hasSearchableAttributes() && routeContext.isSearchIndexingRequestedForContext()) {
+            DocumentAttributeIndexingQueue queue = KewApiServiceLocator.getDocumentAttributeIndexingQueue(documentType.getApplicationId());
             queue.indexDocument(routeHeader.getDocumentId());
 		}
 	}
@@ -340,9 +342,10 @@ public class WorkflowDocumentServiceImpl implements WorkflowDocumentService {
  	 	}
 
  	 	RouteContext routeContext = RouteContext.getCurrentRouteContext();
- 	 	if (routeHeader.getDocumentType().hasSearchableAttributes() && !routeContext.isSearchIndexingRequestedForContext()) {
+ 	 	ResolvedDocumentType documentType = routeHeader.getResolvedDocumentType();
+ 	 	if (documentType.hasSearchableAttributes() && !routeContext.isSearchIndexingRequestedForContext()) {
  	 		routeContext.requestSearchIndexingForContext();
-            DocumentAttributeIndexingQueue queue = KewApiServiceLocator.getDocumentAttributeIndexingQueue(routeHeader.getDocumentType().getApplicationId());
+            DocumentAttributeIndexingQueue queue = KewApiServiceLocator.getDocumentAttributeIndexingQueue(documentType.getApplicationId());
             queue.indexDocument(routeHeader.getDocumentId());
 		}
 		return finish(routeHeader);
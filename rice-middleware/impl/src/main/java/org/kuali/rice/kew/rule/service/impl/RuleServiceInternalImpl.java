@@ -57,6 +57,7 @@ import org.kuali.rice.kew.api.validation.RuleValidationContext;
 import org.kuali.rice.kew.api.validation.ValidationResults;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.doctype.service.DocumentTypeService;
+import org.kuali.rice.kew.engine.simulation.RouteLogSimulationCache;
 import org.kuali.rice.kew.exception.WorkflowServiceErrorException;
 import org.kuali.rice.kew.exception.WorkflowServiceErrorImpl;
 import org.kuali.rice.kew.impl.KewImplConstants;
@@ -103,6 +104,7 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
     private RuleDAO ruleDAO;
     private RuleResponsibilityDAO ruleResponsibilityDAO;
     private DataObjectService dataObjectService;
+    private RouteLogSimulationCache routeLogSimulationCache;
 
     public RuleResponsibilityDAO getRuleResponsibilityDAO() {
         return ruleResponsibilityDAO;
@@ -239,6 +241,7 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
             performanceLogger.log("Saved rule: " + rule.getId());
         }
         getActionRequestService().updateActionRequestsForResponsibilityChange(responsibilityIds);
+        invalidateRouteLogSimulations();
         performanceLogger.log("Time to make current");
     }
 
@@ -313,6 +316,7 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
         if (isGenerateRuleArs) {
             getActionRequestService().updateActionRequestsForResponsibilityChange(responsibilityIds);
         }
+        invalidateRouteLogSimulations();
         performanceLogger.log("Time to make current");
     }
 
@@ -400,9 +404,19 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
                 && org.apache.commons.collections.CollectionUtils.isNotEmpty(responsibilityIds)) {
             getActionRequestService().updateActionRequestsForResponsibilityChange(responsibilityIds);
         }
+        invalidateRouteLogSimulations();
         performanceLogger.log("Time to make current");
     }
 
+    /**
+     * Discards cached future route logs, which may no longer reflect the routing rules.
+     */
+    private void invalidateRouteLogSimulations() {
+        if (routeLogSimulationCache != null) {
+            routeLogSimulationCache.invalidateAll();
+        }
+    }
+
     private void clearCache(String cacheName) {
         DistributedCacheManagerDecorator distributedCacheManagerDecorator =
                 GlobalResourceLoader.getService(KewImplConstants.KEW_DISTRIBUTED_CACHE_MANAGER);
@@ -752,6 +766,7 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
     @Override
     public void delete(String ruleBaseValuesId) {
         getRuleDAO().delete(ruleBaseValuesId);
+        invalidateRouteLogSimulations();
     }
 
     @Override
@@ -934,6 +949,10 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
         this.ruleDAO = ruleDAO;
     }
 
+    public void setRouteLogSimulationCache(RouteLogSimulationCache routeLogSimulationCache) {
+        this.routeLogSimulationCache = routeLogSimulationCache;
+    }
+
     public RuleDAO getRuleDAO() {
         return ruleDAO;
     }
@@ -941,6 +960,7 @@ public class RuleServiceInternalImpl implements RuleServiceInternal {
     @Override
     public void deleteRuleResponsibilityById(String ruleResponsibilityId) {
         getDataObjectService().delete(ruleResponsibilityId);
+        invalidateRouteLogSimulations();
     }
 
     @Override
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.stats;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.sql.Timestamp;
+
+/**
+ * The number of documents of a document type, created on a given day, which are currently in a given route status.
+ *
+ * <p>These counts are maintained as documents change status, so that the statistics reports do not have to count the
+ * route headers themselves.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+@IdClass(DocumentStatisticId.class)
+@Entity
+@Table(name="KREW_DOC_STAT_T")
+@Cacheable(false)
+public class DocumentStatistic {
+
+    @Id
+    @Column(name="DOC_TYP_NM")
+    private String documentTypeName;
+
+    @Id
+    @Column(name="DOC_HDR_STAT_CD")
+    private String docRouteStatus;
+
+    @Id
+    @Column(name="CRTE_DT")
+    private Timestamp createDate;
+
+    @Column(name="DOC_CNT")
+    private Long documentCount;
+
+    @Version
+    @Column(name="VER_NBR")
+    private Long versionNumber;
+
+    public DocumentStatistic() {}
+
+    public DocumentStatistic(DocumentStatisticId id) {
+        this.documentTypeName = id.getDocumentTypeName();
+        this.docRouteStatus = id.getDocRouteStatus();
+        this.createDate = id.getCreateDate();
+        this.documentCount = 0L;
+    }
+
+    public String getDocumentTypeName() {
+        return documentTypeName;
+    }
+
+    public void setDocumentTypeName(String documentTypeName) {
+        this.documentTypeName = documentTypeName;
+    }
+
+    public String getDocRouteStatus() {
+        return docRouteStatus;
+    }
+
+    public void setDocRouteStatus(String docRouteStatus) {
+        this.docRouteStatus = docRouteStatus;
+    }
+
+    /**
+     * @return the day the documents were created on, at midnight
+     */
+    public Timestamp getCreateDate() {
+        return createDate;
+    }
+
+    public void setCreateDate(Timestamp createDate) {
+        this.createDate = createDate;
+    }
+
+    public Long getDocumentCount() {
+        return documentCount;
+    }
+
+    public void setDocumentCount(Long documentCount) {
+        this.documentCount = documentCount;
+    }
+
+    public Long getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Long versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+}
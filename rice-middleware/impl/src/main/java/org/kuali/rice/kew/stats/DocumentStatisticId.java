@@ -0,0 +1,97 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.stats;
+
+import org.kuali.rice.krad.data.jpa.IdClassBase;
+
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Composite primary key for the {@link DocumentStatistic} class.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public class DocumentStatisticId extends IdClassBase implements Comparable<DocumentStatisticId> {
+
+    private static final long serialVersionUID = 3121693312950235472L;
+
+    private String documentTypeName;
+    private String docRouteStatus;
+    private Timestamp createDate;
+
+    public DocumentStatisticId() {}
+
+    /**
+     * Creates the key of the count of documents of the given type and status which were created on the day of the
+     * given time.
+     *
+     * @param documentTypeName the name of the document type
+     * @param docRouteStatus the route status code
+     * @param createDate the time the documents were created, which is truncated to the day
+     */
+    public DocumentStatisticId(String documentTypeName, String docRouteStatus, Date createDate) {
+        this.documentTypeName = documentTypeName;
+        this.docRouteStatus = docRouteStatus;
+        this.createDate = truncateToDay(createDate);
+    }
+
+    /**
+     * Returns midnight of the day of the given date, in the default time zone.
+     *
+     * @param date the date to truncate
+     * @return the start of the day
+     */
+    public static Timestamp truncateToDay(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return new Timestamp(calendar.getTimeInMillis());
+    }
+
+    public String getDocumentTypeName() {
+        return documentTypeName;
+    }
+
+    public String getDocRouteStatus() {
+        return docRouteStatus;
+    }
+
+    public Timestamp getCreateDate() {
+        return createDate;
+    }
+
+    /**
+     * Orders keys by day, document type and status, which is the order counts are written in.
+     */
+    @Override
+    public int compareTo(DocumentStatisticId o) {
+        int result = createDate.compareTo(o.createDate);
+        if (result == 0) {
+            result = documentTypeName.compareTo(o.documentTypeName);
+        }
+        if (result == 0) {
+            result = docRouteStatus.compareTo(o.docRouteStatus);
+        }
+        return result;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.kuali.rice.kew.stats.dao;
 import java.sql.SQLException;
 import java.util.Date;
 
+import org.kuali.rice.kew.stats.DocumentStatisticId;
 import org.kuali.rice.kew.stats.Stats;
 
 
@@ -29,4 +30,13 @@ public interface StatsDAO {
     public void NumUsersReport(Stats stats) throws SQLException;
     public void NumInitiatedDocsByDocTypeReport(Stats stats) throws SQLException;
 
+    /**
+     * Adds the given number to the count of documents with the given key, which is created if it does not exist yet.
+     *
+     * @param id the key of the document count
+     * @param delta the number of documents to add, negative to remove documents from the count
+     * @since 2.5.2
+     */
+    public void addDocumentCount(DocumentStatisticId id, long delta);
+
 }
@@ -28,6 +28,8 @@ import javax.persistence.Query;
 import org.kuali.rice.core.api.util.ConcreteKeyValue;
 import org.kuali.rice.core.api.util.KeyValue;
 import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.stats.DocumentStatistic;
+import org.kuali.rice.kew.stats.DocumentStatisticId;
 import org.kuali.rice.kew.stats.Stats;
 import org.kuali.rice.kew.stats.dao.StatsDAO;
 
@@ -39,13 +41,13 @@ import org.kuali.rice.kew.stats.dao.StatsDAO;
  */
 public class StatsDaoJpa implements StatsDAO {
 
-    public static final String STATS_DOCUMENTS_ROUTED_REPORT = "select count(drhv) as cnt, drhv.docRouteStatus "
-                            + "from DocumentRouteHeaderValue drhv "
-                            + "where drhv.createDate between :beginDate and :endDate group by drhv.docRouteStatus";
+    public static final String STATS_DOCUMENTS_ROUTED_REPORT = "select sum(ds.documentCount) as cnt, ds.docRouteStatus "
+                            + "from DocumentStatistic ds "
+                            + "where ds.createDate between :beginDate and :endDate group by ds.docRouteStatus";
     public static final String STATS_NUM_ACTIVE_ITEMS_REPORT = "select count(ai) from ActionItem ai";
-    public static final String STATS_NUM_INITIATED_DOCS_BY_DOC_TYPE_REPORT = "select count(drhv), dt.name from "
-            + "DocumentRouteHeaderValue drhv, DocumentType dt where drhv.createDate > :createDate and "
-            + "drhv.documentTypeId = dt.documentTypeId group by dt.name";
+    public static final String STATS_NUM_INITIATED_DOCS_BY_DOC_TYPE_REPORT = "select sum(ds.documentCount), "
+            + "ds.documentTypeName from DocumentStatistic ds where ds.createDate >= :createDate "
+            + "group by ds.documentTypeName having sum(ds.documentCount) > 0";
     public static final String STATS_NUM_USERS_REPORT = "select count(distinct(uo.workflowId)) from UserOptions uo";
     public static final String STATS_NUM_DOC_TYPES_REPORT =
                     "select count(dt) from DocumentType dt where dt.currentInd = true";
@@ -55,7 +57,8 @@ public class StatsDaoJpa implements StatsDAO {
     @Override
 	public void DocumentsRoutedReport(Stats stats, Date begDate, Date endDate) throws SQLException {
         Query query = getEntityManager().createQuery(STATS_DOCUMENTS_ROUTED_REPORT);
-        query.setParameter("beginDate", new Timestamp(begDate.getTime()));
+        // document counts are kept per day of creation
+        query.setParameter("beginDate", DocumentStatisticId.truncateToDay(begDate));
         query.setParameter("endDate", new Timestamp(endDate.getTime()));
 
         @SuppressWarnings("unchecked")
@@ -112,6 +115,18 @@ public class StatsDaoJpa implements StatsDAO {
         stats.setNumInitiatedDocsByDocType(numDocs);
     }
 
+    @Override
+    public void addDocumentCount(DocumentStatisticId id, long delta) {
+        DocumentStatistic statistic = getEntityManager().find(DocumentStatistic.class, id);
+        if (statistic == null) {
+            statistic = new DocumentStatistic(id);
+            statistic.setDocumentCount(delta);
+            getEntityManager().persist(statistic);
+        } else {
+            statistic.setDocumentCount(statistic.getDocumentCount() + delta);
+        }
+    }
+
     @Override
 	public void NumUsersReport(Stats stats) throws SQLException {
         stats.setNumUsers(getEntityManager().createQuery(STATS_NUM_USERS_REPORT).getSingleResult().toString());
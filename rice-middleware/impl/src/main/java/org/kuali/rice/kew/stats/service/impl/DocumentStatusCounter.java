@@ -0,0 +1,298 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.stats.service.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.kuali.rice.core.api.config.property.ConfigContext;
+import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.stats.DocumentStatisticId;
+import org.kuali.rice.kew.stats.dao.StatsDAO;
+import org.kuali.rice.ksb.service.KSBServiceLocator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Counts documents by document type, day of creation and route status as their route status changes.
+ *
+ * <p>Changes are counted in memory once the transaction which made them commits, and the counts collected on this
+ * node are added to the document statistics table every {@link KewApiConstants#DOCUMENT_STATISTICS_FLUSH_INTERVAL}
+ * seconds, so the statistics reports can sum up a small table instead of counting the route headers.  Counts which
+ * fail to be written are kept and written with the next flush.</p>
+ *
+ * <p>The number of status changes seen by this node since it started is also kept, per status and per document type,
+ * as live metrics.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ */
+public class DocumentStatusCounter implements InitializingBean, DisposableBean {
+
+    private static final org.apache.log4j.Logger LOG = org.apache.log4j.Logger.getLogger(DocumentStatusCounter.class);
+
+    private StatsDAO statsDAO;
+    private PlatformTransactionManager transactionManager;
+    private long flushIntervalSeconds = getConfiguredValue(KewApiConstants.DOCUMENT_STATISTICS_FLUSH_INTERVAL,
+            KewApiConstants.DEFAULT_DOCUMENT_STATISTICS_FLUSH_INTERVAL);
+
+    /**
+     * Guards the swap of the unflushed counts, counting takes the read lock so that it never adds to counts which are
+     * already being written.
+     */
+    private final ReadWriteLock unflushedCountsLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentMap<DocumentStatisticId, AtomicLong> unflushedCounts =
+            new ConcurrentHashMap<DocumentStatisticId, AtomicLong>();
+
+    private final ConcurrentMap<String, AtomicLong> statusChangesByStatus = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentMap<String, AtomicLong> statusChangesByDocumentType =
+            new ConcurrentHashMap<String, AtomicLong>();
+    private final AtomicLong flushFailures = new AtomicLong();
+
+    private ScheduledFuture<?> flushFuture;
+
+    private static long getConfiguredValue(String key, long defaultValue) {
+        if (ConfigContext.getCurrentContextConfig() == null) {
+            return defaultValue;
+        }
+        return ConfigContext.getCurrentContextConfig().getNumericProperty(key, defaultValue);
+    }
+
+    /**
+     * Counts a change of the route status of a document once the current transaction commits, or immediately if there
+     * is no transaction.
+     *
+     * @param documentTypeName the name of the document type of the document
+     * @param createDate the time the document was created
+     * @param oldStatus the previous route status, or null if the document was created
+     * @param newStatus the new route status, or null if the document was deleted
+     */
+    public void recordStatusChange(final String documentTypeName, final Date createDate, final String oldStatus,
+            final String newStatus) {
+        if (StringUtils.isBlank(documentTypeName) || createDate == null || StringUtils.equals(oldStatus, newStatus)) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            countStatusChange(documentTypeName, createDate, oldStatus, newStatus);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                countStatusChange(documentTypeName, createDate, oldStatus, newStatus);
+            }
+        });
+    }
+
+    protected void countStatusChange(String documentTypeName, Date createDate, String oldStatus, String newStatus) {
+        unflushedCountsLock.readLock().lock();
+        try {
+            if (oldStatus != null) {
+                addUnflushedCount(new DocumentStatisticId(documentTypeName, oldStatus, createDate), -1);
+            }
+            if (newStatus != null) {
+                addUnflushedCount(new DocumentStatisticId(documentTypeName, newStatus, createDate), 1);
+            }
+        } finally {
+            unflushedCountsLock.readLock().unlock();
+        }
+
+        if (newStatus != null) {
+            increment(statusChangesByStatus, newStatus);
+        }
+        increment(statusChangesByDocumentType, documentTypeName);
+    }
+
+    private void addUnflushedCount(DocumentStatisticId id, long delta) {
+        AtomicLong count = unflushedCounts.get(id);
+        if (count == null) {
+            AtomicLong newCount = new AtomicLong();
+            count = unflushedCounts.putIfAbsent(id, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        count.addAndGet(delta);
+    }
+
+    private static void increment(ConcurrentMap<String, AtomicLong> counts, String key) {
+        AtomicLong count = counts.get(key);
+        if (count == null) {
+            AtomicLong newCount = new AtomicLong();
+            count = counts.putIfAbsent(key, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * Adds the counts collected since the last flush to the document statistics table, in a new transaction.  The
+     * counts are written in key order so that nodes flushing at the same time do not deadlock.
+     */
+    public synchronized void flush() {
+        final SortedMap<DocumentStatisticId, Long> counts = new TreeMap<DocumentStatisticId, Long>();
+        unflushedCountsLock.writeLock().lock();
+        try {
+            for (Map.Entry<DocumentStatisticId, AtomicLong> entry : unflushedCounts.entrySet()) {
+                if (entry.getValue().get() != 0) {
+                    counts.put(entry.getKey(), entry.getValue().get());
+                }
+            }
+            unflushedCounts = new ConcurrentHashMap<DocumentStatisticId, AtomicLong>();
+        } finally {
+            unflushedCountsLock.writeLock().unlock();
+        }
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        try {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            template.execute(new TransactionCallbackWithoutResult() {
+                @Override
+                protected void doInTransactionWithoutResult(TransactionStatus status) {
+                    for (Map.Entry<DocumentStatisticId, Long> count : counts.entrySet()) {
+                        statsDAO.addDocumentCount(count.getKey(), count.getValue());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            flushFailures.incrementAndGet();
+            LOG.warn("Failed to write " + counts.size() + " document counts, they will be written with the next flush",
+                    e);
+            unflushedCountsLock.readLock().lock();
+            try {
+                for (Map.Entry<DocumentStatisticId, Long> count : counts.entrySet()) {
+                    addUnflushedCount(count.getKey(), count.getValue());
+                }
+            } finally {
+                unflushedCountsLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Schedules the periodic flush on the KSB scheduled pool.
+     */
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (flushIntervalSeconds <= 0) {
+            return;
+        }
+
+        flushFuture = KSBServiceLocator.getScheduledPool().scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    flush();
+                } catch (Throwable t) {
+                    LOG.error("Failed to flush document counts", t);
+                }
+            }
+        }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes the remaining counts.
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+        }
+        flush();
+    }
+
+    /**
+     * @return the number of documents which changed to each route status on this node since it started, keyed by
+     * route status code
+     */
+    public Map<String, Long> getStatusChangesByStatus() {
+        return snapshot(statusChangesByStatus);
+    }
+
+    /**
+     * @return the number of route status changes on this node since it started, keyed by document type name
+     */
+    public Map<String, Long> getStatusChangesByDocumentType() {
+        return snapshot(statusChangesByDocumentType);
+    }
+
+    /**
+     * @return the changes to document counts which have not been written to the document statistics table yet
+     */
+    public Map<DocumentStatisticId, Long> getUnflushedCounts() {
+        Map<DocumentStatisticId, Long> counts = new HashMap<DocumentStatisticId, Long>();
+        for (Map.Entry<DocumentStatisticId, AtomicLong> entry : unflushedCounts.entrySet()) {
+            if (entry.getValue().get() != 0) {
+                counts.put(entry.getKey(), entry.getValue().get());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return the number of times writing the document counts failed
+     */
+    public long getFlushFailures() {
+        return flushFailures.get();
+    }
+
+    private static <K> Map<K, Long> snapshot(Map<K, AtomicLong> counts) {
+        Map<K, Long> snapshot = new HashMap<K, Long>();
+        for (Map.Entry<K, AtomicLong> entry : counts.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().get());
+        }
+        return snapshot;
+    }
+
+    public void setStatsDAO(StatsDAO statsDAO) {
+        this.statsDAO = statsDAO;
+    }
+
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public void setFlushIntervalSeconds(long flushIntervalSeconds) {
+        this.flushIntervalSeconds = flushIntervalSeconds;
+    }
+
+}
@@ -26,6 +26,7 @@ import org.kuali.rice.kew.stats.service.StatsService;
 public class StatsServiceImpl implements StatsService {
 
     private StatsDAO statsDAO;
+    private DocumentStatusCounter documentStatusCounter;
 
     @Override
     public void NumActiveItemsReport(Stats stats) throws SQLException {
@@ -34,6 +35,7 @@ public class StatsServiceImpl implements StatsService {
 
     @Override
     public void DocumentsRoutedReport(Stats stats, Date begDate, Date endDate) throws SQLException {
+        flushDocumentCounts();
         getStatsDAO().DocumentsRoutedReport(stats, begDate, endDate);
     }
 
@@ -49,9 +51,19 @@ public class StatsServiceImpl implements StatsService {
 
     @Override
     public void NumInitiatedDocsByDocTypeReport(Stats stats) throws SQLException {
+        flushDocumentCounts();
         getStatsDAO().NumInitiatedDocsByDocTypeReport(stats);
     }
 
+    /**
+     * Writes the document counts collected on this node, so that the reports include its latest status changes.
+     */
+    protected void flushDocumentCounts() {
+        if (documentStatusCounter != null) {
+            documentStatusCounter.flush();
+        }
+    }
+
     public StatsDAO getStatsDAO() {
         return statsDAO;
     }
@@ -59,4 +71,12 @@ public class StatsServiceImpl implements StatsService {
     public void setStatsDAO(StatsDAO statsDAO) {
         this.statsDAO = statsDAO;
     }
+
+    public DocumentStatusCounter getDocumentStatusCounter() {
+        return documentStatusCounter;
+    }
+
+    public void setDocumentStatusCounter(DocumentStatusCounter documentStatusCounter) {
+        this.documentStatusCounter = documentStatusCounter;
+    }
 }
@@ -18,6 +18,7 @@ package org.kuali.rice.kew.xml;
 import org.jdom.Document;
 import org.jdom.Element;
 import org.jdom.JDOMException;
+import org.kuali.rice.core.api.criteria.QueryByCriteria;
 import org.kuali.rice.core.api.util.xml.XmlException;
 import org.kuali.rice.core.api.util.xml.XmlHelper;
 import org.kuali.rice.kew.api.KewApiConstants;
@@ -30,16 +31,23 @@ import org.kuali.rice.kim.api.identity.principal.Principal;
 import org.kuali.rice.kim.api.services.KimApiServiceLocator;
 import org.kuali.rice.kim.api.type.KimType;
 import org.kuali.rice.kim.api.type.KimTypeAttribute;
+import org.kuali.rice.kim.impl.KIMPropertyConstants;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import static org.kuali.rice.core.api.criteria.PredicateFactory.in;
 import static org.kuali.rice.core.api.impex.xml.XmlConstants.*;
 
 
@@ -55,9 +63,11 @@ public class GroupXmlParser {
     private static final org.apache.log4j.Logger LOG = org.apache.log4j.Logger.getLogger(GroupXmlParser.class);
     private static final boolean DEFAULT_ACTIVE_VALUE = true;
     private static final String DEFAULT_GROUP_DESCRIPTION = "";
+    private static final int PRINCIPAL_LOOKUP_BATCH_SIZE = 500;
     private HashMap<String, List<String>> memberGroupIds = new HashMap<String, List<String>>();
     private HashMap<String, List<String>> memberGroupNames = new HashMap<String, List<String>>();
     private HashMap<String, List<String>> memberPrincipalIds = new HashMap<String, List<String>>();
+    private HashMap<String, List<String>> memberPrincipalNames = new HashMap<String, List<String>>();
     private Map<String, String> groupAttributes = new HashMap<String, String>();
 
     public List<Group> parseGroups(InputStream input) throws IOException, XmlException {
@@ -90,6 +100,7 @@ public class GroupXmlParser {
                 groups.add(parseGroup(groupElement));
             }
         }
+        resolvePrincipalMembers();
         for (Group group : groups) {
             GroupService groupService = KimApiServiceLocator.getGroupService();
             // check if group already exists
@@ -121,9 +132,7 @@ public class GroupXmlParser {
                     group = builder.build();
                     groupService.updateGroup(foundGroup.getId(), group);
 
-                    //delete existing group members and replace with new
-                    groupService.removeAllMembers(foundGroup.getId());
-
+                    //replace existing group members with the new ones
                     String key = group.getNamespaceCode().trim() + KewApiConstants.KIM_GROUP_NAMESPACE_NAME_DELIMITER_CHARACTER + group.getName().trim();
                     addGroupMembers(group, key);
 
@@ -177,7 +186,6 @@ public class GroupXmlParser {
         }
 
         Group.Builder groupInfo = Group.Builder.create(groupNamespace, groupName, typeId);
-        IdentityService identityService = KimApiServiceLocator.getIdentityService();
         //groupInfo.setGroupName(element.getChildText(NAME, GROUP_NAMESPACE));
 
         String id = element.getChildText(ID, GROUP_NAMESPACE);
@@ -234,22 +242,13 @@ public class GroupXmlParser {
         }
         for (Element member : members) {
             String elementName = member.getName().trim();
+            // Principals are resolved in batches once all of the groups have been parsed.
             if (elementName.equals(PRINCIPAL_NAME)) {
                 String principalName = member.getText().trim();
-                Principal principal = identityService.getPrincipalByPrincipalName(principalName);
-                if (principal != null) {
-                    addPrincipalToGroup(groupInfo.getNamespaceCode(), groupInfo.getName(), principal.getPrincipalId());
-                } else {
-                    throw new XmlException("Principal Name "+principalName+" cannot be found.");
-                }
+                addPrincipalNameToGroup(groupInfo.getNamespaceCode(), groupInfo.getName(), principalName);
             } else if (elementName.equals(PRINCIPAL_ID)) {
                 String xmlPrincipalId = member.getText().trim();
-                Principal principal = identityService.getPrincipal(xmlPrincipalId);
-                if (principal != null) {
-                    addPrincipalToGroup(groupInfo.getNamespaceCode(), groupInfo.getName(), principal.getPrincipalId());
-                } else {
-                    throw new XmlException("Principal Id "+xmlPrincipalId+" cannot be found.");
-                }
+                addPrincipalToGroup(groupInfo.getNamespaceCode(), groupInfo.getName(), xmlPrincipalId);
             // Groups are handled differently since the member group may not be saved yet.  Therefore they need to be validated after the groups are saved.
             } else if (elementName.equals(GROUP_ID)) {
                 String xmlGroupId = member.getText().trim();
@@ -279,6 +278,16 @@ public class GroupXmlParser {
         memberPrincipalIds.put(key, principalIds);
     }
 
+    private void addPrincipalNameToGroup(String groupNamespace, String groupName, String principalName) {
+        String key = groupNamespace.trim() + KewApiConstants.KIM_GROUP_NAMESPACE_NAME_DELIMITER_CHARACTER + groupName.trim();
+        List<String> principalNames = memberPrincipalNames.get(key);
+        if (principalNames == null) {
+            principalNames = new ArrayList<String>();
+        }
+        principalNames.add(principalName);
+        memberPrincipalNames.put(key, principalNames);
+    }
+
     private void addGroupToGroup(String groupNamespace, String groupName, String groupId) {
         String key = groupNamespace.trim() + KewApiConstants.KIM_GROUP_NAMESPACE_NAME_DELIMITER_CHARACTER + groupName.trim();
         List<String> groupIds = memberGroupIds.get(key);
@@ -299,14 +308,130 @@ public class GroupXmlParser {
         memberGroupNames.put(key, groupNames);
     }
 
+    /**
+     * Verifies that the principals named or identified as members of the parsed groups exist, and records the ids of
+     * those named in {@link #memberPrincipalIds}.
+     *
+     * <p>Principal ids are resolved in batches through {@link IdentityService#getPrincipals(java.util.List)}.
+     * Principal names are first matched in batches against the principal table.  Any names not found there are looked
+     * up one at a time through {@link IdentityService#getPrincipalByPrincipalName(String)}, so that principals which
+     * only exist in an external directory or in the identity archive are still found.</p>
+     *
+     * @throws XmlException if any of the principals cannot be found
+     */
+    private void resolvePrincipalMembers() throws XmlException {
+        IdentityService identityService = KimApiServiceLocator.getIdentityService();
+
+        Set<String> principalIds = new LinkedHashSet<String>();
+        for (List<String> ids : memberPrincipalIds.values()) {
+            principalIds.addAll(ids);
+        }
+        Set<String> foundPrincipalIds = getPrincipalIds(identityService, principalIds);
+        for (String principalId : principalIds) {
+            if (!foundPrincipalIds.contains(principalId)) {
+                throw new XmlException("Principal Id "+principalId+" cannot be found.");
+            }
+        }
+
+        // principal names are matched case insensitively, keep the name as given for the individual lookups
+        Map<String, String> principalNames = new LinkedHashMap<String, String>();
+        for (List<String> names : memberPrincipalNames.values()) {
+            for (String principalName : names) {
+                if (!principalNames.containsKey(principalName.toLowerCase())) {
+                    principalNames.put(principalName.toLowerCase(), principalName);
+                }
+            }
+        }
+        Map<String, String> principalIdsByName = getPrincipalIdsByName(identityService, principalNames);
+        for (Map.Entry<String, List<String>> entry : memberPrincipalNames.entrySet()) {
+            List<String> ids = memberPrincipalIds.get(entry.getKey());
+            if (ids == null) {
+                ids = new ArrayList<String>();
+                memberPrincipalIds.put(entry.getKey(), ids);
+            }
+            for (String principalName : entry.getValue()) {
+                String principalId = principalIdsByName.get(principalName.toLowerCase());
+                if (principalId == null) {
+                    throw new XmlException("Principal Name "+principalName+" cannot be found.");
+                }
+                ids.add(principalId);
+            }
+        }
+        memberPrincipalNames.clear();
+    }
+
+    /**
+     * Looks up the given principal ids in batches.
+     *
+     * @return the ids of the principals found
+     */
+    private Set<String> getPrincipalIds(IdentityService identityService, Collection<String> principalIds) {
+        Set<String> foundPrincipalIds = new HashSet<String>();
+        for (List<String> batch : toBatches(principalIds)) {
+            List<Principal> principals = identityService.getPrincipals(batch);
+            if (principals != null) {
+                for (Principal principal : principals) {
+                    foundPrincipalIds.add(principal.getPrincipalId());
+                }
+            }
+        }
+        return foundPrincipalIds;
+    }
+
+    /**
+     * Looks up the given principal names, first in batches against the principal table, then one at a time for the
+     * names not found there.
+     *
+     * @param principalNames the principal names as given, keyed by their lower case form
+     * @return the ids of the principals found, keyed by the lower case form of their name
+     */
+    private Map<String, String> getPrincipalIdsByName(IdentityService identityService,
+            Map<String, String> principalNames) {
+        Map<String, String> principalIds = new HashMap<String, String>();
+        for (List<String> batch : toBatches(principalNames.keySet())) {
+            QueryByCriteria query = QueryByCriteria.Builder.fromPredicates(in(
+                    KIMPropertyConstants.Principal.PRINCIPAL_NAME, batch));
+            for (Principal principal : identityService.findPrincipals(query).getResults()) {
+                principalIds.put(principal.getPrincipalName().toLowerCase(), principal.getPrincipalId());
+            }
+        }
+
+        for (Map.Entry<String, String> principalName : principalNames.entrySet()) {
+            if (!principalIds.containsKey(principalName.getKey())) {
+                Principal principal = identityService.getPrincipalByPrincipalName(principalName.getValue());
+                if (principal != null) {
+                    principalIds.put(principalName.getKey(), principal.getPrincipalId());
+                }
+            }
+        }
+        return principalIds;
+    }
+
+    private static List<List<String>> toBatches(Collection<String> values) {
+        List<List<String>> batches = new ArrayList<List<String>>();
+        List<String> batch = null;
+        for (String value : values) {
+            if (batch == null || batch.size() == PRINCIPAL_LOOKUP_BATCH_SIZE) {
+                batch = new ArrayList<String>(PRINCIPAL_LOOKUP_BATCH_SIZE);
+                batches.add(batch);
+            }
+            batch.add(value);
+        }
+        return batches;
+    }
+
+    /**
+     * Sets the members of a saved group to the members parsed for it, replacing any existing members.
+     */
     private void addGroupMembers(Group groupInfo, String key) throws XmlException {
         GroupService groupService = KimApiServiceLocator.getGroupService();
+        Set<String> groupMemberIds = new LinkedHashSet<String>();
         List<String> groupIds = memberGroupIds.get(key);
         if (groupIds != null) {
             for (String groupId : groupIds) {
                 Group group = groupService.getGroup(groupId);
                 if (group != null) {
-                    groupService.addGroupToGroup(group.getId(), groupInfo.getId());
+                    groupMemberIds.add(group.getId());
                 } else {
                     throw new XmlException("Group Id "+groupId+" cannot be found.");
                 }
@@ -318,18 +443,18 @@ public class GroupXmlParser {
                 Group group = groupService.getGroupByNamespaceCodeAndName(Utilities.parseGroupNamespaceCode(groupName),
                         Utilities.parseGroupName(groupName));
                 if (group != null) {
-                	groupService.addGroupToGroup(group.getId(), groupInfo.getId());
+                    groupMemberIds.add(group.getId());
                 } else {
                     throw new XmlException("Group "+groupName+" cannot be found.");
                 }
             }
         }
-        List<String> principalIds = memberPrincipalIds.get(key);
-        if (principalIds != null) {
-            for (String principalId : principalIds) {
-            	groupService.addPrincipalToGroup(principalId, groupInfo.getId());
-            }
+        Set<String> principalIds = new LinkedHashSet<String>();
+        if (memberPrincipalIds.get(key) != null) {
+            principalIds.addAll(memberPrincipalIds.get(key));
         }
 
+        groupService.updateGroupMembers(groupInfo.getId(), new ArrayList<String>(principalIds),
+                new ArrayList<String>(groupMemberIds));
     }
 }
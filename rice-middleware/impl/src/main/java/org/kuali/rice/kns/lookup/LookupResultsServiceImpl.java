@@ -38,6 +38,12 @@ import org.kuali.rice.krad.util.ObjectUtils;
  */
 @Deprecated
 public class LookupResultsServiceImpl implements LookupResultsService {
+    /**
+     * The default number of result rows which are stored together in one page of a persisted results table
+     */
+    public static final int DEFAULT_RESULTS_PAGE_SIZE = 100;
+
+    private int resultsPageSize = DEFAULT_RESULTS_PAGE_SIZE;
     private BusinessObjectService businessObjectService;
     private PersistedLookupMetadataDao persistedLookupMetadataDao;
     private LookupResultsSupportStrategyService persistableBusinessObjectSupportStrategy;
@@ -49,11 +55,15 @@ public class LookupResultsServiceImpl implements LookupResultsService {
     }
 
     /**
+     * Stores the table as a {@link PagedResultTable}, so that the pages which are not displayed are not restored
+     * when the table is retrieved again.
+     *
      * @see org.kuali.rice.krad.lookup.LookupResultsService#persistResultsTable(java.lang.String, java.util.List, java.lang.String)
      */
     @Override
     public void persistResultsTable(String lookupResultsSequenceNumber, List<ResultRow> resultTable, String personId) throws Exception {
-        String resultTableString = new String(Base64.encodeBase64(ObjectUtils.toByteArray(resultTable)));
+        PagedResultTable pagedResultTable = PagedResultTable.create(resultTable, resultsPageSize);
+        String resultTableString = new String(Base64.encodeBase64(ObjectUtils.toByteArray(pagedResultTable)));
 
         Timestamp now = CoreApiServiceLocator.getDateTimeService().getCurrentTimestamp();
 
@@ -167,6 +177,9 @@ public class LookupResultsServiceImpl implements LookupResultsService {
 
 
     /**
+     * Returns the persisted {@link PagedResultTable}, whose pages are restored as their rows are accessed.  Tables
+     * persisted as a plain list are returned as they were stored.
+     *
      * @see org.kuali.rice.krad.lookup.LookupResultsService#retrieveResultsTable(java.lang.String, java.lang.String)
      */
     @Override
@@ -176,8 +189,8 @@ public class LookupResultsServiceImpl implements LookupResultsService {
             // TODO: use the other identifier
             throw new AuthorizationException(personId, "retrieve lookup results", "lookup sequence number " + lookupResultsSequenceNumber);
         }
-        List<ResultRow> resultTable = (List<ResultRow>) ObjectUtils.fromByteArray(Base64.decodeBase64(lookupResults.getSerializedLookupResults().getBytes()));
-        return resultTable;
+        return (List<ResultRow>) ObjectUtils.fromByteArray(Base64.decodeBase64(
+                lookupResults.getSerializedLookupResults().getBytes()));
     }
 
     /**
@@ -262,6 +275,17 @@ public class LookupResultsServiceImpl implements LookupResultsService {
 		return supportService.getLookupIdForBusinessObject(businessObject);
 	}
 
+    public int getResultsPageSize() {
+        return resultsPageSize;
+    }
+
+    /**
+     * @param resultsPageSize the number of result rows to store together in one page of a persisted results table
+     */
+    public void setResultsPageSize(int resultsPageSize) {
+        this.resultsPageSize = resultsPageSize;
+    }
+
 	public BusinessObjectService getBusinessObjectService() {
         return businessObjectService;
     }
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.engine.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kuali.rice.kew.actionrequest.ActionRequestValue;
+import org.kuali.rice.kew.api.action.ActionRequestStatus;
+import org.kuali.rice.kew.api.action.RecipientType;
+import org.kuali.rice.kew.api.document.DocumentStatus;
+import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValue;
+import org.kuali.rice.kew.routeheader.DocumentRouteHeaderValueContent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the RouteLogSimulationCache and the SimulatedRouteLog it caches.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class RouteLogSimulationCacheTest {
+
+    private DocumentRouteHeaderValue routeHeader;
+    private List<ActionRequestValue> actionRequests;
+    private AtomicInteger simulations;
+    private Callable<SimulatedRouteLog> simulation;
+
+    @Before
+    public void setup() {
+        routeHeader = new DocumentRouteHeaderValue();
+        routeHeader.setDocumentId("1000");
+        routeHeader.setDocRouteStatus(DocumentStatus.ENROUTE.getCode());
+        routeHeader.setVersionNumber(1L);
+        routeHeader.setDocumentContent(new DocumentRouteHeaderValueContent("1000"));
+        routeHeader.setDocContent("<documentContent><applicationContent/></documentContent>");
+
+        actionRequests = new ArrayList<ActionRequestValue>();
+        actionRequests.add(createRequest("2000", "user1"));
+
+        simulations = new AtomicInteger();
+        simulation = new Callable<SimulatedRouteLog>() {
+            @Override
+            public SimulatedRouteLog call() throws Exception {
+                simulations.incrementAndGet();
+                return SimulatedRouteLog.create(Collections.singletonList(createRequest(null, "user2")));
+            }
+        };
+    }
+
+    @Test
+    public void testSimulatedRouteLog() {
+        ActionRequestValue roleRequest = new ActionRequestValue();
+        roleRequest.setRecipientTypeCd(RecipientType.ROLE.getCode());
+        roleRequest.getChildrenRequests().add(createRequest(null, "user1"));
+        roleRequest.getChildrenRequests().add(createRequest(null, "user2"));
+
+        SimulatedRouteLog routeLog = SimulatedRouteLog.create(Collections.singletonList(roleRequest));
+        assertEquals(2, routeLog.getPrincipalIds().size());
+        assertTrue(routeLog.isRecipient("user1"));
+        assertTrue(routeLog.isRecipient("user2"));
+        assertFalse(routeLog.isRecipient("user3"));
+        assertTrue(routeLog.getGroupIds().isEmpty());
+    }
+
+    @Test
+    public void testRouteLogIsSimulatedOncePerDocumentState() throws Exception {
+        RouteLogSimulationCache cache = new RouteLogSimulationCache(60, 100);
+
+        SimulatedRouteLog routeLog = cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertTrue(routeLog.isRecipient("user2"));
+        assertSame(routeLog, cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation));
+        assertEquals(1, simulations.get());
+
+        // flattened simulations are cached separately
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, true, simulation);
+        assertEquals(2, simulations.get());
+
+        // a change to an action request changes the document state
+        actionRequests.get(0).setStatus(ActionRequestStatus.DONE.getCode());
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(3, simulations.get());
+
+        // as does a new action request
+        actionRequests.add(createRequest("2001", "user3"));
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(4, simulations.get());
+
+        // as does saving the route header
+        routeHeader.setVersionNumber(2L);
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(5, simulations.get());
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(5, simulations.get());
+
+        // as does saving only the document content
+        routeHeader.setDocContent("<documentContent><applicationContent><amount>10</amount>"
+                + "</applicationContent></documentContent>");
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(6, simulations.get());
+
+        cache.invalidateAll();
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(7, simulations.get());
+    }
+
+    @Test
+    public void testCacheDisabled() throws Exception {
+        RouteLogSimulationCache cache = new RouteLogSimulationCache(0, 100);
+
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        cache.getSimulatedRouteLog(routeHeader, actionRequests, false, simulation);
+        assertEquals(2, simulations.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSimulationFailure() throws Exception {
+        new RouteLogSimulationCache(60, 100).getSimulatedRouteLog(routeHeader, actionRequests, false,
+                new Callable<SimulatedRouteLog>() {
+                    @Override
+                    public SimulatedRouteLog call() throws Exception {
+                        throw new IllegalStateException();
+                    }
+                });
+    }
+
+    private ActionRequestValue createRequest(String actionRequestId, String principalId) {
+        ActionRequestValue actionRequest = new ActionRequestValue();
+        actionRequest.setActionRequestId(actionRequestId);
+        actionRequest.setRecipientTypeCd(RecipientType.PRINCIPAL.getCode());
+        actionRequest.setPrincipalId(principalId);
+        actionRequest.setStatus(ActionRequestStatus.ACTIVATED.getCode());
+        actionRequest.setCurrentIndicator(Boolean.TRUE);
+        return actionRequest;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.impl.document;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link PendingDocumentRefreshes}
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class PendingDocumentRefreshesTest {
+
+    @After
+    public void tearDown() {
+        for (String documentId : Arrays.asList("1", "2", "3")) {
+            PendingDocumentRefreshes.clear(documentId);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testMarkPendingWithoutTransaction() {
+        PendingDocumentRefreshes.markPending(Arrays.asList("1", "2"), 60000);
+
+        assertTrue(PendingDocumentRefreshes.isPending("1"));
+        assertTrue(PendingDocumentRefreshes.isPending("2"));
+        assertFalse(PendingDocumentRefreshes.isPending("3"));
+    }
+
+    @Test
+    public void testMarkPendingWithoutDelay() {
+        PendingDocumentRefreshes.markPending(Collections.singletonList("1"), 0);
+
+        assertFalse("a refresh sent without a delay may start at once", PendingDocumentRefreshes.isPending("1"));
+    }
+
+    @Test
+    public void testClear() {
+        PendingDocumentRefreshes.markPending(Arrays.asList("1", "2"), 60000);
+        PendingDocumentRefreshes.clear("1");
+
+        assertFalse(PendingDocumentRefreshes.isPending("1"));
+        assertTrue(PendingDocumentRefreshes.isPending("2"));
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        PendingDocumentRefreshes.markPending(Collections.singletonList("1"), 1);
+        Thread.sleep(5);
+
+        assertFalse("the refresh may have started once its delay is up", PendingDocumentRefreshes.isPending("1"));
+    }
+
+    @Test
+    public void testMarkPendingCountsOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        PendingDocumentRefreshes.markPending(Collections.singletonList("1"), 60000);
+        assertFalse("the mark should not count before the transaction commits",
+                PendingDocumentRefreshes.isPending("1"));
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertTrue(PendingDocumentRefreshes.isPending("1"));
+    }
+
+    @Test
+    public void testMarkPendingDroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        PendingDocumentRefreshes.markPending(Collections.singletonList("1"), 60000);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertFalse(PendingDocumentRefreshes.isPending("1"));
+    }
+
+    @Test
+    public void testClearBeforeCommit() {
+        // the refresh may run before the sending transaction commits when messages are delivered synchronously
+        TransactionSynchronizationManager.initSynchronization();
+        PendingDocumentRefreshes.markPending(Collections.singletonList("1"), 60000);
+        PendingDocumentRefreshes.clear("1");
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertFalse(PendingDocumentRefreshes.isPending("1"));
+    }
+
+    private void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
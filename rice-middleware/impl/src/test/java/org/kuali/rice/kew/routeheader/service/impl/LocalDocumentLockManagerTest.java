@@ -0,0 +1,130 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.routeheader.service.impl;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the LocalDocumentLockManager.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class LocalDocumentLockManagerTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testLockIsHeldUntilTransactionCompletes() throws Exception {
+        final LocalDocumentLockManager lockManager = new LocalDocumentLockManager(16, 50);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(lockManager.lockForTransaction("1000"));
+        // locking the same document again in the same transaction does not wait
+        assertTrue(lockManager.lockForTransaction("1000"));
+
+        Callable<Boolean> lockInOtherTransaction = new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    return lockManager.lockForTransaction("1000");
+                } finally {
+                    completeTransaction();
+                }
+            }
+        };
+
+        assertFalse(executor.submit(lockInOtherTransaction).get());
+        assertEquals(1, lockManager.getTimeouts());
+
+        completeTransaction();
+
+        assertTrue(executor.submit(lockInOtherTransaction).get());
+        assertEquals(1, lockManager.getTimeouts());
+
+        long acquisitions = 0;
+        for (Long count : lockManager.getWaitTimeHistogram().values()) {
+            acquisitions += count;
+        }
+        assertEquals(4, acquisitions);
+        assertEquals(6, lockManager.getWaitTimeHistogram().size());
+    }
+
+    @Test
+    public void testLockIsReleasedByTransactionCompletingOnAnotherThread() throws Exception {
+        final LocalDocumentLockManager lockManager = new LocalDocumentLockManager(1, 50);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(lockManager.lockForTransaction("1000"));
+        // another document on the same stripe is already covered by this transaction
+        assertTrue(lockManager.lockForTransaction("2000"));
+
+        final List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                for (TransactionSynchronization synchronization : synchronizations) {
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+                }
+                return null;
+            }
+        }).get();
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(lockManager.lockForTransaction("1000"));
+        assertEquals(0, lockManager.getTimeouts());
+    }
+
+    @Test
+    public void testNothingIsLockedOutsideOfTransactions() {
+        assertFalse(new LocalDocumentLockManager(16, 50).lockForTransaction("1000"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        LocalDocumentLockManager disabled = new LocalDocumentLockManager(0, 50);
+        assertFalse(disabled.lockForTransaction("1000"));
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    private static void completeTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.stats.service.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kuali.rice.kew.api.KewApiConstants;
+import org.kuali.rice.kew.stats.DocumentStatisticId;
+import org.kuali.rice.kew.stats.Stats;
+import org.kuali.rice.kew.stats.dao.StatsDAO;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the DocumentStatusCounter.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class DocumentStatusCounterTest {
+
+    private static final String DOCUMENT_TYPE = "TestDocumentType";
+
+    private RecordingStatsDAO statsDAO;
+    private DocumentStatusCounter counter;
+    private Date createDate;
+
+    @Before
+    public void setup() {
+        statsDAO = new RecordingStatsDAO();
+        counter = new DocumentStatusCounter();
+        counter.setStatsDAO(statsDAO);
+        counter.setTransactionManager(new TestTransactionManager());
+        createDate = new Date();
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testStatusChangesAreFlushed() {
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, null, KewApiConstants.ROUTE_HEADER_INITIATED_CD);
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, KewApiConstants.ROUTE_HEADER_INITIATED_CD,
+                KewApiConstants.ROUTE_HEADER_ENROUTE_CD);
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, null, KewApiConstants.ROUTE_HEADER_INITIATED_CD);
+        // saving a document without changing its status is not counted
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, KewApiConstants.ROUTE_HEADER_ENROUTE_CD,
+                KewApiConstants.ROUTE_HEADER_ENROUTE_CD);
+
+        assertEquals(2, counter.getUnflushedCounts().size());
+        counter.flush();
+
+        assertEquals(2, statsDAO.counts.size());
+        assertEquals(Long.valueOf(1), statsDAO.counts.get(id(KewApiConstants.ROUTE_HEADER_INITIATED_CD)));
+        assertEquals(Long.valueOf(1), statsDAO.counts.get(id(KewApiConstants.ROUTE_HEADER_ENROUTE_CD)));
+        assertTrue(counter.getUnflushedCounts().isEmpty());
+
+        // nothing is written when nothing changed
+        counter.flush();
+        assertEquals(1, statsDAO.flushes);
+
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, KewApiConstants.ROUTE_HEADER_ENROUTE_CD, null);
+        counter.flush();
+        assertEquals(Long.valueOf(0), statsDAO.counts.get(id(KewApiConstants.ROUTE_HEADER_ENROUTE_CD)));
+
+        assertEquals(Long.valueOf(2), counter.getStatusChangesByStatus().get(KewApiConstants.ROUTE_HEADER_INITIATED_CD));
+        assertEquals(Long.valueOf(4), counter.getStatusChangesByDocumentType().get(DOCUMENT_TYPE));
+    }
+
+    @Test
+    public void testStatusChangesAreCountedOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, null, KewApiConstants.ROUTE_HEADER_INITIATED_CD);
+        assertTrue(counter.getUnflushedCounts().isEmpty());
+        completeTransaction(true);
+        assertEquals(Long.valueOf(1), counter.getUnflushedCounts().get(id(KewApiConstants.ROUTE_HEADER_INITIATED_CD)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, KewApiConstants.ROUTE_HEADER_INITIATED_CD,
+                KewApiConstants.ROUTE_HEADER_ENROUTE_CD);
+        completeTransaction(false);
+        assertEquals(1, counter.getUnflushedCounts().size());
+    }
+
+    @Test
+    public void testFailedFlushIsRetried() {
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, null, KewApiConstants.ROUTE_HEADER_INITIATED_CD);
+
+        statsDAO.fail = true;
+        counter.flush();
+        assertEquals(1, counter.getFlushFailures());
+        assertTrue(statsDAO.counts.isEmpty());
+
+        counter.recordStatusChange(DOCUMENT_TYPE, createDate, null, KewApiConstants.ROUTE_HEADER_INITIATED_CD);
+        statsDAO.fail = false;
+        counter.flush();
+        assertEquals(Long.valueOf(2), statsDAO.counts.get(id(KewApiConstants.ROUTE_HEADER_INITIATED_CD)));
+    }
+
+    private DocumentStatisticId id(String status) {
+        return new DocumentStatisticId(DOCUMENT_TYPE, status, createDate);
+    }
+
+    private static void completeTransaction(boolean commit) {
+        List<TransactionSynchronization> synchronizations = new ArrayList<TransactionSynchronization>(
+                TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (commit) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED :
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    private static class RecordingStatsDAO implements StatsDAO {
+
+        final Map<DocumentStatisticId, Long> counts = new LinkedHashMap<DocumentStatisticId, Long>();
+        int flushes;
+        boolean fail;
+
+        @Override
+        public void addDocumentCount(DocumentStatisticId id, long delta) {
+            if (fail) {
+                throw new IllegalStateException("failed to write document count");
+            }
+            Long count = counts.get(id);
+            counts.put(id, (count == null ? 0 : count) + delta);
+        }
+
+        @Override
+        public void NumActiveItemsReport(Stats stats) {}
+
+        @Override
+        public void DocumentsRoutedReport(Stats stats, Date begDate, Date endDate) {}
+
+        @Override
+        public void NumberOfDocTypesReport(Stats stats) {}
+
+        @Override
+        public void NumUsersReport(Stats stats) {}
+
+        @Override
+        public void NumInitiatedDocsByDocTypeReport(Stats stats) {}
+    }
+
+    private class TestTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            statsDAO.flushes++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {}
+    }
+
+}
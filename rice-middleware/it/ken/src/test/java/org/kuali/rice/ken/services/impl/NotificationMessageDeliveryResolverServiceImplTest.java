@@ -16,6 +16,7 @@
 package org.kuali.rice.ken.services.impl;
 
 import org.junit.Test;
+import org.kuali.rice.core.api.config.property.ConfigContext;
 import org.kuali.rice.core.api.criteria.QueryByCriteria;
 import org.kuali.rice.ken.bo.NotificationBo;
 import org.kuali.rice.ken.bo.NotificationMessageDelivery;
@@ -127,9 +128,52 @@ public class NotificationMessageDeliveryResolverServiceImplTest extends KENTestC
 
         assertEquals(EXPECTED_SUCCESSES, result.getSuccesses().size());
 
+        // each delivery is saved once, before it is routed, so the workflow document id must have been written as well
+        for (Object success : result.getSuccesses()) {
+            NotificationMessageDelivery delivery = KRADServiceLocator.getDataObjectService().find(
+                    NotificationMessageDelivery.class, ((NotificationMessageDelivery) success).getId());
+            assertEquals(NotificationConstants.MESSAGE_DELIVERY_STATUS.DELIVERED, delivery.getMessageDeliveryStatus());
+            assertNotNull(delivery.getDeliverySystemId());
+        }
+
         assertProcessResults();
     }
 
+    /**
+     * Test resolution of a notification sent on a channel which is delivered in bulk.  Notification #4 is sent on
+     * Test Channel #1, so all of its recipients should share a single workflow document.
+     */
+    @Test
+    public void testResolveNotificationMessageDeliveriesInBulk() throws Exception {
+        ConfigContext.getCurrentContextConfig().putProperty(
+                NotificationMessageDeliveryResolverServiceImpl.BULK_DELIVERY_CHANNELS_PARAM, "Test Channel #1");
+        try {
+            NotificationMessageDeliveryResolverService nSvc = getResolverService();
+
+            ProcessingResult result = nSvc.resolveNotificationMessageDeliveries();
+
+            assertEquals(EXPECTED_SUCCESSES, result.getSuccesses().size());
+
+            String deliverySystemId = null;
+            for (Object success : result.getSuccesses()) {
+                NotificationMessageDelivery delivery = KRADServiceLocator.getDataObjectService().find(
+                        NotificationMessageDelivery.class, ((NotificationMessageDelivery) success).getId());
+                assertEquals(NotificationConstants.MESSAGE_DELIVERY_STATUS.DELIVERED, delivery.getMessageDeliveryStatus());
+                assertNotNull(delivery.getDeliverySystemId());
+                if (deliverySystemId == null) {
+                    deliverySystemId = delivery.getDeliverySystemId();
+                }
+                assertEquals("all recipients should share one workflow document", deliverySystemId,
+                        delivery.getDeliverySystemId());
+            }
+
+            assertProcessResults();
+        } finally {
+            ConfigContext.getCurrentContextConfig().removeProperty(
+                    NotificationMessageDeliveryResolverServiceImpl.BULK_DELIVERY_CHANNELS_PARAM);
+        }
+    }
+
 
     /**
      * Test concurrent resolution of notifications
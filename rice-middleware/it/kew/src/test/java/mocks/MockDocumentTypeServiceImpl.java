@@ -17,6 +17,7 @@ package mocks;
 
 import org.jdom.Element;
 import org.kuali.rice.core.api.impex.ExportDataSet;
+import org.kuali.rice.kew.doctype.ResolvedDocumentType;
 import org.kuali.rice.kew.doctype.bo.DocumentType;
 import org.kuali.rice.kew.doctype.service.DocumentTypeService;
 
@@ -52,6 +53,16 @@ public class MockDocumentTypeServiceImpl implements DocumentTypeService {
         return documentsByName.get(name);
     }
 
+    @Override
+    public ResolvedDocumentType findResolvedByName(String name) {
+        return ResolvedDocumentType.from(findByName(name));
+    }
+
+    @Override
+    public ResolvedDocumentType findResolvedById(String documentTypeId) {
+        return ResolvedDocumentType.from(findById(documentTypeId));
+    }
+
     @Override
     public DocumentType versionAndSave(DocumentType documentType) {
         addDocumentType(documentType);
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -206,4 +207,49 @@ public class DocumentRefreshQueueTest extends KEWTestCase {
         document.approve("");
     }
 
+    /**
+     * Tests requeueing a batch of documents, including a document which appears in the batch more than once.
+     *
+     * @throws Exception encountered during testing
+     */
+    @Test
+    public void testDocumentRequeueBatch() throws Exception {
+        String initiatorPrincipalId = getPrincipalIdForName("ewestfal");
+
+        // Create and route a document of each type
+        WorkflowDocument seqDocument = WorkflowDocumentFactory.createDocument(initiatorPrincipalId, SEQ_DOCUMENT_TYPE_NAME);
+        seqDocument.route("");
+        WorkflowDocument parDocument = WorkflowDocumentFactory.createDocument(initiatorPrincipalId, PAR_DOCUMENT_TYPE_NAME);
+        parDocument.route("");
+
+        Set<String> initialRequestIds = new HashSet<String>();
+        for (String documentId : Arrays.asList(seqDocument.getDocumentId(), parDocument.getDocumentId())) {
+            for (ActionRequest request : WorkflowDocumentFactory.loadDocument(initiatorPrincipalId, documentId).getRootActionRequests()) {
+                initialRequestIds.add(request.getId());
+            }
+        }
+
+        // Requeue both documents in a single batch
+        DocumentRouteHeaderValue documentRouteHeader
+                = KEWServiceLocator.getRouteHeaderService().getRouteHeader(seqDocument.getDocumentId());
+        DocumentRefreshQueue documentRequeuer = KewApiServiceLocator.getDocumentRefreshQueue(
+                documentRouteHeader.getDocumentType().getApplicationId(), 0);
+        documentRequeuer.refreshDocuments(Arrays.asList(seqDocument.getDocumentId(), parDocument.getDocumentId(),
+                seqDocument.getDocumentId()));
+
+        // Both documents should have had their requests regenerated exactly once
+        seqDocument = WorkflowDocumentFactory.loadDocument(initiatorPrincipalId, seqDocument.getDocumentId());
+        assertTrue(seqDocument.isEnroute());
+        assertEquals("Wrong number of requests", 2, seqDocument.getRootActionRequests().size());
+        parDocument = WorkflowDocumentFactory.loadDocument(initiatorPrincipalId, parDocument.getDocumentId());
+        assertTrue(parDocument.isEnroute());
+        assertEquals("Wrong number of requests", 3, parDocument.getRootActionRequests().size());
+
+        for (WorkflowDocument document : Arrays.asList(seqDocument, parDocument)) {
+            for (ActionRequest request : document.getRootActionRequests()) {
+                assertFalse("Request ids should be different", initialRequestIds.contains(request.getId()));
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kew.doctype;
+
+import org.junit.Test;
+import org.kuali.rice.kew.api.doctype.DocumentTypePolicy;
+import org.kuali.rice.kew.doctype.bo.DocumentType;
+import org.kuali.rice.kew.doctype.service.DocumentTypeService;
+import org.kuali.rice.kew.service.KEWServiceLocator;
+import org.kuali.rice.kew.test.KEWTestCase;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests building, immutability and cache eviction of {@link ResolvedDocumentType}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class ResolvedDocumentTypeTest extends KEWTestCase {
+
+    private static final String PARENT_NAME = "ResolvedParentDocumentType";
+    private static final String CHILD_NAME = "ResolvedChildDocumentType";
+
+    @Override
+    protected void loadTestData() throws Exception {
+        loadXmlFile("ResolvedDocumentTypeConfig.xml");
+    }
+
+    private DocumentTypeService getDocumentTypeService() {
+        return KEWServiceLocator.getDocumentTypeService();
+    }
+
+    @Test
+    public void testResolveInheritedState() throws Exception {
+        DocumentType parent = getDocumentTypeService().findByName(PARENT_NAME);
+        DocumentType child = getDocumentTypeService().findByName(CHILD_NAME);
+        ResolvedDocumentType resolvedChild = getDocumentTypeService().findResolvedByName(CHILD_NAME);
+
+        assertNotNull(resolvedChild);
+        assertEquals(child.getDocumentTypeId(), resolvedChild.getDocumentTypeId());
+        assertEquals(CHILD_NAME, resolvedChild.getName());
+        assertEquals("Resolved Child", resolvedChild.getLabel());
+        assertEquals(parent.getDocumentTypeId(), resolvedChild.getParentId());
+        assertEquals(child.getApplicationId(), resolvedChild.getApplicationId());
+        assertTrue(resolvedChild.isActive());
+        assertEquals("http://localhost/resolvedParent", resolvedChild.getResolvedDocumentHandlerUrl());
+
+        // the child's own policy takes precedence over the parent's, other policies are inherited
+        assertTrue(resolvedChild.getPolicyValue(DocumentTypePolicy.DEFAULT_APPROVE, false));
+        assertFalse(resolvedChild.getPolicy(DocumentTypePolicy.DEFAULT_APPROVE).isInherited());
+        assertTrue(resolvedChild.getPolicyValue(DocumentTypePolicy.LOOK_FUTURE, false));
+        assertTrue(resolvedChild.getPolicy(DocumentTypePolicy.LOOK_FUTURE).isInherited());
+        assertFalse(resolvedChild.isPolicyDefined(DocumentTypePolicy.SUPPORTS_QUICK_INITIATE));
+        assertTrue(resolvedChild.getPolicyValue(DocumentTypePolicy.SUPPORTS_QUICK_INITIATE, true));
+
+        assertTrue(resolvedChild.isAppDocStatusInUse());
+        assertEquals(Arrays.asList("Submitted", "Approved"), resolvedChild.getValidApplicationStatuses());
+
+        assertTrue(resolvedChild.hasSearchableAttributes());
+        assertEquals(1, resolvedChild.getSearchableAttributes().size());
+        assertEquals("ResolvedSearchAttribute", resolvedChild.getSearchableAttributes().get(0).getName());
+        assertNull(resolvedChild.getCustomActionListAttribute());
+        assertNull(resolvedChild.getCustomizerAttribute());
+
+        // processes are defined by the parent
+        assertEquals(parent.getDocumentTypeId(), resolvedChild.getRouteDefiningDocumentTypeId());
+        assertEquals(1, resolvedChild.getProcesses().size());
+        assertEquals("AdHoc", resolvedChild.getPrimaryProcess().getInitialRouteNode().getName());
+
+        ResolvedDocumentType resolvedById = getDocumentTypeService().findResolvedById(child.getDocumentTypeId());
+        assertEquals(resolvedChild.getDocumentTypeId(), resolvedById.getDocumentTypeId());
+        assertEquals(resolvedChild.getVersion(), resolvedById.getVersion());
+
+        assertNull(getDocumentTypeService().findResolvedByName("ResolvedMissingDocumentType"));
+        assertNull(ResolvedDocumentType.from(null));
+    }
+
+    @Test
+    public void testImmutable() throws Exception {
+        ResolvedDocumentType resolvedChild = getDocumentTypeService().findResolvedByName(CHILD_NAME);
+
+        try {
+            resolvedChild.getPolicies().clear();
+            fail("policies should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            resolvedChild.getValidApplicationStatuses().add("Rejected");
+            fail("valid application statuses should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            resolvedChild.getSearchableAttributes().clear();
+            fail("searchable attributes should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            resolvedChild.getProcesses().clear();
+            fail("processes should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCacheEviction() throws Exception {
+        ResolvedDocumentType resolvedChild = getDocumentTypeService().findResolvedByName(CHILD_NAME);
+        String previousDocumentTypeId = resolvedChild.getDocumentTypeId();
+        ResolvedDocumentType resolvedById = getDocumentTypeService().findResolvedById(previousDocumentTypeId);
+        assertSame(resolvedChild, getDocumentTypeService().findResolvedByName(CHILD_NAME));
+        assertSame(resolvedById, getDocumentTypeService().findResolvedById(previousDocumentTypeId));
+
+        // ingesting a new version of the document type flushes the document type cache
+        loadXmlFile("ResolvedDocumentTypeConfig2.xml");
+
+        ResolvedDocumentType newResolvedChild = getDocumentTypeService().findResolvedByName(CHILD_NAME);
+        assertNotSame(resolvedChild, newResolvedChild);
+        assertFalse(previousDocumentTypeId.equals(newResolvedChild.getDocumentTypeId()));
+        assertEquals("Resolved Child Changed", newResolvedChild.getLabel());
+        assertTrue(newResolvedChild.getPolicy(DocumentTypePolicy.LOOK_FUTURE).isInherited());
+
+        // the previous version is rebuilt as well
+        ResolvedDocumentType previousResolvedChild = getDocumentTypeService().findResolvedById(previousDocumentTypeId);
+        assertNotSame(resolvedById, previousResolvedChild);
+        assertEquals("Resolved Child", previousResolvedChild.getLabel());
+    }
+
+}
@@ -16,16 +16,24 @@
 package org.kuali.rice.kew.workgroup;
 
 import org.junit.Test;
+import org.kuali.rice.core.api.resourceloader.GlobalResourceLoader;
 import org.kuali.rice.kew.test.KEWTestCase;
 import org.kuali.rice.kim.api.KimConstants;
 import org.kuali.rice.kim.api.group.Group;
+import org.kuali.rice.kim.api.group.GroupMember;
 import org.kuali.rice.kim.api.group.GroupService;
 import org.kuali.rice.kim.api.identity.IdentityService;
+import org.kuali.rice.kim.api.identity.entity.EntityDefault;
+import org.kuali.rice.kim.api.identity.principal.Principal;
 import org.kuali.rice.kim.api.services.KimApiServiceLocator;
+import org.kuali.rice.kim.impl.identity.IdentityArchiveService;
 import org.kuali.rice.test.BaselineTestCase;
 
+import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -62,4 +70,77 @@ public class GroupXmlImportTest extends KEWTestCase {
         assertTrue(KimApiServiceLocator.getGroupService().isGroupMemberOfGroup(groupService.getGroupByNamespaceCodeAndName(
                 KimConstants.KIM_GROUP_WORKFLOW_NAMESPACE_CODE, "TestWorkgroup").getId(), group.getId()));
     }
+
+    /**
+     * Verify that re-importing a group replaces its members, leaving the memberships which are unchanged in place.
+     */
+    @Test public void testGroupImportXmlUpdatesMembers() throws Exception {
+        loadXmlFile("GroupXmlImportTest.xml");
+
+        IdentityService identityService = KimApiServiceLocator.getIdentityService();
+        GroupService groupService = KimApiServiceLocator.getGroupService();
+        Group group = groupService.getGroupByNamespaceCodeAndName(KimConstants.KIM_GROUP_WORKFLOW_NAMESPACE_CODE,
+                "TestUserGroup");
+        assertNotNull(group);
+        String ewestfalId = identityService.getPrincipalByPrincipalName("ewestfal").getPrincipalId();
+        String jhopfId = identityService.getPrincipalByPrincipalName("jhopf").getPrincipalId();
+        String rkirkendId = identityService.getPrincipalByPrincipalName("rkirkend").getPrincipalId();
+        assertEquals(3, groupService.getDirectMemberPrincipalIds(group.getId()).size());
+        String ewestfalMemberId = getMemberId(groupService.getMembersOfGroup(group.getId()), ewestfalId);
+
+        loadXmlFile("GroupXmlImportTest_updateMembers.xml");
+
+        List<String> principalIds = groupService.getDirectMemberPrincipalIds(group.getId());
+        assertEquals(2, principalIds.size());
+        assertTrue(principalIds.contains(ewestfalId));
+        assertTrue(principalIds.contains(jhopfId));
+        assertFalse(principalIds.contains(rkirkendId));
+        assertFalse(principalIds.contains("2015"));
+        assertTrue(groupService.getDirectMemberGroupIds(group.getId()).isEmpty());
+        assertEquals("unchanged membership should not have been replaced", ewestfalMemberId,
+                getMemberId(groupService.getMembersOfGroup(group.getId()), ewestfalId));
+    }
+
+    /**
+     * Verify that principals which only exist in the identity archive can be made group members, by id and by name.
+     */
+    @Test public void testGroupImportXmlWithArchivedMembers() throws Exception {
+        IdentityArchiveService identityArchiveService = GlobalResourceLoader.getService("kimIdentityArchiveService");
+        identityArchiveService.saveEntityDefaultToArchive(createArchivedEntity("archivedbyid"));
+        identityArchiveService.saveEntityDefaultToArchive(createArchivedEntity("archivedbyname"));
+        identityArchiveService.flushToArchive();
+
+        loadXmlFile("GroupXmlImportTest_archivedMembers.xml");
+
+        GroupService groupService = KimApiServiceLocator.getGroupService();
+        Group group = groupService.getGroupByNamespaceCodeAndName(KimConstants.KIM_GROUP_WORKFLOW_NAMESPACE_CODE,
+                "TestArchivedMemberGroup");
+        assertNotNull("group with archived members should have been ingested", group);
+        List<String> principalIds = groupService.getDirectMemberPrincipalIds(group.getId());
+        assertEquals(2, principalIds.size());
+        assertTrue(principalIds.contains("archivedbyid"));
+        assertTrue(principalIds.contains("archivedbyname"));
+    }
+
+    private EntityDefault createArchivedEntity(String principalName) {
+        Principal.Builder principal = Principal.Builder.create(principalName);
+        principal.setPrincipalId(principalName);
+        principal.setEntityId(principalName);
+        principal.setActive(true);
+
+        EntityDefault.Builder entity = EntityDefault.Builder.create();
+        entity.setEntityId(principalName);
+        entity.setPrincipals(Collections.singletonList(principal));
+
+        return entity.build();
+    }
+
+    private String getMemberId(List<GroupMember> members, String principalId) {
+        for (GroupMember member : members) {
+            if (principalId.equals(member.getMemberId())) {
+                return member.getId();
+            }
+        }
+        return null;
+    }
 }
@@ -24,9 +24,11 @@ import org.kuali.rice.kim.api.identity.IdentityService;
 import org.kuali.rice.kim.api.identity.affiliation.EntityAffiliation;
 import org.kuali.rice.kim.api.identity.entity.Entity;
 import org.kuali.rice.kim.api.identity.entity.EntityDefault;
+import org.kuali.rice.kim.api.identity.principal.EntityNamePrincipalName;
 import org.kuali.rice.kim.api.identity.principal.Principal;
 import org.kuali.rice.kim.api.identity.privacy.EntityPrivacyPreferences;
 import org.kuali.rice.kim.api.identity.type.EntityTypeContactInfo;
+import org.kuali.rice.kim.dao.LdapPrincipalDao;
 
 import org.kuali.rice.kim.service.KIMServiceLocatorInternal;
 import org.kuali.rice.kim.test.KIMTestCase;
@@ -40,7 +42,9 @@ import org.springframework.ldap.core.support.LdapContextSource;
 import org.springframework.ldap.test.LdapTestUtils;
 
 import javax.xml.namespace.QName;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -154,6 +158,26 @@ public class LDAPIdentityServiceImplTest extends KIMTestCase {
         assertEquals("Principal name did not match expected result", "williamh", principal.getPrincipalName());
     }
 
+    @Test
+    public void testGetPrincipals() {
+        List<Principal> principals = identityService.getPrincipals(Arrays.asList("jonp", "williamh", "unknown",
+                "patrickt", "williamh"));
+        assertEquals("Principals should be found across batches", 4, principals.size());
+        assertEquals("jonp", principals.get(0).getPrincipalName());
+        assertEquals("williamh", principals.get(1).getPrincipalName());
+        assertEquals("patrickt", principals.get(2).getPrincipalName());
+        assertEquals("williamh", principals.get(3).getPrincipalName());
+    }
+
+    @Test
+    public void testGetDefaultNamesForPrincipalIds() {
+        LdapPrincipalDao principalDao = (LdapPrincipalDao) KIMServiceLocatorInternal.getBean("ldapPrincipalDao");
+        Map<String, EntityNamePrincipalName> names = principalDao.getDefaultNamesForPrincipalIds(Arrays.asList(
+                "williamh", "patrickt", "jonp"));
+        assertEquals("Names should be found across batches", 3, names.size());
+        assertEquals("Pertwee", names.get("jonp").getDefaultName().getLastName());
+    }
+
     @Test
     public void testGetPrincipalByPrincipalName() {
         Principal principal = identityService.getPrincipalByPrincipalName("williamh");
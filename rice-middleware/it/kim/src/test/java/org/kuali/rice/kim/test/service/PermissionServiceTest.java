@@ -18,6 +18,7 @@ package org.kuali.rice.kim.test.service;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.kuali.rice.kim.api.common.assignee.Assignee;
+import org.kuali.rice.kim.api.permission.PermissionCheck;
 import org.kuali.rice.kim.api.permission.PermissionService;
 import org.kuali.rice.kim.api.services.KimApiServiceLocator;
 import org.kuali.rice.kim.impl.common.template.TemplateBo;
@@ -25,6 +26,8 @@ import org.kuali.rice.kim.impl.permission.PermissionBo;
 import org.kuali.rice.kim.test.KIMTestCase;
 import org.kuali.rice.test.BaselineTestCase;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -61,6 +64,41 @@ public class PermissionServiceTest extends KIMTestCase {
 		assertTrue(getPermissionService().isAuthorized("entity123pId", "KR-NS", "perm2", new HashMap<String, String>()));
 		assertFalse(getPermissionService().isAuthorized("entity124pId", "KR-NS", "perm2", new HashMap<String, String>()));
 	}
+
+	@Test
+	public void testIsAuthorizedForChecks() {
+		List<PermissionCheck> checks = new ArrayList<PermissionCheck>();
+		checks.add(PermissionCheck.Builder.createForPermission("KR-NS", "perm1", new HashMap<String, String>()).build());
+		checks.add(PermissionCheck.Builder.createForPermission("KR-NS", "perm2", new HashMap<String, String>()).build());
+		checks.add(PermissionCheck.Builder.createForPermission("KR-NS", "perm1", new HashMap<String, String>()).build());
+		checks.add(PermissionCheck.Builder.createForPermission("KR-NS", "Not A Valid Permission Name",
+                new HashMap<String, String>()).build());
+		checks.add(PermissionCheck.Builder.createForTemplate("KUALI", "Default", new HashMap<String, String>(),
+                new HashMap<String, String>()).build());
+
+		List<Boolean> results = getPermissionService().isAuthorizedForChecks("entity123pId", checks);
+		assertEquals(Arrays.asList(Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.FALSE, Boolean.TRUE), results);
+
+		// the bulk results must match the single checks
+		results = getPermissionService().isAuthorizedForChecks("entity124pId", checks);
+		for (int i = 0; i < checks.size(); i++) {
+			PermissionCheck check = checks.get(i);
+			boolean single = check.isByTemplate() ?
+					getPermissionService().isAuthorizedByTemplate("entity124pId", check.getNamespaceCode(),
+							check.getPermissionTemplateName(), check.getPermissionDetails(), check.getQualification()) :
+					getPermissionService().isAuthorized("entity124pId", check.getNamespaceCode(),
+							check.getPermissionName(), check.getQualification());
+			assertEquals(Boolean.valueOf(single), results.get(i));
+		}
+	}
+
+	@Test
+	public void testGetPrincipalIdSubListWithPermission() {
+		List<String> principalIds = getPermissionService().getPrincipalIdSubListWithPermission(
+				Arrays.asList("entity124pId", "entity123pId", "entity123pId"), "KR-NS", "perm2",
+				new HashMap<String, String>());
+		assertEquals(Collections.singletonList("entity123pId"), principalIds);
+	}
 	
 	@Test
 	public void testHasPermissionByTemplateName() {
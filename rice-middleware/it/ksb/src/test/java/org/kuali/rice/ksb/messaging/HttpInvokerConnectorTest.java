@@ -19,15 +19,18 @@ package org.kuali.rice.ksb.messaging;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.kuali.rice.core.api.config.property.ConfigContext;
 import org.kuali.rice.ksb.api.KsbApiConstants;
 import org.kuali.rice.ksb.api.KsbApiServiceLocator;
 import org.kuali.rice.ksb.api.bus.Endpoint;
 import org.kuali.rice.ksb.api.bus.ServiceConfiguration;
 import org.kuali.rice.ksb.api.bus.support.JavaServiceConfiguration;
 import org.kuali.rice.ksb.messaging.remotedservices.EchoService;
+import org.kuali.rice.ksb.messaging.serviceconnectors.EndpointRequestGate;
 import org.kuali.rice.ksb.messaging.serviceconnectors.HttpInvokerConnector;
 import org.kuali.rice.ksb.server.TestClient1;
 import org.kuali.rice.ksb.test.KSBTestCase;
+import org.kuali.rice.ksb.util.KSBConstants;
 
 import javax.xml.namespace.QName;
 import java.net.MalformedURLException;
@@ -98,4 +101,52 @@ public class HttpInvokerConnectorTest extends KSBTestCase {
         Assert.assertTrue("foo".equals(httpsEchoService.echo("foo")));
     }
 
+    /**
+     * Tests that calls made through a connector pass through the endpoint's request gate when a per endpoint limit is
+     * configured, and are rejected once the endpoint is saturated
+     */
+    @Test
+    public void testEndpointRequestGate() {
+        Endpoint endpoint = KsbApiServiceLocator.getServiceBus().getEndpoint(serviceName);
+        ServiceConfiguration serviceConfiguration = endpoint.getServiceConfiguration();
+        String endpointUrl = serviceConfiguration.getEndpointUrl().toExternalForm();
+
+        HttpInvokerConnector connector = new HttpInvokerConnector((JavaServiceConfiguration)serviceConfiguration, null);
+        EchoService echoService = (EchoService) connector.getService();
+
+        ConfigContext.getCurrentContextConfig().putProperty(
+                KSBConstants.Config.KSB_CLIENT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, "1");
+        ConfigContext.getCurrentContextConfig().putProperty(
+                KSBConstants.Config.KSB_CLIENT_ENDPOINT_QUEUE_TIMEOUT, "100");
+        try {
+            Assert.assertTrue("foo".equals(echoService.echo("foo")));
+            Assert.assertTrue("bar".equals(echoService.echo("bar")));
+
+            EndpointRequestGate gate = EndpointRequestGate.forEndpoint(endpointUrl);
+            Assert.assertEquals(1, gate.getMaxConcurrentRequests());
+            Assert.assertEquals(2, gate.getRequestCount());
+            Assert.assertEquals(0, gate.getInFlightRequests());
+
+            // occupy the only permit so that the next call through the connector is rejected
+            long startTime = gate.enter();
+            try {
+                echoService.echo("baz");
+                Assert.fail("The call should have been rejected while the endpoint was saturated");
+            } catch (EndpointRequestGate.EndpointSaturatedException e) {
+                // expected
+            } finally {
+                gate.exit(startTime, true);
+            }
+            Assert.assertEquals(1, gate.getRejectedCount());
+
+            Assert.assertTrue("foo".equals(echoService.echo("foo")));
+        } finally {
+            ConfigContext.getCurrentContextConfig().putProperty(
+                    KSBConstants.Config.KSB_CLIENT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, "0");
+            ConfigContext.getCurrentContextConfig().putProperty(
+                    KSBConstants.Config.KSB_CLIENT_ENDPOINT_QUEUE_TIMEOUT, "30000");
+            EndpointRequestGate.removeEndpoint(endpointUrl);
+        }
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.kuali.rice.location.impl.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -25,7 +26,10 @@ import java.util.List;
 import org.apache.commons.lang.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
+import org.kuali.rice.core.api.criteria.PredicateFactory;
 import org.kuali.rice.core.api.criteria.QueryByCriteria;
+import org.kuali.rice.krad.data.CloseableIterator;
+import org.kuali.rice.krad.data.DataObjectService;
 import org.kuali.rice.krad.service.KRADServiceLocator;
 import org.kuali.rice.location.api.campus.Campus;
 import org.kuali.rice.location.api.campus.CampusQueryResults;
@@ -205,6 +209,68 @@ public class LocationDataJPATest extends LocationTestCase {
         assertEquals("findAllCountriesNotRestricted returned wrong number of results", 1, results.getResults().size());
     }
 
+    /**
+     * Runs queries of the same shape with different values, which bind their values to parameters of the same SQL, and
+     * verifies each returns the results for its own values.
+     */
+    @Test
+    public void testQueriesWithSameShape() throws Exception {
+        DataObjectService dataObjectService = KRADServiceLocator.getDataObjectService();
+
+        for (String code : new String[] {"US", "CA", "US"}) {
+            List<CountryBo> countries = dataObjectService.findMatching(CountryBo.class,
+                    QueryByCriteria.Builder.forAttribute("code", code).build()).getResults();
+            assertEquals("Wrong number of countries for " + code, 1, countries.size());
+            assertEquals("Wrong country for " + code, code, countries.get(0).getCode());
+        }
+
+        QueryByCriteria.Builder builder = QueryByCriteria.Builder.create();
+        builder.setPredicates(PredicateFactory.in("code", "US", "CA"));
+        assertEquals("Wrong number of countries", 2, dataObjectService.findMatching(CountryBo.class,
+                builder.build()).getResults().size());
+        builder.setPredicates(PredicateFactory.in("code", "CA", "XX"));
+        assertEquals("Wrong number of countries", 1, dataObjectService.findMatching(CountryBo.class,
+                builder.build()).getResults().size());
+
+        builder.setPredicates(PredicateFactory.like("name", "Can*"));
+        assertEquals("Wrong country", "CA", dataObjectService.findMatching(CountryBo.class,
+                builder.build()).getResults().get(0).getCode());
+        builder.setPredicates(PredicateFactory.like("name", "UNITED*"));
+        assertEquals("Wrong country", "US", dataObjectService.findMatching(CountryBo.class,
+                builder.build()).getResults().get(0).getCode());
+    }
+
+    @Test
+    public void testIterateMatching() throws Exception {
+        DataObjectService dataObjectService = KRADServiceLocator.getDataObjectService();
+        QueryByCriteria criteria = QueryByCriteria.Builder.create().build();
+        int expected = dataObjectService.findMatching(CountryBo.class, criteria).getResults().size();
+        assertTrue("No countries to iterate over", expected > 0);
+
+        int count = 0;
+        CloseableIterator<CountryBo> countries = dataObjectService.iterateMatching(CountryBo.class, criteria);
+        try {
+            while (countries.hasNext()) {
+                assertNotNull("Iterated over a null country", countries.next().getCode());
+                count++;
+            }
+        } finally {
+            countries.close();
+        }
+        assertEquals("Wrong number of countries iterated over", expected, count);
+        assertFalse("Iterator should be exhausted after close", countries.hasNext());
+
+        countries = dataObjectService.iterateMatching(CountryBo.class,
+                QueryByCriteria.Builder.forAttribute("code", "US").build());
+        try {
+            assertTrue("Missing country", countries.hasNext());
+            assertEquals("Wrong country", "US", countries.next().getCode());
+            assertFalse("Too many countries", countries.hasNext());
+        } finally {
+            countries.close();
+        }
+    }
+
     @Test
     public void testCountyServiceImplJPA() throws Exception {
         County county = LocationApiServiceLocator.getCountyService().getCounty("US", "IN", "MON");
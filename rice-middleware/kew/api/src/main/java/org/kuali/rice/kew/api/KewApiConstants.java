@@ -954,6 +954,52 @@ public final class KewApiConstants {
     // special user used when no other user is available
     public static final String SYSTEM_USER = "kr";
     public static final String ENABLE_KEN_NOTIFICATION = "rice.kew.enableKENNotification";
+
+    /**
+     * The maximum number of documents sent in a single {@link org.kuali.rice.kew.api.document.DocumentRefreshQueue}
+     * message when documents are requeued because of a responsibility change.
+     */
+    public static final String DOCUMENT_REFRESH_BATCH_SIZE = "rice.kew.documentRefresh.batchSize";
+    public static final int DEFAULT_DOCUMENT_REFRESH_BATCH_SIZE = 100;
+
+    /**
+     * The maximum number of documents refreshed concurrently by a node processing a batched refresh message.
+     */
+    public static final String DOCUMENT_REFRESH_MAX_THREADS = "rice.kew.documentRefresh.maxThreads";
+    public static final int DEFAULT_DOCUMENT_REFRESH_MAX_THREADS = 4;
+
+    /**
+     * The number of seconds a simulated future route log is cached for route log checks, or 0 to disable caching.
+     */
+    public static final String ROUTE_LOG_SIMULATION_CACHE_EXPIRATION = "rice.kew.routeLogSimulation.cacheExpiration";
+    public static final int DEFAULT_ROUTE_LOG_SIMULATION_CACHE_EXPIRATION = 60;
+
+    /**
+     * The maximum number of simulated future route logs cached for route log checks.
+     */
+    public static final String ROUTE_LOG_SIMULATION_CACHE_SIZE = "rice.kew.routeLogSimulation.cacheSize";
+    public static final int DEFAULT_ROUTE_LOG_SIMULATION_CACHE_SIZE = 1000;
+
+    /**
+     * The number of node local lock stripes documents are locked on before their route header row is locked, or 0 to
+     * only lock the route header row.
+     */
+    public static final String LOCAL_DOCUMENT_LOCK_STRIPES = "rice.kew.documentLock.localStripes";
+    public static final int DEFAULT_LOCAL_DOCUMENT_LOCK_STRIPES = 256;
+
+    /**
+     * The number of seconds to wait for a node local document lock before going on to lock the route header row
+     * regardless.
+     */
+    public static final String LOCAL_DOCUMENT_LOCK_WAIT = "rice.kew.documentLock.localWaitSeconds";
+    public static final int DEFAULT_LOCAL_DOCUMENT_LOCK_WAIT = 60;
+
+    /**
+     * The number of seconds between writes of the document counts collected on this node to the document statistics
+     * table.
+     */
+    public static final String DOCUMENT_STATISTICS_FLUSH_INTERVAL = "rice.kew.documentStatistics.flushIntervalSeconds";
+    public static final int DEFAULT_DOCUMENT_STATISTICS_FLUSH_INTERVAL = 60;
     
 	public static final String ROLEROUTE_QUALIFIER_RESOLVER_ELEMENT = "qualifierResolver";
 	public static final String ROLEROUTE_QUALIFIER_RESOLVER_CLASS_ELEMENT = "qualifierResolverClass";
@@ -178,6 +178,18 @@ public class KewApiServiceLocator {
         return (DocumentRefreshQueue) getServiceAsynchronously(DOCUMENT_REFRESH_QUEUE, documentId, applicationId);
     }
 
+    /**
+     * Returns a queue which refreshes batches of documents belonging to the given application.
+     *
+     * @param applicationId the id of the application which owns the documents to refresh
+     * @param waitTime the number of milliseconds to wait before refreshing the documents
+     * @return a queue on which {@link DocumentRefreshQueue#refreshDocuments(java.util.List)} can be called
+     * @since 2.5.2
+     */
+    public static DocumentRefreshQueue getDocumentRefreshQueue(String applicationId, long waitTime) {
+        return getDocumentRequeuerService(applicationId, null, waitTime);
+    }
+
     private static Object getDelayedServiceAsynchronously(QName serviceName, String documentId, long waitTime, String applicationId) {
         return KsbApiServiceLocator.getMessageHelper().getServiceAsynchronously(serviceName, applicationId, null, (documentId == null ? null : documentId.toString()), null, waitTime);
     }
@@ -22,6 +22,7 @@ import javax.jws.WebMethod;
 import javax.jws.WebParam;
 import javax.jws.WebService;
 import javax.jws.soap.SOAPBinding;
+import java.util.List;
 
 /**
  * Defines the contract for a message queue which "refreshes" a document at it's current node.  The refresh process will
@@ -36,5 +37,17 @@ public interface DocumentRefreshQueue {
 
     @WebMethod(operationName = "refreshDocument")
 	void refreshDocument(@WebParam(name = "documentId") String documentId) throws RiceIllegalArgumentException;
-	
+
+    /**
+     * Refreshes each of the given documents as if {@link #refreshDocument(String)} had been called for it.  A
+     * document which appears more than once in the list is only refreshed once.  Whether a failure to refresh one
+     * document rolls back the refresh of the others is up to the implementation.
+     *
+     * @param documentIds the ids of the documents to refresh
+     * @throws RiceIllegalArgumentException if {@code documentIds} is null
+     * @since 2.5.2
+     */
+    @WebMethod(operationName = "refreshDocuments")
+    void refreshDocuments(@WebParam(name = "documentIds") List<String> documentIds) throws RiceIllegalArgumentException;
+
 }
@@ -632,6 +632,30 @@ public interface GroupService {
     @CacheEvict(value={GroupMember.Cache.NAME, Role.Cache.NAME}, allEntries = true)
     void removeAllMembers( @WebParam(name="groupId") String groupId ) throws RiceIllegalArgumentException;
 
+    /**
+     * Makes the principals and groups with the given ids the only direct members of the group with the given groupId.
+     *
+     * <p>
+     * Current members which are also in the given lists are left untouched, members which are missing from the group
+     * are added and all other members are removed.  This is equivalent to calling {@link #removeAllMembers(String)}
+     * followed by {@link #addPrincipalToGroup(String, String)} and {@link #addGroupToGroup(String, String)} for each
+     * member, but only changes the memberships which differ and evicts the group member caches once for the whole
+     * group, which makes it far cheaper for groups with many members.
+     * </p>
+     *
+     * @param groupId Id of the Group object to update the members of
+     * @param principalIds the ids of the principals which should be direct members of the group
+     * @param memberGroupIds the ids of the groups which should be direct members of the group
+     * @throws RiceIllegalArgumentException if the groupId is null or blank, if either list of ids is null, or if a
+     *  member group is the group itself or contains it
+     * @since 2.5.2
+     */
+    @WebMethod(operationName = "updateGroupMembers")
+    @CacheEvict(value={GroupMember.Cache.NAME, Role.Cache.NAME}, allEntries = true)
+    void updateGroupMembers(@WebParam(name="groupId") String groupId,
+            @WebParam(name="principalIds") List<String> principalIds,
+            @WebParam(name="memberGroupIds") List<String> memberGroupIds) throws RiceIllegalArgumentException;
+
 
     @WebMethod(operationName = "isGroupMemberOfGroupWithDate")
     @WebResult(name = "isMember")
@@ -0,0 +1,269 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kim.api.permission;
+
+import org.apache.commons.lang.StringUtils;
+import org.kuali.rice.core.api.CoreConstants;
+import org.kuali.rice.core.api.mo.AbstractDataTransferObject;
+import org.kuali.rice.core.api.mo.ModelBuilder;
+import org.kuali.rice.core.api.util.jaxb.MapStringStringAdapter;
+import org.w3c.dom.Element;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAnyElement;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A single authorization check which can be submitted, along with many others, to
+ * {@link PermissionService#isAuthorizedForChecks(String, java.util.List)}.
+ *
+ * <p>A check identifies its permission either by name (as in
+ * {@link PermissionService#isAuthorized(String, String, String, java.util.Map)}) or by template and permission
+ * details (as in {@link PermissionService#isAuthorizedByTemplate(String, String, String, java.util.Map, java.util.Map)}),
+ * never both.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+@XmlRootElement(name = PermissionCheck.Constants.ROOT_ELEMENT_NAME)
+@XmlAccessorType(XmlAccessType.NONE)
+@XmlType(name = PermissionCheck.Constants.TYPE_NAME, propOrder = {
+        PermissionCheck.Elements.NAMESPACE_CODE,
+        PermissionCheck.Elements.PERMISSION_NAME,
+        PermissionCheck.Elements.PERMISSION_TEMPLATE_NAME,
+        PermissionCheck.Elements.PERMISSION_DETAILS,
+        PermissionCheck.Elements.QUALIFICATION,
+        CoreConstants.CommonElements.FUTURE_ELEMENTS
+})
+public final class PermissionCheck extends AbstractDataTransferObject {
+
+    private static final long serialVersionUID = 4418830521873694622L;
+
+    @XmlElement(name = Elements.NAMESPACE_CODE, required = true)
+    private final String namespaceCode;
+
+    @XmlElement(name = Elements.PERMISSION_NAME, required = false)
+    private final String permissionName;
+
+    @XmlElement(name = Elements.PERMISSION_TEMPLATE_NAME, required = false)
+    private final String permissionTemplateName;
+
+    @XmlElement(name = Elements.PERMISSION_DETAILS, required = false)
+    @XmlJavaTypeAdapter(value = MapStringStringAdapter.class)
+    private final Map<String, String> permissionDetails;
+
+    @XmlElement(name = Elements.QUALIFICATION, required = false)
+    @XmlJavaTypeAdapter(value = MapStringStringAdapter.class)
+    private final Map<String, String> qualification;
+
+    @SuppressWarnings("unused")
+    @XmlAnyElement
+    private final Collection<Element> _futureElements = null;
+
+    /**
+     * Private constructor used only by JAXB.
+     */
+    private PermissionCheck() {
+        this.namespaceCode = null;
+        this.permissionName = null;
+        this.permissionTemplateName = null;
+        this.permissionDetails = null;
+        this.qualification = null;
+    }
+
+    private PermissionCheck(Builder builder) {
+        this.namespaceCode = builder.getNamespaceCode();
+        this.permissionName = builder.getPermissionName();
+        this.permissionTemplateName = builder.getPermissionTemplateName();
+        this.permissionDetails = builder.getPermissionDetails() == null ? Collections.<String, String>emptyMap() :
+                Collections.unmodifiableMap(new HashMap<String, String>(builder.getPermissionDetails()));
+        this.qualification = builder.getQualification() == null ? Collections.<String, String>emptyMap() :
+                Collections.unmodifiableMap(new HashMap<String, String>(builder.getQualification()));
+    }
+
+    public String getNamespaceCode() {
+        return namespaceCode;
+    }
+
+    /**
+     * @return the name of the permission to check, or null if this check is by template
+     */
+    public String getPermissionName() {
+        return permissionName;
+    }
+
+    /**
+     * @return the name of the permission template to check, or null if this check is by permission name
+     */
+    public String getPermissionTemplateName() {
+        return permissionTemplateName;
+    }
+
+    /**
+     * @return the permission details to match against permissions of the template, never null
+     */
+    public Map<String, String> getPermissionDetails() {
+        return permissionDetails;
+    }
+
+    /**
+     * @return the role qualification for the check, never null
+     */
+    public Map<String, String> getQualification() {
+        return qualification;
+    }
+
+    /**
+     * @return true if this check identifies its permissions by template rather than by name
+     */
+    public boolean isByTemplate() {
+        return permissionTemplateName != null;
+    }
+
+    /**
+     * A builder which can be used to construct {@link PermissionCheck} instances.
+     */
+    public static final class Builder implements Serializable, ModelBuilder {
+
+        private static final long serialVersionUID = -6339516434562390184L;
+
+        private String namespaceCode;
+        private String permissionName;
+        private String permissionTemplateName;
+        private Map<String, String> permissionDetails;
+        private Map<String, String> qualification;
+
+        private Builder(String namespaceCode) {
+            setNamespaceCode(namespaceCode);
+        }
+
+        /**
+         * Creates a builder for a check by permission name.
+         */
+        public static Builder createForPermission(String namespaceCode, String permissionName,
+                Map<String, String> qualification) {
+            Builder builder = new Builder(namespaceCode);
+            builder.setPermissionName(permissionName);
+            builder.setQualification(qualification);
+            return builder;
+        }
+
+        /**
+         * Creates a builder for a check by permission template and permission details.
+         */
+        public static Builder createForTemplate(String namespaceCode, String permissionTemplateName,
+                Map<String, String> permissionDetails, Map<String, String> qualification) {
+            Builder builder = new Builder(namespaceCode);
+            builder.setPermissionTemplateName(permissionTemplateName);
+            builder.setPermissionDetails(permissionDetails);
+            builder.setQualification(qualification);
+            return builder;
+        }
+
+        public static Builder create(PermissionCheck permissionCheck) {
+            if (permissionCheck == null) {
+                throw new IllegalArgumentException("permissionCheck was null");
+            }
+            Builder builder = new Builder(permissionCheck.getNamespaceCode());
+            builder.setPermissionName(permissionCheck.getPermissionName());
+            builder.setPermissionTemplateName(permissionCheck.getPermissionTemplateName());
+            builder.setPermissionDetails(permissionCheck.getPermissionDetails());
+            builder.setQualification(permissionCheck.getQualification());
+            return builder;
+        }
+
+        @Override
+        public PermissionCheck build() {
+            if (StringUtils.isBlank(permissionName) == StringUtils.isBlank(permissionTemplateName)) {
+                throw new IllegalStateException(
+                        "exactly one of permissionName and permissionTemplateName must be specified");
+            }
+            return new PermissionCheck(this);
+        }
+
+        public String getNamespaceCode() {
+            return namespaceCode;
+        }
+
+        public void setNamespaceCode(String namespaceCode) {
+            if (StringUtils.isBlank(namespaceCode)) {
+                throw new IllegalArgumentException("namespaceCode is blank");
+            }
+            this.namespaceCode = namespaceCode;
+        }
+
+        public String getPermissionName() {
+            return permissionName;
+        }
+
+        public void setPermissionName(String permissionName) {
+            this.permissionName = permissionName;
+        }
+
+        public String getPermissionTemplateName() {
+            return permissionTemplateName;
+        }
+
+        public void setPermissionTemplateName(String permissionTemplateName) {
+            this.permissionTemplateName = permissionTemplateName;
+        }
+
+        public Map<String, String> getPermissionDetails() {
+            return permissionDetails;
+        }
+
+        public void setPermissionDetails(Map<String, String> permissionDetails) {
+            this.permissionDetails = permissionDetails;
+        }
+
+        public Map<String, String> getQualification() {
+            return qualification;
+        }
+
+        public void setQualification(Map<String, String> qualification) {
+            this.qualification = qualification;
+        }
+    }
+
+    /**
+     * Defines some internal constants used on this class.
+     */
+    static class Constants {
+        final static String ROOT_ELEMENT_NAME = "permissionCheck";
+        final static String TYPE_NAME = "PermissionCheckType";
+    }
+
+    /**
+     * A private class which exposes constants which define the XML element names to use when this object is
+     * marshalled to XML.
+     */
+    static class Elements {
+        final static String NAMESPACE_CODE = "namespaceCode";
+        final static String PERMISSION_NAME = "permissionName";
+        final static String PERMISSION_TEMPLATE_NAME = "permissionTemplateName";
+        final static String PERMISSION_DETAILS = "permissionDetails";
+        final static String QUALIFICATION = "qualification";
+    }
+
+}
@@ -208,6 +208,52 @@ public interface PermissionService {
                                    @XmlJavaTypeAdapter(value = MapStringStringAdapter.class)
                                    @WebParam(name = "qualification") Map<String, String> qualification)
             throws RiceIllegalArgumentException;
+
+    /**
+     * Evaluates many authorization checks for a single principal in one call.  Each check is evaluated exactly as
+     * {@link #isAuthorized(String, String, String, java.util.Map)} or
+     * {@link #isAuthorizedByTemplate(String, String, String, java.util.Map, java.util.Map)} would evaluate it, but
+     * the checks share a single evaluation context: identical checks are only evaluated once, the roles granted each
+     * distinct permission are only resolved once, and role membership is only tested once for each distinct
+     * combination of roles and qualification.
+     *
+     * @param principalId the principal id to check.  cannot be null or blank.
+     * @param permissionChecks the checks to evaluate.  cannot be null.
+     * @return the result of each check, in the same order as the given checks
+     * @throws RiceIllegalArgumentException if the principalId is null or blank or permissionChecks is null
+     * @since 2.5.2
+     */
+    @WebMethod(operationName = "isAuthorizedForChecks")
+    @XmlElementWrapper(name = "authorizations", required = true)
+    @XmlElement(name = "isAuthorized", required = false)
+    @WebResult(name = "authorizations")
+    List<Boolean> isAuthorizedForChecks(@WebParam(name = "principalId") String principalId,
+            @WebParam(name = "permissionChecks") List<PermissionCheck> permissionChecks)
+            throws RiceIllegalArgumentException;
+
+    /**
+     * Returns the subset of the given principal ids which are authorized for the given permission.  The roles
+     * granted the permission are resolved once for all of the principals, rather than once per principal as when
+     * calling {@link #isAuthorized(String, String, String, java.util.Map)} in a loop.
+     *
+     * @param principalIds the principal ids to check.  cannot be null.
+     * @param namespaceCode the namespace code.  cannot be null or blank.
+     * @param permissionName the permission name. cannot be null or blank.
+     * @param qualification the qualifications to test against.
+     * @return the authorized principal ids, in the order given, without duplicates
+     * @throws RiceIllegalArgumentException if the principalIds, namespaceCode or permissionName is null or blank
+     * @since 2.5.2
+     */
+    @WebMethod(operationName = "getPrincipalIdSubListWithPermission")
+    @XmlElementWrapper(name = "principalIds", required = true)
+    @XmlElement(name = "principalId", required = false)
+    @WebResult(name = "principalIds")
+    List<String> getPrincipalIdSubListWithPermission(@WebParam(name = "principalIds") List<String> principalIds,
+            @WebParam(name = "namespaceCode") String namespaceCode,
+            @WebParam(name = "permissionName") String permissionName,
+            @XmlJavaTypeAdapter(value = MapStringStringAdapter.class)
+            @WebParam(name = "qualification") Map<String, String> qualification)
+            throws RiceIllegalArgumentException;
     
     
     /**
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -795,6 +796,76 @@ public class GroupServiceImpl extends GroupServiceBase implements GroupService {
                memberPrincipalsAfter);
     }
 
+    @Override
+    public void updateGroupMembers(String groupId, List<String> principalIds,
+            List<String> memberGroupIds) throws RiceIllegalArgumentException {
+        incomingParamCheck(groupId, "groupId");
+        incomingParamCheck(principalIds, "principalIds");
+        incomingParamCheck(memberGroupIds, "memberGroupIds");
+
+        GroupBo group = getGroupBo(groupId);
+        if (group == null) {
+            throw new RiceIllegalArgumentException("the group does not exist: " + groupId);
+        }
+
+        Set<String> principalIdsToAdd = new LinkedHashSet<String>(principalIds);
+        Set<String> groupIdsToAdd = new LinkedHashSet<String>(memberGroupIds);
+        if (groupIdsToAdd.contains(groupId)) {
+            throw new RiceIllegalArgumentException("Can't add group to itself.");
+        }
+
+        List<String> memberPrincipalsBefore = getMemberPrincipalIds(groupId);
+        java.sql.Timestamp today = new java.sql.Timestamp(System.currentTimeMillis());
+
+        // inactivate the current members which are no longer wanted, whatever remains in the sets is missing
+        for (GroupMemberBo member : getActiveGroupMembers(groupId, null, null)) {
+            Set<String> desiredIds = null;
+            if (KimConstants.KimGroupMemberTypes.PRINCIPAL_MEMBER_TYPE.equals(member.getType())) {
+                desiredIds = principalIdsToAdd;
+            } else if (KimConstants.KimGroupMemberTypes.GROUP_MEMBER_TYPE.equals(member.getType())) {
+                desiredIds = groupIdsToAdd;
+            }
+            if (desiredIds != null && !desiredIds.remove(member.getMemberId())) {
+                member.setActiveToDateValue(today);
+                this.dataObjectService.save(member);
+            }
+        }
+
+        for (String childId : groupIdsToAdd) {
+            if (isGroupMemberOfGroup(groupId, childId)) {
+                throw new RiceIllegalArgumentException("Circular group reference.");
+            }
+            GroupMemberBo groupMember = new GroupMemberBo();
+            groupMember.setGroupId(groupId);
+            groupMember.setType(KimConstants.KimGroupMemberTypes.GROUP_MEMBER_TYPE);
+            groupMember.setMemberId(childId);
+            this.dataObjectService.save(groupMember);
+        }
+
+        // nothing is read between these saves, so the new rows are written together at commit, in JDBC batches when
+        // batch writing is enabled for the kim persistence unit (see rice.krad.jpa.kim.eclipselink.jdbc.batch-writing)
+        for (String principalId : principalIdsToAdd) {
+            GroupMemberBo groupMember = new GroupMemberBo();
+            groupMember.setGroupId(groupId);
+            groupMember.setType(KimConstants.KimGroupMemberTypes.PRINCIPAL_MEMBER_TYPE);
+            groupMember.setMemberId(principalId);
+            this.dataObjectService.save(groupMember);
+        }
+
+        // the members of the already loaded group are not refreshed by saving its members, so work out the principals
+        // it now contains from its new direct members rather than reading them back
+        Set<String> memberPrincipalsAfter = new HashSet<String>();
+        if (group.isActive()) {
+            memberPrincipalsAfter.addAll(principalIds);
+            for (String childId : new HashSet<String>(memberGroupIds)) {
+                memberPrincipalsAfter.addAll(getMemberPrincipalIds(childId));
+            }
+        }
+
+        KimImplServiceLocator.getGroupInternalService().updateForWorkgroupChange(groupId, memberPrincipalsBefore,
+                new ArrayList<String>(memberPrincipalsAfter));
+    }
+
     @Override
     public boolean removeGroupFromGroup(String childId, String parentId) throws RiceIllegalArgumentException {
     	incomingParamCheck(childId, "childId");
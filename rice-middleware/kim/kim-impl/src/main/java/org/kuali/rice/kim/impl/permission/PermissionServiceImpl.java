@@ -23,8 +23,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.xml.namespace.QName;
@@ -47,6 +50,7 @@ import org.kuali.rice.kim.api.common.template.Template;
 import org.kuali.rice.kim.api.common.template.TemplateQueryResults;
 import org.kuali.rice.kim.api.identity.principal.Principal;
 import org.kuali.rice.kim.api.permission.Permission;
+import org.kuali.rice.kim.api.permission.PermissionCheck;
 import org.kuali.rice.kim.api.permission.PermissionQueryResults;
 import org.kuali.rice.kim.api.permission.PermissionService;
 import org.kuali.rice.kim.api.role.RoleMembership;
@@ -184,6 +188,105 @@ public class PermissionServiceImpl implements PermissionService {
 		return isAuthorized;
     	
     }
+
+    @Override
+    public List<Boolean> isAuthorizedForChecks(String principalId, List<PermissionCheck> permissionChecks)
+            throws RiceIllegalArgumentException {
+        incomingParamCheck(principalId, "principalId");
+        incomingParamCheck(permissionChecks, "permissionChecks");
+
+        // the evaluation context shared by all of the checks: the result of each distinct check, the role ids granted
+        // each distinct permission (or template and details), and the result of each distinct role membership test
+        Map<PermissionCheck, Boolean> checkResults = new HashMap<PermissionCheck, Boolean>();
+        Map<String, List<String>> roleIdsByPermission = new HashMap<String, List<String>>();
+        Map<String, Boolean> principalHasRoleResults = new HashMap<String, Boolean>();
+
+        List<Boolean> results = new ArrayList<Boolean>(permissionChecks.size());
+        for (PermissionCheck permissionCheck : permissionChecks) {
+            incomingParamCheck(permissionCheck, "permissionCheck");
+            Boolean isAuthorized = checkResults.get(permissionCheck);
+            if (isAuthorized == null) {
+                List<String> roleIds = getRoleIdsForPermissionCheck(permissionCheck, roleIdsByPermission);
+                if (roleIds.isEmpty()) {
+                    isAuthorized = Boolean.FALSE;
+                } else {
+                    String roleKey = new StringBuilder("roleIds=").append(CacheKeyUtils.key(roleIds)).append("|")
+                            .append("qualification=").append(CacheKeyUtils.mapKey(permissionCheck.getQualification()))
+                            .toString();
+                    isAuthorized = principalHasRoleResults.get(roleKey);
+                    if (isAuthorized == null) {
+                        isAuthorized = Boolean.valueOf(roleService.principalHasRole(principalId, roleIds,
+                                permissionCheck.getQualification()));
+                        principalHasRoleResults.put(roleKey, isAuthorized);
+                    }
+                }
+                checkResults.put(permissionCheck, isAuthorized);
+            }
+            results.add(isAuthorized);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Evaluated " + permissionChecks.size() + " permission checks for principal " + principalId
+                    + " using " + checkResults.size() + " distinct checks and " + principalHasRoleResults.size()
+                    + " role membership tests");
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Returns the role ids granted the permissions identified by the given check, consulting and populating the
+     * given map so that each distinct permission is only resolved once per bulk request.
+     */
+    protected List<String> getRoleIdsForPermissionCheck(PermissionCheck permissionCheck,
+            Map<String, List<String>> roleIdsByPermission) {
+        String permissionKey;
+        if (permissionCheck.isByTemplate()) {
+            permissionKey = new StringBuilder("namespaceCode=").append(permissionCheck.getNamespaceCode()).append("|")
+                    .append("permissionTemplateName=").append(permissionCheck.getPermissionTemplateName()).append("|")
+                    .append("permissionDetails=").append(CacheKeyUtils.mapKey(permissionCheck.getPermissionDetails()))
+                    .toString();
+        } else {
+            permissionKey = new StringBuilder("namespaceCode=").append(permissionCheck.getNamespaceCode()).append("|")
+                    .append("permissionName=").append(permissionCheck.getPermissionName()).toString();
+        }
+        List<String> roleIds = roleIdsByPermission.get(permissionKey);
+        if (roleIds == null) {
+            if (permissionCheck.isByTemplate()) {
+                roleIds = getRoleIdsForPermissionTemplate(permissionCheck.getNamespaceCode(),
+                        permissionCheck.getPermissionTemplateName(), permissionCheck.getPermissionDetails());
+            } else {
+                roleIds = getRoleIdsForPermission(permissionCheck.getNamespaceCode(),
+                        permissionCheck.getPermissionName());
+            }
+            roleIdsByPermission.put(permissionKey, roleIds);
+        }
+        return roleIds;
+    }
+
+    @Override
+    public List<String> getPrincipalIdSubListWithPermission(List<String> principalIds, String namespaceCode,
+            String permissionName, Map<String, String> qualification) throws RiceIllegalArgumentException {
+        incomingParamCheck(principalIds, "principalIds");
+        incomingParamCheck(namespaceCode, "namespaceCode");
+        incomingParamCheck(permissionName, "permissionName");
+        incomingParamCheck(qualification, "qualification");
+
+        // the role ids are the same for every principal, so only resolve them once
+        List<String> roleIds = getRoleIdsForPermission(namespaceCode, permissionName);
+        if (roleIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> checkedPrincipalIds = new HashSet<String>(principalIds.size());
+        Set<String> subList = new LinkedHashSet<String>();
+        for (String principalId : principalIds) {
+            if (StringUtils.isNotBlank(principalId) && checkedPrincipalIds.add(principalId)
+                    && roleService.principalHasRole(principalId, roleIds, qualification)) {
+                subList.add(principalId);
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<String>(subList));
+    }
     @Override
     public List<Permission> getAuthorizedPermissions( String principalId,
             String namespaceCode, String permissionName,
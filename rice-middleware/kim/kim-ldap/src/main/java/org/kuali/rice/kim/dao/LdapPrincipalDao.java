@@ -43,6 +43,15 @@ public interface LdapPrincipalDao {
      */
     Principal getPrincipal(String principalId);
 
+    /**
+     * Gets the principals with the given ids, looking them up in batches rather than one at a time.
+     *
+     * @param principalIds the ids of the principals to retrieve
+     * @return the principals found, in no particular order
+     * @since 2.5.2
+     */
+    List<Principal> getPrincipals(List<String> principalIds);
+
     /**
      * In EDS, the principalId, principalName, and entityId will all be the same.
      */
@@ -26,11 +26,16 @@ import org.kuali.rice.kim.dao.LdapPrincipalDao;
 import org.kuali.rice.kim.impl.identity.PersonImpl;
 import org.kuali.rice.kim.util.Constants;
 import org.springframework.ldap.SizeLimitExceededException;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
 import org.springframework.ldap.core.ContextMapper;
 import org.springframework.ldap.core.ContextMapperCallbackHandler;
 import org.springframework.ldap.core.DistinguishedName;
+import org.springframework.ldap.core.LdapOperations;
 import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapOperationsCallback;
+import org.springframework.ldap.core.support.SingleContextSource;
 import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.EqualsFilter;
 import org.springframework.ldap.filter.LikeFilter;
 import org.springframework.ldap.filter.NotFilter;
 import org.springframework.ldap.filter.OrFilter;
@@ -38,7 +43,9 @@ import org.springframework.ldap.filter.OrFilter;
 import javax.naming.directory.SearchControls;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -51,13 +58,21 @@ import static org.kuali.rice.kns.lookup.LookupUtils.getSearchResultsLimit;
  * Integrated Data Access via LDAP to EDS. Provides implementation to interface method
  * for using Spring-LDAP to communicate with EDS.
  *
+ * <p>Lookups of many principals by id are combined into OR-filter searches of up to {@link #setBatchSize(int)}
+ * ids each.  If a {@link #setPageSize(int) page size} is set, searches request their results in pages of that size
+ * over a single connection.</p>
+ *
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
 public class LdapPrincipalDaoImpl implements LdapPrincipalDao { 
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     private Constants kimConstants;
     private LdapTemplate template;
     private ParameterService parameterService;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int pageSize;
     
     private Map<String, ContextMapper> contextMappers;    
     
@@ -100,6 +115,10 @@ public class LdapPrincipalDaoImpl implements LdapPrincipalDao {
         return null;
     }
 
+    public List<Principal> getPrincipals(List<String> principalIds) {
+        return searchByValues(Principal.class, getKimConstants().getKimLdapIdProperty(), principalIds);
+    }
+
     public <T> List<T> search(Class<T> type, Map<String, Object> criteria) {
         AndFilter filter = new AndFilter();
         
@@ -130,21 +149,69 @@ public class LdapPrincipalDaoImpl implements LdapPrincipalDao {
         
         info("Using filter ", filter);
 
+        return search(type, filter.encode(), getSearchControls());
+    }
+
+    /**
+     * Searches for the entries matching any of the given values of an attribute, combining the values into OR-filter
+     * searches of at most {@link #getBatchSize()} values each.
+     *
+     * @param type the type to map the entries to
+     * @param attribute the LDAP attribute to match
+     * @param values the values to match, nulls and duplicates are ignored
+     * @return the mapped entries
+     */
+    protected <T> List<T> searchByValues(Class<T> type, String attribute, Collection<String> values) {
+        List<T> results = new ArrayList<T>();
+        if (values == null || values.isEmpty()) {
+            return results;
+        }
+        List<String> distinctValues = new ArrayList<String>(new LinkedHashSet<String>(values));
+        distinctValues.remove(null);
+
+        SearchControls controls = new SearchControls();
+        controls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+        int batch = Math.max(getBatchSize(), 1);
+        for (int i = 0; i < distinctValues.size(); i += batch) {
+            OrFilter filter = new OrFilter();
+            for (String value : distinctValues.subList(i, Math.min(i + batch, distinctValues.size()))) {
+                filter.or(new EqualsFilter(attribute, value));
+            }
+            debug("Using batch filter ", filter);
+            results.addAll(search(type, filter.encode(), controls));
+        }
+        return results;
+    }
+
+    protected <T> List<T> search(Class<T> type, final String filter, final SearchControls controls) {
         debug("Looking up mapper for ", type.getSimpleName());
         final ContextMapper customMapper = contextMappers.get(type.getSimpleName());
 
-        ContextMapperCallbackHandler callbackHandler = new CustomContextMapperCallbackHandler(customMapper);
+        final ContextMapperCallbackHandler callbackHandler = new CustomContextMapperCallbackHandler(customMapper);
         
         try {
-            getLdapTemplate().search(DistinguishedName.EMPTY_PATH, 
-                                     filter.encode(), 
-                                     getSearchControls(), callbackHandler);
+            if (getPageSize() > 0) {
+                // paged results must all be requested over the same connection
+                final PagedResultsDirContextProcessor processor = new PagedResultsDirContextProcessor(getPageSize());
+                SingleContextSource.doWithSingleContext(getLdapTemplate().getContextSource(),
+                        new LdapOperationsCallback<Object>() {
+                    public Object doWithLdapOperations(LdapOperations operations) {
+                        do {
+                            operations.search(DistinguishedName.EMPTY_PATH, filter, controls, callbackHandler,
+                                    processor);
+                        } while (processor.hasMore());
+                        return null;
+                    }
+                });
+            } else {
+                getLdapTemplate().search(DistinguishedName.EMPTY_PATH, filter, controls, callbackHandler);
+            }
         }
         catch (SizeLimitExceededException e) {
             // Ignore this. We want to limit our results.
         }
 
-        return callbackHandler.getList();
+        return (List<T>) callbackHandler.getList();
     }
 
     protected SearchControls getSearchControls() {
@@ -323,11 +390,10 @@ public class LdapPrincipalDaoImpl implements LdapPrincipalDao {
     }
 	
     public Map<String, EntityNamePrincipalName> getDefaultNamesForPrincipalIds(List<String> principalIds) {
-        Map<String, Object> criteria = new HashMap();
         Map<String, EntityNamePrincipalName> retval = new HashMap();
-        criteria.put(getKimConstants().getKimLdapIdProperty(), principalIds);
 
-        List<EntityNamePrincipalName> results = search(EntityNamePrincipalName.class, criteria);
+        List<EntityNamePrincipalName> results = searchByValues(EntityNamePrincipalName.class,
+                getKimConstants().getKimLdapIdProperty(), principalIds);
 
         for (EntityNamePrincipalName nameInfo : results) {
             retval.put(nameInfo.getPrincipalName(), nameInfo);
@@ -414,6 +480,28 @@ public class LdapPrincipalDaoImpl implements LdapPrincipalDao {
         this.template = template;
     }
     
+    /**
+     * @return the maximum number of ids combined into a single search
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return the number of results requested per page, or 0 if results are not paged
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
     public Map<String, ContextMapper> getContextMappers() {
         return this.contextMappers;
     }
@@ -202,9 +202,21 @@ public class LdapIdentityDelegateServiceImpl extends IdentityServiceImpl {
      */
     @Override
     public List<Principal> getPrincipals(@WebParam(name = "principalIds") List<String> principalIds) {
+        // look up all of the principals in the directory at once, then fall back for any it does not know about
+        Map<String, Principal> edsInfo = new HashMap<String, Principal>();
+        for (Principal principal : getPrincipalDao().getPrincipals(principalIds)) {
+            edsInfo.put(principal.getPrincipalId(), principal);
+        }
+
         List<Principal>  ret = new ArrayList<Principal>();
         for(String p: principalIds) {
-            Principal principalInfo = getPrincipal(p);
+            if (StringUtils.isBlank(p)) {
+                throw new RiceIllegalArgumentException("principalId is blank");
+            }
+            Principal principalInfo = edsInfo.get(p);
+            if (principalInfo == null) {
+                principalInfo = super.getPrincipal(p);
+            }
 
             if (principalInfo != null) {
                 ret.add(principalInfo) ;
@@ -55,7 +55,9 @@ public interface LookupResultsService extends Serializable {
     public void persistSelectedObjectIds(String lookupResultsSequenceNumber, Set<String> selectedObjectIds, String personId) throws Exception;
     
     /**
-     * Returns the list of result rows that was persisted under the passed in sequence number
+     * Returns the list of result rows that was persisted under the passed in sequence number.  Implementations may
+     * return a list which restores its rows as they are accessed, such as a {@link PagedResultTable}, so callers which
+     * only display part of the table should only access the rows they display.
      * 
      * @param lookupResultsSequenceNumber the lookup sequence number that was used to persist
      * @param personId the user id that was used to persist the results table.  This prevents a malicious user from passing someone else's sequence number 
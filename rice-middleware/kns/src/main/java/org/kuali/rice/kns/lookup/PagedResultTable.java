@@ -0,0 +1,185 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kns.lookup;
+
+import org.kuali.rice.kns.web.ui.ResultRow;
+import org.kuali.rice.krad.util.ObjectUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A multiple value lookup results table which is stored as fixed size pages of compressed rows.
+ *
+ * <p>Each page is serialized and compressed on its own, and is only decompressed the first time one of its rows is
+ * accessed, so rendering one page of a large table only has to restore the rows of that page.  The object id of
+ * every row is kept uncompressed alongside the pages so that all rows can be selected without restoring any of
+ * them.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ * @since 2.5.2
+ * @deprecated Only used in KNS classes, use KRAD.
+ */
+@Deprecated
+public class PagedResultTable extends AbstractList<ResultRow> implements Serializable {
+    private static final long serialVersionUID = 4470416358231870129L;
+
+    private final int pageSize;
+    private final int rowCount;
+    private final byte[][] pages;
+    private final String[] objectIds;
+
+    private transient List<ResultRow>[] restoredPages;
+
+    private PagedResultTable(int pageSize, int rowCount, byte[][] pages, String[] objectIds) {
+        this.pageSize = pageSize;
+        this.rowCount = rowCount;
+        this.pages = pages;
+        this.objectIds = objectIds;
+    }
+
+    /**
+     * Splits the given rows into pages of the given size and compresses each page.
+     *
+     * @param resultTable the rows to store
+     * @param pageSize the number of rows in each page
+     * @return the paged table
+     * @throws Exception if a row cannot be serialized
+     */
+    public static PagedResultTable create(List<ResultRow> resultTable, int pageSize) throws Exception {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+
+        int rowCount = resultTable.size();
+        byte[][] pages = new byte[(rowCount + pageSize - 1) / pageSize][];
+        String[] objectIds = new String[rowCount];
+
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            ArrayList<ResultRow> page = new ArrayList<ResultRow>(pageSize);
+            for (int i = pageIndex * pageSize; i < Math.min(rowCount, (pageIndex + 1) * pageSize); i++) {
+                ResultRow row = resultTable.get(i);
+                objectIds[i] = row.getObjectId();
+                page.add(row);
+            }
+            pages[pageIndex] = compress(ObjectUtils.toByteArray(page));
+        }
+
+        return new PagedResultTable(pageSize, rowCount, pages, objectIds);
+    }
+
+    private static byte[] compress(byte[] bytes) throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        GZIPOutputStream out = new GZIPOutputStream(compressed);
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+
+        return compressed.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] bytes) throws Exception {
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream(bytes.length * 4);
+        GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+        try {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                decompressed.write(buffer, 0, read);
+            }
+            return decompressed.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * @see java.util.AbstractList#get(int)
+     */
+    @Override
+    public ResultRow get(int index) {
+        return getPage(index).get(index % pageSize);
+    }
+
+    /**
+     * Replaces a row of the table.  Only the restored page is changed, the table needs to be created again to store
+     * the change.
+     *
+     * @see java.util.AbstractList#set(int, Object)
+     */
+    @Override
+    public ResultRow set(int index, ResultRow row) {
+        ResultRow previousRow = getPage(index).set(index % pageSize, row);
+        objectIds[index] = row == null ? null : row.getObjectId();
+
+        return previousRow;
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the page containing the row at the given index, restoring it if it has not been accessed yet.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<ResultRow> getPage(int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+        }
+
+        if (restoredPages == null) {
+            restoredPages = new List[pages.length];
+        }
+
+        int pageIndex = index / pageSize;
+        if (restoredPages[pageIndex] == null) {
+            try {
+                restoredPages[pageIndex] = (List<ResultRow>) ObjectUtils.fromByteArray(decompress(pages[pageIndex]));
+            } catch (Exception e) {
+                throw new RuntimeException("Unable to restore page " + pageIndex + " of lookup results", e);
+            }
+        }
+
+        return restoredPages[pageIndex];
+    }
+
+    /**
+     * @return the object ids of all rows, in row order, without restoring any of the rows
+     */
+    public List<String> getObjectIds() {
+        return Collections.unmodifiableList(Arrays.asList(objectIds));
+    }
+
+    /**
+     * @return the number of rows in each page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+}
@@ -25,6 +25,7 @@ import org.kuali.rice.kns.lookup.HtmlData;
 import org.kuali.rice.kns.lookup.LookupResultsService;
 import org.kuali.rice.kns.lookup.LookupUtils;
 import org.kuali.rice.kns.lookup.Lookupable;
+import org.kuali.rice.kns.lookup.PagedResultTable;
 import org.kuali.rice.kns.service.KNSServiceLocator;
 import org.kuali.rice.kns.web.struts.form.MultipleValueLookupForm;
 import org.kuali.rice.kns.web.ui.Column;
@@ -393,7 +394,7 @@ public class KualiMultipleValueLookupAction extends KualiLookupAction implements
         multipleValueLookupForm.setCompositeObjectIdMap(selectedIds);
 
         // Check the boxes that are selected on the page
-        for (ResultRow row : resultTable) {
+        for (ResultRow row : getDisplayedRows(multipleValueLookupForm, resultTable)) {
             String objId = row.getObjectId();
             for (Map.Entry<String, String> entry : selectedIds.entrySet()) {
                 String selectedId = entry.getValue();
@@ -556,17 +557,20 @@ public class KualiMultipleValueLookupAction extends KualiLookupAction implements
         }
 
         Map<String, String> selectedObjectIds = new HashMap<String, String>();
-        for (ResultRow row : resultTable) {
-            String objId = row.getObjectId();
-            HtmlData.InputHtmlData returnUrl = (HtmlData.InputHtmlData) row.getReturnUrlHtmlData();
-            returnUrl.setChecked(HtmlData.InputHtmlData.CHECKBOX_CHECKED_VALUE);
-            row.setReturnUrl(returnUrl.constructCompleteHtmlTag());
+        for (String objId : getObjectIds(resultTable)) {
             if(objId != null){
                 selectedObjectIds.put(objId, objId);
             }
         }
 
         multipleValueLookupForm.jumpToPage(multipleValueLookupForm.getViewedPageNumber(), resultTable.size(), maxRowsPerPage);
+
+        // only the rows on the page are rendered, so only their boxes need to be checked
+        for (ResultRow row : getDisplayedRows(multipleValueLookupForm, resultTable)) {
+            HtmlData.InputHtmlData returnUrl = (HtmlData.InputHtmlData) row.getReturnUrlHtmlData();
+            returnUrl.setChecked(HtmlData.InputHtmlData.CHECKBOX_CHECKED_VALUE);
+            row.setReturnUrl(returnUrl.constructCompleteHtmlTag());
+        }
         multipleValueLookupForm.setColumnToSortIndex(Integer.parseInt(multipleValueLookupForm.getPreviouslySortedColumnIndex()));
         multipleValueLookupForm.setCompositeObjectIdMap(selectedObjectIds);
 
@@ -612,6 +616,42 @@ public class KualiMultipleValueLookupAction extends KualiLookupAction implements
         return resultTable;
     }
 
+    /**
+     * Returns the rows of the result table which are displayed on the page the form is currently viewing, without
+     * accessing any of the other rows
+     *
+     * @param multipleValueLookupForm the form, which has already been moved to the page to display
+     * @param resultTable the result table
+     * @return the displayed rows
+     */
+    protected List<ResultRow> getDisplayedRows(MultipleValueLookupForm multipleValueLookupForm, List<ResultRow> resultTable) {
+        int firstRowIndex = Math.max(0, multipleValueLookupForm.getFirstRowIndex());
+        int lastRowIndex = Math.min(resultTable.size() - 1, multipleValueLookupForm.getLastRowIndex());
+        if (firstRowIndex > lastRowIndex) {
+            return Collections.emptyList();
+        }
+        return resultTable.subList(firstRowIndex, lastRowIndex + 1);
+    }
+
+    /**
+     * Returns the object ids of all rows of the result table.  For a {@link PagedResultTable} the ids are read without
+     * restoring any of the rows.
+     *
+     * @param resultTable the result table
+     * @return the object id of each row, in row order
+     */
+    protected List<String> getObjectIds(List<ResultRow> resultTable) {
+        if (resultTable instanceof PagedResultTable) {
+            return ((PagedResultTable) resultTable).getObjectIds();
+        }
+
+        List<String> objectIds = new ArrayList<String>(resultTable.size());
+        for (ResultRow row : resultTable) {
+            objectIds.add(row.getObjectId());
+        }
+        return objectIds;
+    }
+
     /**
      * This method computes the max number of rows that should be rendered per page for a multiple value lookup.
      * 
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.kns.lookup;
+
+import org.junit.Test;
+import org.kuali.rice.kns.web.ui.Column;
+import org.kuali.rice.kns.web.ui.ResultRow;
+import org.kuali.rice.krad.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the storage and restoration of rows by PagedResultTable
+ *
+ * @deprecated KNS test class, convert to KRAD equivalent if applicable.
+ */
+@Deprecated
+public class PagedResultTableTest {
+
+    /**
+     * Verifies the rows of a stored table are restored in order, across page boundaries
+     */
+    @Test
+    public void testRestoreRows() throws Exception {
+        List<ResultRow> resultTable = createResultTable(25);
+
+        PagedResultTable pagedResultTable = (PagedResultTable) ObjectUtils.fromByteArray(ObjectUtils.toByteArray(
+                PagedResultTable.create(resultTable, 10)));
+
+        assertEquals(25, pagedResultTable.size());
+        assertEquals(10, pagedResultTable.getPageSize());
+        for (int i = 0; i < resultTable.size(); i++) {
+            assertEquals(resultTable.get(i).getObjectId(), pagedResultTable.get(i).getObjectId());
+            assertEquals(resultTable.get(i).getColumns().get(0).getPropertyValue(),
+                    pagedResultTable.get(i).getColumns().get(0).getPropertyValue());
+        }
+
+        // a row which was already restored is not restored again
+        assertSame(pagedResultTable.get(24), pagedResultTable.get(24));
+
+        assertEquals(0, PagedResultTable.create(new ArrayList<ResultRow>(), 10).size());
+    }
+
+    /**
+     * Verifies the object ids of all rows are available, and follow rows that are replaced
+     */
+    @Test
+    public void testObjectIds() throws Exception {
+        List<ResultRow> resultTable = createResultTable(5);
+        resultTable.get(4).setObjectId(null);
+
+        PagedResultTable pagedResultTable = PagedResultTable.create(resultTable, 2);
+        assertEquals("id0", pagedResultTable.getObjectIds().get(0));
+        assertEquals("id3", pagedResultTable.getObjectIds().get(3));
+        assertNull(pagedResultTable.getObjectIds().get(4));
+
+        Collections.reverse(pagedResultTable);
+        assertEquals("id3", pagedResultTable.get(1).getObjectId());
+        assertEquals("id3", pagedResultTable.getObjectIds().get(1));
+        assertNull(pagedResultTable.getObjectIds().get(0));
+
+        PagedResultTable reversed = PagedResultTable.create(pagedResultTable, 2);
+        assertEquals("id0", reversed.get(4).getObjectId());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() throws Exception {
+        PagedResultTable.create(createResultTable(5), 10).get(5);
+    }
+
+    private List<ResultRow> createResultTable(int rowCount) {
+        List<ResultRow> resultTable = new ArrayList<ResultRow>();
+        for (int i = 0; i < rowCount; i++) {
+            Column column = new Column();
+            column.setColumnTitle("Name");
+            column.setPropertyName("name");
+            column.setPropertyValue("name" + i);
+
+            List<Column> columns = new ArrayList<Column>();
+            columns.add(column);
+
+            ResultRow row = new ResultRow(columns, "", "");
+            row.setObjectId("id" + i);
+            resultTable.add(row);
+        }
+        return resultTable;
+    }
+
+}
@@ -53,7 +53,18 @@ public enum ExecutionFlag {
 	 * set to false, the engine may skip (aka short circuit) propositions that 
 	 * do not influence the overall outcome of the proposition tree.  
 	 */
-	EVALUATE_ALL_PROPOSITIONS(false);
+	EVALUATE_ALL_PROPOSITIONS(false),
+
+	/**
+	 * Instructs the engine to resolve the terms referenced by a compound
+	 * proposition concurrently before the proposition is evaluated.  This
+	 * helps when terms are resolved by slow, I/O bound term resolvers.
+	 * Propositions are still evaluated in order, so short circuiting and
+	 * result logging are unaffected, however terms of propositions which
+	 * end up being short circuited may be resolved, so term resolvers must
+	 * be free of side effects when this flag is set.  Default value is false.
+	 */
+	PREFETCH_TERMS(false);
 	
 	private final boolean defaultValue;
 
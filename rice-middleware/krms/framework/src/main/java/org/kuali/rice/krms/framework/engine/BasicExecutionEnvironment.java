@@ -15,6 +15,7 @@
  */
 package org.kuali.rice.krms.framework.engine;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +46,7 @@ public final class BasicExecutionEnvironment implements ExecutionEnvironment {
 	private final EngineResults engineResults;
 	private final TermResolutionEngine termResolutionEngine;
 	private Map<Object, Set<Term>> termPropositionMap;
+	private Set<Term> prefetchedTerms;
 
     /**
      * Constructor for a BasicExecutionEnvironment with the given {@link SelectionCriteria}, facts, {@link ExecutionOptions} and {@link TermResolutionEngine}
@@ -118,6 +120,29 @@ public final class BasicExecutionEnvironment implements ExecutionEnvironment {
 		return value;
 	}
 
+    /**
+     * Resolves the given {@link Term}s concurrently ahead of their evaluation, see
+     * {@link org.kuali.rice.krms.api.engine.ExecutionFlag#PREFETCH_TERMS}.  Each term is only attempted once per
+     * execution; terms which cannot be prefetched are resolved as usual when they are evaluated.
+     * @param terms the terms to resolve
+     */
+	public void prefetchTerms(Collection<Term> terms) {
+		if (!(termResolutionEngine instanceof TermResolutionEngineImpl)) {
+			return;
+		}
+		if (prefetchedTerms == null) {
+			prefetchedTerms = new HashSet<Term>();
+		}
+
+		Set<Term> termsToPrefetch = new HashSet<Term>(terms);
+		termsToPrefetch.removeAll(prefetchedTerms);
+		prefetchedTerms.addAll(termsToPrefetch);
+
+		if (!termsToPrefetch.isEmpty()) {
+			((TermResolutionEngineImpl) termResolutionEngine).prefetchTerms(termsToPrefetch);
+		}
+	}
+
     @Override
 	public Set<Term> getTermsForCaller(Object caller) {
 		return termPropositionMap.get(caller);
@@ -17,6 +17,7 @@ package org.kuali.rice.krms.framework.engine;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
 import org.kuali.rice.krms.api.engine.ResultEvent;
@@ -31,7 +32,7 @@ import org.kuali.rice.krms.framework.engine.result.BasicResult;
  *
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
-public class ComparableTermBasedProposition<T> implements Proposition {
+public class ComparableTermBasedProposition<T> implements Proposition, TermReferencing {
 	private static final ResultLogger LOG = ResultLogger.getInstance();
 
 	private final ComparisonOperator operator;
@@ -96,6 +97,11 @@ public class ComparableTermBasedProposition<T> implements Proposition {
 	    return false;
 	}
 
+	@Override
+	public Set<Term> getReferencedTerms() {
+	    return Collections.singleton(term);
+	}
+
 	/**
      * Returns the expectedValue
 	 * @return the expectedValue
@@ -17,11 +17,14 @@ package org.kuali.rice.krms.framework.engine;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
 import org.kuali.rice.krms.api.engine.ResultEvent;
 import org.kuali.rice.krms.api.engine.ExecutionFlag;
+import org.kuali.rice.krms.api.engine.Term;
 import org.kuali.rice.krms.api.repository.LogicalOperator;
 import org.kuali.rice.krms.framework.engine.result.BasicResult;
 
@@ -31,7 +34,7 @@ import org.kuali.rice.krms.framework.engine.result.BasicResult;
  *
  * @author Kuali Rice Team (rice.collab@kuali.org)
  */
-public final class CompoundProposition implements Proposition {
+public final class CompoundProposition implements Proposition, TermReferencing {
 	
     private static final ResultLogger LOG = ResultLogger.getInstance();
     
@@ -57,6 +60,11 @@ public final class CompoundProposition implements Proposition {
 	
 	@Override
 	public PropositionResult evaluate(ExecutionEnvironment environment) {
+
+		if (environment.getExecutionOptions().getFlag(ExecutionFlag.PREFETCH_TERMS)
+		        && environment instanceof BasicExecutionEnvironment) {
+		    ((BasicExecutionEnvironment) environment).prefetchTerms(getReferencedTerms());
+		}
 		
 		PropositionResult result = evaluateInner(environment);
 		
@@ -148,4 +156,19 @@ public final class CompoundProposition implements Proposition {
         return true;
     }
 
+    /**
+     * Returns the {@link Term}s referenced by all of the propositions beneath this one.
+     * @return the referenced terms
+     */
+    @Override
+    public Set<Term> getReferencedTerms() {
+        Set<Term> terms = new HashSet<Term>();
+        for (Proposition proposition : propositions) {
+            if (proposition instanceof TermReferencing) {
+                terms.addAll(((TermReferencing) proposition).getReferencedTerms());
+            }
+        }
+        return terms;
+    }
+
 }
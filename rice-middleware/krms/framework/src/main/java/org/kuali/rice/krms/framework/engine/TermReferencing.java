@@ -0,0 +1,38 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.krms.framework.engine;
+
+import org.kuali.rice.krms.api.engine.Term;
+
+import java.util.Set;
+
+/**
+ * Implemented by {@link Proposition}s and {@link org.kuali.rice.krms.framework.engine.expression.Expression}s which
+ * can report, before they are evaluated, the {@link Term}s they will resolve.  This allows the engine to resolve
+ * those terms ahead of time when {@link org.kuali.rice.krms.api.engine.ExecutionFlag#PREFETCH_TERMS} is set.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public interface TermReferencing {
+
+    /**
+     * Returns the terms which will be resolved when this object is evaluated.
+     *
+     * @return the referenced terms, never null
+     */
+    Set<Term> getReferencedTerms();
+
+}
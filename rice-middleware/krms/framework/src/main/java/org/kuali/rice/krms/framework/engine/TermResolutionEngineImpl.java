@@ -22,12 +22,22 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -50,6 +60,61 @@ public class TermResolutionEngineImpl implements TermResolutionEngine {
 	// should this use soft refs?  Will require some refactoring to check if the referenced object is around;
 	private final Map<Term, Object> termCache = new HashMap<Term, Object>();
 
+	/**
+	 * Resolves the given terms concurrently and caches their values.  Only terms which can be resolved by a single
+	 * {@link TermResolver} whose prerequisites are already available are resolved this way, so that the resolvers
+	 * run independently of each other and the cache is only updated on the calling thread.  Any other term, or any
+	 * term whose resolver fails, is left to be resolved (and to report its failure) through
+	 * {@link #resolveTerm(Term)} as usual.
+	 *
+	 * @param terms the terms to resolve
+	 */
+	public void prefetchTerms(Collection<Term> terms) {
+		Map<Term, Future<Object>> resolutions = new LinkedHashMap<Term, Future<Object>>();
+
+		for (final Term term : terms) {
+			if (termCache.containsKey(term)) {
+				continue;
+			}
+
+			List<TermResolverKey> resolutionPlan = buildTermResolutionPlan(term.getName());
+			if (resolutionPlan == null || resolutionPlan.size() != 1) {
+				continue;
+			}
+
+			final TermResolver<?> resolver = termResolversByKey.get(resolutionPlan.get(0));
+			final Map<String, String> parameters = term.getParameters();
+			if (!parameters.keySet().equals(resolver.getParameterNames())) {
+				continue;
+			}
+
+			final Map<String, Object> resolvedPrereqs = new HashMap<String, Object>();
+			for (String prereq : resolver.getPrerequisites()) {
+				resolvedPrereqs.put(prereq, termCache.get(new Term(prereq, null)));
+			}
+
+			resolutions.put(term, PrefetchExecutorHolder.EXECUTOR.submit(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					return resolver.resolve(resolvedPrereqs, parameters);
+				}
+			}));
+		}
+
+		LOG.debug("prefetching " + resolutions.size() + " of " + terms.size() + " terms");
+
+		for (Entry<Term, Future<Object>> resolution : resolutions.entrySet()) {
+			try {
+				termCache.put(resolution.getKey(), resolution.getValue().get());
+			} catch (ExecutionException e) {
+				LOG.debug("unable to prefetch " + resolution.getKey() + ", it will be resolved on demand", e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
 	@Override
 	public void addTermValue(Term term, Object value) {
 		termCache.put(term, value);
@@ -123,6 +188,26 @@ public class TermResolutionEngineImpl implements TermResolutionEngine {
 		return (T)termCache.get(term);
 	}
 
+	/**
+	 * Lazily created pool shared by all engines for concurrent term resolution.  When all threads are busy the
+	 * caller resolves the term itself, which bounds the number of threads without queueing.
+	 */
+	private static final class PrefetchExecutorHolder {
+		private static final int MAX_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 4);
+
+		private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, MAX_THREADS, 60L, TimeUnit.SECONDS,
+				new SynchronousQueue<Runnable>(), new ThreadFactory() {
+					private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "KRMS-TermPrefetch-" + threadNumber.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
 	/**
 	 * This method checks that the required parameters (as returned by the {@link TermResolver} via 
 	 * {@link TermResolver#getParameterNames()}) are met in the {@link Map} of provided parameters.
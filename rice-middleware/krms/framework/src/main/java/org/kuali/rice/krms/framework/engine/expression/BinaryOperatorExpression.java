@@ -16,6 +16,11 @@
 package org.kuali.rice.krms.framework.engine.expression;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
+import org.kuali.rice.krms.api.engine.Term;
+import org.kuali.rice.krms.framework.engine.TermReferencing;
+
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Binary Operator implementation of Expression<Boolean>
@@ -23,7 +28,7 @@ import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
  * @author Kuali Rice Team (rice.collab@kuali.org)
  *
  */
-public final class BinaryOperatorExpression implements Expression<Boolean> {
+public final class BinaryOperatorExpression implements Expression<Boolean>, TermReferencing {
 
 	private final ComparisonOperator operator;
 	private final Expression<? extends Object> lhs;
@@ -47,5 +52,17 @@ public final class BinaryOperatorExpression implements Expression<Boolean> {
 		Object rhsValue = rhs.invoke(environment);
 		return operator.compare(lhsValue, rhsValue);
 	}
+
+	@Override
+	public Set<Term> getReferencedTerms() {
+		Set<Term> terms = new HashSet<Term>();
+		if (lhs instanceof TermReferencing) {
+			terms.addAll(((TermReferencing) lhs).getReferencedTerms());
+		}
+		if (rhs instanceof TermReferencing) {
+			terms.addAll(((TermReferencing) rhs).getReferencedTerms());
+		}
+		return terms;
+	}
 	
 }
@@ -17,6 +17,11 @@ package org.kuali.rice.krms.framework.engine.expression;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
 import org.kuali.rice.krms.api.engine.IncompatibleTypeException;
+import org.kuali.rice.krms.api.engine.Term;
+import org.kuali.rice.krms.framework.engine.TermReferencing;
+
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * The {@link Expression} used in construction, will be invoked with the given {@link ExecutionEnvironment}.
@@ -24,7 +29,7 @@ import org.kuali.rice.krms.api.engine.IncompatibleTypeException;
  * @author Kuali Rice Team (rice.collab@kuali.org)
  *
  */
-public final class BooleanValidatingExpression implements Expression<Boolean> {
+public final class BooleanValidatingExpression implements Expression<Boolean>, TermReferencing {
 
 	private final Expression<? extends Object> expression;
 
@@ -44,5 +49,13 @@ public final class BooleanValidatingExpression implements Expression<Boolean> {
 		}
 		throw new IncompatibleTypeException("Type mismatch when executing expression.", result, Boolean.class);
 	}
+
+	@Override
+	public Set<Term> getReferencedTerms() {
+		if (expression instanceof TermReferencing) {
+			return ((TermReferencing) expression).getReferencedTerms();
+		}
+		return Collections.emptySet();
+	}
 	
 }
\ No newline at end of file
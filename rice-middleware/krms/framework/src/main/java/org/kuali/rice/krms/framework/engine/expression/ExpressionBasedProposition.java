@@ -17,17 +17,20 @@ package org.kuali.rice.krms.framework.engine.expression;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
+import org.kuali.rice.krms.api.engine.Term;
 import org.kuali.rice.krms.framework.engine.Proposition;
 import org.kuali.rice.krms.framework.engine.PropositionResult;
+import org.kuali.rice.krms.framework.engine.TermReferencing;
 
 /**
  * An implementation of {@link Proposition} which uses a given {@link Expression}<Boolean>
  * @author Kuali Rice Team (rice.collab@kuali.org)
  *
  */
-public class ExpressionBasedProposition implements Proposition {
+public class ExpressionBasedProposition implements Proposition, TermReferencing {
 
 	private final Expression<Boolean> expression;
 
@@ -54,4 +57,12 @@ public class ExpressionBasedProposition implements Proposition {
     public boolean isCompound() {
         return false;
     }
+
+    @Override
+    public Set<Term> getReferencedTerms() {
+        if (expression instanceof TermReferencing) {
+            return ((TermReferencing) expression).getReferencedTerms();
+        }
+        return Collections.emptySet();
+    }
 }
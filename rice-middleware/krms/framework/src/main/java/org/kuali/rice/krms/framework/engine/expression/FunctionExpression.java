@@ -15,11 +15,15 @@
  */
 package org.kuali.rice.krms.framework.engine.expression;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
+import org.kuali.rice.krms.api.engine.Term;
 import org.kuali.rice.krms.api.engine.expression.ComparisonOperatorService;
 import org.kuali.rice.krms.framework.engine.Function;
+import org.kuali.rice.krms.framework.engine.TermReferencing;
 
 /**
  * An implementation of {@link Expression} which invokes a {@link Function} with the results of the invocation of the given
@@ -27,7 +31,7 @@ import org.kuali.rice.krms.framework.engine.Function;
  * @author Kuali Rice Team (rice.collab@kuali.org)
  * 
  */
-public final class FunctionExpression implements Expression<Object> {
+public final class FunctionExpression implements Expression<Object>, TermReferencing {
 
 	private final Function function;
     private final String [] parameterTypes;
@@ -70,5 +74,16 @@ public final class FunctionExpression implements Expression<Object> {
 		return function.invoke(argumentValues);
 	}
 
+	@Override
+	public Set<Term> getReferencedTerms() {
+		Set<Term> terms = new HashSet<Term>();
+		for (Expression<? extends Object> argument : parameters) {
+			if (argument instanceof TermReferencing) {
+				terms.addAll(((TermReferencing) argument).getReferencedTerms());
+			}
+		}
+		return terms;
+	}
+
 
 }
@@ -18,6 +18,10 @@ package org.kuali.rice.krms.framework.engine.expression;
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
 import org.kuali.rice.krms.api.engine.Term;
 import org.kuali.rice.krms.api.engine.TermResolutionException;
+import org.kuali.rice.krms.framework.engine.TermReferencing;
+
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * An implementation of {@link Expression} which resolves the given {@link Term}.
@@ -25,7 +29,7 @@ import org.kuali.rice.krms.api.engine.TermResolutionException;
  * @author Kuali Rice Team (rice.collab@kuali.org)
  *
  */
-public final class TermExpression implements Expression<Object> {
+public final class TermExpression implements Expression<Object>, TermReferencing {
 
 	private final Term term;
 
@@ -46,4 +50,9 @@ public final class TermExpression implements Expression<Object> {
 	    return environment.resolveTerm(term, this);
 	}
 
+	@Override
+	public Set<Term> getReferencedTerms() {
+	    return Collections.singleton(term);
+	}
+
 }
@@ -330,6 +330,59 @@ public class TermResolutionEngineTest {
 	*/
 	
 	
+	@Test
+	public void testPrefetchTerms() {
+		WhiteBoxTermResolutionEngineImpl whiteBoxTermResolutionService = new WhiteBoxTermResolutionEngineImpl();
+		TestScenarioHelper testHelper = new TestScenarioHelper(whiteBoxTermResolutionService);
+
+		// GIVENS:
+		testHelper.addGivens("A");
+
+		// RESOLVERS:
+		testHelper.addResolver("B", /* <-- */ "A");
+		testHelper.addResolver("C", /* <-- */ "A");
+		testHelper.addResolver("D", /* <-- */ "B");
+
+		testHelper.logScenarioDescription();
+
+		assertEquals(2, whiteBoxTermResolutionService.buildTermResolutionPlan("D").size());
+
+		whiteBoxTermResolutionService.prefetchTerms(Arrays.asList(new Term("B", null), new Term("C", null),
+				new Term("D", null)));
+
+		// B and C only need a single resolver and are prefetched, D needs B first so it is resolved on demand
+		assertTrue(whiteBoxTermResolutionService.buildTermResolutionPlan("B").isEmpty());
+		assertTrue(whiteBoxTermResolutionService.buildTermResolutionPlan("C").isEmpty());
+		assertEquals(1, whiteBoxTermResolutionService.buildTermResolutionPlan("D").size());
+
+		testHelper.assertSuccess("B");
+		testHelper.assertSuccess("C");
+		testHelper.assertSuccess("D");
+	}
+
+	@Test
+	public void testPrefetchTermsWithFailingResolver() {
+		TestScenarioHelper testHelper = new TestScenarioHelper(termResolutionEngine);
+
+		// GIVENS:
+		testHelper.addGivens("A");
+
+		// RESOLVERS:
+		TermResolverMock<Object> exploder = new TermResolverMock<Object>("B", "B-result", 1, "A");
+		exploder.setIsExploder(true);
+		termResolutionEngine.addTermResolver(exploder);
+
+		// the failure is left for on demand resolution to report
+		((TermResolutionEngineImpl) termResolutionEngine).prefetchTerms(Collections.singleton(new Term("B", null)));
+
+		try {
+			termResolutionEngine.resolveTerm(new Term("B", null));
+			fail("Should rethrow the resolver failure");
+		} catch (RuntimeException e) {
+			// Good, this is what we expect
+		}
+	}
+
 	private static class TermResolverMock<T> implements TermResolver<T> {
 		private String output;
 		private Set<String> params;
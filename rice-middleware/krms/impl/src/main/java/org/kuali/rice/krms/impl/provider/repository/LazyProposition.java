@@ -16,14 +16,17 @@
 package org.kuali.rice.krms.impl.provider.repository;
 
 import org.kuali.rice.krms.api.engine.ExecutionEnvironment;
+import org.kuali.rice.krms.api.engine.Term;
 import org.kuali.rice.krms.api.repository.proposition.PropositionDefinition;
 import org.kuali.rice.krms.framework.engine.Proposition;
 import org.kuali.rice.krms.framework.engine.PropositionResult;
+import org.kuali.rice.krms.framework.engine.TermReferencing;
 import org.kuali.rice.krms.framework.type.PropositionTypeService;
 import org.kuali.rice.krms.impl.type.KrmsTypeResolver;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * TODO... 
@@ -31,7 +34,7 @@ import java.util.List;
  * @author Kuali Rice Team (rice.collab@kuali.org)
  *
  */
-final class LazyProposition implements Proposition {
+final class LazyProposition implements Proposition, TermReferencing {
 
 	private final PropositionDefinition propositionDefinition;
 	private final KrmsTypeResolver resolver;
@@ -104,4 +107,13 @@ final class LazyProposition implements Proposition {
 	public boolean isCompound() {
 	    return getProposition().isCompound();
 	}
+
+	@Override
+	public Set<Term> getReferencedTerms() {
+	    Proposition localProposition = getProposition();
+	    if (localProposition instanceof TermReferencing) {
+	        return ((TermReferencing) localProposition).getReferencedTerms();
+	    }
+	    return Collections.emptySet();
+	}
 }
@@ -46,6 +46,7 @@ import org.kuali.rice.ksb.impl.bus.diff.CompleteServiceDiff;
 import org.kuali.rice.ksb.impl.bus.diff.LocalServicesDiff;
 import org.kuali.rice.ksb.impl.bus.diff.RemoteServicesDiff;
 import org.kuali.rice.ksb.impl.bus.diff.ServiceRegistryDiffCalculator;
+import org.kuali.rice.ksb.messaging.serviceconnectors.EndpointRequestGate;
 import org.kuali.rice.ksb.messaging.serviceexporters.ServiceExportManager;
 import org.kuali.rice.ksb.messaging.threadpool.KSBScheduledPool;
 import org.springframework.beans.factory.DisposableBean;
@@ -135,6 +136,7 @@ public class ServiceBusImpl extends BaseLifecycle implements ServiceBus, Initial
 		LOG.info("Stopping the Service Bus...");
 		stopSynchronizationThread();
 		serviceRegistry.takeInstanceOffline(getInstanceId());
+		EndpointRequestGate.removeAllEndpoints();
 		LOG.info("...Service Bus successfully stopped.");
 	}
 	
@@ -498,6 +500,7 @@ public class ServiceBusImpl extends BaseLifecycle implements ServiceBus, Initial
 						LOG.warn("Failed to remove remoteService during synchronization: " + removedRemoteService);
 					}
 				}
+				EndpointRequestGate.removeEndpoint(removedRemoteService.getServiceInfo().getEndpointUrl());
 			}
 			List<ServiceInfo> newServices = remoteServicesDiff.getNewServices();
 			for (ServiceInfo newService : newServices) {
@@ -18,9 +18,14 @@ package org.kuali.rice.ksb.messaging;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import javax.xml.namespace.QName;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 import org.kuali.rice.core.api.config.property.Config;
 import org.kuali.rice.core.api.config.property.ConfigContext;
@@ -189,16 +194,68 @@ public class MessageServiceInvoker implements Runnable {
     }
 
     /**
-     * Because this is a queue we just need to grab one.
+     * Because this is a queue we just need to grab one.  If consistent queue routing is enabled through
+     * {@link KSBConstants.Config#KSB_MESSAGE_CONSISTENT_QUEUE_ROUTING}, messages with the same routing key are
+     * always sent to the same endpoint.
      * 
      * @param serviceInfo
      * @return
      */
     protected Object getQueueService(ServiceConfiguration serviceConfiguration) {
     	ServiceBus serviceBus = KsbApiServiceLocator.getServiceBus();
+        String routingKey = getRoutingKey();
+        if (routingKey != null && ConfigContext.getCurrentContextConfig().getBooleanProperty(
+                KSBConstants.Config.KSB_MESSAGE_CONSISTENT_QUEUE_ROUTING, false)) {
+            Endpoint endpoint = getConsistentEndpoint(serviceBus.getEndpoints(serviceConfiguration.getServiceName(),
+                    serviceConfiguration.getApplicationId()), routingKey);
+            if (endpoint != null) {
+                return endpoint.getService();
+            }
+        }
     	return serviceBus.getService(serviceConfiguration.getServiceName(), serviceConfiguration.getApplicationId());
     }
 
+    /**
+     * Returns the key which messages are routed on when consistent queue routing is enabled: the second value of the
+     * message if it has one, otherwise its first value.  KEW queues store the id of the document being processed in
+     * one of these values, so all processing of a document is done by the same node.
+     *
+     * @return the routing key, or null if the message has no values
+     */
+    protected String getRoutingKey() {
+        if (StringUtils.isNotBlank(getMessage().getValue2())) {
+            return getMessage().getValue2();
+        } else if (StringUtils.isNotBlank(getMessage().getValue1())) {
+            return getMessage().getValue1();
+        }
+        return null;
+    }
+
+    /**
+     * Chooses the endpoint for the given routing key.  Endpoints are ordered by instance id so that every node
+     * chooses the same endpoint for a key as long as they see the same endpoints.
+     *
+     * @param endpoints the endpoints of the service
+     * @param routingKey the routing key of the message
+     * @return the endpoint, or null if there are no endpoints
+     */
+    protected Endpoint getConsistentEndpoint(List<Endpoint> endpoints, String routingKey) {
+        if (endpoints == null || endpoints.isEmpty()) {
+            return null;
+        }
+
+        List<Endpoint> orderedEndpoints = new ArrayList<Endpoint>(endpoints);
+        Collections.sort(orderedEndpoints, new Comparator<Endpoint>() {
+            @Override
+            public int compare(Endpoint endpoint1, Endpoint endpoint2) {
+                return StringUtils.defaultString(endpoint1.getServiceConfiguration().getInstanceId()).compareTo(
+                        StringUtils.defaultString(endpoint2.getServiceConfiguration().getInstanceId()));
+            }
+        });
+
+        return orderedEndpoints.get((routingKey.hashCode() & Integer.MAX_VALUE) % orderedEndpoints.size());
+    }
+
     /**
      * Used in case the thread that dumped this work into the queue is waiting
      * for the work to be done to continue processing.
@@ -73,6 +73,12 @@ public class DefaultHttpClientConfigurer implements HttpClientConfigurer, Initia
      */
     private static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 20;
 
+    /**
+     * The connection manager shared by all clients, if {@link KSBConstants.Config#KSB_HTTP_CLIENT_SHARED_CONNECTION_MANAGER}
+     * is enabled
+     */
+    private volatile HttpClientConnectionManager sharedConnectionManager;
+
     // list of config params starting with "http." to ignore when looking for unsupported params
     private static final Set<String> unsupportedParamsWhitelist =
             new HashSet<String>(Arrays.asList("http.port", "http.service.url"));
@@ -82,7 +88,7 @@ public class DefaultHttpClientConfigurer implements HttpClientConfigurer, Initia
      *
      * <p>Internally, this uses several helper methods to assist with configuring:
      * <ul>
-     *     <li>Calls {@link #buildConnectionManager()} and sets the resulting {@link HttpClientConnectionManager} (if
+     *     <li>Calls {@link #getConnectionManager()} and sets the resulting {@link HttpClientConnectionManager} (if
      *     non-null) into the httpClientBuilder.</li>
      *     <li>Calls {@link #buildRequestConfig()} and sets the resulting {@link RequestConfig} (if non-null) into the
      *     httpClientBuilder.</li>
@@ -96,7 +102,7 @@ public class DefaultHttpClientConfigurer implements HttpClientConfigurer, Initia
     @Override
     public void customizeHttpClient(HttpClientBuilder httpClientBuilder) {
 
-        HttpClientConnectionManager connectionManager = buildConnectionManager();
+        HttpClientConnectionManager connectionManager = getConnectionManager();
         if (connectionManager != null) {
             httpClientBuilder.setConnectionManager(connectionManager);
         }
@@ -112,6 +118,37 @@ public class DefaultHttpClientConfigurer implements HttpClientConfigurer, Initia
         }
     }
 
+    /**
+     * Gets the HttpClientConnectionManager for a new client.
+     *
+     * <p>By default every client gets its own connection manager from {@link #buildConnectionManager()}, so the
+     * connection limits apply to each client separately.  If
+     * {@link KSBConstants.Config#KSB_HTTP_CLIENT_SHARED_CONNECTION_MANAGER} is true, a single connection manager is
+     * built on first use and shared by all clients, so that the total and per route limits apply to all remote calls
+     * made by this application.</p>
+     *
+     * @return the HttpClientConnectionManager
+     */
+    protected HttpClientConnectionManager getConnectionManager() {
+        if (!ConfigContext.getCurrentContextConfig().getBooleanProperty(
+                KSBConstants.Config.KSB_HTTP_CLIENT_SHARED_CONNECTION_MANAGER, false)) {
+            return buildConnectionManager();
+        }
+
+        //using DCL idiom
+        //see effective java 2nd ed. pg. 71
+        HttpClientConnectionManager connectionManager = sharedConnectionManager;
+        if (connectionManager == null) {
+            synchronized (this) {
+                connectionManager = sharedConnectionManager;
+                if (connectionManager == null) {
+                    sharedConnectionManager = connectionManager = buildConnectionManager();
+                }
+            }
+        }
+        return connectionManager;
+    }
+
     /**
      * Builds the HttpClientConnectionManager.
      *
@@ -138,7 +175,8 @@ public class DefaultHttpClientConfigurer implements HttpClientConfigurer, Initia
         poolingConnectionManager.setMaxTotal(MAX_TOTAL_CONNECTIONS.getValueOrDefault(DEFAULT_MAX_TOTAL_CONNECTIONS));
 
         // By default we'll set the max connections per route (essentially that means per host for us) to the max total
-        poolingConnectionManager.setDefaultMaxPerRoute(MAX_TOTAL_CONNECTIONS.getValueOrDefault(DEFAULT_MAX_TOTAL_CONNECTIONS));
+        poolingConnectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE.getValueOrDefault(
+                poolingConnectionManager.getMaxTotal()));
 
 
         SocketConfig.Builder socketConfigBuilder = SocketConfig.custom();
@@ -0,0 +1,291 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.ksb.messaging.serviceconnectors;
+
+import org.kuali.rice.core.api.config.property.ConfigContext;
+import org.kuali.rice.core.api.exception.RiceRuntimeException;
+import org.kuali.rice.ksb.util.KSBConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits and measures the remote requests in flight to a single service endpoint.
+ *
+ * <p>Each remote endpoint (identified by its URL) has one gate at a time, shared by every client proxy which calls it.
+ * Client proxies look the gate up for every request, so a gate is replaced (and its statistics started over) when the
+ * configured limit or queue timeout changes, and the gate of an endpoint which leaves the service registry is
+ * discarded.
+ * If {@link KSBConstants.Config#KSB_CLIENT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT} is configured, at most that many
+ * requests may be in flight to the endpoint at once.  Additional callers queue for up to
+ * {@link KSBConstants.Config#KSB_CLIENT_ENDPOINT_QUEUE_TIMEOUT} milliseconds and then fail, rather than holding a
+ * thread and a pooled connection indefinitely while a slow endpoint backs up.</p>
+ *
+ * <p>The gate also records the number of requests, failures and rejections along with the latency of and the time
+ * spent queueing for each request, which can be retrieved through {@link #getEndpointGates()} and are shown on the
+ * service bus screen.</p>
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public final class EndpointRequestGate {
+
+    private static final int DEFAULT_QUEUE_TIMEOUT = 30 * 1000; // thirty seconds in milliseconds
+
+    private static final ConcurrentMap<String, EndpointRequestGate> gates =
+            new ConcurrentHashMap<String, EndpointRequestGate>();
+
+    private final String endpointUrl;
+    private final int maxConcurrentRequests;
+    private final long queueTimeoutMillis;
+    private final Semaphore permits;
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicInteger queuedRequests = new AtomicInteger();
+    private final AtomicInteger peakInFlightRequests = new AtomicInteger();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+
+    EndpointRequestGate(String endpointUrl, int maxConcurrentRequests, long queueTimeoutMillis) {
+        this.endpointUrl = endpointUrl;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.permits = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests, true) : null;
+    }
+
+    /**
+     * Returns the gate for the given endpoint, creating it from the current configuration if there is no gate yet or
+     * if the configuration has changed since the existing gate was created.
+     *
+     * @param endpointUrl the url of the remote endpoint
+     * @return the gate for the endpoint
+     */
+    public static EndpointRequestGate forEndpoint(String endpointUrl) {
+        int maxConcurrentRequests = getMaxConcurrentRequestsPerEndpoint();
+        long queueTimeout = ConfigContext.getCurrentContextConfig().getNumericProperty(
+                KSBConstants.Config.KSB_CLIENT_ENDPOINT_QUEUE_TIMEOUT, DEFAULT_QUEUE_TIMEOUT);
+
+        EndpointRequestGate gate = gates.get(endpointUrl);
+        while (gate == null || gate.maxConcurrentRequests != maxConcurrentRequests
+                || gate.queueTimeoutMillis != queueTimeout) {
+            EndpointRequestGate newGate = new EndpointRequestGate(endpointUrl, maxConcurrentRequests, queueTimeout);
+            if (gate == null ? gates.putIfAbsent(endpointUrl, newGate) == null :
+                    gates.replace(endpointUrl, gate, newGate)) {
+                return newGate;
+            }
+            gate = gates.get(endpointUrl);
+        }
+        return gate;
+    }
+
+    /**
+     * Discards the gate for the given endpoint, if there is one.  Requests already admitted by the gate are not
+     * affected.
+     *
+     * @param endpointUrl the url of the remote endpoint
+     */
+    public static void removeEndpoint(String endpointUrl) {
+        gates.remove(endpointUrl);
+    }
+
+    /**
+     * Discards the gates for all endpoints.
+     */
+    public static void removeAllEndpoints() {
+        gates.clear();
+    }
+
+    /**
+     * Indicates whether client proxies should pass through endpoint gates at all, which is the case if either a
+     * concurrency limit or statistics collection has been configured.
+     */
+    public static boolean isEnabled() {
+        return getMaxConcurrentRequestsPerEndpoint() > 0 || ConfigContext.getCurrentContextConfig().getBooleanProperty(
+                KSBConstants.Config.KSB_CLIENT_ENDPOINT_STATISTICS, false);
+    }
+
+    /**
+     * @return a snapshot of the gates for every endpoint which has been called
+     */
+    public static List<EndpointRequestGate> getEndpointGates() {
+        return Collections.unmodifiableList(new ArrayList<EndpointRequestGate>(gates.values()));
+    }
+
+    private static int getMaxConcurrentRequestsPerEndpoint() {
+        return (int) ConfigContext.getCurrentContextConfig().getNumericProperty(
+                KSBConstants.Config.KSB_CLIENT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, 0);
+    }
+
+    /**
+     * Waits for the endpoint to accept another request.  Every successful call must be paired with a call to
+     * {@link #exit(long, boolean)}.
+     *
+     * @return the time at which the request was admitted, as given by {@link System#nanoTime()}
+     * @throws EndpointSaturatedException if the endpoint is still saturated after the queue timeout
+     * @throws RiceRuntimeException if the thread is interrupted while waiting, in which case its interrupt flag is
+     * set again
+     */
+    public long enter() {
+        if (permits != null) {
+            long queueStart = System.nanoTime();
+            boolean acquired = permits.tryAcquire();
+            if (!acquired) {
+                queuedRequests.incrementAndGet();
+                try {
+                    acquired = permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RiceRuntimeException("Interrupted while waiting for endpoint " + endpointUrl
+                            + " to accept a request", e);
+                } finally {
+                    queuedRequests.decrementAndGet();
+                    totalQueueNanos.addAndGet(System.nanoTime() - queueStart);
+                }
+            }
+            if (!acquired) {
+                rejectedCount.incrementAndGet();
+                throw new EndpointSaturatedException("Endpoint " + endpointUrl + " already has "
+                        + maxConcurrentRequests + " requests in flight and none completed within "
+                        + queueTimeoutMillis + "ms");
+            }
+        }
+
+        int inFlight = inFlightRequests.incrementAndGet();
+        int peak = peakInFlightRequests.get();
+        while (inFlight > peak && !peakInFlightRequests.compareAndSet(peak, inFlight)) {
+            peak = peakInFlightRequests.get();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Releases a request admitted by {@link #enter()} and records its outcome.
+     *
+     * @param startTime the value returned from {@link #enter()}
+     * @param success whether the request completed without an exception
+     */
+    public void exit(long startTime, boolean success) {
+        long latency = System.nanoTime() - startTime;
+        inFlightRequests.decrementAndGet();
+        if (permits != null) {
+            permits.release();
+        }
+
+        requestCount.incrementAndGet();
+        if (!success) {
+            failureCount.incrementAndGet();
+        }
+        totalLatencyNanos.addAndGet(latency);
+        long max = maxLatencyNanos.get();
+        while (latency > max && !maxLatencyNanos.compareAndSet(max, latency)) {
+            max = maxLatencyNanos.get();
+        }
+    }
+
+    public String getEndpointUrl() {
+        return endpointUrl;
+    }
+
+    /**
+     * @return the maximum number of requests allowed in flight at once, or 0 if unlimited
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public long getQueueTimeoutMillis() {
+        return queueTimeoutMillis;
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    public int getPeakInFlightRequests() {
+        return peakInFlightRequests.get();
+    }
+
+    /**
+     * @return the number of callers currently waiting for the endpoint to accept their request
+     */
+    public int getQueuedRequests() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * @return the number of requests which have completed, successfully or not
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * @return the number of requests which were never sent because the endpoint stayed saturated
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getAverageLatencyMillis() {
+        long count = requestCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / count);
+    }
+
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    public long getTotalQueueMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalQueueNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointRequestGate[endpointUrl=" + endpointUrl + ", maxConcurrentRequests=" + maxConcurrentRequests
+                + ", inFlight=" + getInFlightRequests() + ", peakInFlight=" + getPeakInFlightRequests()
+                + ", queued=" + getQueuedRequests() + ", requests=" + getRequestCount() + ", failures="
+                + getFailureCount() + ", rejected=" + getRejectedCount() + ", averageLatencyMillis="
+                + getAverageLatencyMillis() + ", maxLatencyMillis=" + getMaxLatencyMillis() + ", totalQueueMillis="
+                + getTotalQueueMillis() + "]";
+    }
+
+    /**
+     * Thrown when a request could not be sent because its endpoint remained saturated for the whole queue timeout.
+     */
+    public static class EndpointSaturatedException extends RuntimeException {
+
+        private static final long serialVersionUID = -2236915470658049378L;
+
+        public EndpointSaturatedException(String message) {
+            super(message);
+        }
+    }
+
+}
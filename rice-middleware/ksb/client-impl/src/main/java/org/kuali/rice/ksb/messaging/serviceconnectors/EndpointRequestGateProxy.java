@@ -0,0 +1,77 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.ksb.messaging.serviceconnectors;
+
+import org.apache.log4j.Logger;
+import org.kuali.rice.core.api.util.ClassLoaderUtils;
+import org.kuali.rice.core.api.util.ContextClassLoaderProxy;
+import org.kuali.rice.core.api.util.reflect.BaseTargetedInvocationHandler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+
+/**
+ * A client-side proxy which passes every invocation on the proxied remote service through the
+ * {@link EndpointRequestGate} for its endpoint, while gates are {@link EndpointRequestGate#isEnabled() enabled}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class EndpointRequestGateProxy extends BaseTargetedInvocationHandler {
+
+    private static final Logger LOG = Logger.getLogger(EndpointRequestGateProxy.class);
+
+    private final String endpointUrl;
+
+    private EndpointRequestGateProxy(Object target, String endpointUrl) {
+        super(target);
+        this.endpointUrl = endpointUrl;
+    }
+
+    public static Object wrap(Object target, URL endpointUrl) {
+        return Proxy.newProxyInstance(ClassLoaderUtils.getDefaultClassLoader(),
+                ContextClassLoaderProxy.getInterfacesToProxy(target), new EndpointRequestGateProxy(target,
+                endpointUrl.toExternalForm()));
+    }
+
+    @Override
+    protected Object invokeInternal(Object proxyObject, Method method, Object[] arguments) throws Throwable {
+        if (!EndpointRequestGate.isEnabled()) {
+            try {
+                return method.invoke(getTarget(), arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        EndpointRequestGate gate = EndpointRequestGate.forEndpoint(endpointUrl);
+        long startTime = gate.enter();
+        boolean success = false;
+        try {
+            Object result = method.invoke(getTarget(), arguments);
+            success = true;
+            return result;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            gate.exit(startTime, success);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Invoked " + method.getName() + " on " + gate);
+            }
+        }
+    }
+}
@@ -75,6 +75,12 @@ public enum HttpClientParams {
 
     MAX_TOTAL_CONNECTIONS("http.connection-manager.max-total", Integer.class),
 
+    //
+    // specific to HttpComponents, which limits connections per route rather than per host:
+    //
+
+    MAX_CONNECTIONS_PER_ROUTE("http.connection-manager.max-per-route", Integer.class),
+
     //
     // from org.apache.commons.httpclient.params.HttpClientParams:
     //
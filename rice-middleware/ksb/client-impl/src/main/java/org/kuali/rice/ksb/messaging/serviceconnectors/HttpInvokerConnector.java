@@ -67,7 +67,8 @@ public class HttpInvokerConnector extends AbstractServiceConnector {
 		executor.setSecure(getServiceConfiguration().getBusSecurity());
 		client.setHttpInvokerRequestExecutor(executor);	
 		client.afterPropertiesSet();
-		return getServiceProxyWithFailureMode(client.getObject(), getServiceConfiguration());
+		return getServiceProxyWithFailureMode(EndpointRequestGateProxy.wrap(client.getObject(), getActualEndpointUrl()),
+                getServiceConfiguration());
 	}
 
 	/**
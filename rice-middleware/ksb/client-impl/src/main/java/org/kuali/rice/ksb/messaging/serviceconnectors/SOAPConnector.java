@@ -125,6 +125,7 @@ public class SOAPConnector extends AbstractServiceConnector {
 
 		
 		Object service = clientFactory.create();		
-		return getServiceProxyWithFailureMode(service, getServiceConfiguration());
+		return getServiceProxyWithFailureMode(EndpointRequestGateProxy.wrap(service, getActualEndpointUrl()),
+                getServiceConfiguration());
 	}	
 }
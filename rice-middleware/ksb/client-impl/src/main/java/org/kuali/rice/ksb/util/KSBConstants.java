@@ -53,6 +53,11 @@ public final class KSBConstants {
         public static final String INSTANCE_ID = "rice.ksb.bus.instanceId";
         public static final String REGISTRY_SERVICE_URL = "rice.ksb.registry.serviceUrl";
         public static final String WEB_FORCE_ENABLE = "rice.ksb.web.forceEnable";
+        public static final String KSB_CLIENT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT = "rice.ksb.client.maxConcurrentRequestsPerEndpoint";
+        public static final String KSB_CLIENT_ENDPOINT_QUEUE_TIMEOUT = "rice.ksb.client.endpointQueueTimeout";
+        public static final String KSB_CLIENT_ENDPOINT_STATISTICS = "rice.ksb.client.endpointStatistics";
+        public static final String KSB_HTTP_CLIENT_SHARED_CONNECTION_MANAGER = "rice.ksb.httpClient.sharedConnectionManager";
+        public static final String KSB_MESSAGE_CONSISTENT_QUEUE_ROUTING = "rice.ksb.message.consistentQueueRouting";
 
 
     	private Config() {
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2005-2015 The Kuali Foundation
+ *
+ * Licensed under the Educational Community License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.opensource.org/licenses/ecl2.php
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kuali.rice.ksb.messaging.serviceconnectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kuali.rice.core.api.config.property.ConfigContext;
+import org.kuali.rice.core.api.exception.RiceRuntimeException;
+import org.kuali.rice.core.framework.config.property.SimpleConfig;
+import org.kuali.rice.ksb.util.KSBConstants;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link EndpointRequestGate}.
+ *
+ * @author Kuali Rice Team (rice.collab@kuali.org)
+ */
+public class EndpointRequestGateTest {
+
+    private static final String ENDPOINT_URL = "http://localhost/endpointRequestGateTest";
+
+    private SimpleConfig config;
+
+    @Before
+    public void setUp() {
+        config = new SimpleConfig();
+        ConfigContext.init(config);
+    }
+
+    @After
+    public void tearDown() {
+        EndpointRequestGate.removeAllEndpoints();
+        ConfigContext.destroy();
+    }
+
+    /**
+     * Tests that a request beyond the limit waits for the queue timeout and is then rejected.
+     */
+    @Test
+    public void testRejectWhenSaturated() {
+        EndpointRequestGate gate = new EndpointRequestGate(ENDPOINT_URL, 1, 50);
+        long startTime = gate.enter();
+        assertEquals(1, gate.getInFlightRequests());
+
+        try {
+            gate.enter();
+            fail("The second request should have been rejected");
+        } catch (EndpointRequestGate.EndpointSaturatedException e) {
+            // expected
+        }
+        assertEquals(1, gate.getRejectedCount());
+        assertEquals(0, gate.getQueuedRequests());
+        assertTrue(gate.getTotalQueueMillis() >= 40);
+
+        gate.exit(startTime, true);
+        gate.exit(gate.enter(), false);
+
+        assertEquals(0, gate.getInFlightRequests());
+        assertEquals(1, gate.getPeakInFlightRequests());
+        assertEquals(2, gate.getRequestCount());
+        assertEquals(1, gate.getFailureCount());
+    }
+
+    /**
+     * Tests that a queued request is admitted as soon as a request in flight completes.
+     */
+    @Test
+    public void testAdmitWhenReleased() throws Exception {
+        final EndpointRequestGate gate = new EndpointRequestGate(ENDPOINT_URL, 1, 10000);
+        final long startTime = gate.enter();
+
+        Thread releaser = new Thread() {
+            @Override
+            public void run() {
+                while (gate.getQueuedRequests() == 0) {
+                    Thread.yield();
+                }
+                gate.exit(startTime, true);
+            }
+        };
+        releaser.start();
+
+        gate.exit(gate.enter(), true);
+        releaser.join();
+
+        assertEquals(2, gate.getRequestCount());
+        assertEquals(0, gate.getRejectedCount());
+    }
+
+    /**
+     * Tests that interrupting a queued request does not count as a rejection and keeps the interrupt flag.
+     */
+    @Test
+    public void testInterruptWhileQueued() throws Exception {
+        final EndpointRequestGate gate = new EndpointRequestGate(ENDPOINT_URL, 1, 10000);
+        long startTime = gate.enter();
+
+        final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+        final AtomicReference<Boolean> interrupted = new AtomicReference<Boolean>();
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    gate.enter();
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                }
+                interrupted.set(Thread.currentThread().isInterrupted());
+                done.countDown();
+            }
+        };
+        waiter.start();
+        while (gate.getQueuedRequests() == 0) {
+            Thread.yield();
+        }
+        waiter.interrupt();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(failure.get() instanceof RiceRuntimeException);
+        assertTrue(interrupted.get());
+        assertEquals(0, gate.getRejectedCount());
+        assertEquals(1, gate.getInFlightRequests());
+
+        gate.exit(startTime, true);
+    }
+
+    /**
+     * Tests that the gate for an endpoint is shared, replaced when the configuration changes and discarded on request.
+     */
+    @Test
+    public void testForEndpoint() {
+        EndpointRequestGate gate = EndpointRequestGate.forEndpoint(ENDPOINT_URL);
+        assertEquals(0, gate.getMaxConcurrentRequests());
+        assertSame(gate, EndpointRequestGate.forEndpoint(ENDPOINT_URL));
+
+        config.putProperty(KSBConstants.Config.KSB_CLIENT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, "2");
+        config.putProperty(KSBConstants.Config.KSB_CLIENT_ENDPOINT_QUEUE_TIMEOUT, "100");
+        EndpointRequestGate limitedGate = EndpointRequestGate.forEndpoint(ENDPOINT_URL);
+        assertNotSame(gate, limitedGate);
+        assertEquals(2, limitedGate.getMaxConcurrentRequests());
+        assertEquals(100, limitedGate.getQueueTimeoutMillis());
+        assertSame(limitedGate, EndpointRequestGate.forEndpoint(ENDPOINT_URL));
+        assertEquals(1, EndpointRequestGate.getEndpointGates().size());
+
+        EndpointRequestGate.removeEndpoint(ENDPOINT_URL);
+        assertTrue(EndpointRequestGate.getEndpointGates().isEmpty());
+        assertNotSame(limitedGate, EndpointRequestGate.forEndpoint(ENDPOINT_URL));
+    }
+
+}
@@ -40,6 +40,7 @@ import org.kuali.rice.ksb.api.bus.Endpoint;
 import org.kuali.rice.ksb.api.bus.ServiceBus;
 import org.kuali.rice.ksb.api.bus.ServiceConfiguration;
 import org.kuali.rice.ksb.api.bus.ServiceBusAdminService;
+import org.kuali.rice.ksb.messaging.serviceconnectors.EndpointRequestGate;
 
 
 /**
@@ -88,6 +89,7 @@ public class ServiceBusAction extends KSBAction {
 		form.setMyInstanceId(serviceBus.getInstanceId());
 		form.setPublishedServices(getPublishedServices(serviceBus));
 		form.setGlobalServices(getGlobalServices(serviceBus));
+		form.setEndpointGates(EndpointRequestGate.getEndpointGates());
 
 		return null;
 	}
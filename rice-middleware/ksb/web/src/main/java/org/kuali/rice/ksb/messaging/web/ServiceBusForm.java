@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.apache.struts.action.ActionForm;
 import org.kuali.rice.ksb.api.bus.ServiceConfiguration;
+import org.kuali.rice.ksb.messaging.serviceconnectors.EndpointRequestGate;
 
 
 /**
@@ -35,6 +36,7 @@ public class ServiceBusForm extends ActionForm {
 	private String methodToCall;
     private List<ServiceConfiguration> publishedServices = new ArrayList<ServiceConfiguration>();
     private List<ServiceConfiguration> globalServices = new ArrayList<ServiceConfiguration>();
+    private List<EndpointRequestGate> endpointGates = new ArrayList<EndpointRequestGate>();
 
     private String myIpAddress;
     private String myApplicationId;
@@ -60,6 +62,12 @@ public class ServiceBusForm extends ActionForm {
     public void setPublishedServices(List<ServiceConfiguration> publishedServices) {
         this.publishedServices = publishedServices;
     }
+    public List<EndpointRequestGate> getEndpointGates() {
+        return this.endpointGates;
+    }
+    public void setEndpointGates(List<EndpointRequestGate> endpointGates) {
+        this.endpointGates = endpointGates;
+    }
     public String getMyIpAddress() {
         return this.myIpAddress;
     }
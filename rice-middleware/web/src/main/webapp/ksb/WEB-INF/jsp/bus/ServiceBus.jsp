@@ -185,6 +185,57 @@
     <td width="20" height="20">&nbsp;</td>
   </tr>
 
+   <tr><td colspan="3">&nbsp;</td></tr>
+
+    <tr>
+    <td width="20" height="20">&nbsp;</td>
+    <td>
+		  <b>Client Endpoint Requests:</b>
+		  <display:table excludedParams="*" class="bord-r-t" style="width:100%" cellspacing="0" cellpadding="0" name="${ServiceBusForm.endpointGates}" id="result" requestURI="ServiceBus.do?methodToCall=start" defaultsort="1" defaultorder="ascending"
+				decorator="org.kuali.rice.ksb.messaging.web.KSBTableDecorator">
+		    <display:setProperty name="paging.banner.placement" value="both" />
+		    <display:setProperty name="paging.banner.all_items_found" value=""/>
+		    <display:setProperty name="export.banner" value="" />
+		    <display:setProperty name="basic.msg.empty_list">No Client Endpoint Requests</display:setProperty>
+		    <display:column class="datacell" sortable="true" title="<div>Endpoint URL</div>" >
+		    	<c:out value="${result.endpointUrl}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Limit</div>" >
+		    	<c:out value="${result.maxConcurrentRequests}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>In Flight</div>" >
+		    	<c:out value="${result.inFlightRequests}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Peak In Flight</div>" >
+		    	<c:out value="${result.peakInFlightRequests}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Queued</div>" >
+		    	<c:out value="${result.queuedRequests}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Requests</div>" >
+		    	<c:out value="${result.requestCount}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Failures</div>" >
+		    	<c:out value="${result.failureCount}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Rejected</div>" >
+		    	<c:out value="${result.rejectedCount}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Average Latency (ms)</div>" >
+		    	<c:out value="${result.averageLatencyMillis}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Max Latency (ms)</div>" >
+		    	<c:out value="${result.maxLatencyMillis}"/>&nbsp;
+		    </display:column>
+		    <display:column style="text-align:center;vertical-align:middle;" class="datacell" sortable="true" title="<div style='text-align:center;vertical-align:top;'>Total Queue Time (ms)</div>" >
+		    	<c:out value="${result.totalQueueMillis}"/>&nbsp;
+		    </display:column>
+		  </display:table>
+
+    </td>
+    <td width="20" height="20">&nbsp;</td>
+  </tr>
+
 
 </table>
 